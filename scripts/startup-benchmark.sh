@@ -0,0 +1,81 @@
+#!/usr/bin/env bash
+#
+# Job Posting Service - startup benchmark
+#
+# Compares the plain fat jar against the fast-startup build (Spring AOT + AppCDS).
+# Build first with:   mvn -Pfastboot -DskipTests package
+# Then run:           scripts/startup-benchmark.sh [runs]
+#
+# For each mode and run it reports
+#   time_to_ready_ms      process launch until /api/v1/jobs/health answers 200
+#   first_request_ms      latency of the first real request (GET /api/v1/jobs) after ready
+# Results are written as JSON lines to target/startup-benchmark.json.
+# Needs the same PostgreSQL the prod profile points at (DATABASE_URL etc.).
+
+set -euo pipefail
+
+RUNS="${1:-5}"
+PORT="${PORT:-8091}"
+PROFILE="${SPRING_PROFILES_ACTIVE:-prod}"
+TENANT="${BENCH_TENANT_ID:-00000000-0000-0000-0000-000000000001}"
+TIMEOUT_S="${BENCH_TIMEOUT_S:-120}"
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+TARGET="$ROOT/target"
+OUT="$TARGET/startup-benchmark.json"
+
+THIN_JAR="$(cd "$TARGET" && ls job-posting-service-*.jar 2>/dev/null | grep -v -- '-exec.jar' | head -1 || true)"
+FAT_JAR="$(cd "$TARGET" && ls job-posting-service-*-exec.jar 2>/dev/null | head -1 || true)"
+
+if [[ -z "$THIN_JAR" || -z "$FAT_JAR" || ! -f "$TARGET/fastboot/app.jsa" ]]; then
+  echo "fast-startup artifacts not found; run: mvn -Pfastboot -DskipTests package" >&2
+  exit 1
+fi
+
+now_ms() { date +%s%3N; }
+
+run_once() {
+  local mode="$1" run="$2"; shift 2
+  local log="$TARGET/startup-benchmark-$mode-$run.log"
+  local start ready first pid
+
+  start=$(now_ms)
+  (cd "$TARGET" && exec java "$@" --server.port="$PORT" --spring.profiles.active="$PROFILE") >"$log" 2>&1 &
+  pid=$!
+
+  until curl -sf -o /dev/null "http://localhost:$PORT/api/v1/jobs/health"; do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "$mode run $run: process exited before ready, see $log" >&2
+      return 1
+    fi
+    if (( $(now_ms) - start > TIMEOUT_S * 1000 )); then
+      echo "$mode run $run: not ready after ${TIMEOUT_S}s, see $log" >&2
+      kill "$pid" 2>/dev/null || true
+      return 1
+    fi
+    sleep 0.05
+  done
+  ready=$(( $(now_ms) - start ))
+
+  first=$(curl -s -o /dev/null -w '%{time_total}' -H "X-Tenant-ID: $TENANT" \
+    "http://localhost:$PORT/api/v1/jobs?page=0&size=20")
+  first=$(awk -v t="$first" 'BEGIN { printf "%.1f", t * 1000 }')
+
+  kill "$pid" 2>/dev/null || true
+  wait "$pid" 2>/dev/null || true
+
+  printf '{"mode":"%s","run":%d,"time_to_ready_ms":%d,"first_request_ms":%s}\n' \
+    "$mode" "$run" "$ready" "$first" | tee -a "$OUT"
+}
+
+: >"$OUT"
+for run in $(seq 1 "$RUNS"); do
+  run_once default "$run" -jar "$FAT_JAR"
+  run_once fastboot "$run" -XX:SharedArchiveFile=fastboot/app.jsa -Dspring.aot.enabled=true -jar "$THIN_JAR"
+done
+
+echo
+awk -F'[:,}]' '
+  { mode=$2; gsub(/"/, "", mode); ready[mode]+=$6; first[mode]+=$8; n[mode]++ }
+  END { for (m in n) printf "%-9s mean time_to_ready=%.0f ms  mean first_request=%.1f ms  (%d runs)\n",
+                          m, ready[m]/n[m], first[m]/n[m], n[m] }' "$OUT"
@@ -1,11 +1,16 @@
 package com.platform.talent.jobposting.api;
 
 import com.platform.talent.jobposting.domain.model.JobPosting;
+import com.platform.talent.jobposting.domain.model.PublishedJobView;
 import com.platform.talent.jobposting.service.JobPostingService;
+import com.platform.talent.jobposting.service.SingleFlight;
+import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.math.BigDecimal;
+import java.util.Arrays;
 import java.util.List;
 
 @RestController
@@ -14,6 +19,7 @@ import java.util.List;
 public class JobPostingController {
 
     private final JobPostingService jobPostingService;
+    private final SingleFlight singleFlight;
 
     @PostMapping
     public ResponseEntity<JobPosting> createJobPosting(
@@ -39,16 +45,31 @@ public class JobPostingController {
         @PathVariable String jobId
     ) {
         jobPostingService.incrementViewCount(jobId);
-        return ResponseEntity.ok(jobPostingService.getJobPosting(organizationId, jobId));
+        return ResponseEntity.ok(singleFlight.execute("getJobPosting", List.of(organizationId, jobId),
+            () -> jobPostingService.getJobPosting(organizationId, jobId)));
     }
 
     @GetMapping("/public")
-    public ResponseEntity<List<JobPosting>> getPublishedJobs() {
-        return ResponseEntity.ok(jobPostingService.getPublishedJobs());
+    @Operation(summary = "Published job postings",
+        description = "Items come from the published_job_view read model and carry only the public posting fields")
+    public ResponseEntity<List<PublishedJobView>> getPublishedJobs(
+        @RequestParam(required = false) BigDecimal salaryMin,
+        @RequestParam(required = false) BigDecimal salaryMax,
+        @RequestParam(required = false) String currency
+    ) {
+        if (salaryMin != null || salaryMax != null) {
+            return ResponseEntity.ok(singleFlight.execute("getPublishedJobsBySalary",
+                Arrays.asList(salaryMin, salaryMax, currency),
+                () -> jobPostingService.getPublishedJobsBySalary(salaryMin, salaryMax, currency)));
+        }
+        return ResponseEntity.ok(singleFlight.execute("getPublishedJobs", List.of(),
+            jobPostingService::getPublishedJobs));
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<JobPosting>> searchJobs(@RequestParam String keyword) {
+    @Operation(summary = "Search published job postings",
+        description = "Items come from the published_job_view read model and carry only the public posting fields")
+    public ResponseEntity<List<PublishedJobView>> searchJobs(@RequestParam String keyword) {
         return ResponseEntity.ok(jobPostingService.searchJobs(keyword));
     }
 
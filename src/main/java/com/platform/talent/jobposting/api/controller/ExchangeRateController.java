@@ -0,0 +1,36 @@
+package com.platform.talent.jobposting.api.controller;
+
+import com.platform.talent.jobposting.api.dto.ExchangeRateRequest;
+import com.platform.talent.jobposting.domain.model.ExchangeRate;
+import com.platform.talent.jobposting.service.SalaryNormalizationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/exchange-rates")
+@RequiredArgsConstructor
+@Tag(name = "Exchange Rates", description = "Salary normalization rates")
+public class ExchangeRateController {
+
+    private final SalaryNormalizationService salaryNormalizationService;
+
+    @GetMapping
+    @Operation(summary = "List exchange rates to the base currency")
+    public ResponseEntity<List<ExchangeRate>> listRates() {
+        return ResponseEntity.ok(salaryNormalizationService.getRates());
+    }
+
+    @PutMapping("/{currency}")
+    @Operation(summary = "Set exchange rate and renormalize salaries")
+    public ResponseEntity<ExchangeRate> updateRate(
+            @PathVariable String currency,
+            @Valid @RequestBody ExchangeRateRequest request) {
+        return ResponseEntity.ok(salaryNormalizationService.updateRate(currency, request.getRateToBase()));
+    }
+}
@@ -1,21 +1,33 @@
 package com.platform.talent.jobposting.api.controller;
 
+import com.platform.talent.jobposting.api.dto.BulkTransitionRequest;
+import com.platform.talent.jobposting.api.dto.BulkTransitionResponse;
 import com.platform.talent.jobposting.api.dto.CreateJobRequest;
+import com.platform.talent.jobposting.api.dto.JobChangesResponse;
+import com.platform.talent.jobposting.api.dto.JobPage;
 import com.platform.talent.jobposting.api.dto.JobResponse;
 import com.platform.talent.jobposting.api.dto.JobSearchCriteria;
+import com.platform.talent.jobposting.api.dto.JobSuggestion;
+import com.platform.talent.jobposting.api.dto.SimilarJobResponse;
 import com.platform.talent.jobposting.api.dto.UpdateJobRequest;
 import com.platform.talent.jobposting.domain.model.JobStatus;
+import com.platform.talent.jobposting.service.JobBulkTransitionService;
 import com.platform.talent.jobposting.service.JobService;
+import com.platform.talent.jobposting.service.SingleFlight;
+import com.platform.talent.jobposting.service.similar.SimilarJobService;
+import com.platform.talent.jobposting.service.typeahead.JobTypeaheadService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -26,6 +38,10 @@ import java.util.UUID;
 public class JobController {
 
     private final JobService jobService;
+    private final SingleFlight singleFlight;
+    private final JobTypeaheadService jobTypeaheadService;
+    private final SimilarJobService similarJobService;
+    private final JobBulkTransitionService jobBulkTransitionService;
 
     @PostMapping
     @Operation(summary = "Create a new job posting")
@@ -41,26 +57,57 @@ public class JobController {
     public ResponseEntity<JobResponse> getJob(
             @RequestHeader("X-Tenant-ID") UUID tenantId,
             @PathVariable UUID id) {
-        JobResponse response = jobService.getJob(tenantId, id);
+        jobService.incrementViewCount(tenantId, id);
+        JobResponse response = singleFlight.execute("getJob", List.of(tenantId, id),
+                () -> jobService.getJob(tenantId, id));
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/{id}/similar")
+    @Operation(summary = "Published jobs most similar to this one")
+    public ResponseEntity<List<SimilarJobResponse>> getSimilarJobs(
+            @RequestHeader("X-Tenant-ID") UUID tenantId,
+            @PathVariable UUID id,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(similarJobService.findSimilar(tenantId, id, limit));
+    }
+
     @GetMapping
     @Operation(summary = "List all jobs")
-    public ResponseEntity<Page<JobResponse>> listJobs(
+    public ResponseEntity<JobPage> listJobs(
             @RequestHeader("X-Tenant-ID") UUID tenantId,
             @RequestParam(required = false) JobStatus status,
             Pageable pageable) {
-        Page<JobResponse> response = jobService.listJobs(tenantId, status, pageable);
+        JobPage response = JobPage.of(jobService.listJobs(tenantId, status, pageable));
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/changes")
+    @Operation(summary = "Jobs created, modified or deleted after a watermark")
+    public ResponseEntity<JobChangesResponse> getChanges(
+            @RequestHeader("X-Tenant-ID") UUID tenantId,
+            @RequestParam(defaultValue = "0") long after,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(defaultValue = "${delta-sync.default-page-size:100}") int limit) {
+        JobChangesResponse response = jobService.getChanges(tenantId, after, since, limit);
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/autocomplete")
+    @Operation(summary = "Title and location completions for a search-box prefix")
+    public ResponseEntity<List<JobSuggestion>> autocomplete(
+            @RequestHeader("X-Tenant-ID") UUID tenantId,
+            @RequestParam("q") String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(jobTypeaheadService.complete(tenantId, prefix, limit));
+    }
+
     @PostMapping("/search")
     @Operation(summary = "Search jobs")
-    public ResponseEntity<Page<JobResponse>> searchJobs(
+    public ResponseEntity<JobPage> searchJobs(
             @RequestBody JobSearchCriteria criteria,
             Pageable pageable) {
-        Page<JobResponse> response = jobService.searchJobs(criteria, pageable);
+        JobPage response = JobPage.of(jobService.searchJobs(criteria, pageable));
         return ResponseEntity.ok(response);
     }
 
@@ -102,6 +149,38 @@ public class JobController {
         return ResponseEntity.ok().build();
     }
 
+    @PostMapping("/bulk/approve")
+    @Operation(summary = "Approve many draft or pending jobs")
+    public ResponseEntity<BulkTransitionResponse> bulkApprove(
+            @RequestHeader("X-Tenant-ID") UUID tenantId,
+            @RequestHeader("X-User-ID") UUID approverId,
+            @Valid @RequestBody BulkTransitionRequest request) {
+        return ResponseEntity.ok(jobBulkTransitionService.transition(
+                tenantId, JobBulkTransitionService.Transition.APPROVE, request.getJobIds(), approverId));
+    }
+
+    @PostMapping("/bulk/close")
+    @Operation(summary = "Close many live jobs")
+    public ResponseEntity<BulkTransitionResponse> bulkClose(
+            @RequestHeader("X-Tenant-ID") UUID tenantId,
+            @RequestHeader(value = "X-User-ID", required = false) UUID actorId,
+            @Valid @RequestBody BulkTransitionRequest request) {
+        return ResponseEntity.ok(jobBulkTransitionService.transition(
+                tenantId, JobBulkTransitionService.Transition.CLOSE, request.getJobIds(), actorId));
+    }
+
+    @PostMapping("/bulk/archive")
+    @Operation(summary = "Archive many closed or cancelled jobs",
+               description = "Marks them ARCHIVED; the archival run moves them into the archive once "
+                       + "archival.retention-days have passed since this request")
+    public ResponseEntity<BulkTransitionResponse> bulkArchive(
+            @RequestHeader("X-Tenant-ID") UUID tenantId,
+            @RequestHeader(value = "X-User-ID", required = false) UUID actorId,
+            @Valid @RequestBody BulkTransitionRequest request) {
+        return ResponseEntity.ok(jobBulkTransitionService.transition(
+                tenantId, JobBulkTransitionService.Transition.ARCHIVE, request.getJobIds(), actorId));
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete job")
     public ResponseEntity<Void> deleteJob(
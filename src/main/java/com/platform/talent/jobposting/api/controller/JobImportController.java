@@ -0,0 +1,62 @@
+package com.platform.talent.jobposting.api.controller;
+
+import com.platform.talent.jobposting.api.dto.JobImportResponse;
+import com.platform.talent.jobposting.service.imports.JobImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/jobs/imports")
+@RequiredArgsConstructor
+@Tag(name = "Job Import", description = "Bulk CSV import of jobs")
+public class JobImportController {
+
+    private static final String TEXT_CSV = "text/csv";
+
+    private final JobImportService jobImportService;
+
+    @PostMapping(consumes = {TEXT_CSV, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    @Operation(summary = "Upload a CSV of jobs; the import runs in the background and is polled by ID")
+    public ResponseEntity<JobImportResponse> startImport(
+            @RequestHeader("X-Tenant-ID") UUID tenantId,
+            @RequestHeader(value = "X-User-ID", required = false) UUID userId,
+            @RequestParam(required = false) String fileName,
+            @RequestParam(defaultValue = "true") boolean skipInvalid,
+            InputStream body) {
+        JobImportResponse response = jobImportService.startImport(tenantId, userId, fileName, skipInvalid, body);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/jobs/imports/" + response.getId()))
+                .body(response);
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get the progress of a job import")
+    public ResponseEntity<JobImportResponse> getImport(
+            @RequestHeader("X-Tenant-ID") UUID tenantId,
+            @PathVariable UUID id) {
+        return ResponseEntity.ok(jobImportService.getImport(tenantId, id));
+    }
+
+    @GetMapping(value = "/{id}/errors", produces = TEXT_CSV)
+    @Operation(summary = "Download the rejected rows of a job import as CSV")
+    public ResponseEntity<StreamingResponseBody> getImportErrors(
+            @RequestHeader("X-Tenant-ID") UUID tenantId,
+            @PathVariable UUID id) {
+        jobImportService.getImport(tenantId, id);
+        StreamingResponseBody body = out -> jobImportService.writeErrorReport(tenantId, id, out);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"import-" + id + "-errors.csv\"")
+                .contentType(MediaType.parseMediaType(TEXT_CSV))
+                .body(body);
+    }
+}
@@ -0,0 +1,20 @@
+package com.platform.talent.jobposting.api.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTransitionRequest {
+
+    @NotEmpty(message = "At least one job ID is required")
+    private List<UUID> jobIds;
+}
@@ -0,0 +1,22 @@
+package com.platform.talent.jobposting.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/** Outcome of a bulk status change: the jobs moved, and why each of the others was not. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTransitionResponse {
+
+    private String targetStatus;
+    private List<UUID> transitioned;
+    private Map<UUID, String> skipped;
+}
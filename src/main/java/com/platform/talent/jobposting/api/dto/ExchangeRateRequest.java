@@ -0,0 +1,21 @@
+package com.platform.talent.jobposting.api.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExchangeRateRequest {
+
+    @NotNull(message = "Rate is required")
+    @DecimalMin(value = "0.0", inclusive = false, message = "Rate must be positive")
+    private BigDecimal rateToBase;
+}
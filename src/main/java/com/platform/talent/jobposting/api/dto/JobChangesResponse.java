@@ -0,0 +1,37 @@
+package com.platform.talent.jobposting.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One page of the delta sync feed. Pass {@code watermark} back as {@code after}
+ * until {@code hasMore} is false; on {@code resyncRequired} restart from 0.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobChangesResponse {
+
+    private List<JobResponse> changed;
+    private List<DeletedJob> deleted;
+    private Long watermark;
+    private Boolean hasMore;
+    private Boolean resyncRequired;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DeletedJob {
+        private UUID id;
+        private Long changeSeq;
+        private LocalDateTime deletedAt;
+    }
+}
@@ -0,0 +1,34 @@
+package com.platform.talent.jobposting.api.dto;
+
+import com.platform.talent.jobposting.domain.model.JobImportStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/** Progress of a CSV bulk import, polled until the status is COMPLETED or FAILED. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobImportResponse {
+
+    private UUID id;
+    private JobImportStatus status;
+    private String fileName;
+    private Long totalBytes;
+    private Long bytesRead;
+    private Integer percentComplete;
+    private Long rowsRead;
+    private Long rowsValid;
+    private Long rowsRejected;
+    private Long rowsImported;
+    private String failureReason;
+    private String errorReportUrl; // set once rejected rows have been recorded
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime completedAt;
+}
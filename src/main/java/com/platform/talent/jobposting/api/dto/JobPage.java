@@ -0,0 +1,34 @@
+package com.platform.talent.jobposting.api.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.platform.talent.jobposting.api.json.JobJsonSerializer;
+import com.platform.talent.jobposting.domain.model.Job;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+
+import java.util.List;
+
+/**
+ * A list or search page of jobs. Same JSON as a {@code Page<JobResponse>}, but
+ * the items are written straight from the entities by {@link JobJsonSerializer};
+ * other {@link Job} serialization is unaffected.
+ */
+public class JobPage extends PageImpl<Job> {
+
+    private JobPage(Page<Job> page) {
+        super(page.getContent(), page.getPageable(), page.getTotalElements());
+    }
+
+    public static JobPage of(Page<Job> page) {
+        return new JobPage(page);
+    }
+
+    @Override
+    @JsonSerialize(contentUsing = JobJsonSerializer.class)
+    @ArraySchema(schema = @Schema(implementation = JobResponse.class))
+    public List<Job> getContent() {
+        return super.getContent();
+    }
+}
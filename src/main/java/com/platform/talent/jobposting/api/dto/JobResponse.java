@@ -1,5 +1,6 @@
 package com.platform.talent.jobposting.api.dto;
 
+import com.platform.talent.jobposting.domain.model.Job;
 import com.platform.talent.jobposting.domain.model.JobStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -46,5 +47,47 @@ public class JobResponse {
     private LocalDateTime updatedAt;
     private UUID createdBy;
     private UUID updatedBy;
+    private Long changeSeq;
+    private UUID nearDuplicateOf;
+    private boolean nearDuplicateExternal;
+
+    /** List and search pages skip this copy; see {@code JobPage}. */
+    public static JobResponse from(Job job) {
+        return JobResponse.builder()
+                .id(job.getId())
+                .tenantId(job.getTenantId())
+                .title(job.getTitle())
+                .description(job.getDescription())
+                .location(job.getLocation())
+                .employmentType(job.getEmploymentType())
+                .experienceLevel(job.getExperienceLevel())
+                .salaryMin(job.getSalaryMin())
+                .salaryMax(job.getSalaryMax())
+                .salaryCurrency(job.getSalaryCurrency())
+                .status(job.getStatus())
+                .departmentId(job.getDepartmentId())
+                .recruiterId(job.getRecruiterId())
+                .hiringManagerId(job.getHiringManagerId())
+                .numberOfPositions(job.getNumberOfPositions())
+                .publishedAt(job.getPublishedAt())
+                .expiresAt(job.getExpiresAt())
+                .approvedAt(job.getApprovedAt())
+                .approvedBy(job.getApprovedBy())
+                .customFields(job.getCustomFields())
+                .requirements(job.getRequirements())
+                .benefits(job.getBenefits())
+                .applicationCount(job.getApplicationCount())
+                .viewCount(job.getViewCount())
+                .isRemote(job.getIsRemote())
+                .isFeatured(job.getIsFeatured())
+                .createdAt(job.getCreatedAt())
+                .updatedAt(job.getUpdatedAt())
+                .createdBy(job.getCreatedBy())
+                .updatedBy(job.getUpdatedBy())
+                .changeSeq(job.getChangeSeq())
+                .nearDuplicateOf(job.getNearDuplicateOf())
+                .nearDuplicateExternal(job.isNearDuplicateExternal())
+                .build();
+    }
 }
 
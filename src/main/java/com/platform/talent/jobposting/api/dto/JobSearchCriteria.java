@@ -24,5 +24,11 @@ public class JobSearchCriteria {
     private UUID recruiterId;
     private Boolean isRemote;
     private Boolean activeOnly;
+    private Double salaryMin;       // overlap with the job's salary band
+    private Double salaryMax;
+    private String salaryCurrency;  // currency of salaryMin/salaryMax, defaults to the base currency
+    private Double latitude;        // radius search centre; falls back to geocoding location
+    private Double longitude;
+    private Double radiusKm;
 }
 
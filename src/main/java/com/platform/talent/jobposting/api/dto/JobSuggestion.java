@@ -0,0 +1,19 @@
+package com.platform.talent.jobposting.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobSuggestion {
+
+    public enum Type { TITLE, LOCATION }
+
+    private String text;
+    private Type type;
+    private Integer jobCount; // published jobs with this title/location
+}
@@ -0,0 +1,23 @@
+package com.platform.talent.jobposting.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/** One entry of a job page's "similar jobs" rail. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimilarJobResponse {
+
+    private UUID id;
+    private String title;
+    private String location;
+    private String employmentType;
+    private String experienceLevel;
+    private Double score; // cosine similarity of the TF-IDF vectors, 0..1
+}
@@ -0,0 +1,251 @@
+package com.platform.talent.jobposting.api.json;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.platform.talent.jobposting.api.dto.JobResponse;
+import com.platform.talent.jobposting.domain.model.Job;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Writes a {@link Job} straight to the generator in the {@link JobResponse}
+ * shape: same property names, order and value formats. Only the items of a
+ * {@link com.platform.talent.jobposting.api.dto.JobPage} use it, so list and
+ * search pages are written without first copying each job into a
+ * {@code JobResponse} and walking it by reflection; a {@code Job} serialized
+ * anywhere else keeps Jackson's default bean serialization.
+ * <p>
+ * Property names are pre-encoded, and UUIDs and dates are written without
+ * intermediate Strings. Dates fall back to the mapper's own serializer when
+ * timestamps or a date pattern are configured, and the JSON columns always
+ * use it. A field added to {@code JobResponse} must be added here too; {@code
+ * JobJsonSerializerTest} compares the two shapes.
+ */
+public class JobJsonSerializer extends StdSerializer<Job> {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString TENANT_ID = new SerializedString("tenantId");
+    private static final SerializedString TITLE = new SerializedString("title");
+    private static final SerializedString DESCRIPTION = new SerializedString("description");
+    private static final SerializedString LOCATION = new SerializedString("location");
+    private static final SerializedString EMPLOYMENT_TYPE = new SerializedString("employmentType");
+    private static final SerializedString EXPERIENCE_LEVEL = new SerializedString("experienceLevel");
+    private static final SerializedString SALARY_MIN = new SerializedString("salaryMin");
+    private static final SerializedString SALARY_MAX = new SerializedString("salaryMax");
+    private static final SerializedString SALARY_CURRENCY = new SerializedString("salaryCurrency");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString DEPARTMENT_ID = new SerializedString("departmentId");
+    private static final SerializedString RECRUITER_ID = new SerializedString("recruiterId");
+    private static final SerializedString HIRING_MANAGER_ID = new SerializedString("hiringManagerId");
+    private static final SerializedString NUMBER_OF_POSITIONS = new SerializedString("numberOfPositions");
+    private static final SerializedString PUBLISHED_AT = new SerializedString("publishedAt");
+    private static final SerializedString EXPIRES_AT = new SerializedString("expiresAt");
+    private static final SerializedString APPROVED_AT = new SerializedString("approvedAt");
+    private static final SerializedString APPROVED_BY = new SerializedString("approvedBy");
+    private static final SerializedString CUSTOM_FIELDS = new SerializedString("customFields");
+    private static final SerializedString REQUIREMENTS = new SerializedString("requirements");
+    private static final SerializedString BENEFITS = new SerializedString("benefits");
+    private static final SerializedString APPLICATION_COUNT = new SerializedString("applicationCount");
+    private static final SerializedString VIEW_COUNT = new SerializedString("viewCount");
+    private static final SerializedString IS_REMOTE = new SerializedString("isRemote");
+    private static final SerializedString IS_FEATURED = new SerializedString("isFeatured");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializedString UPDATED_AT = new SerializedString("updatedAt");
+    private static final SerializedString CREATED_BY = new SerializedString("createdBy");
+    private static final SerializedString UPDATED_BY = new SerializedString("updatedBy");
+    private static final SerializedString CHANGE_SEQ = new SerializedString("changeSeq");
+    private static final SerializedString NEAR_DUPLICATE_OF = new SerializedString("nearDuplicateOf");
+    private static final SerializedString NEAR_DUPLICATE_EXTERNAL = new SerializedString("nearDuplicateExternal");
+
+    public JobJsonSerializer() {
+        super(Job.class);
+    }
+
+    @Override
+    public void serialize(Job job, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        FieldWriter out = new FieldWriter(gen, provider);
+        gen.writeStartObject(job);
+        out.uuid(ID, job.getId());
+        out.uuid(TENANT_ID, job.getTenantId());
+        out.string(TITLE, job.getTitle());
+        out.string(DESCRIPTION, job.getDescription());
+        out.string(LOCATION, job.getLocation());
+        out.string(EMPLOYMENT_TYPE, job.getEmploymentType());
+        out.string(EXPERIENCE_LEVEL, job.getExperienceLevel());
+        out.number(SALARY_MIN, job.getSalaryMin());
+        out.number(SALARY_MAX, job.getSalaryMax());
+        out.string(SALARY_CURRENCY, job.getSalaryCurrency());
+        out.string(STATUS, job.getStatus() != null ? job.getStatus().name() : null);
+        out.uuid(DEPARTMENT_ID, job.getDepartmentId());
+        out.uuid(RECRUITER_ID, job.getRecruiterId());
+        out.uuid(HIRING_MANAGER_ID, job.getHiringManagerId());
+        out.number(NUMBER_OF_POSITIONS, job.getNumberOfPositions());
+        out.date(PUBLISHED_AT, job.getPublishedAt());
+        out.date(EXPIRES_AT, job.getExpiresAt());
+        out.date(APPROVED_AT, job.getApprovedAt());
+        out.uuid(APPROVED_BY, job.getApprovedBy());
+        out.value(CUSTOM_FIELDS, job.getCustomFields());
+        out.value(REQUIREMENTS, job.getRequirements());
+        out.value(BENEFITS, job.getBenefits());
+        out.number(APPLICATION_COUNT, job.getApplicationCount());
+        out.number(VIEW_COUNT, job.getViewCount());
+        out.bool(IS_REMOTE, job.getIsRemote());
+        out.bool(IS_FEATURED, job.getIsFeatured());
+        out.date(CREATED_AT, job.getCreatedAt());
+        out.date(UPDATED_AT, job.getUpdatedAt());
+        out.uuid(CREATED_BY, job.getCreatedBy());
+        out.uuid(UPDATED_BY, job.getUpdatedBy());
+        out.number(CHANGE_SEQ, job.getChangeSeq());
+        out.uuid(NEAR_DUPLICATE_OF, job.getNearDuplicateOf());
+        out.bool(NEAR_DUPLICATE_EXTERNAL, job.isNearDuplicateExternal());
+        gen.writeEndObject();
+    }
+
+    /**
+     * Writes one job's fields. UUIDs and dates are formatted into a scratch
+     * buffer instead of a String per value; a DateTimeFormatter call alone
+     * allocates several hundred bytes.
+     */
+    private static final class FieldWriter {
+
+        private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+        private final JsonGenerator gen;
+        private final SerializerProvider provider;
+        private final boolean nulls;
+        private final boolean isoDates;
+        private final char[] buffer = new char[36];
+
+        FieldWriter(JsonGenerator gen, SerializerProvider provider) {
+            this.gen = gen;
+            this.provider = provider;
+            JsonInclude.Include inclusion = provider.getConfig().getDefaultPropertyInclusion().getValueInclusion();
+            this.nulls = inclusion != JsonInclude.Include.NON_NULL && inclusion != JsonInclude.Include.NON_ABSENT
+                    && inclusion != JsonInclude.Include.NON_EMPTY;
+            // What the JSR-310 serializer writes unless timestamps or a pattern are configured
+            this.isoDates = !provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                    && !provider.getConfig().getDefaultPropertyFormat(LocalDateTime.class).hasPattern();
+        }
+
+        // Writes the name, and the null when nulls are included; true if the value still has to be written
+        private boolean name(SerializedString name, Object value) throws IOException {
+            if (value == null) {
+                if (nulls) {
+                    gen.writeFieldName(name);
+                    gen.writeNull();
+                }
+                return false;
+            }
+            gen.writeFieldName(name);
+            return true;
+        }
+
+        void string(SerializedString name, String value) throws IOException {
+            if (name(name, value)) {
+                gen.writeString(value);
+            }
+        }
+
+        void number(SerializedString name, Double value) throws IOException {
+            if (name(name, value)) {
+                gen.writeNumber(value);
+            }
+        }
+
+        void number(SerializedString name, Integer value) throws IOException {
+            if (name(name, value)) {
+                gen.writeNumber(value);
+            }
+        }
+
+        void number(SerializedString name, Long value) throws IOException {
+            if (name(name, value)) {
+                gen.writeNumber(value);
+            }
+        }
+
+        void bool(SerializedString name, Boolean value) throws IOException {
+            if (name(name, value)) {
+                gen.writeBoolean(value);
+            }
+        }
+
+        // JSON columns: the mapper's cached serializer for the runtime type
+        void value(SerializedString name, Object value) throws IOException {
+            if (name(name, value)) {
+                provider.defaultSerializeValue(value, gen);
+            }
+        }
+
+        void uuid(SerializedString name, UUID value) throws IOException {
+            if (!name(name, value)) {
+                return;
+            }
+            long msb = value.getMostSignificantBits();
+            long lsb = value.getLeastSignificantBits();
+            hex(msb >>> 32, 0, 8);
+            buffer[8] = '-';
+            hex(msb >>> 16, 9, 4);
+            buffer[13] = '-';
+            hex(msb, 14, 4);
+            buffer[18] = '-';
+            hex(lsb >>> 48, 19, 4);
+            buffer[23] = '-';
+            hex(lsb, 24, 12);
+            gen.writeString(buffer, 0, 36);
+        }
+
+        // ISO_LOCAL_DATE_TIME: seconds always, the fraction only when non-zero and without trailing zeros
+        void date(SerializedString name, LocalDateTime value) throws IOException {
+            if (!isoDates || value == null || value.getYear() < 0 || value.getYear() > 9999) {
+                value(name, value);
+                return;
+            }
+            gen.writeFieldName(name);
+            digits(value.getYear(), 0, 4);
+            buffer[4] = '-';
+            digits(value.getMonthValue(), 5, 2);
+            buffer[7] = '-';
+            digits(value.getDayOfMonth(), 8, 2);
+            buffer[10] = 'T';
+            digits(value.getHour(), 11, 2);
+            buffer[13] = ':';
+            digits(value.getMinute(), 14, 2);
+            buffer[16] = ':';
+            digits(value.getSecond(), 17, 2);
+            int length = 19;
+            int nano = value.getNano();
+            if (nano != 0) {
+                int fractionDigits = 9;
+                while (nano % 10 == 0) {
+                    nano /= 10;
+                    fractionDigits--;
+                }
+                buffer[length] = '.';
+                digits(nano, length + 1, fractionDigits);
+                length += 1 + fractionDigits;
+            }
+            gen.writeString(buffer, 0, length);
+        }
+
+        private void hex(long value, int offset, int count) {
+            for (int i = offset + count - 1; i >= offset; i--) {
+                buffer[i] = HEX[(int) (value & 0xF)];
+                value >>>= 4;
+            }
+        }
+
+        private void digits(int value, int offset, int count) {
+            for (int i = offset + count - 1; i >= offset; i--) {
+                buffer[i] = (char) ('0' + value % 10);
+                value /= 10;
+            }
+        }
+    }
+}
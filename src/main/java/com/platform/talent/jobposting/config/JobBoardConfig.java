@@ -0,0 +1,10 @@
+package com.platform.talent.jobposting.config;
+
+import com.platform.talent.jobposting.service.board.JobBoardProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(JobBoardProperties.class)
+public class JobBoardConfig {
+}
@@ -0,0 +1,41 @@
+package com.platform.talent.jobposting.config;
+
+import com.platform.talent.jobposting.service.event.JobEventPublisherProperties;
+import com.platform.talent.jobposting.service.event.JobEventSerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Producer side of Kafka. KafkaAutoConfiguration is excluded, so the template
+ * is built here from spring.kafka.producer.* with the job event serializer
+ * for values. job-events.publisher.producer (idempotence, acks) applies on top;
+ * per-topic batching and compression is layered on by JobEventPublisher.
+ */
+@Configuration
+@EnableConfigurationProperties({KafkaProperties.class, JobEventPublisherProperties.class})
+public class KafkaConfig {
+
+    @Bean
+    public ProducerFactory<String, Object> producerFactory(KafkaProperties kafkaProperties,
+                                                           JobEventPublisherProperties publisherProperties,
+                                                           @Value("${job-events.binary-topics:}") List<String> binaryTopics) {
+        Map<String, Object> config = kafkaProperties.buildProducerProperties(null);
+        config.putAll(publisherProperties.getProducer());
+        return new DefaultKafkaProducerFactory<>(config, new StringSerializer(), new JobEventSerializer(binaryTopics));
+    }
+
+    @Bean
+    public KafkaTemplate<String, Object> kafkaTemplate(ProducerFactory<String, Object> producerFactory) {
+        return new KafkaTemplate<>(producerFactory);
+    }
+}
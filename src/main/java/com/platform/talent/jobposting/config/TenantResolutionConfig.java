@@ -0,0 +1,20 @@
+package com.platform.talent.jobposting.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class TenantResolutionConfig {
+
+    // Ahead of the rate limiter, which keys its buckets by the resolved tenant
+    @Bean
+    public FilterRegistrationBean<TenantResolutionFilter> tenantResolutionFilter(ObjectMapper objectMapper) {
+        FilterRegistrationBean<TenantResolutionFilter> registration =
+                new FilterRegistrationBean<>(new TenantResolutionFilter(objectMapper));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 15);
+        return registration;
+    }
+}
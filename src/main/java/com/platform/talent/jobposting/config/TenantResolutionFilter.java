@@ -0,0 +1,128 @@
+package com.platform.talent.jobposting.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Resolves the calling tenant once per request for the filters and
+ * interceptors that run before the controller binds the body. Most endpoints
+ * send it as {@code X-Tenant-ID} or {@code X-Organization-Id}; search by
+ * criteria carries it as {@code tenantId} in the JSON body, so that body is
+ * buffered, read here, and replayed to the controller.
+ */
+public class TenantResolutionFilter extends OncePerRequestFilter {
+
+    public static final String TENANT_ATTRIBUTE = TenantResolutionFilter.class.getName() + ".tenant";
+
+    private static final String SEARCH_PATH = "/api/v1/jobs/search";
+
+    private final ObjectMapper objectMapper;
+
+    public TenantResolutionFilter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @return the resolved tenant, or null for anonymous callers; reads the
+     * headers directly when the request did not pass this filter
+     */
+    public static String tenantOf(HttpServletRequest request) {
+        Object resolved = request.getAttribute(TENANT_ATTRIBUTE);
+        return resolved != null ? resolved.toString() : headerTenant(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String tenant = headerTenant(request);
+        HttpServletRequest forwarded = request;
+        if (tenant == null && "POST".equals(request.getMethod()) && SEARCH_PATH.equals(request.getRequestURI())) {
+            BufferedBodyRequest buffered = new BufferedBodyRequest(request);
+            tenant = bodyTenant(buffered.body);
+            forwarded = buffered;
+        }
+        if (tenant != null) {
+            forwarded.setAttribute(TENANT_ATTRIBUTE, tenant);
+        }
+        chain.doFilter(forwarded, response);
+    }
+
+    private static String headerTenant(HttpServletRequest request) {
+        String tenant = request.getHeader("X-Tenant-ID");
+        return tenant != null ? tenant : request.getHeader("X-Organization-Id");
+    }
+
+    // Malformed bodies resolve to no tenant; the controller rejects them when it binds
+    private String bodyTenant(byte[] body) {
+        try {
+            JsonNode tenantId = objectMapper.readTree(body).path("tenantId");
+            return tenantId.isTextual() ? tenantId.asText() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static final class BufferedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private BufferedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = StreamUtils.copyToByteArray(request.getInputStream());
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException("Buffered request bodies are read synchronously");
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+}
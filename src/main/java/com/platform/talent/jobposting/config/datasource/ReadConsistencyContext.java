@@ -0,0 +1,46 @@
+package com.platform.talent.jobposting.config.datasource;
+
+import java.time.Instant;
+
+/**
+ * Per-request read consistency requirements, set by {@link ReadConsistencyFilter}
+ * and consulted when a read-only transaction picks its datasource.
+ */
+public final class ReadConsistencyContext {
+
+    private static final ThreadLocal<Requirement> CURRENT = new ThreadLocal<>();
+
+    private ReadConsistencyContext() {
+    }
+
+    public static void requirePrimary() {
+        CURRENT.set(new Requirement(true, null));
+    }
+
+    /** Replicas may serve the request only once they have replayed up to this instant. */
+    public static void requireReadAfter(Instant instant) {
+        CURRENT.set(new Requirement(false, instant));
+    }
+
+    /** Whether the request asked for primary or read-after consistency. */
+    public static boolean isRequired() {
+        return CURRENT.get() != null;
+    }
+
+    public static boolean isPrimaryRequired() {
+        Requirement requirement = CURRENT.get();
+        return requirement != null && requirement.primary();
+    }
+
+    public static Instant getReadAfter() {
+        Requirement requirement = CURRENT.get();
+        return requirement == null ? null : requirement.readAfter();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    private record Requirement(boolean primary, Instant readAfter) {
+    }
+}
@@ -0,0 +1,60 @@
+package com.platform.talent.jobposting.config.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Lets callers opt into read-your-writes per request:
+ * <ul>
+ *   <li>{@code X-Read-Consistency: primary} always reads from the primary;</li>
+ *   <li>{@code X-Read-After: <ISO-8601 instant or epoch millis>} reads from a
+ *       replica only if it has replayed past that instant, otherwise the primary.</li>
+ * </ul>
+ */
+@Slf4j
+public class ReadConsistencyFilter extends OncePerRequestFilter {
+
+    public static final String CONSISTENCY_HEADER = "X-Read-Consistency";
+    public static final String READ_AFTER_HEADER = "X-Read-After";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String consistency = request.getHeader(CONSISTENCY_HEADER);
+        String readAfter = request.getHeader(READ_AFTER_HEADER);
+        try {
+            if ("primary".equalsIgnoreCase(consistency)) {
+                ReadConsistencyContext.requirePrimary();
+            } else if (readAfter != null) {
+                Instant instant = parseInstant(readAfter);
+                if (instant != null) {
+                    ReadConsistencyContext.requireReadAfter(instant);
+                } else {
+                    ReadConsistencyContext.requirePrimary();
+                }
+            }
+            chain.doFilter(request, response);
+        } finally {
+            ReadConsistencyContext.clear();
+        }
+    }
+
+    private Instant parseInstant(String value) {
+        try {
+            return value.chars().allMatch(Character::isDigit)
+                    ? Instant.ofEpochMilli(Long.parseLong(value))
+                    : Instant.parse(value);
+        } catch (DateTimeParseException | NumberFormatException e) {
+            log.debug("Unparseable {} header '{}', falling back to primary", READ_AFTER_HEADER, value);
+            return null;
+        }
+    }
+}
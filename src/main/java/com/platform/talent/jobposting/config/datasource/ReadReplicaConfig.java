@@ -0,0 +1,68 @@
+package com.platform.talent.jobposting.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Routes read-only transactions to replicas when {@code datasource.replicas.enabled}
+ * is set. With the flag off Spring Boot's single primary datasource is used as before.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replicas", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class ReadReplicaConfig {
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public ReplicaPool replicaPool(ReplicaProperties properties) {
+        List<ReplicaPool.Node> nodes = properties.getEndpoints().stream()
+                .map(endpoint -> new ReplicaPool.Node(endpoint.getName(), replicaDataSource(endpoint)))
+                .toList();
+        return new ReplicaPool(nodes, properties.getLagQuery(),
+                properties.getMaxLagSeconds(), properties.getProbeIntervalMs());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaPool replicaPool) {
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primaryDataSource, replicaPool));
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadConsistencyFilter> readConsistencyFilter() {
+        FilterRegistrationBean<ReadConsistencyFilter> registration =
+                new FilterRegistrationBean<>(new ReadConsistencyFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    private HikariDataSource replicaDataSource(ReplicaProperties.Endpoint endpoint) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica-" + endpoint.getName());
+        dataSource.setJdbcUrl(endpoint.getUrl());
+        dataSource.setUsername(endpoint.getUsername());
+        dataSource.setPassword(endpoint.getPassword());
+        dataSource.setMaximumPoolSize(endpoint.getMaximumPoolSize());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+}
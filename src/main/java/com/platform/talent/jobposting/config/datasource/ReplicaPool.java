@@ -0,0 +1,155 @@
+package com.platform.talent.jobposting.config.datasource;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Round-robin over replicas that passed their last lag probe. A replica that
+ * fails the probe or lags more than the configured maximum is ejected until a
+ * later probe shows it has caught up.
+ */
+@Slf4j
+public class ReplicaPool implements AutoCloseable {
+
+    private final List<Node> nodes;
+    private final String lagQuery;
+    private final double maxLagSeconds;
+    private final long probeIntervalMs;
+    private final AtomicInteger cursor = new AtomicInteger();
+    private ScheduledExecutorService prober;
+
+    public ReplicaPool(List<Node> nodes, String lagQuery, double maxLagSeconds, long probeIntervalMs) {
+        this.nodes = List.copyOf(nodes);
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLagSeconds;
+        this.probeIntervalMs = probeIntervalMs;
+    }
+
+    public void start() {
+        probe();
+        prober = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "replica-lag-probe");
+            thread.setDaemon(true);
+            return thread;
+        });
+        prober.scheduleWithFixedDelay(this::probe, probeIntervalMs, probeIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() {
+        if (prober != null) {
+            prober.shutdownNow();
+        }
+        for (Node node : nodes) {
+            if (node.getDataSource() instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Failed to close replica {}", node.getName(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Picks the next healthy replica, skipping those that have not yet replayed
+     * up to {@code readAfter} when one is given.
+     */
+    public Optional<Node> select(Instant readAfter) {
+        int size = nodes.size();
+        if (size == 0) {
+            return Optional.empty();
+        }
+        int start = Math.floorMod(cursor.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Node node = nodes.get((start + i) % size);
+            if (node.isHealthy() && (readAfter == null || node.isConsistentAsOf(readAfter))) {
+                return Optional.of(node);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public List<Node> getNodes() {
+        return nodes;
+    }
+
+    public void probe() {
+        for (Node node : nodes) {
+            try (Connection connection = node.getDataSource().getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(lagQuery)) {
+                if (!rs.next()) {
+                    node.eject("lag query returned no rows");
+                    continue;
+                }
+                double lag = rs.getDouble(1);
+                Timestamp consistentAsOf = rs.getTimestamp(2);
+                node.consistentAsOf = consistentAsOf == null ? Instant.EPOCH : consistentAsOf.toInstant();
+                node.lagSeconds = lag;
+                if (lag > maxLagSeconds) {
+                    node.eject("lag " + lag + "s exceeds " + maxLagSeconds + "s");
+                } else {
+                    node.admit();
+                }
+            } catch (Exception e) {
+                node.eject(e.getMessage());
+            }
+        }
+    }
+
+    public static class Node {
+
+        @Getter
+        private final String name;
+        @Getter
+        private final DataSource dataSource;
+        private volatile boolean healthy;
+        private volatile double lagSeconds;
+        private volatile Instant consistentAsOf = Instant.EPOCH;
+
+        public Node(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public boolean isHealthy() {
+            return healthy;
+        }
+
+        public double getLagSeconds() {
+            return lagSeconds;
+        }
+
+        boolean isConsistentAsOf(Instant instant) {
+            return !consistentAsOf.isBefore(instant);
+        }
+
+        private void eject(String reason) {
+            if (healthy) {
+                log.warn("Ejecting replica {} from read rotation: {}", name, reason);
+            }
+            healthy = false;
+        }
+
+        private void admit() {
+            if (!healthy) {
+                log.info("Replica {} back in read rotation (lag {}s)", name, lagSeconds);
+            }
+            healthy = true;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.platform.talent.jobposting.config.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "datasource.replicas")
+public class ReplicaProperties {
+
+    private boolean enabled = false;
+
+    /** Replicas lagging further behind than this are taken out of rotation. */
+    private double maxLagSeconds = 5.0;
+
+    private long probeIntervalMs = 1000;
+
+    /**
+     * Must return (lag_seconds, consistent_as_of). The default treats a replica
+     * that has replayed everything it received as current, so an idle primary
+     * does not make every replica look stale.
+     */
+    private String lagQuery = "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END, "
+            + "CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN now() "
+            + "ELSE pg_last_xact_replay_timestamp() END";
+
+    private List<Endpoint> endpoints = new ArrayList<>();
+
+    @Data
+    public static class Endpoint {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,170 @@
+package com.platform.talent.jobposting.config.jfr;
+
+import com.platform.talent.jobposting.service.jfr.IntegrationCallEvent;
+import com.platform.talent.jobposting.service.jfr.JobOperationEvent;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code /actuator/flightrecorder}: on-demand JDK Flight Recorder recordings
+ * with the job operation and integration call events enabled on top of a JDK
+ * preset. POST starts one, DELETE {@code /{name}} stops it and writes it to
+ * {@code flight-recorder.dump-dir}, GET {@code /{name}} downloads the file.
+ * One recording runs at a time, and it stops on its own after
+ * {@code flight-recorder.max-duration-minutes}.
+ */
+@Endpoint(id = "flightrecorder")
+@Slf4j
+public class FlightRecorderEndpoint {
+
+    private static final DateTimeFormatter NAME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final FlightRecorderProperties properties;
+    private final Map<String, Recording> recordings = new LinkedHashMap<>();
+
+    public FlightRecorderEndpoint(FlightRecorderProperties properties) {
+        this.properties = properties;
+    }
+
+    @ReadOperation
+    public synchronized List<Map<String, Object>> recordings() {
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (Recording recording : recordings.values()) {
+            result.add(describe(recording));
+        }
+        return result;
+    }
+
+    @WriteOperation
+    public synchronized Map<String, Object> start(@Nullable String template, @Nullable Integer durationMinutes) {
+        for (Recording recording : recordings.values()) {
+            if (recording.getState() == RecordingState.RUNNING) {
+                throw new RuntimeException("Recording already running: " + recording.getName());
+            }
+        }
+        String preset = template != null ? template : properties.getTemplate();
+        int minutes = durationMinutes != null
+                ? Math.min(durationMinutes, properties.getMaxDurationMinutes())
+                : properties.getMaxDurationMinutes();
+
+        Recording recording = new Recording(configuration(preset));
+        try {
+            String name = "jobposting-" + LocalDateTime.now().format(NAME_FORMAT);
+            Path dumpDir = Files.createDirectories(Paths.get(properties.getDumpDir()));
+            recording.setName(name);
+            recording.setToDisk(true);
+            recording.setDuration(Duration.ofMinutes(Math.max(1, minutes)));
+            recording.setMaxSize(properties.getMaxSizeMb() * 1024L * 1024L);
+            // Written here on stop, including when the duration runs out
+            recording.setDestination(dumpDir.resolve(name + ".jfr"));
+            Duration threshold = Duration.ofMillis(properties.getEventThresholdMs());
+            recording.enable(JobOperationEvent.class).withThreshold(threshold);
+            recording.enable(IntegrationCallEvent.class).withThreshold(threshold);
+            recording.start();
+
+            recordings.put(name, recording);
+            evictFinished();
+            log.info("Started flight recording {} with the {} preset for {} minutes", name, preset, minutes);
+            return describe(recording);
+        } catch (IOException e) {
+            recording.close();
+            throw new RuntimeException("Failed to start flight recording: " + e.getMessage(), e);
+        }
+    }
+
+    @DeleteOperation
+    public synchronized Map<String, Object> stop(@Selector String name) {
+        Recording recording = find(name);
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+            log.info("Stopped flight recording {}", name);
+        }
+        return describe(recording);
+    }
+
+    @ReadOperation
+    public synchronized Resource download(@Selector String name) {
+        Recording recording = find(name);
+        if (recording.getState() != RecordingState.STOPPED && recording.getState() != RecordingState.CLOSED) {
+            throw new RuntimeException("Recording is still running: " + name);
+        }
+        return new FileSystemResource(recording.getDestination());
+    }
+
+    private Recording find(String name) {
+        Recording recording = recordings.get(name);
+        if (recording == null) {
+            throw new RuntimeException("Recording not found: " + name);
+        }
+        return recording;
+    }
+
+    private static Configuration configuration(String preset) {
+        try {
+            return Configuration.getConfiguration(preset);
+        } catch (IOException | ParseException e) {
+            throw new RuntimeException("Unknown flight recorder preset: " + preset, e);
+        }
+    }
+
+    // Oldest first; only finished recordings are removed, with their files
+    private void evictFinished() {
+        int excess = recordings.size() - Math.max(1, properties.getRetainedRecordings());
+        Iterator<Recording> iterator = recordings.values().iterator();
+        while (excess > 0 && iterator.hasNext()) {
+            Recording recording = iterator.next();
+            if (recording.getState() == RecordingState.RUNNING) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(recording.getDestination());
+            } catch (IOException e) {
+                log.warn("Failed to delete old flight recording {}", recording.getDestination(), e);
+            }
+            recording.close();
+            iterator.remove();
+            excess--;
+        }
+    }
+
+    private static Map<String, Object> describe(Recording recording) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("name", recording.getName());
+        result.put("state", recording.getState());
+        result.put("startTime", recording.getStartTime());
+        result.put("stopTime", recording.getStopTime());
+        result.put("maxDuration", recording.getDuration());
+        result.put("file", String.valueOf(recording.getDestination()));
+        try {
+            Path file = recording.getDestination();
+            result.put("fileSizeBytes", file != null && Files.exists(file) ? Files.size(file) : 0L);
+        } catch (IOException e) {
+            result.put("fileSizeBytes", 0L);
+        }
+        return result;
+    }
+}
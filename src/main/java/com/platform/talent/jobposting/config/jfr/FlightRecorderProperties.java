@@ -0,0 +1,29 @@
+package com.platform.talent.jobposting.config.jfr;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "flight-recorder")
+public class FlightRecorderProperties {
+
+    private boolean enabled = true;
+
+    /** JDK settings preset used when a start request names none: "default" (~1% overhead) or "profile" (~2%). */
+    private String template = "default";
+
+    /** Job operations and integration calls shorter than this are not recorded; 0 records every call. */
+    private long eventThresholdMs = 0;
+
+    /** A recording stops and is written out on its own after this long. */
+    private int maxDurationMinutes = 30;
+
+    /** Disk space a single recording may use before its oldest chunks are dropped. */
+    private int maxSizeMb = 256;
+
+    /** Where finished recordings are written for download. */
+    private String dumpDir = System.getProperty("java.io.tmpdir") + "/jobposting-jfr";
+
+    /** Finished recordings kept on disk; older files are deleted when a new recording starts. */
+    private int retainedRecordings = 5;
+}
@@ -0,0 +1,32 @@
+package com.platform.talent.jobposting.config.jfr;
+
+import com.platform.talent.jobposting.service.jfr.JobOperation;
+import com.platform.talent.jobposting.service.jfr.JobOperationInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+/**
+ * Applies {@link JobOperationInterceptor} to {@link JobOperation} methods. Independent of
+ * {@code flight-recorder.enabled}, which only controls the actuator endpoint; recordings
+ * started any other way (JMC, {@code jcmd}) see the events too.
+ */
+@Configuration(proxyBeanMethods = false)
+public class JobOperationConfig {
+
+    // Infrastructure role so the auto-proxy creator that applies @Transactional picks it up.
+    // Outermost, so the event times the commit and a failed commit is not reported as success.
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor jobOperationAdvisor() {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(JobOperation.class), new JobOperationInterceptor());
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+}
@@ -0,0 +1,133 @@
+package com.platform.talent.jobposting.config.querystats;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving sketch of the (tenant, fingerprint) pairs with the most total
+ * database time, each with a latency histogram and row count. Holds at most
+ * {@code capacity} entries whatever the number of tenants; a newcomer takes
+ * over the smallest entry's time as its {@code errorMs}, the most its total can
+ * be overestimated by.
+ */
+public class QueryHeavyHitters {
+
+    // Bucket b holds latencies in [2^b, 2^(b+1)) microseconds; the last one is open-ended
+    private static final int BUCKETS = 32;
+
+    private final int capacity;
+    private final Map<Key, Entry> entries = new HashMap<>();
+
+    public QueryHeavyHitters(int capacity) {
+        this.capacity = capacity;
+    }
+
+    // Held for well under a microsecond, against a database round trip per call
+    public synchronized void record(String tenant, SqlFingerprint fingerprint, String source, long nanos, long rows) {
+        Key key = new Key(tenant, fingerprint.id());
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            long inherited = 0;
+            if (entries.size() >= capacity) {
+                Map.Entry<Key, Entry> min = null;
+                for (Map.Entry<Key, Entry> candidate : entries.entrySet()) {
+                    if (min == null || candidate.getValue().totalNanos < min.getValue().totalNanos) {
+                        min = candidate;
+                    }
+                }
+                entries.remove(min.getKey());
+                inherited = min.getValue().totalNanos;
+            }
+            entry = new Entry(tenant, fingerprint, source, inherited);
+            entries.put(key, entry);
+        }
+        entry.add(nanos, rows);
+    }
+
+    public synchronized List<Map<String, Object>> top(int limit, String tenant) {
+        List<Entry> sorted = new ArrayList<>();
+        for (Entry entry : entries.values()) {
+            if (tenant == null || tenant.equals(entry.tenant)) {
+                sorted.add(entry);
+            }
+        }
+        sorted.sort(Comparator.comparingLong((Entry e) -> e.totalNanos).reversed());
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (Entry entry : sorted.subList(0, Math.min(limit, sorted.size()))) {
+            result.add(entry.toMap());
+        }
+        return result;
+    }
+
+    public synchronized void reset() {
+        entries.clear();
+    }
+
+    private record Key(String tenant, String fingerprint) {
+    }
+
+    private static final class Entry {
+        private final String tenant;
+        private final SqlFingerprint fingerprint;
+        private final String source;
+        private final long errorNanos;
+        private final long[] buckets = new long[BUCKETS];
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+        private long rows;
+
+        private Entry(String tenant, SqlFingerprint fingerprint, String source, long errorNanos) {
+            this.tenant = tenant;
+            this.fingerprint = fingerprint;
+            this.source = source;
+            this.errorNanos = errorNanos;
+            this.totalNanos = errorNanos;
+        }
+
+        private void add(long nanos, long rows) {
+            count++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+            this.rows += Math.max(0, rows);
+            long micros = Math.max(1, nanos / 1000);
+            buckets[Math.min(BUCKETS - 1, 63 - Long.numberOfLeadingZeros(micros))]++;
+        }
+
+        // Upper bound of the bucket holding the given quantile, in milliseconds
+        private double percentileMs(double quantile) {
+            long target = (long) Math.ceil(quantile * count);
+            long seen = 0;
+            for (int b = 0; b < BUCKETS; b++) {
+                seen += buckets[b];
+                if (seen >= target && buckets[b] > 0) {
+                    return Math.min((1L << (b + 1)) / 1000.0, maxNanos / 1_000_000.0);
+                }
+            }
+            return maxNanos / 1_000_000.0;
+        }
+
+        private Map<String, Object> toMap() {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("tenant", tenant);
+            row.put("fingerprint", fingerprint.id());
+            row.put("source", source);
+            row.put("calls", count);
+            row.put("totalMs", totalNanos / 1_000_000.0);
+            row.put("errorMs", errorNanos / 1_000_000.0);
+            row.put("meanMs", count == 0 ? 0 : (totalNanos - errorNanos) / 1_000_000.0 / count);
+            row.put("p50Ms", percentileMs(0.5));
+            row.put("p95Ms", percentileMs(0.95));
+            row.put("p99Ms", percentileMs(0.99));
+            row.put("maxMs", maxNanos / 1_000_000.0);
+            row.put("rows", rows);
+            row.put("rowsPerCall", count == 0 ? 0 : (double) rows / count);
+            row.put("sql", fingerprint.normalized());
+            return row;
+        }
+    }
+}
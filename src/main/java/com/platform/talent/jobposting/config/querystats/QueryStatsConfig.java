@@ -0,0 +1,84 @@
+package com.platform.talent.jobposting.config.querystats;
+
+import com.platform.talent.jobposting.domain.repository.JobRepository;
+import com.platform.talent.jobposting.repository.JobPostingRepository;
+import com.platform.talent.jobposting.repository.PublishedJobViewRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.util.Set;
+
+/**
+ * Statement fingerprinting: tags calls of the job repositories, wraps the
+ * primary DataSource to time every statement, and attributes each to its
+ * repository method (or, failing that, the endpoint) and the request's tenant.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "query-stats", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(QueryStatsProperties.class)
+public class QueryStatsConfig implements WebMvcConfigurer {
+
+    private static final Set<Class<?>> TRACKED_REPOSITORIES = Set.of(JobRepository.class, JobPostingRepository.class,
+            PublishedJobViewRepository.class);
+
+    @Bean
+    public QueryHeavyHitters queryHeavyHitters(QueryStatsProperties properties) {
+        return new QueryHeavyHitters(properties.getTopEntries());
+    }
+
+    @Bean
+    public QueryStatsRecorder queryStatsRecorder(MeterRegistry meterRegistry, QueryStatsProperties properties,
+                                                 QueryHeavyHitters queryHeavyHitters) {
+        return new QueryStatsRecorder(meterRegistry, properties, queryHeavyHitters);
+    }
+
+    @Bean
+    public QueryStatsEndpoint queryStatsEndpoint(QueryHeavyHitters queryHeavyHitters, QueryStatsProperties properties) {
+        return new QueryStatsEndpoint(queryHeavyHitters, properties);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new QueryStatsRequestInterceptor());
+    }
+
+    // Static, and the recorder is looked up on first use, so the meter registry is not created early
+    @Bean
+    public static BeanPostProcessor queryStatsPostProcessor(ObjectProvider<QueryStatsRecorder> recorder) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, repository) -> {
+                                Class<?> repositoryInterface = repository.getRepositoryInterface();
+                                if (TRACKED_REPOSITORIES.contains(repositoryInterface)) {
+                                    // First, so statements of the repository's own transaction are included
+                                    proxyFactory.addAdvice(0,
+                                            new RepositorySourceInterceptor(repositoryInterface.getSimpleName()));
+                                }
+                            }));
+                }
+                return bean;
+            }
+
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // The @Primary (possibly read/write routing) pool that JPA and JdbcTemplate use
+                if (bean instanceof DataSource dataSource && beanName.equals("dataSource")) {
+                    return new QueryStatsDataSource(dataSource, recorder);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,66 @@
+package com.platform.talent.jobposting.config.querystats;
+
+/**
+ * What a statement is attributed to: the tenant and endpoint of the current
+ * request, set by {@link QueryStatsRequestInterceptor}, and the repository
+ * method running on this thread, set by {@link RepositorySourceInterceptor}.
+ * Statements prepared outside a repository method, such as the INSERTs and
+ * UPDATEs Hibernate flushes at commit, are attributed to the endpoint instead
+ * (or {@code background} off a request thread).
+ */
+public final class QueryStatsContext {
+
+    static final String BACKGROUND = "background";
+
+    private static final ThreadLocal<Request> REQUEST = new ThreadLocal<>();
+    private static final ThreadLocal<String> SOURCE = new ThreadLocal<>();
+
+    private QueryStatsContext() {
+    }
+
+    static void setRequest(String tenant, String endpoint) {
+        REQUEST.set(new Request(tenant, endpoint));
+    }
+
+    static void clearRequest() {
+        REQUEST.remove();
+    }
+
+    static String tenant() {
+        Request request = REQUEST.get();
+        return request != null ? request.tenant() : BACKGROUND;
+    }
+
+    static String endpoint() {
+        Request request = REQUEST.get();
+        return request != null ? request.endpoint() : BACKGROUND;
+    }
+
+    /** Marks {@code source} as running unless an outer repository call already is; returns what to restore. */
+    static String enter(String source) {
+        String outer = SOURCE.get();
+        if (outer == null) {
+            SOURCE.set(source);
+        }
+        return outer;
+    }
+
+    static void exit(String outer) {
+        if (outer == null) {
+            SOURCE.remove();
+        }
+    }
+
+    static String source() {
+        return SOURCE.get();
+    }
+
+    /** The running repository method, else the request's endpoint. */
+    static String sourceOrEndpoint() {
+        String source = SOURCE.get();
+        return source != null ? source : endpoint();
+    }
+
+    private record Request(String tenant, String endpoint) {
+    }
+}
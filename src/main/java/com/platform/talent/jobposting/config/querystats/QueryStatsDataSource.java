@@ -0,0 +1,189 @@
+package com.platform.talent.jobposting.config.querystats;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Times every prepared statement: the execute call plus every
+ * {@code ResultSet.next()}, so fetching a large result counts but the caller's
+ * work between rows does not. Rows are the rows read or the update count. The
+ * source is the tracked repository method that prepared the statement, or the
+ * request's endpoint for statements prepared outside one (Hibernate's flush at
+ * commit, JdbcTemplate calls).
+ */
+class QueryStatsDataSource extends DelegatingDataSource {
+
+    private final ObjectProvider<QueryStatsRecorder> recorderProvider;
+    private volatile QueryStatsRecorder recorder;
+
+    QueryStatsDataSource(DataSource target, ObjectProvider<QueryStatsRecorder> recorderProvider) {
+        super(target);
+        this.recorderProvider = recorderProvider;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return proxy(Connection.class, connection, (target, method, args) -> {
+            Object result = method.invoke(target, args);
+            if (method.getName().equals("prepareStatement") && result instanceof PreparedStatement statement) {
+                return new Tracked(statement, (String) args[0], QueryStatsContext.sourceOrEndpoint()).proxy;
+            }
+            return result;
+        });
+    }
+
+    private QueryStatsRecorder recorder() {
+        QueryStatsRecorder current = recorder;
+        if (current == null) {
+            current = recorderProvider.getObject();
+            recorder = current;
+        }
+        return current;
+    }
+
+    /** One prepared statement and the execution whose result set is still being read. */
+    private final class Tracked {
+
+        private final SqlFingerprint fingerprint;
+        private final String source;
+        private final String tenant;
+        private final String endpoint;
+        private final List<Object> binds = new ArrayList<>();
+        private final PreparedStatement proxy;
+        private long pendingNanos = -1;
+        private long pendingRows;
+        private List<Object> pendingBinds;
+
+        private Tracked(PreparedStatement statement, String sql, String source) {
+            this.fingerprint = recorder().fingerprint(sql);
+            this.source = source;
+            this.tenant = QueryStatsContext.tenant();
+            this.endpoint = QueryStatsContext.endpoint();
+            this.proxy = proxy(PreparedStatement.class, statement, this::invoke);
+        }
+
+        private Object invoke(PreparedStatement target, Method method, Object[] args) throws Exception {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                bind(index, name.equals("setNull") ? QueryStatsRecorder.NULL : args[1]);
+                return method.invoke(target, args);
+            }
+            switch (name) {
+                case "clearParameters" -> binds.clear();
+                case "close" -> finish();
+                case "executeQuery", "executeUpdate", "executeLargeUpdate", "execute", "executeBatch",
+                        "executeLargeBatch" -> {
+                    if (args == null || args.length == 0) {
+                        return execute(target, method, name);
+                    }
+                }
+                default -> {
+                }
+            }
+            return method.invoke(target, args);
+        }
+
+        private Object execute(PreparedStatement target, Method method, String name) throws Exception {
+            finish();
+            long start = System.nanoTime();
+            Object result = method.invoke(target);
+            long nanos = System.nanoTime() - start;
+            if (result instanceof ResultSet resultSet) {
+                pendingNanos = nanos;
+                pendingRows = 0;
+                pendingBinds = snapshot();
+                return trackRows(resultSet);
+            }
+            long rows = switch (name) {
+                case "executeUpdate" -> ((Number) result).longValue();
+                case "executeLargeUpdate" -> (Long) result;
+                case "executeBatch" -> Arrays.stream((int[]) result).filter(count -> count > 0).asLongStream().sum();
+                case "executeLargeBatch" -> Arrays.stream((long[]) result).filter(count -> count > 0).sum();
+                default -> -1;
+            };
+            recorder().record(fingerprint, source, tenant, endpoint, nanos, rows, snapshot());
+            return result;
+        }
+
+        private ResultSet trackRows(ResultSet resultSet) {
+            return proxy(ResultSet.class, resultSet, (target, method, args) -> {
+                String name = method.getName();
+                if (name.equals("next")) {
+                    long start = System.nanoTime();
+                    Object hasRow = method.invoke(target, args);
+                    pendingNanos += System.nanoTime() - start;
+                    if ((Boolean) hasRow) {
+                        pendingRows++;
+                    } else {
+                        finish();
+                    }
+                    return hasRow;
+                }
+                if (name.equals("close")) {
+                    finish();
+                } else if (name.equals("getStatement")) {
+                    return proxy;
+                }
+                return method.invoke(target, args);
+            });
+        }
+
+        private void finish() {
+            if (pendingNanos >= 0) {
+                recorder().record(fingerprint, source, tenant, endpoint, pendingNanos, pendingRows, pendingBinds);
+                pendingNanos = -1;
+                pendingBinds = null;
+            }
+        }
+
+        private void bind(int index, Object value) {
+            while (binds.size() < index) {
+                binds.add(null);
+            }
+            binds.set(index - 1, value);
+        }
+
+        private List<Object> snapshot() {
+            return new ArrayList<>(binds);
+        }
+    }
+
+    private interface Handler<T> {
+        Object invoke(T target, Method method, Object[] args) throws Exception;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, Handler<T> handler) {
+        InvocationHandler invocationHandler = (p, method, args) -> {
+            try {
+                return handler.invoke(target, method, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+        return (T) Proxy.newProxyInstance(QueryStatsDataSource.class.getClassLoader(), new Class<?>[]{type},
+                invocationHandler);
+    }
+}
@@ -0,0 +1,38 @@
+package com.platform.talent.jobposting.config.querystats;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code /actuator/querystats}: the (tenant, statement) pairs with the most
+ * database time, optionally for one tenant. DELETE starts a fresh window.
+ */
+@Endpoint(id = "querystats")
+public class QueryStatsEndpoint {
+
+    private final QueryHeavyHitters heavyHitters;
+    private final QueryStatsProperties properties;
+
+    public QueryStatsEndpoint(QueryHeavyHitters heavyHitters, QueryStatsProperties properties) {
+        this.heavyHitters = heavyHitters;
+        this.properties = properties;
+    }
+
+    @ReadOperation
+    public Map<String, Object> queryStats(@Nullable Integer limit, @Nullable String tenant) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("slowThresholdMs", properties.getSlowThresholdMs());
+        result.put("topStatements", heavyHitters.top(limit != null ? limit : properties.getTopDefault(), tenant));
+        return result;
+    }
+
+    @DeleteOperation
+    public void reset() {
+        heavyHitters.reset();
+    }
+}
@@ -0,0 +1,23 @@
+package com.platform.talent.jobposting.config.querystats;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "query-stats")
+public class QueryStatsProperties {
+
+    private boolean enabled = true;
+
+    /** Statements at or above this latency are logged with their bind-parameter shapes. */
+    private long slowThresholdMs = 500;
+
+    /** (tenant, fingerprint) pairs tracked for the top-offenders report. */
+    private int topEntries = 1000;
+
+    /** Rows returned by /actuator/querystats when no limit is given. */
+    private int topDefault = 20;
+
+    /** Distinct SQL strings whose fingerprint is cached; the rest are normalized on every execution. */
+    private int fingerprintCacheSize = 5000;
+}
@@ -0,0 +1,121 @@
+package com.platform.talent.jobposting.config.querystats;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Array;
+import java.time.temporal.Temporal;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Accounts each statement three ways: a Micrometer timer and row summary per
+ * fingerprint and source (repository method or endpoint pattern; bounded
+ * tags), the per-tenant {@link QueryHeavyHitters}, and a WARN line for
+ * statements over the slow threshold. The slow log shows the type and size of each bind parameter but
+ * never its value.
+ */
+@Slf4j
+public class QueryStatsRecorder {
+
+    /** Stands in for a parameter bound with setNull. */
+    static final Object NULL = new Object();
+
+    private final MeterRegistry meterRegistry;
+    private final QueryStatsProperties properties;
+    private final QueryHeavyHitters heavyHitters;
+    private final Map<String, SqlFingerprint> fingerprints = new ConcurrentHashMap<>();
+
+    public QueryStatsRecorder(MeterRegistry meterRegistry, QueryStatsProperties properties,
+                              QueryHeavyHitters heavyHitters) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+        this.heavyHitters = heavyHitters;
+    }
+
+    SqlFingerprint fingerprint(String sql) {
+        SqlFingerprint fingerprint = fingerprints.get(sql);
+        if (fingerprint == null) {
+            fingerprint = SqlFingerprint.of(sql);
+            if (fingerprints.size() < properties.getFingerprintCacheSize()) {
+                fingerprints.put(sql, fingerprint);
+            }
+        }
+        return fingerprint;
+    }
+
+    void record(SqlFingerprint fingerprint, String source, String tenant, String endpoint,
+                long nanos, long rows, List<Object> binds) {
+        Timer.builder("jobposting.db.query")
+                .tag("fingerprint", fingerprint.id())
+                .tag("source", source)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+        if (rows >= 0) {
+            DistributionSummary.builder("jobposting.db.query.rows")
+                    .tag("fingerprint", fingerprint.id())
+                    .tag("source", source)
+                    .register(meterRegistry)
+                    .record(rows);
+        }
+        heavyHitters.record(tenant, fingerprint, source, nanos, rows);
+
+        long millis = nanos / 1_000_000;
+        if (millis >= properties.getSlowThresholdMs()) {
+            log.warn("Slow query {} ms [{}] source={} tenant={} endpoint={} rows={} binds={} sql={}",
+                    millis, fingerprint.id(), source, tenant, endpoint, rows, shapes(binds), fingerprint.normalized());
+        }
+    }
+
+    static String shapes(List<Object> binds) {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (Object bind : binds) {
+            joiner.add(shape(bind));
+        }
+        return joiner.toString();
+    }
+
+    private static String shape(Object value) {
+        if (value == null || value == NULL) {
+            return "null";
+        }
+        if (value instanceof String text) {
+            return "text(" + text.length() + ")";
+        }
+        if (value instanceof UUID) {
+            return "uuid";
+        }
+        if (value instanceof Integer || value instanceof Long || value instanceof Short) {
+            return "int";
+        }
+        if (value instanceof Number) {
+            return "numeric";
+        }
+        if (value instanceof Boolean) {
+            return "bool";
+        }
+        if (value instanceof Temporal || value instanceof Date) {
+            return "timestamp";
+        }
+        if (value instanceof byte[] bytes) {
+            return "bytes(" + bytes.length + ")";
+        }
+        if (value instanceof Array array) {
+            try {
+                return "array(" + java.lang.reflect.Array.getLength(array.getArray()) + ")";
+            } catch (Exception e) {
+                return "array";
+            }
+        }
+        return value.getClass().getSimpleName().toLowerCase(Locale.ROOT);
+    }
+}
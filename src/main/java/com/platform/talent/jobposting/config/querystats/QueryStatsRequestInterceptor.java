@@ -0,0 +1,36 @@
+package com.platform.talent.jobposting.config.querystats;
+
+import com.platform.talent.jobposting.config.TenantResolutionFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/** Attributes the request's statements to its tenant and route pattern (not the raw path, which has ids in it). */
+class QueryStatsRequestInterceptor implements HandlerInterceptor {
+
+    private static final int MAX_TENANT_LENGTH = 64;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        QueryStatsContext.setRequest(tenantOf(request),
+                request.getMethod() + " " + (pattern != null ? pattern : "unmapped"));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        QueryStatsContext.clearRequest();
+    }
+
+    // Same resolution as the rate limiter, so search-by-criteria counts against the tenant in its body
+    static String tenantOf(HttpServletRequest request) {
+        String tenant = TenantResolutionFilter.tenantOf(request);
+        if (tenant == null) {
+            return "anonymous";
+        }
+        return tenant.length() > MAX_TENANT_LENGTH ? tenant.substring(0, MAX_TENANT_LENGTH) : tenant;
+    }
+}
@@ -0,0 +1,24 @@
+package com.platform.talent.jobposting.config.querystats;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/** Added to repository proxies so their statements are recorded as {@code Repository.method}. */
+class RepositorySourceInterceptor implements MethodInterceptor {
+
+    private final String repositoryName;
+
+    RepositorySourceInterceptor(String repositoryName) {
+        this.repositoryName = repositoryName;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        String outer = QueryStatsContext.enter(repositoryName + "." + invocation.getMethod().getName());
+        try {
+            return invocation.proceed();
+        } finally {
+            QueryStatsContext.exit(outer);
+        }
+    }
+}
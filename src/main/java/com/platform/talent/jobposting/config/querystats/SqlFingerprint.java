@@ -0,0 +1,37 @@
+package com.platform.talent.jobposting.config.querystats;
+
+import java.util.regex.Pattern;
+
+/**
+ * A statement with its literals and parameter-list lengths stripped, so that
+ * executions differing only in values share one fingerprint. The id is a
+ * 64-bit FNV-1a hash of the normalized text, short enough for a metric tag.
+ */
+public record SqlFingerprint(String id, String normalized) {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    // Not part of an identifier such as j1_0 or a $1 placeholder
+    private static final Pattern NUMBER = Pattern.compile("(?<![\\w$.])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    public static SqlFingerprint of(String sql) {
+        String normalized = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        normalized = STRING_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = NUMBER.matcher(normalized).replaceAll("?");
+        normalized = PARAMETER_LIST.matcher(normalized).replaceAll("(?...)");
+        return new SqlFingerprint(hash(normalized), normalized);
+    }
+
+    private static String hash(String text) {
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < text.length(); i++) {
+            hash ^= text.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return String.format("%016x", hash);
+    }
+}
@@ -0,0 +1,22 @@
+package com.platform.talent.jobposting.config.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/** Groups endpoints that share a rate-limit budget. */
+public enum EndpointClass {
+    SEARCH,     // LIKE scans: POST /api/v1/jobs/search, GET /api/jobs/search
+    FEED;       // public listing and delta sync: GET /api/jobs/public, GET /api/v1/jobs/changes
+
+    public static EndpointClass of(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        String method = request.getMethod();
+        if (("POST".equals(method) && path.equals("/api/v1/jobs/search"))
+                || ("GET".equals(method) && path.equals("/api/jobs/search"))) {
+            return SEARCH;
+        }
+        if ("GET".equals(method) && (path.equals("/api/jobs/public") || path.equals("/api/v1/jobs/changes"))) {
+            return FEED;
+        }
+        return null;
+    }
+}
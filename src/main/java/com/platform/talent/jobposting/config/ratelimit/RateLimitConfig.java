@@ -0,0 +1,43 @@
+package com.platform.talent.jobposting.config.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+@ConditionalOnProperty(prefix = "rate-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+
+    @Bean
+    public TenantRateLimiter tenantRateLimiter(RateLimitProperties properties) {
+        return new TenantRateLimiter(properties.getSlots());
+    }
+
+    @Bean
+    public ThrottledTenantTracker throttledTenantTracker(RateLimitProperties properties) {
+        return new ThrottledTenantTracker(properties.getTopTenants());
+    }
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(TenantRateLimiter limiter,
+                                                                   RateLimitProperties properties,
+                                                                   ThrottledTenantTracker tracker,
+                                                                   MeterRegistry meterRegistry) {
+        FilterRegistrationBean<RateLimitFilter> registration =
+                new FilterRegistrationBean<>(new RateLimitFilter(limiter, properties, tracker, meterRegistry));
+        registration.addUrlPatterns("/api/v1/jobs/search", "/api/jobs/search", "/api/jobs/public",
+                "/api/v1/jobs/changes");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registration;
+    }
+
+    @Bean
+    public RateLimitEndpoint rateLimitEndpoint(ThrottledTenantTracker tracker, RateLimitProperties properties) {
+        return new RateLimitEndpoint(tracker, properties);
+    }
+}
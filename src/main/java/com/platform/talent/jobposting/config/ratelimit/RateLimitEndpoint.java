@@ -0,0 +1,28 @@
+package com.platform.talent.jobposting.config.ratelimit;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/** {@code /actuator/ratelimits}: the most throttled tenants and the active tiers. */
+@Endpoint(id = "ratelimits")
+public class RateLimitEndpoint {
+
+    private final ThrottledTenantTracker tracker;
+    private final RateLimitProperties properties;
+
+    public RateLimitEndpoint(ThrottledTenantTracker tracker, RateLimitProperties properties) {
+        this.tracker = tracker;
+        this.properties = properties;
+    }
+
+    @ReadOperation
+    public Map<String, Object> rateLimits() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("tiers", properties.getTiers());
+        result.put("topThrottledTenants", tracker.top(properties.getTopTenants()));
+        return result;
+    }
+}
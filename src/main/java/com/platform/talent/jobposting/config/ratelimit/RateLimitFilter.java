@@ -0,0 +1,74 @@
+package com.platform.talent.jobposting.config.ratelimit;
+
+import com.platform.talent.jobposting.config.TenantResolutionFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Applies per-tenant, per-endpoint-class limits to the expensive read endpoints
+ * and answers 429 with {@code Retry-After} once a tenant's bucket is empty.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final TenantRateLimiter limiter;
+    private final RateLimitProperties properties;
+    private final ThrottledTenantTracker tracker;
+    private final MeterRegistry meterRegistry;
+
+    public RateLimitFilter(TenantRateLimiter limiter, RateLimitProperties properties,
+                           ThrottledTenantTracker tracker, MeterRegistry meterRegistry) {
+        this.limiter = limiter;
+        this.properties = properties;
+        this.tracker = tracker;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        EndpointClass endpointClass = EndpointClass.of(request);
+        RateLimitProperties.Limit limit = null;
+        String tenant = null;
+        if (endpointClass != null) {
+            tenant = tenantOf(request);
+            limit = properties.limitFor(tenant, endpointClass);
+        }
+        if (limit == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        long waitMicros = limiter.tryAcquire(tenant + "|" + endpointClass, limit.getRatePerSecond(), limit.getBurst());
+        if (waitMicros == 0) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        tracker.record(tenant, endpointClass);
+        meterRegistry.counter("jobposting.ratelimit.throttled",
+                "endpointClass", endpointClass.name(),
+                "tier", properties.tierOf(tenant)).increment();
+
+        long retryAfterSeconds = Math.max(1, (waitMicros + 999_999) / 1_000_000);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"error\":\"Too Many Requests\",\"endpointClass\":\"" + endpointClass
+                + "\",\"retryAfterSeconds\":" + retryAfterSeconds + "}");
+    }
+
+    // Search by criteria carries the tenant in the body, resolved by TenantResolutionFilter;
+    // anonymous feed callers are keyed by address
+    private String tenantOf(HttpServletRequest request) {
+        String tenant = TenantResolutionFilter.tenantOf(request);
+        return tenant != null ? tenant : "anonymous:" + request.getRemoteAddr();
+    }
+}
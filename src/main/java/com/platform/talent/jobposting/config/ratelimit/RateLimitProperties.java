@@ -0,0 +1,45 @@
+package com.platform.talent.jobposting.config.ratelimit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /** Slots in the limiter table (rounded up to a power of two); 8 bytes each. */
+    private int slots = 1 << 20;
+
+    /** Tenants tracked for the "most throttled" report. */
+    private int topTenants = 100;
+
+    private String defaultTier = "standard";
+
+    /** Tier name -> endpoint class -> limit. */
+    private Map<String, Map<EndpointClass, Limit>> tiers = new HashMap<>();
+
+    /** Tenant id -> tier name, for tenants not on the default tier. */
+    private Map<String, String> tenantTiers = new HashMap<>();
+
+    public Limit limitFor(String tenant, EndpointClass endpointClass) {
+        String tier = tenantTiers.getOrDefault(tenant, defaultTier);
+        Map<EndpointClass, Limit> limits = tiers.getOrDefault(tier, tiers.getOrDefault(defaultTier, new EnumMap<>(EndpointClass.class)));
+        return limits.get(endpointClass);
+    }
+
+    public String tierOf(String tenant) {
+        return tenantTiers.getOrDefault(tenant, defaultTier);
+    }
+
+    @Data
+    public static class Limit {
+        private double ratePerSecond = 10;
+        private int burst = 20;
+    }
+}
@@ -0,0 +1,99 @@
+package com.platform.talent.jobposting.config.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free token bucket over a fixed-size slot table, implemented as GCRA
+ * (generic cell rate algorithm): each slot holds one long packing a 16-bit key
+ * fingerprint with the bucket's theoretical arrival time in microseconds. A
+ * request is admitted with a single CAS, and memory stays at
+ * {@code 8 * slots} bytes however many tenants call.
+ * <p>
+ * A key probes a few neighbouring slots for its own fingerprint or an idle slot
+ * (one whose bucket is already full again) to claim. If all are busy with other
+ * keys it shares the first slot. A key whose slot was taken over meanwhile
+ * cannot tell its own arrival time apart from its neighbours', so a key without
+ * a slot of its own starts from the latest arrival time in its probe window:
+ * collisions can only make limiting stricter, never looser.
+ */
+public class TenantRateLimiter {
+
+    private static final int PROBES = 4;
+    private static final int TIME_BITS = 48;
+    private static final long TIME_MASK = (1L << TIME_BITS) - 1;
+
+    private final AtomicLongArray slots;
+    private final int mask;
+    private final long originNanos = System.nanoTime();
+
+    public TenantRateLimiter(int requestedSlots) {
+        int size = Integer.highestOneBit(Math.max(PROBES, requestedSlots - 1)) << 1;
+        this.slots = new AtomicLongArray(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * @return 0 if admitted, otherwise the number of microseconds until a
+     * request from this key would be admitted
+     */
+    public long tryAcquire(String key, double ratePerSecond, int burst) {
+        return tryAcquire(key, ratePerSecond, burst, nowMicros());
+    }
+
+    long tryAcquire(String key, double ratePerSecond, int burst, long now) {
+        long interval = Math.max(1L, (long) (1_000_000 / ratePerSecond));
+        long tolerance = interval * Math.max(0, burst - 1);
+        int hash = spread(key.hashCode());
+        long fingerprint = (hash >>> 16) & 0xFFFFL;
+        int home = hash & mask;
+
+        int index = -1;
+        int idle = -1;
+        long floor = 0;
+        for (int i = 0; i < PROBES; i++) {
+            int probe = (home + i) & mask;
+            long value = slots.get(probe);
+            if (value == 0 || value >>> TIME_BITS == fingerprint) {
+                index = probe;
+                break;
+            }
+            long tat = value & TIME_MASK;
+            if (idle < 0 && tat <= now) {
+                idle = probe;
+            }
+            // Any of these may have been this key's slot before another key took it over
+            floor = Math.max(floor, tat);
+        }
+        if (index >= 0) {
+            floor = 0;
+        } else {
+            index = idle >= 0 ? idle : home;
+        }
+
+        while (true) {
+            long current = slots.get(index);
+            long tat = Math.max(current & TIME_MASK, floor);
+            long start = Math.max(tat, now);
+            if (start - now > tolerance) {
+                return start - now - tolerance;
+            }
+            long next = (fingerprint << TIME_BITS) | ((start + interval) & TIME_MASK);
+            if (slots.compareAndSet(index, current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    private long nowMicros() {
+        // Offset by one so a live slot value is never 0 (0 marks "never used")
+        return ((System.nanoTime() - originNanos) / 1_000L + 1) & TIME_MASK;
+    }
+
+    private static int spread(int h) {
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,77 @@
+package com.platform.talent.jobposting.config.ratelimit;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving heavy-hitter sketch of throttled tenants. Keeps at most
+ * {@code capacity} counters, so per-tenant throttling stays observable without
+ * a metric series per tenant. Counts are upper bounds; {@code error} is the
+ * most a count can be overestimated by.
+ */
+public class ThrottledTenantTracker {
+
+    private final int capacity;
+    private final Map<String, Counter> counters = new HashMap<>();
+
+    public ThrottledTenantTracker(int capacity) {
+        this.capacity = capacity;
+    }
+
+    // Only called on the rejection path, so a monitor is cheap enough here
+    public synchronized void record(String tenant, EndpointClass endpointClass) {
+        String key = tenant + "|" + endpointClass;
+        Counter counter = counters.get(key);
+        if (counter != null) {
+            counter.count++;
+            return;
+        }
+        if (counters.size() < capacity) {
+            counters.put(key, new Counter(tenant, endpointClass, 1, 0));
+            return;
+        }
+        String minKey = null;
+        Counter min = null;
+        for (Map.Entry<String, Counter> entry : counters.entrySet()) {
+            if (min == null || entry.getValue().count < min.count) {
+                min = entry.getValue();
+                minKey = entry.getKey();
+            }
+        }
+        counters.remove(minKey);
+        counters.put(key, new Counter(tenant, endpointClass, min.count + 1, min.count));
+    }
+
+    public synchronized List<Map<String, Object>> top(int limit) {
+        List<Counter> sorted = new ArrayList<>(counters.values());
+        sorted.sort(Comparator.comparingLong((Counter c) -> c.count).reversed());
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (Counter counter : sorted.subList(0, Math.min(limit, sorted.size()))) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("tenant", counter.tenant);
+            row.put("endpointClass", counter.endpointClass);
+            row.put("throttled", counter.count);
+            row.put("error", counter.error);
+            result.add(row);
+        }
+        return result;
+    }
+
+    private static final class Counter {
+        private final String tenant;
+        private final EndpointClass endpointClass;
+        private long count;
+        private final long error;
+
+        private Counter(String tenant, EndpointClass endpointClass, long count, long error) {
+            this.tenant = tenant;
+            this.endpointClass = endpointClass;
+            this.count = count;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.platform.talent.jobposting.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "ggj_exchange_rates")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExchangeRate {
+
+    @Id
+    @Column(length = 3)
+    private String currency;
+
+    @Column(name = "rate_to_base", nullable = false, precision = 18, scale = 8)
+    private BigDecimal rateToBase; // multiply an amount in this currency to get base currency
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -47,21 +47,35 @@ public class Job {
     @Column(length = 100)
     private String location;
 
+    private Double latitude;
+
+    private Double longitude;
+
+    @Column(length = 12)
+    private String geohash; // derived from location by JobLocationService
+
     @Column(name = "employment_type", length = 50)
     private String employmentType; // FULL_TIME, PART_TIME, CONTRACT, INTERNSHIP
 
     @Column(name = "experience_level", length = 50)
     private String experienceLevel; // ENTRY, MID, SENIOR, LEAD, EXECUTIVE
 
-    @Column(name = "salary_min")
+    // Salary columns are NUMERIC(15, 2) in V1/V2; schema validation would otherwise expect float8
+    @Column(name = "salary_min", columnDefinition = "NUMERIC(15, 2)")
     private Double salaryMin;
 
-    @Column(name = "salary_max")
+    @Column(name = "salary_max", columnDefinition = "NUMERIC(15, 2)")
     private Double salaryMax;
 
     @Column(name = "salary_currency", length = 3)
     private String salaryCurrency;
 
+    @Column(name = "salary_normalized_min", columnDefinition = "NUMERIC(15, 2)")
+    private Double salaryNormalizedMin; // salaryMin in base currency, maintained by SalaryNormalizationService
+
+    @Column(name = "salary_normalized_max", columnDefinition = "NUMERIC(15, 2)")
+    private Double salaryNormalizedMax;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 50)
     private JobStatus status;
@@ -135,6 +149,15 @@ public class Job {
     @Version
     private Long version;
 
+    @Column(name = "change_seq", insertable = false, updatable = false)
+    private Long changeSeq; // per-tenant change sequence, stamped by trigger (see V6__job_change_feed.sql)
+
+    @Column(name = "near_duplicate_of")
+    private UUID nearDuplicateOf; // set by NearDuplicateDetector when the description repeats an earlier job of this tenant
+
+    @Column(name = "near_duplicate_external", nullable = false)
+    private boolean nearDuplicateExternal; // repeats another tenant's job, whose id is never exposed
+
     // Business methods
     public boolean canBePublished() {
         return status == JobStatus.APPROVED && publishedAt == null;
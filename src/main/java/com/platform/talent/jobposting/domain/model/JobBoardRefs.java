@@ -0,0 +1,21 @@
+package com.platform.talent.jobposting.domain.model;
+
+/**
+ * Board flags and external ids of a posting. Loaded as a constructor
+ * projection so reconciliation does not read descriptions for every
+ * published posting.
+ */
+public record JobBoardRefs(String jobId,
+                           Boolean publishToLinkedIn,
+                           Boolean publishToIndeed,
+                           Boolean publishToGlassdoor,
+                           String linkedInJobId,
+                           String indeedJobId,
+                           String glassdoorJobId) {
+
+    public static JobBoardRefs of(JobPosting posting) {
+        return new JobBoardRefs(posting.getJobId(),
+                posting.getPublishToLinkedIn(), posting.getPublishToIndeed(), posting.getPublishToGlassdoor(),
+                posting.getLinkedInJobId(), posting.getIndeedJobId(), posting.getGlassdoorJobId());
+    }
+}
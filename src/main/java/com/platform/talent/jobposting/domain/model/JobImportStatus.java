@@ -0,0 +1,13 @@
+package com.platform.talent.jobposting.domain.model;
+
+public enum JobImportStatus {
+    RECEIVED,
+    PARSING,
+    MERGING,
+    COMPLETED,
+    FAILED;
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
@@ -45,12 +45,17 @@ public class JobPosting {
     private String department;
     
     private String location;
+    private Double latitude;
+    private Double longitude;
+    private String geohash; // derived from location by JobLocationService
     private String workType; // REMOTE, ONSITE, HYBRID
     private String employmentType; // FULL_TIME, PART_TIME, CONTRACT
     
     private BigDecimal salaryMin;
     private BigDecimal salaryMax;
     private String currency;
+    private BigDecimal salaryNormalizedMin; // base currency, maintained by SalaryNormalizationService
+    private BigDecimal salaryNormalizedMax;
     private Boolean showSalary;
     
     @Enumerated(EnumType.STRING)
@@ -76,5 +81,10 @@ public class JobPosting {
     private LocalDate createdDate;
     private LocalDate lastModifiedDate;
     private String createdBy;
+
+    private String nearDuplicateOf; // earlier posting of this organization with a near-identical description (NearDuplicateDetector)
+
+    @Column(nullable = false)
+    private boolean nearDuplicateExternal; // near-identical to another organization's posting, whose id is never exposed
 }
 
@@ -1,5 +1,8 @@
 package com.platform.talent.jobposting.domain.model;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum JobStatus {
     DRAFT,          // Job is being created/edited
     PENDING_APPROVAL, // Awaiting approval
@@ -7,6 +10,13 @@ public enum JobStatus {
     PUBLISHED,      // Live and accepting applications
     CLOSED,         // No longer accepting applications
     CANCELLED,      // Cancelled before publishing
-    ARCHIVED        // Archived for record keeping
-}
+    ARCHIVED;       // Archived for record keeping
 
+    // Must match the LIST bounds of ggj_jobs_hot / ggj_jobs_cold so queries prune partitions
+    public static final Set<JobStatus> LIVE = EnumSet.of(DRAFT, PENDING_APPROVAL, APPROVED, PUBLISHED);
+    public static final Set<JobStatus> TERMINAL = EnumSet.of(CLOSED, CANCELLED, ARCHIVED);
+
+    public boolean isTerminal() {
+        return TERMINAL.contains(this);
+    }
+}
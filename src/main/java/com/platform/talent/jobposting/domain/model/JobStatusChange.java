@@ -0,0 +1,11 @@
+package com.platform.talent.jobposting.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A job moved to a new status by a set-based transition; the RETURNING row of
+ * {@code JobRepositoryCustom.transitionStatus}.
+ */
+public record JobStatusChange(UUID jobId, UUID tenantId, String title, JobStatus status, LocalDateTime changedAt) {
+}
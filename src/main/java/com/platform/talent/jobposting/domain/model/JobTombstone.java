@@ -0,0 +1,32 @@
+package com.platform.talent.jobposting.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "ggj_job_tombstones")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobTombstone {
+
+    @Id
+    @Column(name = "job_id")
+    private UUID jobId;
+
+    @Column(name = "tenant_id", nullable = false)
+    private UUID tenantId;
+
+    @Column(name = "change_seq", insertable = false, updatable = false)
+    private Long changeSeq; // stamped by trigger from the tenant's change counter
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+}
@@ -0,0 +1,14 @@
+package com.platform.talent.jobposting.domain.model;
+
+import java.util.UUID;
+
+/**
+ * The fields of a job that feed title/location autocomplete. Loaded as a
+ * constructor projection when a tenant's typeahead index is built.
+ */
+public record JobTypeaheadTerms(UUID jobId, String title, String location, Integer viewCount) {
+
+    public static JobTypeaheadTerms of(Job job) {
+        return new JobTypeaheadTerms(job.getId(), job.getTitle(), job.getLocation(), job.getViewCount());
+    }
+}
@@ -0,0 +1,10 @@
+package com.platform.talent.jobposting.domain.model;
+
+/**
+ * Which table an indexed description belongs to. Documents are only compared
+ * within their own kind.
+ */
+public enum NearDuplicateKind {
+    JOB,     // ggj_jobs.description
+    POSTING  // job_postings.job_description
+}
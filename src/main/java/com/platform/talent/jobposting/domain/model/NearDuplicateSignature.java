@@ -0,0 +1,58 @@
+package com.platform.talent.jobposting.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "ggj_near_dup_signatures")
+@IdClass(NearDuplicateSignature.Key.class)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearDuplicateSignature {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "doc_kind", length = 16)
+    private NearDuplicateKind docKind;
+
+    @Id
+    @Column(name = "doc_id", length = 64)
+    private String docId;
+
+    @Column(name = "owner_id", nullable = false, length = 64)
+    private String ownerId;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "signature", nullable = false, columnDefinition = "integer[]")
+    private int[] signature;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "band_hashes", nullable = false, columnDefinition = "bigint[]")
+    private long[] bandHashes;
+
+    @Column(name = "duplicate_of", length = 64)
+    private String duplicateOf;
+
+    private Double similarity;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private NearDuplicateKind docKind;
+        private String docId;
+    }
+}
@@ -0,0 +1,88 @@
+package com.platform.talent.jobposting.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Read model behind the public job endpoints: one row per PUBLISHED
+ * {@link JobPosting}, holding only what those endpoints return. Written by
+ * {@code JobPostingService} in the same transaction as the posting, so it is
+ * never ahead of or behind {@code job_postings}. Property names match
+ * {@code JobPosting}, so public responses keep their field names.
+ */
+@Entity
+@Table(name = "published_job_view")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PublishedJobView {
+
+    @Id
+    private String jobId;
+
+    @Column(nullable = false)
+    private String organizationId;
+
+    @Column(nullable = false)
+    private String jobTitle;
+
+    @Column(length = 6000)
+    private String jobDescription;
+
+    @Column(length = 3000)
+    private String responsibilities;
+
+    @Column(length = 3000)
+    private String qualifications;
+
+    @Column(length = 2000)
+    private String benefits;
+
+    @Column(nullable = false)
+    private String department;
+
+    private String location;
+    private String workType;
+    private String employmentType;
+
+    private BigDecimal salaryMin;
+    private BigDecimal salaryMax;
+    private String currency;
+    private BigDecimal salaryNormalizedMin; // kept for the salary filter; renormalized with job_postings
+    private BigDecimal salaryNormalizedMax;
+    private Boolean showSalary;
+
+    private LocalDate publishedDate;
+    private LocalDate expiryDate;
+
+    public static PublishedJobView from(JobPosting posting) {
+        return PublishedJobView.builder()
+                .jobId(posting.getJobId())
+                .organizationId(posting.getOrganizationId())
+                .jobTitle(posting.getJobTitle())
+                .jobDescription(posting.getJobDescription())
+                .responsibilities(posting.getResponsibilities())
+                .qualifications(posting.getQualifications())
+                .benefits(posting.getBenefits())
+                .department(posting.getDepartment())
+                .location(posting.getLocation())
+                .workType(posting.getWorkType())
+                .employmentType(posting.getEmploymentType())
+                .salaryMin(posting.getSalaryMin())
+                .salaryMax(posting.getSalaryMax())
+                .currency(posting.getCurrency())
+                .salaryNormalizedMin(posting.getSalaryNormalizedMin())
+                .salaryNormalizedMax(posting.getSalaryNormalizedMax())
+                .showSalary(posting.getShowSalary())
+                .publishedDate(posting.getPublishedDate())
+                .expiryDate(posting.getExpiryDate())
+                .build();
+    }
+}
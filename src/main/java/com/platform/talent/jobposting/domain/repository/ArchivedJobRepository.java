@@ -0,0 +1,38 @@
+package com.platform.talent.jobposting.domain.repository;
+
+import com.platform.talent.jobposting.domain.model.ArchivedJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface ArchivedJobRepository extends JpaRepository<ArchivedJob, UUID> {
+
+    Optional<ArchivedJob> findByIdAndTenantId(UUID id, UUID tenantId);
+
+    /**
+     * Moves one chunk of terminal (closed, cancelled or archived) jobs past the
+     * cutoff into the archive.
+     * SKIP LOCKED lets concurrent runs (and user transactions holding a row)
+     * proceed without waiting on each other.
+     */
+    @Modifying
+    @Query(value = "WITH moved AS (" +
+                   "  DELETE FROM ggj_jobs j WHERE j.id IN (" +
+                   "    SELECT c.id FROM ggj_jobs c " +
+                   "    WHERE c.status IN ('CLOSED', 'CANCELLED', 'ARCHIVED') " +
+                   "    AND COALESCE(c.updated_at, c.created_at) < :cutoff " +
+                   "    LIMIT :chunkSize FOR UPDATE SKIP LOCKED) " +
+                   "  RETURNING j.*) " +
+                   "INSERT INTO ggj_jobs_archive (id, tenant_id, status, title, closed_at, archived_at, payload) " +
+                   "SELECT m.id, m.tenant_id, m.status, m.title, COALESCE(m.updated_at, m.created_at), " +
+                   "CURRENT_TIMESTAMP, to_jsonb(m) FROM moved m",
+           nativeQuery = true)
+    int archiveChunk(@Param("cutoff") LocalDateTime cutoff, @Param("chunkSize") int chunkSize);
+}
@@ -0,0 +1,9 @@
+package com.platform.talent.jobposting.domain.repository;
+
+import com.platform.talent.jobposting.domain.model.ExchangeRate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ExchangeRateRepository extends JpaRepository<ExchangeRate, String> {
+}
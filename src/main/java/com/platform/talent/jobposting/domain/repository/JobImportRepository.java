@@ -0,0 +1,21 @@
+package com.platform.talent.jobposting.domain.repository;
+
+import com.platform.talent.jobposting.domain.model.JobImport;
+import com.platform.talent.jobposting.domain.model.JobImportStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface JobImportRepository extends JpaRepository<JobImport, UUID> {
+
+    Optional<JobImport> findByIdAndTenantId(UUID id, UUID tenantId);
+
+    // Served by the partial idx_job_imports_active
+    List<JobImport> findByStatusInAndUpdatedAtBefore(Collection<JobImportStatus> statuses, LocalDateTime before);
+}
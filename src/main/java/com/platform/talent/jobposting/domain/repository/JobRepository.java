@@ -2,20 +2,23 @@ package com.platform.talent.jobposting.domain.repository;
 
 import com.platform.talent.jobposting.domain.model.Job;
 import com.platform.talent.jobposting.domain.model.JobStatus;
+import com.platform.talent.jobposting.domain.model.JobTypeaheadTerms;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface JobRepository extends JpaRepository<Job, UUID> {
+public interface JobRepository extends JpaRepository<Job, UUID>, JobRepositoryCustom {
 
     List<Job> findByTenantIdAndStatus(UUID tenantId, JobStatus status);
 
@@ -25,6 +28,18 @@ public interface JobRepository extends JpaRepository<Job, UUID> {
 
     Optional<Job> findByIdAndTenantId(UUID id, UUID tenantId);
 
+    // Status-bounded variants let PostgreSQL prune to the hot or cold partition
+    Optional<Job> findByIdAndTenantIdAndStatusIn(UUID id, UUID tenantId, Collection<JobStatus> statuses);
+
+    Page<Job> findByTenantIdAndStatusIn(UUID tenantId, Collection<JobStatus> statuses, Pageable pageable);
+
+    // Title/location/views only, for building a tenant's typeahead index
+    @Query("SELECT new com.platform.talent.jobposting.domain.model.JobTypeaheadTerms(" +
+           "j.id, j.title, j.location, j.viewCount) " +
+           "FROM Job j WHERE j.tenantId = :tenantId AND j.status IN :statuses")
+    List<JobTypeaheadTerms> findTypeaheadTerms(@Param("tenantId") UUID tenantId,
+                                               @Param("statuses") Collection<JobStatus> statuses);
+
     @Query("SELECT j FROM Job j WHERE j.tenantId = :tenantId " +
            "AND j.status = 'PUBLISHED' " +
            "AND j.expiresAt > :now")
@@ -64,5 +79,58 @@ public interface JobRepository extends JpaRepository<Job, UUID> {
            "AND j.status = 'PUBLISHED'")
     long countExpiredJobs(@Param("tenantId") UUID tenantId,
                           @Param("now") LocalDateTime now);
-}
 
+    // Served by idx_job_salary_band (GiST on tenant_id + numrange); keep the predicate
+    // shape in sync with the index expression and its partial WHERE clause.
+    @Query(value = "SELECT * FROM ggj_jobs j WHERE j.tenant_id = :tenantId " +
+                   "AND (j.salary_normalized_min IS NOT NULL OR j.salary_normalized_max IS NOT NULL) " +
+                   "AND numrange(j.salary_normalized_min, j.salary_normalized_max, '[]') " +
+                   "&& numrange(CAST(:low AS numeric), CAST(:high AS numeric), '[]')",
+           countQuery = "SELECT COUNT(*) FROM ggj_jobs j WHERE j.tenant_id = :tenantId " +
+                   "AND (j.salary_normalized_min IS NOT NULL OR j.salary_normalized_max IS NOT NULL) " +
+                   "AND numrange(j.salary_normalized_min, j.salary_normalized_max, '[]') " +
+                   "&& numrange(CAST(:low AS numeric), CAST(:high AS numeric), '[]')",
+           nativeQuery = true)
+    Page<Job> findBySalaryBandOverlap(@Param("tenantId") UUID tenantId,
+                                      @Param("low") Double low,
+                                      @Param("high") Double high,
+                                      Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Job j SET j.salaryNormalizedMin = j.salaryMin * :rate, " +
+           "j.salaryNormalizedMax = j.salaryMax * :rate " +
+           "WHERE j.salaryCurrency = :currency")
+    int renormalizeSalaries(@Param("currency") String currency,
+                            @Param("rate") Double rate);
+
+    // Delta sync, served by idx_job_tenant_change_seq / idx_job_tenant_updated_at
+    @Query("SELECT j FROM Job j WHERE j.tenantId = :tenantId " +
+           "AND j.changeSeq > :after ORDER BY j.changeSeq")
+    List<Job> findChangedAfter(@Param("tenantId") UUID tenantId,
+                               @Param("after") long after,
+                               Pageable pageable);
+
+    @Query("SELECT j FROM Job j WHERE j.tenantId = :tenantId " +
+           "AND j.changeSeq > :after AND j.updatedAt >= :since ORDER BY j.changeSeq")
+    List<Job> findChangedAfterSince(@Param("tenantId") UUID tenantId,
+                                    @Param("after") long after,
+                                    @Param("since") LocalDateTime since,
+                                    Pageable pageable);
+
+    List<Job> findTop500ByIdGreaterThanAndGeohashIsNullAndLocationIsNotNullOrderByIdAsc(UUID afterId);
+
+    @Modifying
+    @Query("UPDATE Job j SET j.latitude = :latitude, j.longitude = :longitude, j.geohash = :geohash " +
+           "WHERE j.id = :id")
+    int updateGeolocation(@Param("id") UUID id,
+                          @Param("latitude") Double latitude,
+                          @Param("longitude") Double longitude,
+                          @Param("geohash") String geohash);
+
+    // Counter only: leaves version and updated_at alone, so concurrent edits do not conflict
+    @Modifying
+    @Query("UPDATE Job j SET j.viewCount = COALESCE(j.viewCount, 0) + 1 " +
+           "WHERE j.id = :id AND j.tenantId = :tenantId")
+    int incrementViewCount(@Param("tenantId") UUID tenantId,
+                           @Param("id") UUID id);
+}
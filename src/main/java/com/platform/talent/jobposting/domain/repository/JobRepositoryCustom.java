@@ -0,0 +1,39 @@
+package com.platform.talent.jobposting.domain.repository;
+
+import com.platform.talent.jobposting.domain.model.Job;
+import com.platform.talent.jobposting.domain.model.JobStatus;
+import com.platform.talent.jobposting.domain.model.JobStatusChange;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+public interface JobRepositoryCustom {
+
+    /**
+     * Loads jobs whose geohash starts with any of the given prefixes. Each prefix
+     * becomes a range predicate on idx_job_geohash, so the candidate set is
+     * pruned by the index before any distance is computed. Rows come grouped by
+     * prefix, in list order, so when {@code limit} cuts the result every prefix
+     * before the last one returned is complete. Prefixes must not overlap.
+     */
+    List<Job> findByGeohashPrefixes(UUID tenantId, List<String> prefixes, int limit);
+
+    /**
+     * Moves those of the tenant's jobs whose status is in {@code from} to {@code to}
+     * with a single {@code UPDATE ... WHERE id = ANY(?) AND status = ANY(?) RETURNING};
+     * the allowed source states are enforced by the row filter, under the row lock.
+     * Jobs of other tenants or in other states are untouched and not returned.
+     * {@code actorId} is stored as updated_by, and as approved_by when {@code to}
+     * is APPROVED. Job entities already loaded in the persistence context are not
+     * refreshed.
+     */
+    List<JobStatusChange> transitionStatus(UUID tenantId, Collection<UUID> jobIds, Set<JobStatus> from,
+                                           JobStatus to, UUID actorId, LocalDateTime at);
+
+    /** Current status of each of the tenant's jobs among {@code jobIds}; unknown ids are absent. */
+    Map<UUID, JobStatus> findStatuses(UUID tenantId, Collection<UUID> jobIds);
+}
@@ -0,0 +1,112 @@
+package com.platform.talent.jobposting.domain.repository;
+
+import com.platform.talent.jobposting.domain.model.Job;
+import com.platform.talent.jobposting.domain.model.JobStatus;
+import com.platform.talent.jobposting.domain.model.JobStatusChange;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.Session;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+public class JobRepositoryImpl implements JobRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Job> findByGeohashPrefixes(UUID tenantId, List<String> prefixes, int limit) {
+        if (prefixes.isEmpty()) {
+            return List.of();
+        }
+
+        StringBuilder filter = new StringBuilder();
+        StringBuilder rank = new StringBuilder("CASE");
+        for (int i = 0; i < prefixes.size(); i++) {
+            // '~' sorts after every base-32 character under the column's "C" collation
+            String range = "(j.geohash >= :lo" + i + " AND j.geohash < :hi" + i + ")";
+            filter.append(i > 0 ? " OR " : "").append(range);
+            rank.append(" WHEN ").append(range).append(" THEN ").append(i);
+        }
+        rank.append(" END");
+
+        TypedQuery<Job> query = entityManager.createQuery("SELECT j FROM Job j WHERE j.tenantId = :tenantId AND ("
+                        + filter + ") ORDER BY " + rank, Job.class)
+                .setParameter("tenantId", tenantId)
+                .setMaxResults(limit);
+        for (int k = 0; k < prefixes.size(); k++) {
+            query.setParameter("lo" + k, prefixes.get(k));
+            query.setParameter("hi" + k, prefixes.get(k) + "~");
+        }
+        return query.getResultList();
+    }
+
+    // Plain JDBC so the ids and states bind as two arrays: one statement shape whatever the chunk size
+    @Override
+    public List<JobStatusChange> transitionStatus(UUID tenantId, Collection<UUID> jobIds, Set<JobStatus> from,
+                                                  JobStatus to, UUID actorId, LocalDateTime at) {
+        if (jobIds.isEmpty() || from.isEmpty()) {
+            return List.of();
+        }
+        boolean approving = to == JobStatus.APPROVED;
+        String sql = "UPDATE ggj_jobs SET status = ?, updated_at = ?, updated_by = ?, version = version + 1"
+                + (approving ? ", approved_at = ?, approved_by = ?" : "")
+                + " WHERE tenant_id = ? AND id = ANY(?) AND status = ANY(?) RETURNING id, title";
+
+        entityManager.flush();
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                int i = 1;
+                ps.setString(i++, to.name());
+                ps.setObject(i++, at);
+                ps.setObject(i++, actorId);
+                if (approving) {
+                    ps.setObject(i++, at);
+                    ps.setObject(i++, actorId);
+                }
+                ps.setObject(i++, tenantId);
+                ps.setArray(i++, connection.createArrayOf("uuid", jobIds.toArray()));
+                ps.setArray(i, connection.createArrayOf("varchar", from.stream().map(Enum::name).toArray()));
+
+                List<JobStatusChange> changes = new ArrayList<>();
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        changes.add(new JobStatusChange(rs.getObject(1, UUID.class), tenantId, rs.getString(2), to, at));
+                    }
+                }
+                return changes;
+            }
+        });
+    }
+
+    @Override
+    public Map<UUID, JobStatus> findStatuses(UUID tenantId, Collection<UUID> jobIds) {
+        if (jobIds.isEmpty()) {
+            return Map.of();
+        }
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(
+                    "SELECT id, status FROM ggj_jobs WHERE tenant_id = ? AND id = ANY(?)")) {
+                ps.setObject(1, tenantId);
+                ps.setArray(2, connection.createArrayOf("uuid", jobIds.toArray()));
+                Map<UUID, JobStatus> statuses = new HashMap<>();
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        statuses.put(rs.getObject(1, UUID.class), JobStatus.valueOf(rs.getString(2)));
+                    }
+                }
+                return statuses;
+            }
+        });
+    }
+}
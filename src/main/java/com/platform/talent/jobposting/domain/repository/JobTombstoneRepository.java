@@ -0,0 +1,54 @@
+package com.platform.talent.jobposting.domain.repository;
+
+import com.platform.talent.jobposting.domain.model.JobTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface JobTombstoneRepository extends JpaRepository<JobTombstone, UUID> {
+
+    // Served by idx_job_tombstone_tenant_seq
+    @Query("SELECT t FROM JobTombstone t WHERE t.tenantId = :tenantId " +
+           "AND t.changeSeq > :after ORDER BY t.changeSeq")
+    List<JobTombstone> findDeletedAfter(@Param("tenantId") UUID tenantId,
+                                        @Param("after") long after,
+                                        Pageable pageable);
+
+    @Query("SELECT t FROM JobTombstone t WHERE t.tenantId = :tenantId " +
+           "AND t.changeSeq > :after AND t.deletedAt >= :since ORDER BY t.changeSeq")
+    List<JobTombstone> findDeletedAfterSince(@Param("tenantId") UUID tenantId,
+                                             @Param("after") long after,
+                                             @Param("since") LocalDateTime since,
+                                             Pageable pageable);
+
+    @Query(value = "SELECT COALESCE((SELECT c.purged_through FROM ggj_job_change_counters c " +
+                   "WHERE c.tenant_id = :tenantId), 0)",
+           nativeQuery = true)
+    long findPurgedThrough(@Param("tenantId") UUID tenantId);
+
+    /**
+     * Drops one chunk of tombstones older than the cutoff and raises each
+     * affected tenant's purged_through, so consumers whose watermark predates
+     * a purged tombstone are told to resync. Returns the number of tenants touched.
+     */
+    @Modifying
+    @Query(value = "WITH purged AS (" +
+                   "  DELETE FROM ggj_job_tombstones t WHERE t.job_id IN (" +
+                   "    SELECT o.job_id FROM ggj_job_tombstones o WHERE o.deleted_at < :cutoff " +
+                   "    LIMIT :chunkSize FOR UPDATE SKIP LOCKED) " +
+                   "  RETURNING t.tenant_id, t.change_seq) " +
+                   "UPDATE ggj_job_change_counters c " +
+                   "SET purged_through = GREATEST(c.purged_through, p.max_seq) " +
+                   "FROM (SELECT tenant_id, MAX(change_seq) AS max_seq FROM purged GROUP BY tenant_id) p " +
+                   "WHERE c.tenant_id = p.tenant_id",
+           nativeQuery = true)
+    int purgeChunk(@Param("cutoff") LocalDateTime cutoff, @Param("chunkSize") int chunkSize);
+}
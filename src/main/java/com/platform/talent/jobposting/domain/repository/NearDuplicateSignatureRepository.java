@@ -0,0 +1,31 @@
+package com.platform.talent.jobposting.domain.repository;
+
+import com.platform.talent.jobposting.domain.model.NearDuplicateSignature;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface NearDuplicateSignatureRepository
+        extends JpaRepository<NearDuplicateSignature, NearDuplicateSignature.Key> {
+
+    /**
+     * LSH candidates: documents of the same kind sharing at least one band,
+     * most shared bands first. Served by the GIN index idx_near_dup_bands;
+     * bands is a Postgres array literal such as {1,-2,3}.
+     */
+    @Query(value = "SELECT s.* FROM ggj_near_dup_signatures s " +
+                   "WHERE s.doc_kind = :kind AND s.doc_id <> :docId " +
+                   "AND s.band_hashes && CAST(:bands AS bigint[]) " +
+                   "ORDER BY cardinality(ARRAY(SELECT unnest(s.band_hashes) " +
+                   "INTERSECT SELECT unnest(CAST(:bands AS bigint[])))) DESC, s.updated_at " +
+                   "LIMIT :limit",
+           nativeQuery = true)
+    List<NearDuplicateSignature> findCandidates(@Param("kind") String kind,
+                                                @Param("docId") String docId,
+                                                @Param("bands") String bands,
+                                                @Param("limit") int limit);
+}
@@ -0,0 +1,46 @@
+package com.platform.talent.jobposting.repository;
+
+import com.platform.talent.jobposting.domain.model.PublishedJobView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+// Every row is live, so none of these filter on status; job_id breaks publishedDate ties
+@Repository
+public interface PublishedJobViewRepository extends JpaRepository<PublishedJobView, String> {
+
+    @Query("SELECT v FROM PublishedJobView v ORDER BY v.publishedDate DESC, v.jobId")
+    List<PublishedJobView> findAllPublished();
+
+    @Query("SELECT v FROM PublishedJobView v WHERE v.department = :department " +
+           "ORDER BY v.publishedDate DESC, v.jobId")
+    List<PublishedJobView> findPublishedByDepartment(String department);
+
+    @Query("SELECT v FROM PublishedJobView v WHERE " +
+           "LOWER(v.jobTitle) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(v.jobDescription) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+           "ORDER BY v.publishedDate DESC, v.jobId")
+    List<PublishedJobView> searchJobs(String keyword);
+
+    @Query(value = "SELECT v.* FROM published_job_view v " +
+                   "WHERE (v.salary_normalized_min IS NOT NULL OR v.salary_normalized_max IS NOT NULL) " +
+                   "AND numrange(v.salary_normalized_min, v.salary_normalized_max, '[]') " +
+                   "&& numrange(CAST(:low AS numeric), CAST(:high AS numeric), '[]') " +
+                   "ORDER BY v.published_date DESC, v.job_id",
+           nativeQuery = true)
+    List<PublishedJobView> findPublishedBySalaryOverlap(BigDecimal low, BigDecimal high);
+
+    @Modifying
+    @Query("DELETE FROM PublishedJobView v WHERE v.jobId = :jobId")
+    int deleteByJobId(String jobId);
+
+    @Modifying
+    @Query("UPDATE PublishedJobView v SET v.salaryNormalizedMin = v.salaryMin * :rate, " +
+           "v.salaryNormalizedMax = v.salaryMax * :rate " +
+           "WHERE v.currency = :currency")
+    int renormalizeSalaries(String currency, BigDecimal rate);
+}
@@ -0,0 +1,94 @@
+package com.platform.talent.jobposting.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.platform.talent.jobposting.domain.model.Job;
+import com.platform.talent.jobposting.domain.repository.ArchivedJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Moves closed, cancelled and archived jobs past the retention window out of
+ * ggj_jobs into the compressed ggj_jobs_archive table, and reads them back for
+ * the getJob fallback. Jobs archived through the bulk endpoint only change
+ * status; this run is what moves them.
+ */
+@Service
+@Slf4j
+public class JobArchiveService {
+
+    private final ArchivedJobRepository archivedJobRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper payloadMapper;
+
+    @Value("${archival.enabled:false}")
+    private boolean enabled;
+
+    @Value("${archival.retention-days:365}")
+    private int retentionDays;
+
+    @Value("${archival.chunk-size:200}")
+    private int chunkSize;
+
+    @Value("${archival.max-chunks-per-run:500}")
+    private int maxChunksPerRun;
+
+    @Value("${archival.pause-ms:100}")
+    private long pauseMs;
+
+    public JobArchiveService(ArchivedJobRepository archivedJobRepository,
+                             TransactionTemplate transactionTemplate,
+                             ObjectMapper objectMapper) {
+        this.archivedJobRepository = archivedJobRepository;
+        this.transactionTemplate = transactionTemplate;
+        // Payload keys are the ggj_jobs column names
+        this.payloadMapper = objectMapper.copy()
+                .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Job> findArchived(UUID tenantId, UUID jobId) {
+        return archivedJobRepository.findByIdAndTenantId(jobId, tenantId)
+                .map(archived -> payloadMapper.convertValue(archived.getPayload(), Job.class));
+    }
+
+    /**
+     * Archives in short chunk transactions so row locks and WAL bursts stay
+     * small; stops early once a chunk comes back short.
+     */
+    @Scheduled(fixedDelayString = "${archival.interval-ms:600000}")
+    public void archiveTerminalJobs() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        long archived = 0;
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            Integer moved = transactionTemplate.execute(status ->
+                    archivedJobRepository.archiveChunk(cutoff, chunkSize));
+            archived += moved == null ? 0 : moved;
+            if (moved == null || moved < chunkSize) {
+                break;
+            }
+            try {
+                Thread.sleep(pauseMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        if (archived > 0) {
+            log.info("Archived {} terminal jobs closed before {}", archived, cutoff);
+        }
+    }
+}
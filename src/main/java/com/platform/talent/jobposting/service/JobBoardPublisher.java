@@ -1,9 +1,13 @@
 package com.platform.talent.jobposting.service;
 
 import com.platform.talent.jobposting.domain.model.JobPosting;
+import com.platform.talent.jobposting.service.board.JobBoard;
+import com.platform.talent.jobposting.service.board.JobBoardUnpublishBatcher;
+import com.platform.talent.jobposting.service.jfr.IntegrationCallEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.*;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
@@ -11,13 +15,16 @@ import java.util.Map;
 import java.util.UUID;
 
 @Service
+@Lazy
 @RequiredArgsConstructor
 @Slf4j
 public class JobBoardPublisher {
 
     private final RestTemplate restTemplate;
+    private final JobBoardUnpublishBatcher unpublishBatcher;
 
     public String publishToLinkedIn(JobPosting posting) {
+        IntegrationCallEvent event = IntegrationCallEvent.begin(JobBoard.LINKEDIN.name(), "publish", posting.getJobId());
         log.info("Publishing job to LinkedIn: {}", posting.getJobTitle());
 
         try {
@@ -37,15 +44,19 @@ public class JobBoardPublisher {
             // Simulated response - in production, this would call LinkedIn API
             String linkedInJobId = "LI-" + UUID.randomUUID().toString().substring(0, 8);
             log.info("Job published to LinkedIn with ID: {}", linkedInJobId);
+            event.posting(posting).succeeded();
             return linkedInJobId;
 
         } catch (Exception e) {
             log.error("Failed to publish to LinkedIn", e);
             return null;
+        } finally {
+            event.commit();
         }
     }
 
     public String publishToIndeed(JobPosting posting) {
+        IntegrationCallEvent event = IntegrationCallEvent.begin(JobBoard.INDEED.name(), "publish", posting.getJobId());
         log.info("Publishing job to Indeed: {}", posting.getJobTitle());
 
         try {
@@ -61,36 +72,63 @@ public class JobBoardPublisher {
             // Simulated response
             String indeedJobId = "IND-" + UUID.randomUUID().toString().substring(0, 8);
             log.info("Job published to Indeed with ID: {}", indeedJobId);
+            event.posting(posting).succeeded();
             return indeedJobId;
 
         } catch (Exception e) {
             log.error("Failed to publish to Indeed", e);
             return null;
+        } finally {
+            event.commit();
         }
     }
 
     public String publishToGlassdoor(JobPosting posting) {
+        IntegrationCallEvent event = IntegrationCallEvent.begin(JobBoard.GLASSDOOR.name(), "publish", posting.getJobId());
         log.info("Publishing job to Glassdoor: {}", posting.getJobTitle());
 
         try {
             String glassdoorJobId = "GD-" + UUID.randomUUID().toString().substring(0, 8);
             log.info("Job published to Glassdoor with ID: {}", glassdoorJobId);
+            event.posting(posting).succeeded();
             return glassdoorJobId;
 
         } catch (Exception e) {
             log.error("Failed to publish to Glassdoor", e);
             return null;
+        } finally {
+            event.commit();
         }
     }
 
+    /** Takes the posting off every board it is listed on, once the caller's transaction commits. */
+    public void unpublish(JobPosting posting) {
+        if (posting.getLinkedInJobId() != null) {
+            unpublishFromLinkedIn(posting.getLinkedInJobId());
+        }
+        if (posting.getIndeedJobId() != null) {
+            unpublishFromIndeed(posting.getIndeedJobId());
+        }
+        if (posting.getGlassdoorJobId() != null) {
+            unpublishFromGlassdoor(posting.getGlassdoorJobId());
+        }
+    }
+
+    // Unpublish operations are batched into bulk calls per board by JobBoardUnpublishBatcher
+
     public void unpublishFromLinkedIn(String linkedInJobId) {
         log.info("Unpublishing job from LinkedIn: {}", linkedInJobId);
-        // LinkedIn API call to remove job
+        unpublishBatcher.enqueue(JobBoard.LINKEDIN, linkedInJobId);
     }
 
     public void unpublishFromIndeed(String indeedJobId) {
         log.info("Unpublishing job from Indeed: {}", indeedJobId);
-        // Indeed API call to remove job
+        unpublishBatcher.enqueue(JobBoard.INDEED, indeedJobId);
+    }
+
+    public void unpublishFromGlassdoor(String glassdoorJobId) {
+        log.info("Unpublishing job from Glassdoor: {}", glassdoorJobId);
+        unpublishBatcher.enqueue(JobBoard.GLASSDOOR, glassdoorJobId);
     }
 
     private String mapEmploymentType(String type) {
@@ -0,0 +1,191 @@
+package com.platform.talent.jobposting.service;
+
+import com.platform.talent.jobposting.api.dto.BulkTransitionResponse;
+import com.platform.talent.jobposting.domain.model.Job;
+import com.platform.talent.jobposting.domain.model.JobStatus;
+import com.platform.talent.jobposting.domain.model.JobStatusChange;
+import com.platform.talent.jobposting.domain.repository.JobRepository;
+import com.platform.talent.jobposting.service.event.JobEvent;
+import com.platform.talent.jobposting.service.event.JobEventPublisher;
+import com.platform.talent.jobposting.service.integration.EmailNotificationService;
+import com.platform.talent.jobposting.service.similar.SimilarJobService;
+import com.platform.talent.jobposting.service.typeahead.JobTypeaheadService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Approve, close or archive many jobs in one request. Each chunk of ids is one
+ * UPDATE that checks the allowed source states in SQL, instead of a load, check
+ * and save per job; all chunks share the request's transaction. Events and the
+ * approval email go out after commit as one batch, and only for jobs that
+ * actually changed.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobBulkTransitionService {
+
+    public enum Transition {
+        APPROVE(JobStatus.APPROVED, EnumSet.of(JobStatus.DRAFT, JobStatus.PENDING_APPROVAL), "job.approved"),
+        CLOSE(JobStatus.CLOSED, JobStatus.LIVE, "job.closed"),
+        ARCHIVE(JobStatus.ARCHIVED, EnumSet.of(JobStatus.CLOSED, JobStatus.CANCELLED), "job.archived");
+
+        private final JobStatus to;
+        private final Set<JobStatus> from;
+        private final String eventType;
+
+        Transition(JobStatus to, Set<JobStatus> from, String eventType) {
+            this.to = to;
+            this.from = from;
+            this.eventType = eventType;
+        }
+
+        public JobStatus to() {
+            return to;
+        }
+
+        public Set<JobStatus> from() {
+            return from;
+        }
+    }
+
+    private final JobRepository jobRepository;
+    private final JobEventPublisher jobEventPublisher;
+    @Lazy
+    private final EmailNotificationService emailService;
+    private final JobTypeaheadService jobTypeaheadService;
+    private final SimilarJobService similarJobService;
+
+    @Value("${bulk-transitions.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${bulk-transitions.max-jobs:5000}")
+    private int maxJobs;
+
+    @Transactional
+    public BulkTransitionResponse transition(UUID tenantId, Transition transition, List<UUID> jobIds,
+                                             UUID actorId) {
+        List<UUID> ids = new ArrayList<>(new LinkedHashSet<>(jobIds));
+        if (ids.size() > maxJobs) {
+            throw new RuntimeException("A bulk request may change at most " + maxJobs + " jobs");
+        }
+        log.info("Bulk {} of {} jobs for tenant: {}", transition, ids.size(), tenantId);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<JobStatusChange> changes = new ArrayList<>();
+        for (int start = 0; start < ids.size(); start += chunkSize) {
+            List<UUID> chunk = ids.subList(start, Math.min(ids.size(), start + chunkSize));
+            changes.addAll(jobRepository.transitionStatus(
+                    tenantId, chunk, transition.from(), transition.to(), actorId, now));
+        }
+
+        Set<UUID> changed = new HashSet<>();
+        List<Job> jobs = new ArrayList<>();
+        for (JobStatusChange change : changes) {
+            changed.add(change.jobId());
+            Job job = toJob(change, actorId);
+            jobs.add(job);
+            if (transition.to().isTerminal()) {
+                jobTypeaheadService.onJobRemoved(job);
+                similarJobService.onStatusChanged(job);
+            }
+        }
+        Map<UUID, String> skipped = skipped(tenantId, ids, changed);
+        afterCommit(() -> publish(transition, jobs));
+
+        log.info("Bulk {} for tenant {}: {} changed, {} skipped", transition, tenantId, jobs.size(), skipped.size());
+        return BulkTransitionResponse.builder()
+                .targetStatus(transition.to().name())
+                .transitioned(jobs.stream().map(Job::getId).toList())
+                .skipped(skipped)
+                .build();
+    }
+
+    private Map<UUID, String> skipped(UUID tenantId, List<UUID> ids, Set<UUID> changed) {
+        List<UUID> unchanged = ids.stream().filter(id -> !changed.contains(id)).toList();
+        Map<UUID, String> skipped = new LinkedHashMap<>();
+        if (unchanged.isEmpty()) {
+            return skipped;
+        }
+        Map<UUID, JobStatus> current = jobRepository.findStatuses(tenantId, unchanged);
+        for (UUID id : unchanged) {
+            JobStatus status = current.get(id);
+            skipped.put(id, status == null ? "Job not found" : "Not allowed in current status: " + status);
+        }
+        return skipped;
+    }
+
+    // The sends are issued back to back, so the producer packs them into a few batches
+    private void publish(Transition transition, List<Job> jobs) {
+        if (jobs.isEmpty()) {
+            return;
+        }
+        Instant timestamp = Instant.now();
+        int rejected = 0;
+        for (Job job : jobs) {
+            try {
+                jobEventPublisher.publish("talent.job.events", job.getId().toString(), JobEvent.builder()
+                        .eventType(transition.eventType)
+                        .jobId(job.getId().toString())
+                        .tenantId(job.getTenantId())
+                        .status(job.getStatus().name())
+                        .timestamp(timestamp)
+                        .build());
+            } catch (Exception e) {
+                rejected++;
+            }
+        }
+        if (rejected > 0) {
+            log.error("Failed to publish {} of {} {} events", rejected, jobs.size(), transition.eventType);
+        }
+
+        if (transition == Transition.APPROVE) {
+            emailService.sendJobsApprovedNotification(jobs);
+        }
+    }
+
+    private static Job toJob(JobStatusChange change, UUID actorId) {
+        Job job = Job.builder()
+                .id(change.jobId())
+                .tenantId(change.tenantId())
+                .title(change.title())
+                .status(change.status())
+                .build();
+        if (change.status() == JobStatus.APPROVED) {
+            job.setApprovedAt(change.changedAt());
+            job.setApprovedBy(actorId);
+        }
+        return job;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
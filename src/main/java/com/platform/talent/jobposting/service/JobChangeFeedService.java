@@ -0,0 +1,119 @@
+package com.platform.talent.jobposting.service;
+
+import com.platform.talent.jobposting.domain.model.Job;
+import com.platform.talent.jobposting.domain.model.JobTombstone;
+import com.platform.talent.jobposting.domain.repository.JobRepository;
+import com.platform.talent.jobposting.domain.repository.JobTombstoneRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Delta sync over ggj_jobs. Jobs and tombstones share one per-tenant change
+ * sequence (see V6__job_change_feed.sql), so a page is the two streams merged
+ * in sequence order and the caller's watermark is the last sequence returned.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobChangeFeedService {
+
+    private final JobRepository jobRepository;
+    private final JobTombstoneRepository jobTombstoneRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${delta-sync.max-page-size:1000}")
+    private int maxPageSize;
+
+    @Value("${delta-sync.tombstone-retention-days:30}")
+    private int tombstoneRetentionDays;
+
+    @Value("${delta-sync.purge-chunk-size:1000}")
+    private int purgeChunkSize;
+
+    public record ChangePage(List<Job> changed,
+                             List<JobTombstone> deleted,
+                             long watermark,
+                             boolean hasMore,
+                             boolean resyncRequired) {
+    }
+
+    public void recordDeletion(Job job) {
+        jobTombstoneRepository.save(JobTombstone.builder()
+                .jobId(job.getId())
+                .tenantId(job.getTenantId())
+                .deletedAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * Changes with a sequence above {@code after}, optionally narrowed to rows
+     * touched at or after {@code since}. Both streams are read from one
+     * REPEATABLE READ snapshot; with separate snapshots a change committed
+     * between the two queries could fall below the returned watermark.
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public ChangePage findChanges(UUID tenantId, long after, LocalDateTime since, int limit) {
+        if (after > 0 && after < jobTombstoneRepository.findPurgedThrough(tenantId)) {
+            // Tombstones the caller has not seen are gone; only a full resync is safe
+            return new ChangePage(List.of(), List.of(), 0, false, true);
+        }
+
+        int size = Math.max(1, Math.min(limit, maxPageSize));
+        Pageable page = PageRequest.of(0, size + 1);
+        List<Job> jobs = since == null
+                ? jobRepository.findChangedAfter(tenantId, after, page)
+                : jobRepository.findChangedAfterSince(tenantId, after, since, page);
+        List<JobTombstone> tombstones = since == null
+                ? jobTombstoneRepository.findDeletedAfter(tenantId, after, page)
+                : jobTombstoneRepository.findDeletedAfterSince(tenantId, after, since, page);
+
+        List<Job> changed = new ArrayList<>();
+        List<JobTombstone> deleted = new ArrayList<>();
+        long watermark = after;
+        int j = 0;
+        int t = 0;
+        while (changed.size() + deleted.size() < size && (j < jobs.size() || t < tombstones.size())) {
+            boolean takeJob = t >= tombstones.size()
+                    || (j < jobs.size() && jobs.get(j).getChangeSeq() < tombstones.get(t).getChangeSeq());
+            if (takeJob) {
+                Job job = jobs.get(j++);
+                changed.add(job);
+                watermark = job.getChangeSeq();
+            } else {
+                JobTombstone tombstone = tombstones.get(t++);
+                deleted.add(tombstone);
+                watermark = tombstone.getChangeSeq();
+            }
+        }
+        boolean hasMore = j < jobs.size() || t < tombstones.size();
+        return new ChangePage(changed, deleted, watermark, hasMore, false);
+    }
+
+    @Scheduled(cron = "${delta-sync.tombstone-purge-cron:0 30 2 * * *}")
+    public void purgeTombstones() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(tombstoneRetentionDays);
+        int chunks = 0;
+        Integer tenantsTouched;
+        do {
+            tenantsTouched = transactionTemplate.execute(status ->
+                    jobTombstoneRepository.purgeChunk(cutoff, purgeChunkSize));
+            chunks++;
+        } while (tenantsTouched != null && tenantsTouched > 0);
+        if (chunks > 1) {
+            log.info("Purged job tombstones deleted before {} in {} chunks", cutoff, chunks - 1);
+        }
+    }
+}
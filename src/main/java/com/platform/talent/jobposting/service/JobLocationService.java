@@ -0,0 +1,195 @@
+package com.platform.talent.jobposting.service;
+
+import com.platform.talent.jobposting.api.dto.JobSearchCriteria;
+import com.platform.talent.jobposting.domain.model.Job;
+import com.platform.talent.jobposting.domain.model.JobPosting;
+import com.platform.talent.jobposting.domain.repository.JobRepository;
+import com.platform.talent.jobposting.service.geo.GazetteerGeocoder;
+import com.platform.talent.jobposting.service.geo.GeoHash;
+import com.platform.talent.jobposting.service.geo.GeoPoint;
+import com.platform.talent.jobposting.service.geo.RadiusSearchPage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Geocodes job locations once at write time and answers radius searches by
+ * pruning on geohash prefixes before the exact distance check.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobLocationService {
+
+    private final GazetteerGeocoder geocoder;
+    private final JobRepository jobRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private static final int MAX_REFINEMENTS = 8;
+
+    @Value("${geo.search.max-candidates:5000}")
+    private int maxCandidates;
+
+    @Value("${geo.backfill-on-startup:false}")
+    private boolean backfillOnStartup;
+
+    public void locate(Job job) {
+        Optional<GeoPoint> point = Boolean.TRUE.equals(job.getIsRemote())
+                ? Optional.empty()
+                : geocoder.geocode(job.getLocation());
+        job.setLatitude(point.map(GeoPoint::latitude).orElse(null));
+        job.setLongitude(point.map(GeoPoint::longitude).orElse(null));
+        job.setGeohash(point.map(p -> GeoHash.encode(p.latitude(), p.longitude(), GeoHash.MAX_PRECISION)).orElse(null));
+    }
+
+    public void locate(JobPosting posting) {
+        Optional<GeoPoint> point = "REMOTE".equalsIgnoreCase(posting.getWorkType())
+                ? Optional.empty()
+                : geocoder.geocode(posting.getLocation());
+        posting.setLatitude(point.map(GeoPoint::latitude).orElse(null));
+        posting.setLongitude(point.map(GeoPoint::longitude).orElse(null));
+        posting.setGeohash(point.map(p -> GeoHash.encode(p.latitude(), p.longitude(), GeoHash.MAX_PRECISION)).orElse(null));
+    }
+
+    /**
+     * Resolves the search centre from explicit coordinates or, failing that,
+     * from the criteria's location name.
+     */
+    public Optional<GeoPoint> resolveCentre(JobSearchCriteria criteria) {
+        if (criteria.getLatitude() != null && criteria.getLongitude() != null) {
+            return Optional.of(new GeoPoint(criteria.getLatitude(), criteria.getLongitude()));
+        }
+        return geocoder.geocode(criteria.getLocation());
+    }
+
+    /**
+     * Must be called inside a transaction; results are ordered by distance.
+     * Candidates are loaded nearest cell first. When the cells within the
+     * radius hold more than max-candidates jobs, the cell the cap cut into is
+     * split into its 32 children, up to {@value #MAX_REFINEMENTS} times. If the
+     * jobs still do not fit, the page holds every job within a smaller radius
+     * and is marked truncated (see {@link RadiusSearchPage}).
+     */
+    public RadiusSearchPage findWithinRadius(UUID tenantId, GeoPoint centre, double radiusKm, Pageable pageable) {
+        List<Cell> cells = cells(GeoHash.coveringPrefixes(centre.latitude(), centre.longitude(), radiusKm),
+                centre, radiusKm);
+        cells.sort(Comparator.comparingDouble(Cell::minDistanceKm));
+
+        List<Job> candidates = new ArrayList<>();
+        double completeWithinKm = radiusKm;
+        boolean truncated = false;
+        for (int refinements = 0; !cells.isEmpty(); refinements++) {
+            List<String> prefixes = cells.stream().map(Cell::prefix).toList();
+            int budget = maxCandidates - candidates.size();
+            List<Job> batch = jobRepository.findByGeohashPrefixes(tenantId, prefixes, budget + 1);
+            if (batch.size() <= budget) {
+                candidates.addAll(batch);
+                break;
+            }
+
+            // Rows arrive cell by cell, so every cell before the one the cap cut into is complete
+            int cut = cellIndex(prefixes, batch.get(budget).getGeohash());
+            batch.stream().filter(j -> cellIndex(prefixes, j.getGeohash()) < cut).forEach(candidates::add);
+            Cell partial = cells.get(cut);
+            List<Cell> remaining = new ArrayList<>(cells.subList(cut + 1, cells.size()));
+            if (refinements == MAX_REFINEMENTS || partial.prefix().length() == GeoHash.MAX_PRECISION) {
+                // Cells are in distance order: nothing left unloaded is nearer than the partial cell
+                truncated = true;
+                completeWithinKm = partial.minDistanceKm();
+                log.warn("Radius search for tenant {} exceeded {} candidates; complete within {} of {} km",
+                        tenantId, maxCandidates, String.format("%.2f", completeWithinKm), radiusKm);
+                break;
+            }
+            remaining.addAll(cells(GeoHash.children(partial.prefix()), centre, radiusKm));
+            remaining.sort(Comparator.comparingDouble(Cell::minDistanceKm));
+            cells = remaining;
+        }
+
+        double limitKm = completeWithinKm;
+        boolean exclusive = truncated;
+        List<Job> matches = candidates.stream()
+                .filter(j -> {
+                    double distance = centre.distanceKm(j.getLatitude(), j.getLongitude());
+                    return exclusive ? distance < limitKm : distance <= limitKm;
+                })
+                .sorted(Comparator.comparingDouble(j -> centre.distanceKm(j.getLatitude(), j.getLongitude())))
+                .toList();
+
+        if (pageable.isUnpaged()) {
+            return new RadiusSearchPage(matches, pageable, matches.size(), truncated, completeWithinKm);
+        }
+        int from = (int) Math.min(pageable.getOffset(), matches.size());
+        int to = Math.min(from + pageable.getPageSize(), matches.size());
+        return new RadiusSearchPage(matches.subList(from, to), pageable, matches.size(), truncated, completeWithinKm);
+    }
+
+    // Cells that cannot hold a point within the radius are dropped
+    private static List<Cell> cells(Collection<String> prefixes, GeoPoint centre, double radiusKm) {
+        List<Cell> cells = new ArrayList<>();
+        for (String prefix : prefixes) {
+            double minDistanceKm = GeoHash.minDistanceKm(prefix, centre.latitude(), centre.longitude());
+            if (minDistanceKm <= radiusKm) {
+                cells.add(new Cell(prefix, minDistanceKm));
+            }
+        }
+        return cells;
+    }
+
+    private static int cellIndex(List<String> prefixes, String geohash) {
+        for (int i = 0; i < prefixes.size(); i++) {
+            if (geohash.startsWith(prefixes.get(i))) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Geohash " + geohash + " outside the searched cells");
+    }
+
+    private record Cell(String prefix, double minDistanceKm) {}
+
+    /**
+     * Geocodes rows written before the geohash column existed. Walks the table
+     * by primary key in chunks and updates only the derived columns so the
+     * audit timestamps and optimistic-lock version stay untouched.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!backfillOnStartup) {
+            return;
+        }
+        UUID after = new UUID(0L, 0L);
+        int located = 0;
+        while (true) {
+            List<Job> chunk = jobRepository
+                    .findTop500ByIdGreaterThanAndGeohashIsNullAndLocationIsNotNullOrderByIdAsc(after);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            Integer updated = transactionTemplate.execute(status -> {
+                int count = 0;
+                for (Job job : chunk) {
+                    locate(job);
+                    if (job.getGeohash() != null) {
+                        count += jobRepository.updateGeolocation(job.getId(),
+                                job.getLatitude(), job.getLongitude(), job.getGeohash());
+                    }
+                }
+                return count;
+            });
+            located += updated == null ? 0 : updated;
+            after = chunk.get(chunk.size() - 1).getId();
+        }
+        log.info("Geolocation backfill complete: {} jobs geocoded", located);
+    }
+}
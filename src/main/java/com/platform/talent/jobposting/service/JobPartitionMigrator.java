@@ -0,0 +1,132 @@
+package com.platform.talent.jobposting.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Year;
+import java.util.UUID;
+
+/**
+ * Online migration of ggj_jobs into the hot/cold partitioned layout created by
+ * V4. Rows are copied in small keyset chunks (one short transaction each) while
+ * a trigger mirrors concurrent writes; once the copy has caught up the
+ * optional cutover swaps the tables. Only one replica runs the copy, guarded by
+ * a session advisory lock.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobPartitionMigrator {
+
+    private static final long ADVISORY_LOCK_KEY = 0x67676A5F6A6F6273L; // "ggj_jobs"
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+
+    @Value("${partitioning.migration.enabled:false}")
+    private boolean enabled;
+
+    @Value("${partitioning.migration.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${partitioning.migration.pause-ms:50}")
+    private long pauseMs;
+
+    @Value("${partitioning.migration.auto-cutover:false}")
+    private boolean autoCutover;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startMigration() {
+        if (!enabled) {
+            return;
+        }
+        Thread worker = new Thread(this::migrate, "ggj-jobs-partition-migrator");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    public void migrate() {
+        try (Connection lockConnection = dataSource.getConnection()) {
+            if (!tryLock(lockConnection)) {
+                log.info("Partition migration already running on another instance");
+                return;
+            }
+            try {
+                if (!isPending()) {
+                    log.info("ggj_jobs is already partitioned, nothing to migrate");
+                    return;
+                }
+                long copied = copyAll();
+                log.info("Partition backfill finished: {} chunks of up to {} rows", copied, chunkSize);
+                if (autoCutover) {
+                    cutover();
+                }
+            } finally {
+                unlock(lockConnection);
+            }
+        } catch (Exception e) {
+            log.error("Partition migration failed; it is safe to restart, copied chunks are kept", e);
+        }
+    }
+
+    public void cutover() {
+        log.info("Swapping ggj_jobs for the partitioned table");
+        jdbcTemplate.execute("SELECT ggj_jobs_partition_cutover()");
+        log.info("Partition cutover complete; ggj_jobs_legacy can be dropped after verification");
+    }
+
+    // Keeps next year's cold partition ready so terminal rows never pile into the default
+    @Scheduled(cron = "${partitioning.cold-partition-cron:0 0 3 1 * *}")
+    public void ensureColdPartitions() {
+        int nextYear = Year.now().getValue() + 1;
+        jdbcTemplate.queryForObject("SELECT ggj_jobs_ensure_cold_partition(?)::text", String.class, nextYear);
+    }
+
+    private long copyAll() throws InterruptedException {
+        UUID after = new UUID(0L, 0L);
+        long chunks = 0;
+        while (true) {
+            UUID last = jdbcTemplate.queryForObject(
+                    "SELECT ggj_jobs_partition_copy_chunk(?, ?)", UUID.class, after, chunkSize);
+            if (last == null) {
+                return chunks;
+            }
+            after = last;
+            if (++chunks % 100 == 0) {
+                log.info("Partition backfill progress: {} chunks, last id {}", chunks, after);
+            }
+            Thread.sleep(pauseMs);
+        }
+    }
+
+    private boolean isPending() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT to_regclass('ggj_jobs_p') IS NOT NULL", Boolean.class));
+    }
+
+    private boolean tryLock(Connection connection) throws Exception {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT pg_try_advisory_lock(?)")) {
+            ps.setLong(1, ADVISORY_LOCK_KEY);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    private void unlock(Connection connection) throws Exception {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT pg_advisory_unlock(?)")) {
+            ps.setLong(1, ADVISORY_LOCK_KEY);
+            ps.execute();
+        }
+    }
+}
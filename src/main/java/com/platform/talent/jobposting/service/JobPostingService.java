@@ -2,17 +2,33 @@ package com.platform.talent.jobposting.service;
 
 import com.platform.talent.jobposting.domain.model.JobPosting;
 import com.platform.talent.jobposting.domain.model.JobPostingStatus;
+import com.platform.talent.jobposting.domain.model.NearDuplicateKind;
+import com.platform.talent.jobposting.domain.model.PublishedJobView;
 import com.platform.talent.jobposting.repository.JobPostingRepository;
+import com.platform.talent.jobposting.repository.PublishedJobViewRepository;
+import com.platform.talent.jobposting.service.dedup.NearDuplicateDetector;
+import com.platform.talent.jobposting.service.event.JobEvent;
+import com.platform.talent.jobposting.service.event.JobEventPublisher;
+import com.platform.talent.jobposting.service.jfr.JobOperation;
+import com.platform.talent.jobposting.service.jfr.JobOperationEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.kafka.annotation.KafkaListener;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -21,16 +37,28 @@ import java.util.UUID;
 public class JobPostingService {
 
     private final JobPostingRepository jobPostingRepository;
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final PublishedJobViewRepository publishedJobViewRepository;
+    private final JobEventPublisher jobEventPublisher;
+    @Lazy
     private final JobBoardPublisher jobBoardPublisher;
+    private final SalaryNormalizationService salaryNormalizationService;
+    private final JobLocationService jobLocationService;
+    private final NearDuplicateDetector nearDuplicateDetector;
+    private final PlatformTransactionManager transactionManager;
 
+    @JobOperation(tenant = "#event['organizationId']")
     @KafkaListener(topics = "talent.requisition.approved", groupId = "job-posting-service")
     public void handleRequisitionApproved(Map<String, Object> event) {
         log.info("Creating job posting from approved requisition");
-        
+
         String requisitionId = (String) event.get("requisitionId");
         String organizationId = (String) event.get("organizationId");
-        
+        // requisition_id is unique: a redelivered event must not fail the listener on the insert
+        if (requisitionId != null && jobPostingRepository.findByRequisitionId(requisitionId).isPresent()) {
+            log.info("Job posting already exists for requisition: {}", requisitionId);
+            return;
+        }
+
         JobPosting posting = JobPosting.builder()
             .jobId(UUID.randomUUID().toString())
             .organizationId(organizationId)
@@ -47,11 +75,15 @@ public class JobPostingService {
             .createdDate(LocalDate.now())
             .createdBy("system")
             .build();
-        
+        jobLocationService.locate(posting);
+        flagNearDuplicate(posting);
+
         jobPostingRepository.save(posting);
+        JobOperationEvent.current().posting(posting);
         log.info("Job posting created from requisition: {}", requisitionId);
     }
 
+    @JobOperation(tenant = "#posting.organizationId")
     @Transactional
     public JobPosting createJobPosting(JobPosting posting, String userId) {
         posting.setJobId(UUID.randomUUID().toString());
@@ -60,10 +92,14 @@ public class JobPostingService {
         posting.setApplicationCount(0);
         posting.setCreatedDate(LocalDate.now());
         posting.setCreatedBy(userId);
+        salaryNormalizationService.normalize(posting);
+        jobLocationService.locate(posting);
+        flagNearDuplicate(posting);
 
         return jobPostingRepository.save(posting);
     }
 
+    @JobOperation(value = "publishJobPosting", tenant = "#organizationId", job = "#jobId")
     @Transactional
     public JobPosting publishJob(String organizationId, String jobId, String userId) {
         JobPosting posting = getJobPosting(organizationId, jobId);
@@ -72,47 +108,100 @@ public class JobPostingService {
         posting.setPublishedDate(LocalDate.now());
         posting.setLastModifiedDate(LocalDate.now());
 
-        // Publish to external job boards
-        if (Boolean.TRUE.equals(posting.getPublishToLinkedIn())) {
-            String linkedInId = jobBoardPublisher.publishToLinkedIn(posting);
-            posting.setLinkedInJobId(linkedInId);
-        }
-        if (Boolean.TRUE.equals(posting.getPublishToIndeed())) {
-            String indeedId = jobBoardPublisher.publishToIndeed(posting);
-            posting.setIndeedJobId(indeedId);
-        }
-
         JobPosting saved = jobPostingRepository.save(posting);
+        syncPublishedView(saved);
+        publishToBoardsAfterCommit(saved);
 
-        kafkaTemplate.send("talent.job.posted", Map.of(
-            "jobId", saved.getJobId(),
-            "requisitionId", saved.getRequisitionId(),
-            "organizationId", organizationId
-        ));
+        jobEventPublisher.publishAfterCommit("talent.job.posted", null, JobEvent.builder()
+            .jobId(saved.getJobId())
+            .requisitionId(saved.getRequisitionId())
+            .organizationId(organizationId)
+            .timestamp(Instant.now())
+            .build());
 
         return saved;
     }
 
+    /**
+     * Lists the posting on its requested boards once the publish commits, so a
+     * rolled-back publish leaves no listing behind and no transaction waits on a
+     * board. The returned ids are stored in a short transaction of their own; a
+     * posting closed in between gets none, and JobBoardReconciler removes its
+     * listing as an orphan, as it retries a board call that failed.
+     */
+    private void publishToBoardsAfterCommit(JobPosting posting) {
+        if (!Boolean.TRUE.equals(posting.getPublishToLinkedIn()) && !Boolean.TRUE.equals(posting.getPublishToIndeed())) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishToBoards(posting);
+                }
+            });
+        } else {
+            publishToBoards(posting);
+        }
+    }
+
+    private void publishToBoards(JobPosting posting) {
+        String linkedInId = Boolean.TRUE.equals(posting.getPublishToLinkedIn())
+            ? jobBoardPublisher.publishToLinkedIn(posting) : null;
+        String indeedId = Boolean.TRUE.equals(posting.getPublishToIndeed())
+            ? jobBoardPublisher.publishToIndeed(posting) : null;
+        if (linkedInId == null && indeedId == null) {
+            return;
+        }
+        // The committed transaction's resources are still bound during afterCommit
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            transaction.executeWithoutResult(status -> jobPostingRepository.findById(posting.getJobId())
+                .filter(current -> current.getStatus() == JobPostingStatus.PUBLISHED)
+                .ifPresent(current -> {
+                    if (linkedInId != null) {
+                        current.setLinkedInJobId(linkedInId);
+                    }
+                    if (indeedId != null) {
+                        current.setIndeedJobId(indeedId);
+                    }
+                    jobPostingRepository.save(current);
+                }));
+        } catch (RuntimeException e) {
+            log.error("Failed to store board ids for posting {}; left to the reconciler", posting.getJobId(), e);
+        }
+    }
+
+    @JobOperation(value = "pauseJobPosting", tenant = "#organizationId", job = "#jobId")
     @Transactional
     public JobPosting pauseJob(String organizationId, String jobId) {
         JobPosting posting = getJobPosting(organizationId, jobId);
         posting.setStatus(JobPostingStatus.PAUSED);
         posting.setLastModifiedDate(LocalDate.now());
-        return jobPostingRepository.save(posting);
+        jobBoardPublisher.unpublish(posting);
+        JobPosting saved = jobPostingRepository.save(posting);
+        syncPublishedView(saved);
+        return saved;
     }
 
+    @JobOperation(value = "closeJobPosting", tenant = "#organizationId", job = "#jobId")
     @Transactional
     public JobPosting closeJob(String organizationId, String jobId) {
         JobPosting posting = getJobPosting(organizationId, jobId);
         posting.setStatus(JobPostingStatus.CLOSED);
         posting.setLastModifiedDate(LocalDate.now());
+        jobBoardPublisher.unpublish(posting);
 
-        kafkaTemplate.send("talent.job.closed", Map.of(
-            "jobId", jobId,
-            "organizationId", organizationId
-        ));
+        jobEventPublisher.publishAfterCommit("talent.job.closed", null, JobEvent.builder()
+            .jobId(jobId)
+            .organizationId(organizationId)
+            .timestamp(Instant.now())
+            .build());
 
-        return jobPostingRepository.save(posting);
+        JobPosting saved = jobPostingRepository.save(posting);
+        syncPublishedView(saved);
+        return saved;
     }
 
     @Transactional
@@ -131,6 +220,7 @@ public class JobPostingService {
         });
     }
 
+    @JobOperation(tenant = "#organizationId", job = "#jobId")
     @Transactional(readOnly = true)
     public JobPosting getJobPosting(String organizationId, String jobId) {
         return jobPostingRepository.findById(jobId)
@@ -138,21 +228,33 @@ public class JobPostingService {
             .orElseThrow(() -> new RuntimeException("Job posting not found"));
     }
 
+    @JobOperation(tenant = "#organizationId")
     @Transactional(readOnly = true)
     public List<JobPosting> getAllJobPostings(String organizationId) {
         return jobPostingRepository.findByOrganizationId(organizationId);
     }
 
+    @JobOperation(value = "getPublishedJobPostings")
+    @Transactional(readOnly = true)
+    public List<PublishedJobView> getPublishedJobs() {
+        return publishedJobViewRepository.findAllPublished();
+    }
+
+    @JobOperation(value = "getPublishedJobPostingsBySalary")
     @Transactional(readOnly = true)
-    public List<JobPosting> getPublishedJobs() {
-        return jobPostingRepository.findAllPublished();
+    public List<PublishedJobView> getPublishedJobsBySalary(BigDecimal salaryMin, BigDecimal salaryMax, String currency) {
+        SalaryNormalizationService.SalaryBand band =
+            salaryNormalizationService.toBaseRange(salaryMin, salaryMax, currency);
+        return publishedJobViewRepository.findPublishedBySalaryOverlap(band.low(), band.high());
     }
 
+    @JobOperation(value = "searchJobPostings")
     @Transactional(readOnly = true)
-    public List<JobPosting> searchJobs(String keyword) {
-        return jobPostingRepository.searchJobs(keyword);
+    public List<PublishedJobView> searchJobs(String keyword) {
+        return publishedJobViewRepository.searchJobs(keyword);
     }
 
+    @JobOperation(tenant = "#organizationId", job = "#jobId")
     @Transactional
     public JobPosting updateJobPosting(String organizationId, String jobId, JobPosting updates, String userId) {
         JobPosting existing = getJobPosting(organizationId, jobId);
@@ -170,8 +272,35 @@ public class JobPostingService {
         if (updates.getPublishToIndeed() != null) existing.setPublishToIndeed(updates.getPublishToIndeed());
 
         existing.setLastModifiedDate(LocalDate.now());
+        salaryNormalizationService.normalize(existing);
+        if (updates.getJobDescription() != null) {
+            flagNearDuplicate(existing);
+        }
+
+        JobPosting saved = jobPostingRepository.save(existing);
+        syncPublishedView(saved);
+        return saved;
+    }
+
+    // Same transaction as the posting write: the public read model never shows a paused or closed posting
+    private void syncPublishedView(JobPosting posting) {
+        if (posting.getStatus() == JobPostingStatus.PUBLISHED) {
+            publishedJobViewRepository.save(PublishedJobView.from(posting));
+        } else {
+            // No row for postings that were never published; the delete is then a primary-key miss
+            publishedJobViewRepository.deleteByJobId(posting.getJobId());
+        }
+    }
 
-        return jobPostingRepository.save(existing);
+    // Another organization's posting id must not reach this organization's responses
+    private void flagNearDuplicate(JobPosting posting) {
+        String organizationId = posting.getOrganizationId();
+        Optional<NearDuplicateDetector.Match> match = nearDuplicateDetector
+            .index(NearDuplicateKind.POSTING, posting.getJobId(), organizationId, posting.getJobDescription());
+        posting.setNearDuplicateOf(match.filter(m -> m.sameOwner(organizationId))
+            .map(NearDuplicateDetector.Match::docId)
+            .orElse(null));
+        posting.setNearDuplicateExternal(match.isPresent() && !match.get().sameOwner(organizationId));
     }
 }
 
@@ -1,24 +1,43 @@
 package com.platform.talent.jobposting.service;
 
 import com.platform.talent.jobposting.api.dto.CreateJobRequest;
+import com.platform.talent.jobposting.api.dto.JobChangesResponse;
 import com.platform.talent.jobposting.api.dto.JobResponse;
 import com.platform.talent.jobposting.api.dto.JobSearchCriteria;
 import com.platform.talent.jobposting.api.dto.UpdateJobRequest;
 import com.platform.talent.jobposting.domain.model.Job;
 import com.platform.talent.jobposting.domain.model.JobStatus;
+import com.platform.talent.jobposting.domain.model.NearDuplicateKind;
 import com.platform.talent.jobposting.domain.repository.JobRepository;
+import com.platform.talent.jobposting.service.dedup.NearDuplicateDetector;
+import com.platform.talent.jobposting.service.event.JobEvent;
+import com.platform.talent.jobposting.service.event.JobEventPublisher;
+import com.platform.talent.jobposting.service.geo.GeoPoint;
 import com.platform.talent.jobposting.service.integration.KernelIntegrationService;
+import com.platform.talent.jobposting.service.similar.SimilarJobService;
+import com.platform.talent.jobposting.service.typeahead.JobTypeaheadService;
 import com.platform.talent.jobposting.service.integration.EmailNotificationService;
+import com.platform.talent.jobposting.service.jfr.JobOperation;
+import com.platform.talent.jobposting.service.jfr.JobOperationEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -26,11 +45,32 @@ import java.util.UUID;
 @Slf4j
 public class JobService {
 
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "title", "title",
+            "createdAt", "created_at",
+            "updatedAt", "updated_at",
+            "publishedAt", "published_at",
+            "expiresAt", "expires_at",
+            "salaryMin", "salary_min",
+            "salaryMax", "salary_max",
+            "viewCount", "view_count",
+            "applicationCount", "application_count");
+
     private final JobRepository jobRepository;
+    @Lazy
     private final KernelIntegrationService kernelService;
+    @Lazy
     private final EmailNotificationService emailService;
-    private final KafkaTemplate<String, Object> kafkaTemplate;
-
+    private final JobEventPublisher jobEventPublisher;
+    private final SalaryNormalizationService salaryNormalizationService;
+    private final JobLocationService jobLocationService;
+    private final JobArchiveService jobArchiveService;
+    private final JobChangeFeedService jobChangeFeedService;
+    private final NearDuplicateDetector nearDuplicateDetector;
+    private final JobTypeaheadService jobTypeaheadService;
+    private final SimilarJobService similarJobService;
+
+    @JobOperation(tenant = "#tenantId")
     @Transactional
     public JobResponse createJob(UUID tenantId, CreateJobRequest request) {
         log.info("Creating job for tenant: {}", tenantId);
@@ -59,8 +99,12 @@ public class JobService {
                 .applicationCount(0)
                 .viewCount(0)
                 .build();
+        salaryNormalizationService.normalize(job);
+        jobLocationService.locate(job);
 
         job = jobRepository.save(job);
+        flagNearDuplicate(job);
+        jobTypeaheadService.onJobSaved(job);
 
         // Store custom fields in Kernel if present
         if (request.getCustomFields() != null && !request.getCustomFields().isEmpty()) {
@@ -71,12 +115,12 @@ public class JobService {
         return mapToResponse(job);
     }
 
+    @JobOperation(tenant = "#tenantId", job = "#jobId")
     @Transactional
     public JobResponse updateJob(UUID tenantId, UUID jobId, UpdateJobRequest request) {
         log.info("Updating job: {} for tenant: {}", jobId, tenantId);
 
-        Job job = jobRepository.findByIdAndTenantId(jobId, tenantId)
-                .orElseThrow(() -> new RuntimeException("Job not found"));
+        Job job = findJob(tenantId, jobId);
 
         if (!job.canBeEdited()) {
             throw new RuntimeException("Job cannot be edited in current status: " + job.getStatus());
@@ -100,19 +144,25 @@ public class JobService {
         if (request.getBenefits() != null) job.setBenefits(request.getBenefits());
         if (request.getIsRemote() != null) job.setIsRemote(request.getIsRemote());
         if (request.getIsFeatured() != null) job.setIsFeatured(request.getIsFeatured());
+        salaryNormalizationService.normalize(job);
+        jobLocationService.locate(job);
 
         job = jobRepository.save(job);
+        if (request.getDescription() != null) {
+            flagNearDuplicate(job);
+        }
+        jobTypeaheadService.onJobSaved(job);
 
         log.info("Job updated successfully: {}", jobId);
         return mapToResponse(job);
     }
 
+    @JobOperation(tenant = "#tenantId", job = "#jobId")
     @Transactional
     public void publishJob(UUID tenantId, UUID jobId) {
         log.info("Publishing job: {} for tenant: {}", jobId, tenantId);
 
-        Job job = jobRepository.findByIdAndTenantId(jobId, tenantId)
-                .orElseThrow(() -> new RuntimeException("Job not found"));
+        Job job = findJob(tenantId, jobId);
 
         if (!job.canBePublished() && job.getStatus() != JobStatus.DRAFT) {
             throw new RuntimeException("Job cannot be published in current status: " + job.getStatus());
@@ -122,6 +172,7 @@ public class JobService {
         job.setPublishedAt(LocalDateTime.now());
 
         jobRepository.save(job);
+        similarJobService.onStatusChanged(job);
 
         // Publish Kafka event
         publishJobEvent("job.published", job);
@@ -129,31 +180,35 @@ public class JobService {
         // Send notification email
         emailService.sendJobPublishedNotification(job);
 
+        JobOperationEvent.current().job(job);
         log.info("Job published successfully: {}", jobId);
     }
 
+    @JobOperation(tenant = "#tenantId", job = "#jobId")
     @Transactional
     public void closeJob(UUID tenantId, UUID jobId) {
         log.info("Closing job: {} for tenant: {}", jobId, tenantId);
 
-        Job job = jobRepository.findByIdAndTenantId(jobId, tenantId)
-                .orElseThrow(() -> new RuntimeException("Job not found"));
+        Job job = findJob(tenantId, jobId);
 
         job.setStatus(JobStatus.CLOSED);
         jobRepository.save(job);
+        jobTypeaheadService.onJobSaved(job);
+        similarJobService.onStatusChanged(job);
 
         // Publish Kafka event
         publishJobEvent("job.closed", job);
 
+        JobOperationEvent.current().job(job);
         log.info("Job closed successfully: {}", jobId);
     }
 
+    @JobOperation(tenant = "#tenantId", job = "#jobId")
     @Transactional
     public void approveJob(UUID tenantId, UUID jobId, UUID approverId) {
         log.info("Approving job: {} for tenant: {} by approver: {}", jobId, tenantId, approverId);
 
-        Job job = jobRepository.findByIdAndTenantId(jobId, tenantId)
-                .orElseThrow(() -> new RuntimeException("Job not found"));
+        Job job = findJob(tenantId, jobId);
 
         if (job.getStatus() != JobStatus.PENDING_APPROVAL && job.getStatus() != JobStatus.DRAFT) {
             throw new RuntimeException("Job cannot be approved in current status: " + job.getStatus());
@@ -171,111 +226,155 @@ public class JobService {
         // Send notification email
         emailService.sendJobApprovedNotification(job);
 
+        JobOperationEvent.current().job(job);
         log.info("Job approved successfully: {}", jobId);
     }
 
+    @JobOperation(tenant = "#tenantId", job = "#jobId")
     @Transactional(readOnly = true)
     public JobResponse getJob(UUID tenantId, UUID jobId) {
-        Job job = jobRepository.findByIdAndTenantId(jobId, tenantId)
-                .orElseThrow(() -> new RuntimeException("Job not found"));
-
-        // Increment view count
-        job.incrementViewCount();
-        jobRepository.save(job);
+        Optional<Job> found = lookupJob(tenantId, jobId);
+        if (found.isEmpty()) {
+            // Terminal jobs past retention live in the archive; serve them read-only
+            Job archived = jobArchiveService.findArchived(tenantId, jobId)
+                    .orElseThrow(() -> new RuntimeException("Job not found"));
+            return mapToResponse(archived);
+        }
+        return mapToResponse(found.get());
+    }
 
-        return mapToResponse(job);
+    // Separate from getJob, whose result concurrent requests may share
+    @Transactional
+    public void incrementViewCount(UUID tenantId, UUID jobId) {
+        jobRepository.incrementViewCount(tenantId, jobId);
     }
 
+    // Pages return entities; the controller writes them in the JobResponse shape through JobPage
+    @JobOperation(tenant = "#tenantId")
     @Transactional(readOnly = true)
-    public Page<JobResponse> listJobs(UUID tenantId, JobStatus status, Pageable pageable) {
-        Page<Job> jobs;
+    public Page<Job> listJobs(UUID tenantId, JobStatus status, Pageable pageable) {
         if (status != null) {
-            jobs = jobRepository.findByTenantIdAndStatus(tenantId, status, pageable);
-        } else {
-            jobs = jobRepository.findByTenantId(tenantId, pageable);
+            return jobRepository.findByTenantIdAndStatus(tenantId, status, pageable);
         }
-        return jobs.map(this::mapToResponse);
+        return jobRepository.findByTenantId(tenantId, pageable);
     }
 
+    @JobOperation(tenant = "#criteria.tenantId")
     @Transactional(readOnly = true)
-    public Page<JobResponse> searchJobs(JobSearchCriteria criteria, Pageable pageable) {
+    public Page<Job> searchJobs(JobSearchCriteria criteria, Pageable pageable) {
         Page<Job> jobs;
 
         if (criteria.getActiveOnly() != null && criteria.getActiveOnly()) {
             jobs = jobRepository.findActiveJobs(criteria.getTenantId(), LocalDateTime.now(), pageable);
         } else if (criteria.getKeyword() != null) {
             jobs = jobRepository.searchJobs(criteria.getTenantId(), criteria.getKeyword(), pageable);
+        } else if (criteria.getSalaryMin() != null || criteria.getSalaryMax() != null) {
+            SalaryNormalizationService.SalaryBand band = salaryNormalizationService.toBaseRange(
+                    criteria.getSalaryMin(), criteria.getSalaryMax(), criteria.getSalaryCurrency());
+            jobs = jobRepository.findBySalaryBandOverlap(criteria.getTenantId(),
+                    band.low().doubleValue(), band.high().doubleValue(), withColumnSort(pageable));
+        } else if (criteria.getRadiusKm() != null) {
+            GeoPoint centre = jobLocationService.resolveCentre(criteria)
+                    .orElseThrow(() -> new RuntimeException("Unknown search location: " + criteria.getLocation()));
+            jobs = jobLocationService.findWithinRadius(criteria.getTenantId(), centre, criteria.getRadiusKm(), pageable);
         } else if (criteria.getRecruiterId() != null) {
             jobs = jobRepository.findByRecruiter(criteria.getTenantId(), criteria.getRecruiterId(), pageable);
         } else {
             jobs = jobRepository.findByTenantId(criteria.getTenantId(), pageable);
         }
 
-        return jobs.map(this::mapToResponse);
+        return jobs;
     }
 
     @Transactional
     public void deleteJob(UUID tenantId, UUID jobId) {
         log.info("Deleting job: {} for tenant: {}", jobId, tenantId);
 
-        Job job = jobRepository.findByIdAndTenantId(jobId, tenantId)
-                .orElseThrow(() -> new RuntimeException("Job not found"));
+        Job job = findJob(tenantId, jobId);
 
         if (job.getStatus() == JobStatus.PUBLISHED) {
             throw new RuntimeException("Cannot delete a published job. Close it first.");
         }
 
         jobRepository.delete(job);
+        jobChangeFeedService.recordDeletion(job);
+        nearDuplicateDetector.remove(NearDuplicateKind.JOB, jobId.toString());
+        jobTypeaheadService.onJobRemoved(job);
+        similarJobService.onStatusChanged(job);
         log.info("Job deleted successfully: {}", jobId);
     }
 
-    private void publishJobEvent(String eventType, Job job) {
-        try {
-            kafkaTemplate.send("talent.job.events", job.getId().toString(), Map.of(
-                "eventType", eventType,
-                "jobId", job.getId(),
-                "tenantId", job.getTenantId(),
-                "status", job.getStatus(),
-                "timestamp", LocalDateTime.now()
-            ));
-        } catch (Exception e) {
-            log.error("Failed to publish job event: {}", eventType, e);
+    // Same isolation as JobChangeFeedService.findChanges so both run in one snapshot
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public JobChangesResponse getChanges(UUID tenantId, long after, LocalDateTime since, int limit) {
+        JobChangeFeedService.ChangePage page = jobChangeFeedService.findChanges(tenantId, after, since, limit);
+        return JobChangesResponse.builder()
+                .changed(page.changed().stream().map(this::mapToResponse).toList())
+                .deleted(page.deleted().stream()
+                        .map(t -> JobChangesResponse.DeletedJob.builder()
+                                .id(t.getJobId())
+                                .changeSeq(t.getChangeSeq())
+                                .deletedAt(t.getDeletedAt())
+                                .build())
+                        .toList())
+                .watermark(page.watermark())
+                .hasMore(page.hasMore())
+                .resyncRequired(page.resyncRequired())
+                .build();
+    }
+
+    // Most lookups target live jobs: probe the hot partition first, then fall back to all
+    private Job findJob(UUID tenantId, UUID jobId) {
+        return lookupJob(tenantId, jobId)
+                .orElseThrow(() -> new RuntimeException("Job not found"));
+    }
+
+    private Optional<Job> lookupJob(UUID tenantId, UUID jobId) {
+        return jobRepository.findByIdAndTenantIdAndStatusIn(jobId, tenantId, JobStatus.LIVE)
+                .or(() -> jobRepository.findByIdAndTenantId(jobId, tenantId));
+    }
+
+    // findBySalaryBandOverlap is native SQL, so sort properties must be translated to ggj_jobs columns
+    private static Pageable withColumnSort(Pageable pageable) {
+        if (pageable.isUnpaged() || pageable.getSort().isUnsorted()) {
+            return pageable;
+        }
+        List<Sort.Order> orders = new ArrayList<>();
+        for (Sort.Order order : pageable.getSort()) {
+            String column = SORT_COLUMNS.get(order.getProperty());
+            if (column == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Salary search cannot be sorted by " + order.getProperty());
+            }
+            orders.add(order.withProperty(column));
         }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(orders));
+    }
+
+    // Another tenant's job id must not reach this tenant's responses; only the fact is kept
+    private void flagNearDuplicate(Job job) {
+        String tenantId = job.getTenantId().toString();
+        Optional<NearDuplicateDetector.Match> match = nearDuplicateDetector
+                .index(NearDuplicateKind.JOB, job.getId().toString(), tenantId, job.getDescription());
+        job.setNearDuplicateOf(match.filter(m -> m.sameOwner(tenantId))
+                .map(m -> UUID.fromString(m.docId()))
+                .orElse(null));
+        job.setNearDuplicateExternal(match.isPresent() && !match.get().sameOwner(tenantId));
+    }
+
+    // Sent after commit; a rejection under backpressure is logged by the publisher, never rolls back the change
+    private void publishJobEvent(String eventType, Job job) {
+        jobEventPublisher.publishAfterCommit("talent.job.events", job.getId().toString(), JobEvent.builder()
+            .eventType(eventType)
+            .jobId(job.getId().toString())
+            .tenantId(job.getTenantId())
+            .status(job.getStatus().name())
+            .timestamp(Instant.now())
+            .build());
     }
 
     private JobResponse mapToResponse(Job job) {
-        return JobResponse.builder()
-                .id(job.getId())
-                .tenantId(job.getTenantId())
-                .title(job.getTitle())
-                .description(job.getDescription())
-                .location(job.getLocation())
-                .employmentType(job.getEmploymentType())
-                .experienceLevel(job.getExperienceLevel())
-                .salaryMin(job.getSalaryMin())
-                .salaryMax(job.getSalaryMax())
-                .salaryCurrency(job.getSalaryCurrency())
-                .status(job.getStatus())
-                .departmentId(job.getDepartmentId())
-                .recruiterId(job.getRecruiterId())
-                .hiringManagerId(job.getHiringManagerId())
-                .numberOfPositions(job.getNumberOfPositions())
-                .publishedAt(job.getPublishedAt())
-                .expiresAt(job.getExpiresAt())
-                .approvedAt(job.getApprovedAt())
-                .approvedBy(job.getApprovedBy())
-                .customFields(job.getCustomFields())
-                .requirements(job.getRequirements())
-                .benefits(job.getBenefits())
-                .applicationCount(job.getApplicationCount())
-                .viewCount(job.getViewCount())
-                .isRemote(job.getIsRemote())
-                .isFeatured(job.getIsFeatured())
-                .createdAt(job.getCreatedAt())
-                .updatedAt(job.getUpdatedAt())
-                .createdBy(job.getCreatedBy())
-                .updatedBy(job.getUpdatedBy())
-                .build();
+        return JobResponse.from(job);
     }
 }
 
@@ -0,0 +1,151 @@
+package com.platform.talent.jobposting.service;
+
+import com.platform.talent.jobposting.domain.model.ExchangeRate;
+import com.platform.talent.jobposting.domain.model.Job;
+import com.platform.talent.jobposting.domain.model.JobPosting;
+import com.platform.talent.jobposting.domain.repository.ExchangeRateRepository;
+import com.platform.talent.jobposting.domain.repository.JobRepository;
+import com.platform.talent.jobposting.repository.JobPostingRepository;
+import com.platform.talent.jobposting.repository.PublishedJobViewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Converts salaries into a single base currency so that range searches can
+ * compare jobs posted in different currencies without per-row conversion at
+ * query time. The normalized band is written alongside the job and rewritten
+ * in bulk whenever a rate changes.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SalaryNormalizationService {
+
+    // Stand-ins for a missing search bound; salaries are never negative
+    private static final BigDecimal OPEN_LOW = BigDecimal.ZERO;
+    private static final BigDecimal OPEN_HIGH = BigDecimal.valueOf(Long.MAX_VALUE);
+
+    private final ExchangeRateRepository exchangeRateRepository;
+    private final JobRepository jobRepository;
+    private final JobPostingRepository jobPostingRepository;
+    private final PublishedJobViewRepository publishedJobViewRepository;
+
+    @Value("${salary.normalization.base-currency:USD}")
+    private String baseCurrency;
+
+    private final Map<String, BigDecimal> rates = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    public void normalize(Job job) {
+        job.setSalaryNormalizedMin(toBase(job.getSalaryMin(), job.getSalaryCurrency()));
+        job.setSalaryNormalizedMax(toBase(job.getSalaryMax(), job.getSalaryCurrency()));
+    }
+
+    public void normalize(JobPosting posting) {
+        posting.setSalaryNormalizedMin(toBase(posting.getSalaryMin(), posting.getCurrency()));
+        posting.setSalaryNormalizedMax(toBase(posting.getSalaryMax(), posting.getCurrency()));
+    }
+
+    private Double toBase(Double amount, String currency) {
+        BigDecimal converted = toBase(amount == null ? null : BigDecimal.valueOf(amount), currency);
+        return converted == null ? null : converted.doubleValue();
+    }
+
+    public BigDecimal toBase(BigDecimal amount, String currency) {
+        if (amount == null || currency == null) {
+            return null;
+        }
+        BigDecimal rate = rateFor(currency);
+        if (rate == null) {
+            log.debug("No exchange rate for currency {}, salary left unbanded", currency);
+            return null;
+        }
+        return amount.multiply(rate).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Converts a search range into the base currency. A missing bound leaves
+     * that end open. Rejects an unknown currency and an inverted range rather
+     * than widening the search to every salaried job.
+     */
+    public SalaryBand toBaseRange(BigDecimal min, BigDecimal max, String currency) {
+        String code = currency != null ? currency : baseCurrency;
+        if (min != null && max != null && min.compareTo(max) > 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "salaryMin must not exceed salaryMax");
+        }
+        if (rateFor(code) == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown salary currency: " + code);
+        }
+        return new SalaryBand(
+                min != null ? toBase(min, code) : OPEN_LOW,
+                max != null ? toBase(max, code) : OPEN_HIGH);
+    }
+
+    public SalaryBand toBaseRange(Double min, Double max, String currency) {
+        return toBaseRange(min == null ? null : BigDecimal.valueOf(min),
+                max == null ? null : BigDecimal.valueOf(max), currency);
+    }
+
+    /**
+     * Stores a new rate and rewrites the normalized band of every job and
+     * posting in that currency, and of the published job view, with set-based
+     * updates.
+     */
+    @Transactional
+    public ExchangeRate updateRate(String currency, BigDecimal rateToBase) {
+        String code = currency.toUpperCase();
+        log.info("Updating exchange rate {} -> {}: {}", code, baseCurrency, rateToBase);
+
+        ExchangeRate rate = exchangeRateRepository.save(ExchangeRate.builder()
+                .currency(code)
+                .rateToBase(rateToBase)
+                .updatedAt(LocalDateTime.now())
+                .build());
+
+        int jobs = jobRepository.renormalizeSalaries(code, rateToBase.doubleValue());
+        int postings = jobPostingRepository.renormalizeSalaries(code, rateToBase);
+        publishedJobViewRepository.renormalizeSalaries(code, rateToBase);
+        rates.put(code, rateToBase);
+
+        log.info("Renormalized salaries for {}: {} jobs, {} postings", code, jobs, postings);
+        return rate;
+    }
+
+    @Transactional(readOnly = true)
+    public List<ExchangeRate> getRates() {
+        return exchangeRateRepository.findAll();
+    }
+
+    // Other replicas may have changed a rate; pick it up for subsequent writes
+    @Scheduled(fixedDelayString = "${salary.normalization.rate-refresh-ms:300000}")
+    public void reloadRates() {
+        Map<String, BigDecimal> fresh = new ConcurrentHashMap<>();
+        exchangeRateRepository.findAll().forEach(r -> fresh.put(r.getCurrency(), r.getRateToBase()));
+        fresh.putIfAbsent(baseCurrency, BigDecimal.ONE);
+        rates.keySet().retainAll(fresh.keySet());
+        rates.putAll(fresh);
+        loaded = true;
+    }
+
+    private BigDecimal rateFor(String currency) {
+        if (!loaded) {
+            reloadRates();
+        }
+        return rates.get(currency.toUpperCase());
+    }
+
+    public record SalaryBand(BigDecimal low, BigDecimal high) {}
+}
@@ -0,0 +1,98 @@
+package com.platform.talent.jobposting.service;
+
+import com.platform.talent.jobposting.config.datasource.ReadConsistencyContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent identical reads into one call: the first caller for a
+ * key runs the loader and everyone arriving while it is in flight shares its
+ * result (or its exception). Followers wait at most {@code max-wait-ms} and
+ * then run the loader themselves, so one slow query cannot stall a queue of
+ * requests indefinitely.
+ * <p>
+ * Results are shared between requests, so only use this for values that
+ * callers treat as read-only (response DTOs, entities that are only
+ * serialized), never on paths that modify what they load.
+ * <p>
+ * A request with a {@link ReadConsistencyContext} requirement always loads
+ * on its own: a shared result may come from a replica it must not read.
+ */
+@Component
+@Slf4j
+public class SingleFlight {
+
+    private final Map<List<Object>, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    @Value("${single-flight.max-wait-ms:2000}")
+    private long maxWaitMs;
+
+    public SingleFlight(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, List<Object> args, Supplier<T> loader) {
+        if (ReadConsistencyContext.isRequired()) {
+            count(operation, "bypassed");
+            return loader.get();
+        }
+        List<Object> key = List.of(operation, args);
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(key, mine);
+
+        if (leader == null) {
+            count(operation, "leader");
+            try {
+                T value = loader.get();
+                mine.complete(value);
+                return value;
+            } catch (RuntimeException e) {
+                mine.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(key, mine);
+            }
+        }
+
+        try {
+            T value = (T) leader.get(maxWaitMs, TimeUnit.MILLISECONDS);
+            count(operation, "coalesced");
+            return value;
+        } catch (ExecutionException e) {
+            count(operation, "coalesced");
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new RuntimeException(e.getCause());
+        } catch (TimeoutException e) {
+            count(operation, "timeout");
+            log.debug("Single-flight wait for {} exceeded {} ms, loading independently", operation, maxWaitMs);
+            return loader.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return loader.get();
+        }
+    }
+
+    private void count(String operation, String outcome) {
+        counters.computeIfAbsent(operation + ":" + outcome, k -> Counter.builder("jobposting.singleflight.requests")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry)).increment();
+    }
+}
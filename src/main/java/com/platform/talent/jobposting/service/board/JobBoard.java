@@ -0,0 +1,63 @@
+package com.platform.talent.jobposting.service.board;
+
+import com.platform.talent.jobposting.domain.model.JobBoardRefs;
+import com.platform.talent.jobposting.domain.model.JobPosting;
+
+/** External job boards a posting can be syndicated to, with the posting fields that track each one. */
+public enum JobBoard {
+
+    LINKEDIN {
+        @Override
+        public boolean isRequested(JobBoardRefs refs) {
+            return Boolean.TRUE.equals(refs.publishToLinkedIn());
+        }
+
+        @Override
+        public String externalId(JobBoardRefs refs) {
+            return refs.linkedInJobId();
+        }
+
+        @Override
+        public void setExternalId(JobPosting posting, String externalId) {
+            posting.setLinkedInJobId(externalId);
+        }
+    },
+    INDEED {
+        @Override
+        public boolean isRequested(JobBoardRefs refs) {
+            return Boolean.TRUE.equals(refs.publishToIndeed());
+        }
+
+        @Override
+        public String externalId(JobBoardRefs refs) {
+            return refs.indeedJobId();
+        }
+
+        @Override
+        public void setExternalId(JobPosting posting, String externalId) {
+            posting.setIndeedJobId(externalId);
+        }
+    },
+    GLASSDOOR {
+        @Override
+        public boolean isRequested(JobBoardRefs refs) {
+            return Boolean.TRUE.equals(refs.publishToGlassdoor());
+        }
+
+        @Override
+        public String externalId(JobBoardRefs refs) {
+            return refs.glassdoorJobId();
+        }
+
+        @Override
+        public void setExternalId(JobPosting posting, String externalId) {
+            posting.setGlassdoorJobId(externalId);
+        }
+    };
+
+    public abstract boolean isRequested(JobBoardRefs refs);
+
+    public abstract String externalId(JobBoardRefs refs);
+
+    public abstract void setExternalId(JobPosting posting, String externalId);
+}
@@ -0,0 +1,153 @@
+package com.platform.talent.jobposting.service.board;
+
+import com.platform.talent.jobposting.domain.model.JobPosting;
+import com.platform.talent.jobposting.service.jfr.IntegrationCallEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.*;
+
+/**
+ * Bulk side of the job-board integration: lists what a board currently shows
+ * and sends publish/unpublish operations in chunks of {@code job-boards.batch-size}
+ * per call, instead of one request per posting.
+ *
+ * <pre>
+ * GET  {endpoint}/jobs?status=ACTIVE&amp;limit=n&amp;cursor=c  -> {"ids": [...], "nextCursor": "..."}
+ * POST {endpoint}/jobs/bulk-unpublish {"ids": [...]}     -> {"unpublished": [...], "failed": [...]}
+ * POST {endpoint}/jobs/bulk-publish   {"jobs": [...]}    -> {"published": {reference: externalId}}
+ * </pre>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobBoardClient {
+
+    private final RestTemplate restTemplate;
+    private final JobBoardProperties properties;
+
+    public record ActivePage(List<String> ids, String nextCursor) {
+    }
+
+    public record BulkUnpublishRequest(List<String> ids) {
+    }
+
+    public record BulkUnpublishResponse(List<String> unpublished, List<String> failed) {
+    }
+
+    public record BoardJob(String reference, String title, String description, String location,
+                           String employmentType, String organizationId) {
+    }
+
+    public record BulkPublishRequest(List<BoardJob> jobs) {
+    }
+
+    public record BulkPublishResponse(Map<String, String> published) {
+    }
+
+    public boolean isConfigured(JobBoard board) {
+        String endpoint = properties.getEndpoints().get(board);
+        return endpoint != null && !endpoint.isBlank();
+    }
+
+    /** Every external id the board currently lists as active for our account. */
+    public Set<String> listActive(JobBoard board) {
+        IntegrationCallEvent event = IntegrationCallEvent.begin(board.name(), "listActive", null);
+        Set<String> active = new HashSet<>();
+        String cursor = null;
+        try {
+            do {
+                UriComponentsBuilder uri = UriComponentsBuilder.fromHttpUrl(endpoint(board) + "/jobs")
+                        .queryParam("status", "ACTIVE")
+                        .queryParam("limit", properties.getReconcile().getPageSize());
+                if (cursor != null) {
+                    uri.queryParam("cursor", cursor);
+                }
+                ActivePage page = restTemplate.getForObject(uri.build().toUri(), ActivePage.class);
+                if (page == null || page.ids() == null) {
+                    break;
+                }
+                active.addAll(page.ids());
+                cursor = page.nextCursor();
+            } while (cursor != null);
+            event.rows(active.size()).succeeded();
+            return active;
+        } finally {
+            event.commit();
+        }
+    }
+
+    /** Returns the ids the board confirmed as removed; failed chunks are logged and left to the reconciler. */
+    public Set<String> unpublish(JobBoard board, Collection<String> externalIds) {
+        Set<String> removed = new HashSet<>();
+        for (List<String> chunk : chunks(new ArrayList<>(externalIds))) {
+            IntegrationCallEvent event = IntegrationCallEvent.begin(board.name(), "bulkUnpublish", null);
+            try {
+                BulkUnpublishResponse response = restTemplate.postForObject(
+                        endpoint(board) + "/jobs/bulk-unpublish", new BulkUnpublishRequest(chunk),
+                        BulkUnpublishResponse.class);
+                if (response != null && response.unpublished() != null) {
+                    removed.addAll(response.unpublished());
+                }
+                if (response != null && response.failed() != null && !response.failed().isEmpty()) {
+                    log.warn("{} rejected unpublish for {} postings", board, response.failed().size());
+                }
+                event.rows(chunk.size()).succeeded();
+            } catch (RestClientException e) {
+                log.error("Bulk unpublish of {} postings from {} failed", chunk.size(), board, e);
+            } finally {
+                event.commit();
+            }
+        }
+        return removed;
+    }
+
+    /** Returns posting jobId -> new external id for the postings the board accepted. */
+    public Map<String, String> publish(JobBoard board, List<JobPosting> postings) {
+        Map<String, String> published = new HashMap<>();
+        for (List<JobPosting> chunk : chunks(postings)) {
+            List<BoardJob> jobs = chunk.stream()
+                    .map(p -> new BoardJob(p.getJobId(), p.getJobTitle(), p.getJobDescription(),
+                            p.getLocation() != null ? p.getLocation() : "Remote",
+                            p.getEmploymentType(), p.getOrganizationId()))
+                    .toList();
+            IntegrationCallEvent event = IntegrationCallEvent.begin(board.name(), "bulkPublish", null);
+            try {
+                BulkPublishResponse response = restTemplate.postForObject(
+                        endpoint(board) + "/jobs/bulk-publish", new BulkPublishRequest(jobs),
+                        BulkPublishResponse.class);
+                if (response != null && response.published() != null) {
+                    published.putAll(response.published());
+                }
+                chunk.forEach(event::posting);
+                event.succeeded();
+            } catch (RestClientException e) {
+                log.error("Bulk publish of {} postings to {} failed", chunk.size(), board, e);
+            } finally {
+                event.commit();
+            }
+        }
+        return published;
+    }
+
+    private String endpoint(JobBoard board) {
+        String endpoint = properties.getEndpoints().get(board);
+        if (endpoint == null || endpoint.isBlank()) {
+            throw new RuntimeException("No endpoint configured for job board " + board);
+        }
+        return endpoint.endsWith("/") ? endpoint.substring(0, endpoint.length() - 1) : endpoint;
+    }
+
+    private <T> List<List<T>> chunks(List<T> items) {
+        int size = Math.max(1, properties.getBatchSize());
+        List<List<T>> chunks = new ArrayList<>();
+        for (int i = 0; i < items.size(); i += size) {
+            chunks.add(items.subList(i, Math.min(items.size(), i + size)));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,31 @@
+package com.platform.talent.jobposting.service.board;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "job-boards")
+public class JobBoardProperties {
+
+    /** Board -> base URL of its bulk jobs API. Boards without an endpoint are skipped. */
+    private Map<JobBoard, String> endpoints = new EnumMap<>(JobBoard.class);
+
+    /** Postings per bulk publish/unpublish call. */
+    private int batchSize = 100;
+
+    /** How often queued unpublish operations are flushed. */
+    private long flushIntervalMs = 2000;
+
+    private Reconcile reconcile = new Reconcile();
+
+    @Data
+    public static class Reconcile {
+        private boolean enabled = false;
+        private long intervalMs = 900000;
+        /** Active ids requested per page when listing a board. */
+        private int pageSize = 500;
+    }
+}
@@ -0,0 +1,182 @@
+package com.platform.talent.jobposting.service.board;
+
+import com.platform.talent.jobposting.domain.model.JobBoardRefs;
+import com.platform.talent.jobposting.domain.model.JobPosting;
+import com.platform.talent.jobposting.domain.model.JobPostingStatus;
+import com.platform.talent.jobposting.repository.JobPostingRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+
+/**
+ * Periodically diffs published postings against what each board lists:
+ * <ul>
+ *   <li>orphan - the board shows an id no published posting owns (closed, paused,
+ *       expired, or a lost unpublish): unpublished in bulk</li>
+ *   <li>missing - a published posting asks for the board but its id is null or
+ *       not listed there: republished in bulk and the new id stored</li>
+ * </ul>
+ * A publish or close that is mid-transaction looks like drift for a moment, so
+ * only drift seen in two consecutive runs is acted on. Only one replica
+ * reconciles at a time, guarded by a session advisory lock; board calls run
+ * outside any database transaction.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobBoardReconciler {
+
+    private static final long ADVISORY_LOCK_KEY = 0x6A6F625F626F6172L; // "job_boar"
+
+    private final JobPostingRepository jobPostingRepository;
+    private final JobBoardClient jobBoardClient;
+    private final JobBoardProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final DataSource dataSource;
+
+    private final Map<JobBoard, Set<String>> suspectedOrphans = new EnumMap<>(JobBoard.class);
+    private final Map<JobBoard, Set<String>> suspectedMissing = new EnumMap<>(JobBoard.class);
+
+    public record Result(int unpublished, int republished) {
+    }
+
+    @Scheduled(fixedDelayString = "${job-boards.reconcile.interval-ms:900000}")
+    public void scheduledReconcile() {
+        if (properties.getReconcile().isEnabled()) {
+            reconcileAll();
+        }
+    }
+
+    public synchronized Map<JobBoard, Result> reconcileAll() {
+        Map<JobBoard, Result> results = new EnumMap<>(JobBoard.class);
+        try (Connection lockConnection = dataSource.getConnection()) {
+            if (!tryLock(lockConnection)) {
+                log.info("Job board reconciliation already running on another instance");
+                return results;
+            }
+            try {
+                for (JobBoard board : JobBoard.values()) {
+                    if (!jobBoardClient.isConfigured(board)) {
+                        continue;
+                    }
+                    try {
+                        results.put(board, reconcile(board));
+                    } catch (RuntimeException e) {
+                        log.error("Reconciliation against {} failed", board, e);
+                    }
+                }
+            } finally {
+                unlock(lockConnection);
+            }
+        } catch (SQLException e) {
+            log.error("Job board reconciliation skipped: could not take the reconciliation lock", e);
+        }
+        return results;
+    }
+
+    synchronized Result reconcile(JobBoard board) {
+        // Board first, then our side: a posting published in between is then
+        // visible locally and cannot be mistaken for an orphan
+        Set<String> onBoard = jobBoardClient.listActive(board);
+        List<JobBoardRefs> published = jobPostingRepository.findBoardRefsByStatus(JobPostingStatus.PUBLISHED);
+
+        Set<String> owned = new HashSet<>();
+        Set<String> missing = new HashSet<>();
+        for (JobBoardRefs refs : published) {
+            if (!board.isRequested(refs)) {
+                continue;
+            }
+            String externalId = board.externalId(refs);
+            if (externalId != null) {
+                owned.add(externalId);
+            }
+            if (externalId == null || !onBoard.contains(externalId)) {
+                missing.add(refs.jobId());
+            }
+        }
+        Set<String> orphans = new HashSet<>(onBoard);
+        orphans.removeAll(owned);
+
+        Set<String> confirmedOrphans = confirm(suspectedOrphans, board, orphans);
+        Set<String> confirmedMissing = confirm(suspectedMissing, board, missing);
+
+        int unpublished = 0;
+        if (!confirmedOrphans.isEmpty()) {
+            unpublished = jobBoardClient.unpublish(board, confirmedOrphans).size();
+        }
+        int republished = confirmedMissing.isEmpty() ? 0 : republish(board, confirmedMissing);
+        // Acted-on drift must be seen twice again before the next attempt
+        suspectedOrphans.get(board).removeAll(confirmedOrphans);
+        suspectedMissing.get(board).removeAll(confirmedMissing);
+
+        meterRegistry.counter("jobposting.boards.reconcile.drift", "board", board.name(), "kind", "orphan")
+                .increment(confirmedOrphans.size());
+        meterRegistry.counter("jobposting.boards.reconcile.drift", "board", board.name(), "kind", "missing")
+                .increment(confirmedMissing.size());
+        if (unpublished > 0 || republished > 0) {
+            log.info("Reconciled {}: unpublished {} orphans, republished {} postings", board, unpublished, republished);
+        }
+        return new Result(unpublished, republished);
+    }
+
+    private int republish(JobBoard board, Set<String> jobIds) {
+        List<JobPosting> postings = jobPostingRepository.findAllById(jobIds).stream()
+                .filter(p -> p.getStatus() == JobPostingStatus.PUBLISHED && board.isRequested(JobBoardRefs.of(p)))
+                .toList();
+        if (postings.isEmpty()) {
+            return 0;
+        }
+        Map<String, String> externalIds = jobBoardClient.publish(board, postings);
+        if (externalIds.isEmpty()) {
+            return 0;
+        }
+        // Re-read so edits made during the board call are kept. A posting closed
+        // meanwhile gets no id; its new listing is then unpublished as an orphan.
+        transactionTemplate.execute(status -> {
+            List<JobPosting> current = jobPostingRepository.findAllById(externalIds.keySet()).stream()
+                    .filter(p -> p.getStatus() == JobPostingStatus.PUBLISHED)
+                    .toList();
+            for (JobPosting posting : current) {
+                board.setExternalId(posting, externalIds.get(posting.getJobId()));
+            }
+            return jobPostingRepository.saveAll(current).size();
+        });
+        return externalIds.size();
+    }
+
+    private boolean tryLock(Connection connection) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT pg_try_advisory_lock(?)")) {
+            ps.setLong(1, ADVISORY_LOCK_KEY);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    private void unlock(Connection connection) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT pg_advisory_unlock(?)")) {
+            ps.setLong(1, ADVISORY_LOCK_KEY);
+            ps.execute();
+        }
+    }
+
+    /** Remembers this run's drift and returns the part that was already suspected last run. */
+    private static Set<String> confirm(Map<JobBoard, Set<String>> suspects, JobBoard board, Set<String> current) {
+        Set<String> previous = suspects.getOrDefault(board, Set.of());
+        Set<String> confirmed = new HashSet<>(current);
+        confirmed.retainAll(previous);
+        suspects.put(board, new HashSet<>(current));
+        return confirmed;
+    }
+}
@@ -0,0 +1,69 @@
+package com.platform.talent.jobposting.service.board;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Collects unpublish operations from closeJob/pauseJob and flushes them as one
+ * bulk call per board per chunk. Operations are queued only after the posting's
+ * transaction commits; anything lost (crash, board error) shows up as an orphan
+ * in the next JobBoardReconciler run and is removed then.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobBoardUnpublishBatcher {
+
+    private final JobBoardClient jobBoardClient;
+
+    private final Map<JobBoard, Queue<String>> pending = new EnumMap<>(Map.of(
+            JobBoard.LINKEDIN, new ConcurrentLinkedQueue<>(),
+            JobBoard.INDEED, new ConcurrentLinkedQueue<>(),
+            JobBoard.GLASSDOOR, new ConcurrentLinkedQueue<>()));
+
+    public void enqueue(JobBoard board, String externalId) {
+        if (externalId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    pending.get(board).add(externalId);
+                }
+            });
+        } else {
+            pending.get(board).add(externalId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${job-boards.flush-interval-ms:2000}")
+    @PreDestroy
+    public void flush() {
+        for (Map.Entry<JobBoard, Queue<String>> entry : pending.entrySet()) {
+            JobBoard board = entry.getKey();
+            Set<String> ids = new LinkedHashSet<>();
+            String id;
+            while ((id = entry.getValue().poll()) != null) {
+                ids.add(id);
+            }
+            if (ids.isEmpty()) {
+                continue;
+            }
+            if (!jobBoardClient.isConfigured(board)) {
+                log.debug("Dropping {} unpublish operations for unconfigured board {}", ids.size(), board);
+                continue;
+            }
+            Set<String> removed = jobBoardClient.unpublish(board, ids);
+            log.info("Unpublished {}/{} postings from {}", removed.size(), ids.size(), board);
+        }
+    }
+}
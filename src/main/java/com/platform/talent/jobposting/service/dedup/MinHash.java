@@ -0,0 +1,129 @@
+package com.platform.talent.jobposting.service.dedup;
+
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * MinHash over word shingles, banded for locality-sensitive hashing.
+ * <p>
+ * With {@code bands * rows} hash functions, two documents with Jaccard
+ * similarity s share at least one band with probability 1 - (1 - s^rows)^bands.
+ * The default 16 x 8 puts the knee near 0.7: pairs at 0.8 collide ~95% of the
+ * time, pairs at 0.5 ~6%.
+ * <p>
+ * Seeds are fixed: signatures are stored, so changing the shingle size, seed or
+ * layout invalidates the index and needs a backfill.
+ */
+public final class MinHash {
+
+    private static final long SEED = 0x6E656172647570L; // "neardup"
+
+    private final int shingleSize;
+    private final int bands;
+    private final int rows;
+    private final long[] salts;
+
+    public MinHash(int shingleSize, int bands, int rows) {
+        if (shingleSize < 1 || bands < 1 || rows < 1) {
+            throw new IllegalArgumentException("shingleSize, bands and rows must be positive");
+        }
+        this.shingleSize = shingleSize;
+        this.bands = bands;
+        this.rows = rows;
+        this.salts = new long[bands * rows];
+        long state = SEED;
+        for (int i = 0; i < salts.length; i++) {
+            state += 0x9E3779B97F4A7C15L;
+            salts[i] = mix(state);
+        }
+    }
+
+    public int signatureLength() {
+        return salts.length;
+    }
+
+    /**
+     * Signature of the text, or null when it has fewer words than one shingle
+     * (too short for a similarity estimate to mean anything).
+     */
+    public int[] signature(String text) {
+        String[] words = tokens(text);
+        if (words.length < shingleSize) {
+            return null;
+        }
+        int[] signature = new int[salts.length];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (int start = 0; start + shingleSize <= words.length; start++) {
+            long shingle = hashShingle(words, start);
+            for (int i = 0; i < salts.length; i++) {
+                int h = (int) (mix(shingle ^ salts[i]) >>> 32);
+                if (h < signature[i]) {
+                    signature[i] = h;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /** One hash per band, with the band number mixed in so bands never collide with each other. */
+    public long[] bandHashes(int[] signature) {
+        long[] hashes = new long[bands];
+        for (int band = 0; band < bands; band++) {
+            long h = mix(SEED + band);
+            for (int row = 0; row < rows; row++) {
+                h = mix(h ^ (signature[band * rows + row] & 0xFFFFFFFFL));
+            }
+            hashes[band] = h;
+        }
+        return hashes;
+    }
+
+    /** Fraction of agreeing positions: an unbiased estimate of the Jaccard similarity of the shingle sets. */
+    public static double similarity(int[] a, int[] b) {
+        if (a.length != b.length) {
+            return 0.0;
+        }
+        int equal = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / a.length;
+    }
+
+    // Lowercased, accent-folded words; punctuation and markup collapse to separators
+    static String[] tokens(String text) {
+        if (text == null || text.isBlank()) {
+            return new String[0];
+        }
+        String folded = Normalizer.normalize(text, Normalizer.Form.NFKD)
+                .replaceAll("\\p{M}+", "")
+                .toLowerCase(Locale.ROOT);
+        String trimmed = folded.replaceAll("[^\\p{L}\\p{N}]+", " ").trim();
+        return trimmed.isEmpty() ? new String[0] : trimmed.split(" ");
+    }
+
+    // FNV-1a over the shingle's words, finished with a mix for avalanche
+    private long hashShingle(String[] words, int start) {
+        long h = 0xCBF29CE484222325L;
+        for (int w = start; w < start + shingleSize; w++) {
+            for (byte b : words[w].getBytes(StandardCharsets.UTF_8)) {
+                h ^= b;
+                h *= 0x100000001B3L;
+            }
+            h ^= ' ';
+            h *= 0x100000001B3L;
+        }
+        return mix(h);
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,134 @@
+package com.platform.talent.jobposting.service.dedup;
+
+import com.platform.talent.jobposting.domain.model.NearDuplicateKind;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+
+/**
+ * Batch mode of {@link NearDuplicateDetector}: indexes descriptions written
+ * before the detector existed (or after a signature layout change, once the
+ * table has been truncated). Walks each table in keyset chunks, skipping rows
+ * already indexed, one short transaction per chunk, so it can be stopped and
+ * restarted at any point. Only one replica runs it, guarded by an advisory lock.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NearDuplicateBackfill {
+
+    private static final long ADVISORY_LOCK_KEY = 0x6E6561725F647570L; // "near_dup"
+
+    private static final String JOB_CHUNK =
+            "SELECT j.id::text AS doc_id, j.tenant_id::text AS owner_id, j.description AS text " +
+            "FROM ggj_jobs j WHERE j.id > CAST(? AS uuid) AND NOT EXISTS (" +
+            "  SELECT 1 FROM ggj_near_dup_signatures s WHERE s.doc_kind = 'JOB' AND s.doc_id = j.id::text) " +
+            "ORDER BY j.id LIMIT ?";
+
+    private static final String POSTING_CHUNK =
+            "SELECT p.job_id AS doc_id, p.organization_id AS owner_id, p.job_description AS text " +
+            "FROM job_postings p WHERE p.job_id > ? AND NOT EXISTS (" +
+            "  SELECT 1 FROM ggj_near_dup_signatures s WHERE s.doc_kind = 'POSTING' AND s.doc_id = p.job_id) " +
+            "ORDER BY p.job_id LIMIT ?";
+
+    private record Row(String docId, String ownerId, String text) {}
+
+    private final NearDuplicateDetector detector;
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${near-duplicates.backfill.enabled:false}")
+    private boolean enabled;
+
+    @Value("${near-duplicates.backfill.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${near-duplicates.backfill.pause-ms:50}")
+    private long pauseMs;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startBackfill() {
+        if (!enabled) {
+            return;
+        }
+        Thread worker = new Thread(this::backfill, "near-duplicate-backfill");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    public void backfill() {
+        try (Connection lockConnection = dataSource.getConnection()) {
+            if (!tryLock(lockConnection)) {
+                log.info("Near-duplicate backfill already running on another instance");
+                return;
+            }
+            try {
+                long jobs = backfill(NearDuplicateKind.JOB, JOB_CHUNK, "00000000-0000-0000-0000-000000000000",
+                        "UPDATE ggj_jobs SET near_duplicate_of = CAST(? AS uuid), near_duplicate_external = ? "
+                                + "WHERE id = CAST(? AS uuid)");
+                long postings = backfill(NearDuplicateKind.POSTING, POSTING_CHUNK, "",
+                        "UPDATE job_postings SET near_duplicate_of = ?, near_duplicate_external = ? WHERE job_id = ?");
+                log.info("Near-duplicate backfill finished: {} jobs and {} postings indexed", jobs, postings);
+            } finally {
+                unlock(lockConnection);
+            }
+        } catch (Exception e) {
+            log.error("Near-duplicate backfill failed; it is safe to restart, indexed rows are kept", e);
+        }
+    }
+
+    private long backfill(NearDuplicateKind kind, String chunkSql, String start, String flagSql)
+            throws InterruptedException {
+        String after = start;
+        long indexed = 0;
+        while (true) {
+            List<Row> rows = jdbcTemplate.query(chunkSql,
+                    (rs, i) -> new Row(rs.getString("doc_id"), rs.getString("owner_id"), rs.getString("text")),
+                    after, chunkSize);
+            if (rows.isEmpty()) {
+                return indexed;
+            }
+            transactionTemplate.executeWithoutResult(status -> rows.forEach(row ->
+                    detector.index(kind, row.docId(), row.ownerId(), row.text())
+                            .ifPresent(match -> {
+                                // Another owner's id stays internal; only the flag is stored on the row
+                                boolean sameOwner = match.sameOwner(row.ownerId());
+                                jdbcTemplate.update(flagSql, sameOwner ? match.docId() : null, !sameOwner, row.docId());
+                            })));
+            indexed += rows.size();
+            after = rows.get(rows.size() - 1).docId();
+            if (indexed % (chunkSize * 20L) < chunkSize) {
+                log.info("Near-duplicate backfill progress: {} {} rows, last id {}", indexed, kind, after);
+            }
+            Thread.sleep(pauseMs);
+        }
+    }
+
+    private boolean tryLock(Connection connection) throws Exception {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT pg_try_advisory_lock(?)")) {
+            ps.setLong(1, ADVISORY_LOCK_KEY);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    private void unlock(Connection connection) throws Exception {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT pg_advisory_unlock(?)")) {
+            ps.setLong(1, ADVISORY_LOCK_KEY);
+            ps.execute();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.platform.talent.jobposting.service.dedup;
+
+import com.platform.talent.jobposting.domain.model.NearDuplicateKind;
+import com.platform.talent.jobposting.domain.model.NearDuplicateSignature;
+import com.platform.talent.jobposting.domain.repository.NearDuplicateSignatureRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Flags descriptions that nearly duplicate an already indexed one, across all
+ * tenants and organizations. A match's id may only be shown to its own owner
+ * (see {@link Match#sameOwner}); for anyone else only the fact is exposed. The description's MinHash signature is written to
+ * ggj_near_dup_signatures at create/update time. Candidates come from LSH band
+ * overlap, which is an index lookup rather than a scan. Only candidates whose
+ * estimated Jaccard similarity reaches the threshold count as duplicates.
+ */
+@Service
+@Slf4j
+public class NearDuplicateDetector {
+
+    public record Match(String docId, String ownerId, double similarity) {
+
+        public boolean sameOwner(String owner) {
+            return ownerId.equals(owner);
+        }
+    }
+
+    private final NearDuplicateSignatureRepository signatureRepository;
+    private final MeterRegistry meterRegistry;
+    private final MinHash minHash;
+
+    @Value("${near-duplicates.enabled:true}")
+    private boolean enabled;
+
+    @Value("${near-duplicates.threshold:0.8}")
+    private double threshold;
+
+    @Value("${near-duplicates.max-candidates:20}")
+    private int maxCandidates;
+
+    public NearDuplicateDetector(NearDuplicateSignatureRepository signatureRepository,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${near-duplicates.shingle-size:5}") int shingleSize,
+                                 @Value("${near-duplicates.bands:16}") int bands,
+                                 @Value("${near-duplicates.rows:8}") int rows) {
+        this.signatureRepository = signatureRepository;
+        this.meterRegistry = meterRegistry;
+        this.minHash = new MinHash(shingleSize, bands, rows);
+    }
+
+    /**
+     * (Re)indexes the document's text and returns the closest earlier document
+     * at or above the threshold. Text too short to shingle is dropped from the index.
+     */
+    @Transactional
+    public Optional<Match> index(NearDuplicateKind kind, String docId, String ownerId, String text) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        int[] signature = minHash.signature(text);
+        if (signature == null) {
+            remove(kind, docId);
+            return Optional.empty();
+        }
+        long[] bands = minHash.bandHashes(signature);
+
+        Match best = null;
+        for (NearDuplicateSignature candidate : signatureRepository.findCandidates(
+                kind.name(), docId, toArrayLiteral(bands), maxCandidates)) {
+            double similarity = MinHash.similarity(signature, candidate.getSignature());
+            if (similarity >= threshold && (best == null || similarity > best.similarity())) {
+                best = new Match(candidate.getDocId(), candidate.getOwnerId(), similarity);
+            }
+        }
+
+        signatureRepository.save(NearDuplicateSignature.builder()
+                .docKind(kind)
+                .docId(docId)
+                .ownerId(ownerId)
+                .signature(signature)
+                .bandHashes(bands)
+                .duplicateOf(best != null ? best.docId() : null)
+                .similarity(best != null ? best.similarity() : null)
+                .updatedAt(LocalDateTime.now())
+                .build());
+
+        if (best != null) {
+            meterRegistry.counter("jobposting.dedup.flagged", "kind", kind.name()).increment();
+            log.info("{} {} is a near duplicate of {} (similarity {})",
+                    kind, docId, best.docId(), String.format("%.2f", best.similarity()));
+        }
+        return Optional.ofNullable(best);
+    }
+
+    @Transactional
+    public void remove(NearDuplicateKind kind, String docId) {
+        NearDuplicateSignature.Key key = new NearDuplicateSignature.Key(kind, docId);
+        if (signatureRepository.existsById(key)) {
+            signatureRepository.deleteById(key);
+        }
+    }
+
+    private static String toArrayLiteral(long[] values) {
+        return Arrays.stream(values).mapToObj(Long::toString).collect(Collectors.joining(",", "{", "}"));
+    }
+}
@@ -0,0 +1,88 @@
+package com.platform.talent.jobposting.service.event;
+
+import lombok.Builder;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Domain event on talent.job.events, talent.job.posted and talent.job.closed.
+ * Written as JSON (the historical map shape) or as the compact binary format
+ * of {@link JobEventCodec}, chosen per topic by {@link JobEventSerializer}.
+ */
+@Builder
+public record JobEvent(String eventType,
+                       String jobId,
+                       UUID tenantId,
+                       String organizationId,
+                       String requisitionId,
+                       String status,
+                       Instant timestamp) {
+
+    /**
+     * Same keys and value formats the services used to send as Map.of(...):
+     * ids as strings, timestamp as a server-local LocalDateTime. Null fields
+     * are left out.
+     */
+    public Map<String, Object> toJsonPayload() {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        putIfPresent(payload, "eventType", eventType);
+        putIfPresent(payload, "jobId", jobId);
+        putIfPresent(payload, "tenantId", tenantId);
+        putIfPresent(payload, "organizationId", organizationId);
+        putIfPresent(payload, "requisitionId", requisitionId);
+        putIfPresent(payload, "status", status);
+        if (timestamp != null) {
+            payload.put("timestamp", LocalDateTime.ofInstant(timestamp, ZoneId.systemDefault()));
+        }
+        return payload;
+    }
+
+    public static JobEvent fromJsonPayload(Map<String, Object> payload) {
+        return JobEvent.builder()
+                .eventType(string(payload.get("eventType")))
+                .jobId(string(payload.get("jobId")))
+                .tenantId(payload.get("tenantId") != null ? UUID.fromString(payload.get("tenantId").toString()) : null)
+                .organizationId(string(payload.get("organizationId")))
+                .requisitionId(string(payload.get("requisitionId")))
+                .status(string(payload.get("status")))
+                .timestamp(instant(payload.get("timestamp")))
+                .build();
+    }
+
+    private static void putIfPresent(Map<String, Object> payload, String key, Object value) {
+        if (value != null) {
+            payload.put(key, value);
+        }
+    }
+
+    private static String string(Object value) {
+        return value != null ? value.toString() : null;
+    }
+
+    // The JSON serializer writes LocalDateTime as [year, month, day, hour, minute(, second(, nanos))];
+    // ISO strings and epoch millis come from other producers
+    private static Instant instant(Object value) {
+        if (value instanceof Number epochMillis) {
+            return Instant.ofEpochMilli(epochMillis.longValue());
+        }
+        if (value instanceof String text) {
+            return LocalDateTime.parse(text).atZone(ZoneId.systemDefault()).toInstant();
+        }
+        if (value instanceof List<?> parts && parts.size() >= 5) {
+            LocalDateTime local = LocalDateTime.of(part(parts, 0), part(parts, 1), part(parts, 2),
+                    part(parts, 3), part(parts, 4), part(parts, 5), part(parts, 6));
+            return local.atZone(ZoneId.systemDefault()).toInstant();
+        }
+        return null;
+    }
+
+    private static int part(List<?> parts, int index) {
+        return index < parts.size() ? ((Number) parts.get(index)).intValue() : 0;
+    }
+}
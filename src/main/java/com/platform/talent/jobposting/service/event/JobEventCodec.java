@@ -0,0 +1,269 @@
+package com.platform.talent.jobposting.service.event;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Compact binary encoding of {@link JobEvent}.
+ *
+ * <pre>
+ * magic    1 byte   0xE7
+ * version  1 byte   schema version (1)
+ * type     1 byte   0 = none, 1..n = KNOWN_TYPES index + 1, 0xFF = custom (string follows)
+ * present  1 byte   bit i set = field i follows, in bit order:
+ *                   0 jobId, 1 tenantId, 2 organizationId, 3 requisitionId, 4 status, 5 timestamp
+ * ids      jobId/organizationId/requisitionId: tag 0 + 16-byte UUID, or tag 1 + string
+ * tenantId 16-byte UUID
+ * string   unsigned varint length + UTF-8
+ * time     8-byte big-endian epoch microseconds
+ * </pre>
+ *
+ * Evolution: new fields take the next presence bit and are written after the
+ * existing ones, and KNOWN_TYPES is append-only. A decoder therefore reads the
+ * fields it knows and ignores anything after them, so old consumers accept
+ * events from newer producers.
+ */
+public final class JobEventCodec {
+
+    public static final String CONTENT_TYPE_HEADER = "content-type";
+    public static final String CONTENT_TYPE_JSON = "application/json";
+    public static final String CONTENT_TYPE_BINARY = "application/vnd.talent.job-event+binary";
+
+    static final byte MAGIC = (byte) 0xE7;
+    static final byte VERSION = 1;
+
+    // Append-only: the position is the wire code
+    private static final List<String> KNOWN_TYPES = List.of(
+            "job.created", "job.updated", "job.published", "job.approved", "job.closed",
+            "job.deleted", "job.posted", "job.paused");
+    private static final int TYPE_NONE = 0;
+    private static final int TYPE_CUSTOM = 0xFF;
+
+    private static final int JOB_ID = 1;
+    private static final int TENANT_ID = 1 << 1;
+    private static final int ORGANIZATION_ID = 1 << 2;
+    private static final int REQUISITION_ID = 1 << 3;
+    private static final int STATUS = 1 << 4;
+    private static final int TIMESTAMP = 1 << 5;
+
+    private static final int ID_UUID = 0;
+    private static final int ID_STRING = 1;
+
+    private JobEventCodec() {
+    }
+
+    public static boolean isBinary(byte[] data) {
+        return data != null && data.length >= 2 && data[0] == MAGIC;
+    }
+
+    public static byte[] encode(JobEvent event) {
+        Writer out = new Writer(64);
+        out.writeByte(MAGIC);
+        out.writeByte(VERSION);
+
+        int known = event.eventType() == null ? -1 : KNOWN_TYPES.indexOf(event.eventType());
+        int typeCode = event.eventType() == null ? TYPE_NONE : known >= 0 ? known + 1 : TYPE_CUSTOM;
+        out.writeByte(typeCode);
+
+        int present = (event.jobId() != null ? JOB_ID : 0)
+                | (event.tenantId() != null ? TENANT_ID : 0)
+                | (event.organizationId() != null ? ORGANIZATION_ID : 0)
+                | (event.requisitionId() != null ? REQUISITION_ID : 0)
+                | (event.status() != null ? STATUS : 0)
+                | (event.timestamp() != null ? TIMESTAMP : 0);
+        out.writeByte(present);
+
+        if (typeCode == TYPE_CUSTOM) {
+            out.writeString(event.eventType());
+        }
+        if (event.jobId() != null) {
+            out.writeId(event.jobId());
+        }
+        if (event.tenantId() != null) {
+            out.writeUuid(event.tenantId());
+        }
+        if (event.organizationId() != null) {
+            out.writeId(event.organizationId());
+        }
+        if (event.requisitionId() != null) {
+            out.writeId(event.requisitionId());
+        }
+        if (event.status() != null) {
+            out.writeString(event.status());
+        }
+        if (event.timestamp() != null) {
+            Instant ts = event.timestamp();
+            out.writeLong(Math.addExact(Math.multiplyExact(ts.getEpochSecond(), 1_000_000L), ts.getNano() / 1_000));
+        }
+        return out.toByteArray();
+    }
+
+    public static JobEvent decode(byte[] data) {
+        if (!isBinary(data)) {
+            throw new RuntimeException("Not a binary job event");
+        }
+        Reader in = new Reader(data);
+        in.readByte(); // magic
+        int version = in.readByte() & 0xFF;
+        if (version < 1) {
+            throw new RuntimeException("Unsupported job event schema version: " + version);
+        }
+        int typeCode = in.readByte() & 0xFF;
+        int present = in.readByte() & 0xFF;
+
+        JobEvent.JobEventBuilder event = JobEvent.builder();
+        if (typeCode == TYPE_CUSTOM) {
+            event.eventType(in.readString());
+        } else if (typeCode != TYPE_NONE) {
+            // A type added after this build reads as null rather than failing the consumer
+            event.eventType(typeCode <= KNOWN_TYPES.size() ? KNOWN_TYPES.get(typeCode - 1) : null);
+        }
+        if ((present & JOB_ID) != 0) {
+            event.jobId(in.readId());
+        }
+        if ((present & TENANT_ID) != 0) {
+            event.tenantId(in.readUuid());
+        }
+        if ((present & ORGANIZATION_ID) != 0) {
+            event.organizationId(in.readId());
+        }
+        if ((present & REQUISITION_ID) != 0) {
+            event.requisitionId(in.readId());
+        }
+        if ((present & STATUS) != 0) {
+            event.status(in.readString());
+        }
+        if ((present & TIMESTAMP) != 0) {
+            long micros = in.readLong();
+            event.timestamp(Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                    Math.floorMod(micros, 1_000_000L) * 1_000L));
+        }
+        return event.build();
+    }
+
+    /** The UUID if {@code id} is one in canonical form (so decoding gives back the same string). */
+    private static UUID asUuid(String id) {
+        if (id.length() != 36) {
+            return null;
+        }
+        try {
+            UUID uuid = UUID.fromString(id);
+            return uuid.toString().equals(id) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static final class Writer {
+        private byte[] buf;
+        private int pos;
+
+        Writer(int capacity) {
+            buf = new byte[capacity];
+        }
+
+        void writeByte(int b) {
+            ensure(1);
+            buf[pos++] = (byte) b;
+        }
+
+        void writeLong(long v) {
+            ensure(8);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                buf[pos++] = (byte) (v >>> shift);
+            }
+        }
+
+        void writeUuid(UUID uuid) {
+            writeLong(uuid.getMostSignificantBits());
+            writeLong(uuid.getLeastSignificantBits());
+        }
+
+        void writeId(String id) {
+            UUID uuid = asUuid(id);
+            if (uuid != null) {
+                writeByte(ID_UUID);
+                writeUuid(uuid);
+            } else {
+                writeByte(ID_STRING);
+                writeString(id);
+            }
+        }
+
+        void writeString(String s) {
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            int len = bytes.length;
+            while ((len & ~0x7F) != 0) {
+                writeByte((len & 0x7F) | 0x80);
+                len >>>= 7;
+            }
+            writeByte(len);
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buf, pos, bytes.length);
+            pos += bytes.length;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buf, pos);
+        }
+
+        private void ensure(int n) {
+            if (pos + n > buf.length) {
+                buf = Arrays.copyOf(buf, Math.max(buf.length * 2, pos + n));
+            }
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] buf;
+        private int pos;
+
+        Reader(byte[] buf) {
+            this.buf = buf;
+        }
+
+        byte readByte() {
+            if (pos >= buf.length) {
+                throw new RuntimeException("Truncated job event");
+            }
+            return buf[pos++];
+        }
+
+        long readLong() {
+            long v = 0;
+            for (int i = 0; i < 8; i++) {
+                v = (v << 8) | (readByte() & 0xFF);
+            }
+            return v;
+        }
+
+        UUID readUuid() {
+            return new UUID(readLong(), readLong());
+        }
+
+        String readId() {
+            int tag = readByte();
+            return tag == ID_UUID ? readUuid().toString() : readString();
+        }
+
+        String readString() {
+            int len = 0;
+            int shift = 0;
+            int b;
+            do {
+                b = readByte() & 0xFF;
+                len |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0 && shift < 35);
+            if (len < 0 || pos + len > buf.length) {
+                throw new RuntimeException("Truncated job event");
+            }
+            String s = new String(buf, pos, len, StandardCharsets.UTF_8);
+            pos += len;
+            return s;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.platform.talent.jobposting.service.event;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.JacksonUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Consumer side of {@link JobEventSerializer}: picks the decoder from the
+ * content-type header, falling back to the binary magic byte for records
+ * without one (older producers wrote plain JSON maps).
+ */
+public class JobEventDeserializer implements Deserializer<JobEvent> {
+
+    private static final TypeReference<Map<String, Object>> MAP = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper = JacksonUtils.enhancedObjectMapper();
+
+    @Override
+    public JobEvent deserialize(String topic, Headers headers, byte[] data) {
+        Header contentType = headers != null ? headers.lastHeader(JobEventCodec.CONTENT_TYPE_HEADER) : null;
+        if (contentType == null || data == null) {
+            return deserialize(topic, data);
+        }
+        String type = new String(contentType.value(), StandardCharsets.UTF_8);
+        if (type.startsWith(JobEventCodec.CONTENT_TYPE_BINARY)) {
+            return JobEventCodec.decode(data);
+        }
+        return fromJson(data);
+    }
+
+    @Override
+    public JobEvent deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        return JobEventCodec.isBinary(data) ? JobEventCodec.decode(data) : fromJson(data);
+    }
+
+    private JobEvent fromJson(byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            return JobEvent.fromJsonPayload(objectMapper.readValue(data, MAP));
+        } catch (IOException e) {
+            throw new RuntimeException("Unreadable JSON job event", e);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.platform.talent.jobposting.service.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.errors.RetriableException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends job events without blocking on the broker, but without losing sight of them:
+ * <ul>
+ *   <li>every send future is tracked; retries are left to the idempotent producer,
+ *       which keeps per-partition order within {@code delivery.timeout.ms}. A send
+ *       that still fails is counted, logged and surfaced through the returned future,
+ *       never re-sent, since a late re-send could reorder or duplicate events</li>
+ *   <li>at most {@code max-in-flight} events are outstanding; past that, callers
+ *       wait up to {@code max-block-ms} and are then rejected</li>
+ *   <li>topics listed under {@code job-events.publisher.topics} get their own
+ *       producer with tuned batching and compression</li>
+ * </ul>
+ * Metrics: jobposting.events.send.latency (send to ack), jobposting.events.inflight
+ * and jobposting.events.send.failures.
+ */
+@Component
+@Slf4j
+public class JobEventPublisher {
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final JobEventPublisherProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Semaphore inFlight;
+    private final Map<String, KafkaTemplate<String, Object>> topicTemplates = new ConcurrentHashMap<>();
+    private final List<ProducerFactory<String, Object>> topicFactories = new CopyOnWriteArrayList<>();
+
+    public JobEventPublisher(KafkaTemplate<String, Object> kafkaTemplate,
+                             JobEventPublisherProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.inFlight = new Semaphore(properties.getMaxInFlight());
+        meterRegistry.gauge("jobposting.events.inflight", inFlight,
+                s -> properties.getMaxInFlight() - s.availablePermits());
+    }
+
+    /**
+     * Hands the event to the producer and returns immediately. The future completes
+     * once the broker acknowledges it, or exceptionally once the producer gives up.
+     * Throws when no in-flight room frees up within {@code max-block-ms}.
+     */
+    public CompletableFuture<SendResult<String, Object>> publish(String topic, String key, Object event) {
+        boolean admitted;
+        try {
+            admitted = inFlight.tryAcquire(properties.getMaxBlockMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            admitted = false;
+        }
+        if (!admitted) {
+            failures(topic, "buffer_full").increment();
+            throw new RuntimeException("Event publisher saturated, rejected event for topic " + topic);
+        }
+        long startNanos = System.nanoTime();
+        CompletableFuture<SendResult<String, Object>> send;
+        try {
+            send = templateFor(topic).send(topic, key, event);
+        } catch (RuntimeException e) {
+            send = CompletableFuture.failedFuture(e);
+        }
+        return send.whenComplete((sent, error) -> {
+            inFlight.release();
+            if (error == null) {
+                Timer.builder("jobposting.events.send.latency")
+                        .tag("topic", topic)
+                        .publishPercentiles(0.5, 0.99)
+                        .register(meterRegistry)
+                        .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            } else {
+                failures(topic, isRetriable(error) ? "retries_exhausted" : "non_retriable").increment();
+                log.error("Event for {} key {} was not delivered", topic, key, error);
+            }
+        });
+    }
+
+    /**
+     * Publishes once the surrounding transaction has committed, so a rolled-back
+     * change sends no event and a saturated publisher cannot roll the change back.
+     * A rejection is logged (and counted as buffer_full); without a transaction the
+     * event is sent straight away.
+     */
+    public void publishAfterCommit(String topic, String key, Object event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishOrLog(topic, key, event);
+                }
+            });
+        } else {
+            publishOrLog(topic, key, event);
+        }
+    }
+
+    private void publishOrLog(String topic, String key, Object event) {
+        try {
+            publish(topic, key, event);
+        } catch (RuntimeException e) {
+            log.error("Event for {} key {} not sent: {}", topic, key, e.getMessage());
+        }
+    }
+
+    private KafkaTemplate<String, Object> templateFor(String topic) {
+        return topicTemplates.computeIfAbsent(topic, t -> {
+            Map<String, String> overrides = properties.getTopics().get(t);
+            ProducerFactory<String, Object> base = kafkaTemplate.getProducerFactory();
+            // Topics without overrides (and templates without a factory, e.g. test doubles) share the default producer
+            if (overrides == null || overrides.isEmpty() || base == null) {
+                return kafkaTemplate;
+            }
+            ProducerFactory<String, Object> factory = base.copyWithConfigurationOverride(new HashMap<>(overrides));
+            topicFactories.add(factory);
+            return new KafkaTemplate<>(factory);
+        });
+    }
+
+    private static boolean isRetriable(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof RetriableException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Counter failures(String topic, String reason) {
+        return meterRegistry.counter("jobposting.events.send.failures", "topic", topic, "reason", reason);
+    }
+
+    @PreDestroy
+    public void shutdown() throws Exception {
+        // Let pending sends finish, then close per-topic producers
+        if (inFlight.tryAcquire(properties.getMaxInFlight(), properties.getDrainTimeoutMs(), TimeUnit.MILLISECONDS)) {
+            inFlight.release(properties.getMaxInFlight());
+        } else {
+            log.warn("{} job events still in flight at shutdown",
+                    properties.getMaxInFlight() - inFlight.availablePermits());
+        }
+        for (ProducerFactory<String, Object> factory : topicFactories) {
+            if (factory instanceof DisposableBean disposable) {
+                disposable.destroy();
+            }
+        }
+    }
+}
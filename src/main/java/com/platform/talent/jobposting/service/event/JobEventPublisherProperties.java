@@ -0,0 +1,27 @@
+package com.platform.talent.jobposting.service.event;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "job-events.publisher")
+public class JobEventPublisherProperties {
+
+    /** Unacknowledged sends allowed before callers are held back. */
+    private int maxInFlight = 10000;
+
+    /** How long a caller waits for in-flight room before the event is rejected. */
+    private long maxBlockMs = 500;
+
+    /** How long shutdown waits for in-flight sends to finish. */
+    private long drainTimeoutMs = 10000;
+
+    /** Producer properties applied to every topic (idempotence, acks, delivery timeout for retries). */
+    private Map<String, String> producer = new HashMap<>();
+
+    /** Topic -> producer property overrides (linger.ms, batch.size, compression.type). */
+    private Map<String, Map<String, String>> topics = new HashMap<>();
+}
@@ -0,0 +1,76 @@
+package com.platform.talent.jobposting.service.event;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Value serializer for job events. Topics listed in {@code job-events.binary-topics}
+ * get the compact {@link JobEventCodec} format; every other topic keeps the JSON
+ * map shape existing consumers parse. Each record carries a content-type header
+ * so {@link JobEventDeserializer} can read either. Non-JobEvent values are
+ * passed to the JSON serializer unchanged.
+ */
+public class JobEventSerializer implements Serializer<Object> {
+
+    public static final String BINARY_TOPICS_CONFIG = "job-events.binary-topics";
+
+    private final JsonSerializer<Object> json = new JsonSerializer<>();
+    private Set<String> binaryTopics;
+
+    public JobEventSerializer() {
+        this(Set.of());
+    }
+
+    public JobEventSerializer(Collection<String> binaryTopics) {
+        this.binaryTopics = Set.copyOf(binaryTopics);
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        json.configure(configs, isKey);
+        Object topics = configs.get(BINARY_TOPICS_CONFIG);
+        if (topics instanceof String list) {
+            binaryTopics = Arrays.stream(list.split(","))
+                    .map(String::trim)
+                    .filter(t -> !t.isEmpty())
+                    .collect(Collectors.toUnmodifiableSet());
+        } else if (topics instanceof Collection<?> list) {
+            binaryTopics = list.stream().map(Object::toString).collect(Collectors.toUnmodifiableSet());
+        }
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, Object data) {
+        if (data instanceof JobEvent event) {
+            boolean binary = binaryTopics.contains(topic);
+            headers.remove(JobEventCodec.CONTENT_TYPE_HEADER);
+            headers.add(JobEventCodec.CONTENT_TYPE_HEADER,
+                    (binary ? JobEventCodec.CONTENT_TYPE_BINARY : JobEventCodec.CONTENT_TYPE_JSON)
+                            .getBytes(StandardCharsets.UTF_8));
+            return binary ? JobEventCodec.encode(event) : json.serialize(topic, headers, event.toJsonPayload());
+        }
+        return json.serialize(topic, headers, data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        if (data instanceof JobEvent event) {
+            // No headers to label the format; the binary magic byte still lets readers tell
+            return binaryTopics.contains(topic) ? JobEventCodec.encode(event) : json.serialize(topic, event.toJsonPayload());
+        }
+        return json.serialize(topic, data);
+    }
+
+    @Override
+    public void close() {
+        json.close();
+    }
+}
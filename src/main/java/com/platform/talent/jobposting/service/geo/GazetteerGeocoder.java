@@ -0,0 +1,97 @@
+package com.platform.talent.jobposting.service.geo;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Resolves free-text locations against a local gazetteer file. No network
+ * calls are made; unknown places simply do not geocode.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GazetteerGeocoder {
+
+    private final ResourceLoader resourceLoader;
+
+    @Value("${geo.gazetteer.location:classpath:geo/gazetteer.csv}")
+    private String gazetteerLocation;
+
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    @PostConstruct
+    void load() throws IOException {
+        Resource resource = resourceLoader.getResource(gazetteerLocation);
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] cols = line.split(",");
+                if (cols.length < 4) {
+                    log.warn("Skipping malformed gazetteer line: {}", line);
+                    continue;
+                }
+                long population = cols.length > 4 ? Long.parseLong(cols[4].trim()) : 0L;
+                Entry entry = new Entry(new GeoPoint(Double.parseDouble(cols[2].trim()),
+                        Double.parseDouble(cols[3].trim())), population);
+                String name = normalize(cols[0]);
+                put(name, entry);
+                put(name + ", " + normalize(cols[1]), entry);
+            }
+        }
+        log.info("Loaded {} gazetteer keys from {}", entries.size(), gazetteerLocation);
+    }
+
+    /**
+     * Tries the whole string, then "city, country", then the part before the
+     * first comma, so "Berlin, Germany" and "berlin" both resolve.
+     */
+    public Optional<GeoPoint> geocode(String location) {
+        if (location == null || location.isBlank()) {
+            return Optional.empty();
+        }
+        String key = normalize(location);
+        Entry hit = entries.get(key);
+        if (hit == null) {
+            String[] parts = key.split("\\s*,\\s*");
+            if (parts.length > 1) {
+                hit = entries.get(parts[0] + ", " + parts[parts.length - 1]);
+            }
+            if (hit == null) {
+                hit = entries.get(parts[0]);
+            }
+        }
+        return Optional.ofNullable(hit).map(Entry::point);
+    }
+
+    // Same name in several countries: keep the most populous by default
+    private void put(String key, Entry entry) {
+        entries.merge(key, entry, (a, b) -> a.population() >= b.population() ? a : b);
+    }
+
+    static String normalize(String value) {
+        String stripped = Normalizer.normalize(value, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+        return stripped.toLowerCase(Locale.ROOT).trim().replaceAll("\\s+", " ");
+    }
+
+    private record Entry(GeoPoint point, long population) {
+    }
+}
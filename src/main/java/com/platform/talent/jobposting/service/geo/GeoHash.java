@@ -0,0 +1,201 @@
+package com.platform.talent.jobposting.service.geo;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Standard base-32 geohash encoding plus the cell cover used to prune radius
+ * searches. A prefix of a geohash is the cell that contains it, so every cell
+ * in the cover turns into one index range scan on the geohash column.
+ */
+public final class GeoHash {
+
+    public static final int MAX_PRECISION = 12;
+
+    private static final String BASE32_ALPHABET = "0123456789bcdefghjkmnpqrstuvwxyz";
+    private static final char[] BASE32 = BASE32_ALPHABET.toCharArray();
+    private static final double KM_PER_DEGREE_LAT = 111.32;
+    private static final int MAX_COVER_CELLS = 9;
+
+    private GeoHash() {
+    }
+
+    public static String encode(double latitude, double longitude, int precision) {
+        double minLat = -90, maxLat = 90;
+        double minLon = -180, maxLon = 180;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true;
+        int bit = 0;
+        int ch = 0;
+
+        while (hash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLon + maxLon) / 2;
+                if (longitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLon = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLon = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLat = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+            if (++bit == 5) {
+                hash.append(BASE32[ch]);
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    /** Height of a cell at the given precision, in degrees of latitude. */
+    public static double cellHeightDegrees(int precision) {
+        int latBits = (precision * 5) / 2;
+        return 180.0 / (1L << latBits);
+    }
+
+    /** Width of a cell at the given precision, in degrees of longitude. */
+    public static double cellWidthDegrees(int precision) {
+        int lonBits = (precision * 5 + 1) / 2;
+        return 360.0 / (1L << lonBits);
+    }
+
+    /**
+     * Returns the geohash prefixes of the finest precision whose cells cover the
+     * bounding box of the circle with at most nine cells. Every point within
+     * {@code radiusKm} of the centre has a geohash starting with one of them.
+     */
+    public static Set<String> coveringPrefixes(double latitude, double longitude, double radiusKm) {
+        double dLat = radiusKm / KM_PER_DEGREE_LAT;
+        double minLat = Math.max(-90, latitude - dLat);
+        double maxLat = Math.min(90, latitude + dLat);
+
+        double cosLat = Math.cos(Math.toRadians(Math.max(Math.abs(minLat), Math.abs(maxLat))));
+        double dLon = cosLat < 1e-9 ? 180 : Math.min(180, radiusKm / (KM_PER_DEGREE_LAT * cosLat));
+        double minLon = longitude - dLon;
+        double maxLon = longitude + dLon;
+
+        for (int precision = MAX_PRECISION; precision >= 1; precision--) {
+            Set<String> cells = cover(minLat, maxLat, minLon, maxLon, precision);
+            if (cells != null && cells.size() <= MAX_COVER_CELLS) {
+                return cells;
+            }
+        }
+        // The whole world: one range per first character
+        Set<String> all = new LinkedHashSet<>();
+        for (char c : BASE32) {
+            all.add(String.valueOf(c));
+        }
+        return all;
+    }
+
+    /** The 32 cells one character finer than {@code cell}. */
+    public static List<String> children(String cell) {
+        List<String> children = new ArrayList<>(BASE32.length);
+        for (char c : BASE32) {
+            children.add(cell + c);
+        }
+        return children;
+    }
+
+    /**
+     * A lower bound on the great-circle distance from the point to anywhere in
+     * the cell, so cells can be ranked or skipped before their rows are loaded.
+     * Uses hav(d) >= hav(latGap) + cos(lat) * cos(cell's largest |lat|) * hav(lonGap).
+     */
+    public static double minDistanceKm(String cell, double latitude, double longitude) {
+        double[] box = bounds(cell);
+        double latGap = latitude < box[0] ? box[0] - latitude : latitude > box[1] ? latitude - box[1] : 0;
+        double lonGap = longitude >= box[2] && longitude <= box[3]
+                ? 0
+                : Math.min(longitudeGap(longitude, box[2]), longitudeGap(longitude, box[3]));
+        double maxAbsLat = Math.max(Math.abs(box[0]), Math.abs(box[1]));
+        double a = haversine(latGap)
+                + Math.cos(Math.toRadians(latitude)) * Math.cos(Math.toRadians(maxAbsLat)) * haversine(lonGap);
+        return 2 * GeoPoint.EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    // {minLat, maxLat, minLon, maxLon} of the cell
+    private static double[] bounds(String cell) {
+        double minLat = -90, maxLat = 90;
+        double minLon = -180, maxLon = 180;
+        boolean evenBit = true;
+        for (int i = 0; i < cell.length(); i++) {
+            int value = BASE32_ALPHABET.indexOf(cell.charAt(i));
+            if (value < 0) {
+                throw new IllegalArgumentException("Not a geohash: " + cell);
+            }
+            for (int bit = 4; bit >= 0; bit--) {
+                boolean set = ((value >> bit) & 1) == 1;
+                if (evenBit) {
+                    double mid = (minLon + maxLon) / 2;
+                    if (set) {
+                        minLon = mid;
+                    } else {
+                        maxLon = mid;
+                    }
+                } else {
+                    double mid = (minLat + maxLat) / 2;
+                    if (set) {
+                        minLat = mid;
+                    } else {
+                        maxLat = mid;
+                    }
+                }
+                evenBit = !evenBit;
+            }
+        }
+        return new double[] {minLat, maxLat, minLon, maxLon};
+    }
+
+    // Degrees between two longitudes, the short way round
+    private static double longitudeGap(double a, double b) {
+        return Math.abs(((a - b) % 360 + 540) % 360 - 180);
+    }
+
+    private static double haversine(double degrees) {
+        double half = Math.sin(Math.toRadians(degrees) / 2);
+        return half * half;
+    }
+
+    // Returns null when the grid is obviously larger than the cell budget
+    private static Set<String> cover(double minLat, double maxLat, double minLon, double maxLon, int precision) {
+        double height = cellHeightDegrees(precision);
+        double width = cellWidthDegrees(precision);
+        // Bail out before enumerating a huge grid at fine precisions
+        if ((maxLat - minLat) / height > MAX_COVER_CELLS || (maxLon - minLon) / width > MAX_COVER_CELLS) {
+            return null;
+        }
+        Set<String> cells = new LinkedHashSet<>();
+        for (double lat = minLat; ; lat += height) {
+            double clampedLat = Math.min(lat, maxLat);
+            for (double lon = minLon; ; lon += width) {
+                double clampedLon = Math.min(lon, maxLon);
+                cells.add(encode(clampedLat, wrapLongitude(clampedLon), precision));
+                if (clampedLon >= maxLon) {
+                    break;
+                }
+            }
+            if (clampedLat >= maxLat) {
+                break;
+            }
+        }
+        return cells;
+    }
+
+    private static double wrapLongitude(double longitude) {
+        return ((longitude + 180) % 360 + 360) % 360 - 180;
+    }
+}
@@ -0,0 +1,47 @@
+package com.platform.talent.jobposting.service.geo;
+
+import com.platform.talent.jobposting.domain.model.Job;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * A page of radius search results, nearest first. When the area held more
+ * jobs than the search may load, the results cover a smaller radius instead:
+ * {@code truncated} is set, {@code completeWithinKm} is that radius, and the
+ * total counts only the jobs within it. Every job within that radius is there.
+ */
+public class RadiusSearchPage extends PageImpl<Job> {
+
+    private final boolean truncated;
+    private final double completeWithinKm;
+
+    public RadiusSearchPage(List<Job> content, Pageable pageable, long total,
+                            boolean truncated, double completeWithinKm) {
+        super(content, pageable, total);
+        this.truncated = truncated;
+        this.completeWithinKm = completeWithinKm;
+    }
+
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    public double getCompleteWithinKm() {
+        return completeWithinKm;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof RadiusSearchPage page
+                && super.equals(page)
+                && truncated == page.truncated
+                && completeWithinKm == page.completeWithinKm;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * super.hashCode() + Boolean.hashCode(truncated);
+    }
+}
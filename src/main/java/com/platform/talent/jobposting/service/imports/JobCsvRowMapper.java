@@ -0,0 +1,208 @@
+package com.platform.talent.jobposting.service.imports;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.talent.jobposting.api.dto.CreateJobRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Binds CSV records to {@link CreateJobRequest} by header name and validates
+ * them with the same constraints as {@code POST /api/v1/jobs}, plus the column
+ * limits and salary check that would otherwise fail the whole merge. Header
+ * names are matched ignoring case, spaces and underscores, so "Salary Min",
+ * "salary_min" and "salaryMin" are the same column.
+ */
+public class JobCsvRowMapper {
+
+    public record FieldError(String field, String message) {}
+
+    public record Result(CreateJobRequest request, List<FieldError> errors) {
+
+        public boolean isValid() {
+            return errors.isEmpty();
+        }
+    }
+
+    private static final Set<String> REQUIRED = Set.of("title", "description", "recruiterId");
+    private static final int CODE_COLUMN_LENGTH = 50; // employment_type, experience_level
+    private static final TypeReference<Map<String, Object>> JSON_OBJECT = new TypeReference<>() {};
+
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final int fieldCount;
+    private final String[] fieldByColumn;
+    private final List<String> ignoredColumns = new ArrayList<>();
+    private final Map<String, BiConsumer<CreateJobRequest, String>> binders = new LinkedHashMap<>();
+
+    public JobCsvRowMapper(List<String> header, Validator validator, ObjectMapper objectMapper) {
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        registerBinders();
+
+        Map<String, String> fieldsByKey = new LinkedHashMap<>();
+        binders.keySet().forEach(field -> fieldsByKey.put(key(field), field));
+
+        fieldCount = header.size();
+        fieldByColumn = new String[fieldCount];
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < fieldCount; i++) {
+            String field = fieldsByKey.get(key(header.get(i)));
+            if (field == null) {
+                ignoredColumns.add(header.get(i));
+            } else if (!seen.add(field)) {
+                throw new RuntimeException("Column " + field + " appears more than once in the header");
+            } else {
+                fieldByColumn[i] = field;
+            }
+        }
+        List<String> missing = REQUIRED.stream().filter(field -> !seen.contains(field)).sorted().toList();
+        if (!missing.isEmpty()) {
+            throw new RuntimeException("Header is missing required columns: " + String.join(", ", missing));
+        }
+    }
+
+    /** Header columns that match no job field; their values are ignored. */
+    public List<String> ignoredColumns() {
+        return ignoredColumns;
+    }
+
+    public Result map(List<String> record) {
+        if (record.size() != fieldCount) {
+            return new Result(null, List.of(new FieldError(null,
+                    "Expected " + fieldCount + " fields, found " + record.size())));
+        }
+
+        CreateJobRequest request = new CreateJobRequest();
+        List<FieldError> errors = new ArrayList<>();
+        for (int i = 0; i < fieldCount; i++) {
+            String field = fieldByColumn[i];
+            String value = record.get(i).trim();
+            if (field == null || value.isEmpty()) {
+                continue;
+            }
+            try {
+                binders.get(field).accept(request, value);
+            } catch (IllegalArgumentException e) {
+                errors.add(new FieldError(field, e.getMessage()));
+            }
+        }
+
+        Set<String> unparsable = new HashSet<>();
+        errors.forEach(error -> unparsable.add(error.field()));
+        validator.validate(request).stream()
+                .sorted(Comparator.comparing((ConstraintViolation<CreateJobRequest> v) -> v.getPropertyPath().toString()))
+                .filter(v -> !unparsable.contains(v.getPropertyPath().toString()))
+                .forEach(v -> errors.add(new FieldError(v.getPropertyPath().toString(), v.getMessage())));
+
+        checkLength(errors, "employmentType", request.getEmploymentType());
+        checkLength(errors, "experienceLevel", request.getExperienceLevel());
+        if (request.getSalaryMin() != null && request.getSalaryMax() != null
+                && request.getSalaryMax() < request.getSalaryMin()) {
+            errors.add(new FieldError("salaryMax", "Maximum salary must not be below minimum salary"));
+        }
+        return new Result(errors.isEmpty() ? request : null, errors);
+    }
+
+    private static void checkLength(List<FieldError> errors, String field, String value) {
+        if (value != null && value.length() > CODE_COLUMN_LENGTH) {
+            errors.add(new FieldError(field, field + " must not exceed " + CODE_COLUMN_LENGTH + " characters"));
+        }
+    }
+
+    private void registerBinders() {
+        binders.put("title", CreateJobRequest::setTitle);
+        binders.put("description", CreateJobRequest::setDescription);
+        binders.put("location", CreateJobRequest::setLocation);
+        binders.put("employmentType", (r, v) -> r.setEmploymentType(v.toUpperCase(Locale.ROOT)));
+        binders.put("experienceLevel", (r, v) -> r.setExperienceLevel(v.toUpperCase(Locale.ROOT)));
+        binders.put("salaryMin", parsed(JobCsvRowMapper::parseDouble, CreateJobRequest::setSalaryMin));
+        binders.put("salaryMax", parsed(JobCsvRowMapper::parseDouble, CreateJobRequest::setSalaryMax));
+        binders.put("salaryCurrency", (r, v) -> r.setSalaryCurrency(v.toUpperCase(Locale.ROOT)));
+        binders.put("departmentId", parsed(JobCsvRowMapper::parseUuid, CreateJobRequest::setDepartmentId));
+        binders.put("recruiterId", parsed(JobCsvRowMapper::parseUuid, CreateJobRequest::setRecruiterId));
+        binders.put("hiringManagerId", parsed(JobCsvRowMapper::parseUuid, CreateJobRequest::setHiringManagerId));
+        binders.put("numberOfPositions", parsed(JobCsvRowMapper::parseInteger, CreateJobRequest::setNumberOfPositions));
+        binders.put("expiresAt", parsed(JobCsvRowMapper::parseDateTime, CreateJobRequest::setExpiresAt));
+        binders.put("customFields", parsed(this::parseJson, CreateJobRequest::setCustomFields));
+        binders.put("requirements", parsed(this::parseJson, CreateJobRequest::setRequirements));
+        binders.put("benefits", parsed(this::parseJson, CreateJobRequest::setBenefits));
+        binders.put("isRemote", parsed(JobCsvRowMapper::parseBoolean, CreateJobRequest::setIsRemote));
+        binders.put("isFeatured", parsed(JobCsvRowMapper::parseBoolean, CreateJobRequest::setIsFeatured));
+    }
+
+    private static <T> BiConsumer<CreateJobRequest, String> parsed(Function<String, T> parser,
+                                                                   BiConsumer<CreateJobRequest, T> setter) {
+        return (request, value) -> setter.accept(request, parser.apply(value));
+    }
+
+    private static String key(String name) {
+        return name.replaceAll("[\\s_-]", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static Double parseDouble(String value) {
+        try {
+            return Double.valueOf(value.replace(",", ""));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Not a number: " + value);
+        }
+    }
+
+    private static Integer parseInteger(String value) {
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Not a whole number: " + value);
+        }
+    }
+
+    private static UUID parseUuid(String value) {
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Not a UUID: " + value);
+        }
+    }
+
+    private static Boolean parseBoolean(String value) {
+        return switch (value.toLowerCase(Locale.ROOT)) {
+            case "true", "yes", "y", "1" -> true;
+            case "false", "no", "n", "0" -> false;
+            default -> throw new IllegalArgumentException("Not a boolean (true/false, yes/no, 1/0): " + value);
+        };
+    }
+
+    // ISO-8601 date-time, or a plain date meaning the end of that day
+    private static LocalDateTime parseDateTime(String value) {
+        try {
+            return value.length() == 10
+                    ? LocalDate.parse(value).atTime(23, 59, 59)
+                    : LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Not an ISO-8601 date or date-time: " + value);
+        }
+    }
+
+    private Map<String, Object> parseJson(String value) {
+        try {
+            return objectMapper.readValue(value, JSON_OBJECT);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Not a JSON object");
+        }
+    }
+}
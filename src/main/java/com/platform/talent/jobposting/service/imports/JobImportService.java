@@ -0,0 +1,501 @@
+package com.platform.talent.jobposting.service.imports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.talent.jobposting.api.dto.CreateJobRequest;
+import com.platform.talent.jobposting.api.dto.JobImportResponse;
+import com.platform.talent.jobposting.domain.model.Job;
+import com.platform.talent.jobposting.domain.model.JobImport;
+import com.platform.talent.jobposting.domain.model.JobImportStatus;
+import com.platform.talent.jobposting.domain.model.JobStatus;
+import com.platform.talent.jobposting.domain.repository.JobImportRepository;
+import com.platform.talent.jobposting.service.JobLocationService;
+import com.platform.talent.jobposting.service.SalaryNormalizationService;
+import com.platform.talent.jobposting.service.integration.KernelIntegrationService;
+import com.platform.talent.jobposting.service.typeahead.JobTypeaheadService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * CSV bulk import of jobs. The upload is spooled to disk and acknowledged at
+ * once; a worker then streams the file record by record, validates each row
+ * like {@code POST /api/v1/jobs}, COPYs valid rows into an unlogged staging
+ * table and finally moves them into ggj_jobs with one INSERT ... SELECT. Memory
+ * use is one record at a time whatever the file size, and progress lives in
+ * ggj_job_imports so any instance can answer a poll.
+ * <p>
+ * Imported jobs are created as DRAFT. Custom fields are stored in Kernel after
+ * the merge, a batch of staged rows at a time. The near-duplicate flag is left
+ * to its backfill, and the typeahead index of the tenant is reloaded instead of
+ * patched.
+ * <p>
+ * A worker holds the import's advisory lock from start to finish, so the stale
+ * sweep only fails imports whose worker is gone, never a long merge in flight.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobImportService {
+
+    private static final List<JobImportStatus> ACTIVE =
+            List.of(JobImportStatus.RECEIVED, JobImportStatus.PARSING, JobImportStatus.MERGING);
+    private static final int ERROR_BATCH = 500;
+    private static final long PROGRESS_INTERVAL_MS = 1000;
+
+    private final JobImportRepository jobImportRepository;
+    private final JobImportStore jobImportStore;
+    private final SalaryNormalizationService salaryNormalizationService;
+    private final JobLocationService jobLocationService;
+    private final JobTypeaheadService jobTypeaheadService;
+    private final KernelIntegrationService kernelService;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${job-import.spool-dir:${java.io.tmpdir}/job-imports}")
+    private String spoolDir;
+
+    @Value("${job-import.max-bytes:104857600}")
+    private long maxBytes;
+
+    @Value("${job-import.max-rows:500000}")
+    private long maxRows;
+
+    @Value("${job-import.max-field-length:65536}")
+    private int maxFieldLength;
+
+    @Value("${job-import.max-errors:10000}")
+    private int maxErrors;
+
+    @Value("${job-import.workers:2}")
+    private int workers;
+
+    @Value("${job-import.queue-capacity:20}")
+    private int queueCapacity;
+
+    @Value("${job-import.progress-every-rows:1000}")
+    private int progressEveryRows;
+
+    @Value("${job-import.stale-after-ms:900000}")
+    private long staleAfterMs;
+
+    @Value("${job-import.kernel-batch-size:500}")
+    private int kernelBatchSize;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void startWorkers() {
+        AtomicInteger threads = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "job-import-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    // Imports cut short here release their lock and are failed by the stale sweep of a surviving instance
+    @PreDestroy
+    void stopWorkers() {
+        executor.shutdownNow();
+    }
+
+    public JobImportResponse startImport(UUID tenantId, UUID userId, String fileName, boolean skipInvalid,
+                                         InputStream body) {
+        UUID importId = UUID.randomUUID();
+        Path spool = spool(importId, body);
+        LocalDateTime now = LocalDateTime.now();
+        JobImport jobImport = jobImportRepository.save(JobImport.builder()
+                .id(importId)
+                .tenantId(tenantId)
+                .status(JobImportStatus.RECEIVED)
+                .fileName(fileName)
+                .skipInvalid(skipInvalid)
+                .totalBytes(size(spool))
+                .createdBy(userId)
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+        log.info("Accepted job import {} for tenant {}: {} bytes", importId, tenantId, jobImport.getTotalBytes());
+
+        try {
+            executor.execute(() -> process(importId, spool));
+        } catch (RejectedExecutionException e) {
+            deleteSpool(spool);
+            fail(jobImport, "Too many imports in progress");
+            throw new RuntimeException("Too many imports in progress, retry later");
+        }
+        return toResponse(jobImport);
+    }
+
+    public JobImportResponse getImport(UUID tenantId, UUID importId) {
+        return toResponse(find(tenantId, importId));
+    }
+
+    /** Writes the rejected rows as CSV (line,field,message), streamed from the database. */
+    public void writeErrorReport(UUID tenantId, UUID importId, OutputStream out) throws IOException {
+        find(tenantId, importId);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write("line,field,message\r\n");
+        try {
+            jobImportStore.forEachError(importId, rs -> {
+                try {
+                    writer.write(Long.toString(rs.getLong("line_number")));
+                    writer.write(',');
+                    writer.write(csv(rs.getString("field")));
+                    writer.write(',');
+                    writer.write(csv(rs.getString("message")));
+                    writer.write("\r\n");
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    // An import whose lock is held is still running somewhere, however long its merge takes
+    @Scheduled(fixedDelayString = "${job-import.sweep-interval-ms:60000}")
+    public void failStaleImports() {
+        LocalDateTime cutoff = LocalDateTime.now().minusNanos(staleAfterMs * 1_000_000);
+        for (JobImport stale : jobImportRepository.findByStatusInAndUpdatedAtBefore(ACTIVE, cutoff)) {
+            try (JobImportStore.ImportLock lock = jobImportStore.tryLock(stale.getId())) {
+                if (lock == null) {
+                    log.debug("Job import {} is quiet since {} but still running", stale.getId(), stale.getUpdatedAt());
+                    continue;
+                }
+                JobImport jobImport = jobImportRepository.findById(stale.getId()).orElse(null);
+                if (jobImport == null || !ACTIVE.contains(jobImport.getStatus())) {
+                    continue;
+                }
+                log.warn("Job import {} made no progress since {}, failing it", jobImport.getId(), jobImport.getUpdatedAt());
+                jobImportStore.clearStaging(jobImport.getId());
+                fail(jobImport, "Import was interrupted");
+            } catch (SQLException e) {
+                log.warn("Could not check whether job import {} is still running", stale.getId(), e);
+            }
+        }
+    }
+
+    void process(UUID importId, Path spool) {
+        try (JobImportStore.ImportLock lock = jobImportStore.tryLock(importId)) {
+            if (lock == null) {
+                log.warn("Job import {} is already being processed", importId);
+                return;
+            }
+            JobImport jobImport = jobImportRepository.findById(importId)
+                    .orElseThrow(() -> new RuntimeException("Job import not found: " + importId));
+            // Queued longer than the stale timeout: the sweep has failed it already
+            if (jobImport.getStatus() != JobImportStatus.RECEIVED) {
+                log.warn("Job import {} is {}, not processing it", importId, jobImport.getStatus());
+                return;
+            }
+            run(jobImport, spool);
+        } catch (SQLException e) {
+            log.error("Advisory lock of job import {} failed; the stale sweep will fail it", importId, e);
+        } finally {
+            deleteSpool(spool);
+        }
+    }
+
+    private void run(JobImport jobImport, Path spool) {
+        UUID importId = jobImport.getId();
+        try {
+            parse(jobImport, spool);
+            if (jobImport.getRowsRejected() > 0 && !jobImport.isSkipInvalid()) {
+                jobImportStore.clearStaging(importId);
+                fail(jobImport, jobImport.getRowsRejected() + " rows are invalid; nothing was imported");
+                return;
+            }
+
+            jobImport.setStatus(JobImportStatus.MERGING);
+            touch(jobImport);
+            LocalDateTime now = LocalDateTime.now();
+            jobImport.setRowsImported(jobImportStore.merge(importId, jobImport.getCreatedBy(), now));
+            touch(jobImport);
+            storeCustomFields(jobImport);
+            jobImportStore.clearStaging(importId);
+            jobImport.setStatus(JobImportStatus.COMPLETED);
+            jobImport.setCompletedAt(now);
+            touch(jobImport);
+            jobTypeaheadService.onBulkChange(jobImport.getTenantId());
+
+            meterRegistry.counter("jobposting.imports.rows", "outcome", "imported").increment(jobImport.getRowsImported());
+            log.info("Job import {} completed: {} imported, {} rejected",
+                    importId, jobImport.getRowsImported(), jobImport.getRowsRejected());
+        } catch (Exception e) {
+            log.warn("Job import {} failed", importId, e);
+            jobImportStore.clearStaging(importId);
+            fail(jobImport, e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        } finally {
+            meterRegistry.counter("jobposting.imports.rows", "outcome", "rejected").increment(jobImport.getRowsRejected());
+        }
+    }
+
+    // The jobs are committed by now, so a Kernel failure is logged per job rather than failing the import.
+    // storeExtendedAttributes already falls back to the customFields column when Kernel is down.
+    private void storeCustomFields(JobImport jobImport) {
+        long afterLine = 0;
+        long stored = 0;
+        List<JobImportStore.CustomFields> batch;
+        do {
+            batch = jobImportStore.customFields(jobImport.getId(), afterLine, kernelBatchSize);
+            for (JobImportStore.CustomFields row : batch) {
+                try {
+                    kernelService.storeExtendedAttributes(row.jobId(), "Job", row.fields());
+                    stored++;
+                } catch (RuntimeException e) {
+                    log.warn("Could not store custom fields of imported job {} in Kernel", row.jobId(), e);
+                }
+                afterLine = row.lineNumber();
+            }
+            if (!batch.isEmpty()) {
+                touch(jobImport);
+            }
+        } while (batch.size() == kernelBatchSize);
+        if (stored > 0) {
+            log.info("Job import {} stored custom fields of {} jobs in Kernel", jobImport.getId(), stored);
+        }
+    }
+
+    private void parse(JobImport jobImport, Path spool) throws Exception {
+        jobImport.setStatus(JobImportStatus.PARSING);
+        touch(jobImport);
+
+        List<JobImportStore.RowError> errors = new ArrayList<>();
+        int errorCount = 0;
+        long lastProgress = System.currentTimeMillis();
+        try (CountingInputStream in = new CountingInputStream(Files.newInputStream(spool));
+             CsvReader csv = new CsvReader(new InputStreamReader(in, StandardCharsets.UTF_8), maxFieldLength);
+             JobImportStore.StagingWriter staging = jobImportStore.openStaging(jobImport.getId())) {
+            List<String> header = csv.next();
+            if (header == null) {
+                throw new RuntimeException("The file is empty");
+            }
+            JobCsvRowMapper mapper = new JobCsvRowMapper(header, validator, objectMapper);
+            if (!mapper.ignoredColumns().isEmpty()) {
+                log.info("Job import {} ignores unknown columns {}", jobImport.getId(), mapper.ignoredColumns());
+            }
+
+            List<String> record;
+            while ((record = csv.next()) != null) {
+                if (record.size() == 1 && record.get(0).isBlank()) {
+                    continue;
+                }
+                if (jobImport.getRowsRead() == maxRows) {
+                    throw new RuntimeException("The file has more than " + maxRows + " rows");
+                }
+                jobImport.setRowsRead(jobImport.getRowsRead() + 1);
+
+                JobCsvRowMapper.Result result = mapper.map(record);
+                if (result.isValid()) {
+                    staging.write(csv.recordLine(), toJob(jobImport.getTenantId(), result.request()));
+                    jobImport.setRowsValid(jobImport.getRowsValid() + 1);
+                } else {
+                    jobImport.setRowsRejected(jobImport.getRowsRejected() + 1);
+                    for (JobCsvRowMapper.FieldError error : result.errors()) {
+                        if (errorCount < maxErrors) {
+                            errors.add(new JobImportStore.RowError(++errorCount, csv.recordLine(),
+                                    error.field(), error.message()));
+                        }
+                    }
+                    if (errors.size() >= ERROR_BATCH) {
+                        jobImportStore.saveErrors(jobImport.getId(), errors);
+                        errors.clear();
+                    }
+                }
+
+                if (jobImport.getRowsRead() % progressEveryRows == 0
+                        || System.currentTimeMillis() - lastProgress >= PROGRESS_INTERVAL_MS) {
+                    jobImport.setBytesRead(in.count());
+                    touch(jobImport);
+                    lastProgress = System.currentTimeMillis();
+                }
+            }
+            staging.commit();
+        } finally {
+            jobImportStore.saveErrors(jobImport.getId(), errors);
+        }
+        jobImport.setBytesRead(jobImport.getTotalBytes());
+        touch(jobImport);
+    }
+
+    private Job toJob(UUID tenantId, CreateJobRequest request) {
+        Job job = Job.builder()
+                .id(UUID.randomUUID())
+                .tenantId(tenantId)
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .location(request.getLocation())
+                .employmentType(request.getEmploymentType())
+                .experienceLevel(request.getExperienceLevel())
+                .salaryMin(request.getSalaryMin())
+                .salaryMax(request.getSalaryMax())
+                .salaryCurrency(request.getSalaryCurrency())
+                .status(JobStatus.DRAFT)
+                .departmentId(request.getDepartmentId())
+                .recruiterId(request.getRecruiterId())
+                .hiringManagerId(request.getHiringManagerId())
+                .numberOfPositions(request.getNumberOfPositions())
+                .expiresAt(request.getExpiresAt())
+                .customFields(request.getCustomFields())
+                .requirements(request.getRequirements())
+                .benefits(request.getBenefits())
+                .isRemote(request.getIsRemote())
+                .isFeatured(request.getIsFeatured())
+                .build();
+        salaryNormalizationService.normalize(job);
+        jobLocationService.locate(job);
+        return job;
+    }
+
+    private JobImport find(UUID tenantId, UUID importId) {
+        return jobImportRepository.findByIdAndTenantId(importId, tenantId)
+                .orElseThrow(() -> new RuntimeException("Job import not found: " + importId));
+    }
+
+    private void touch(JobImport jobImport) {
+        jobImport.setUpdatedAt(LocalDateTime.now());
+        jobImportRepository.save(jobImport);
+    }
+
+    private void fail(JobImport jobImport, String reason) {
+        jobImport.setStatus(JobImportStatus.FAILED);
+        jobImport.setFailureReason(reason);
+        jobImport.setCompletedAt(LocalDateTime.now());
+        touch(jobImport);
+    }
+
+    private Path spool(UUID importId, InputStream body) {
+        Path spool = Path.of(spoolDir).resolve(importId + ".csv");
+        try {
+            Files.createDirectories(spool.getParent());
+            try (OutputStream out = Files.newOutputStream(spool)) {
+                byte[] buffer = new byte[65536];
+                long total = 0;
+                int read;
+                while ((read = body.read(buffer)) != -1) {
+                    total += read;
+                    if (total > maxBytes) {
+                        throw new RuntimeException("Import file exceeds the limit of " + maxBytes + " bytes");
+                    }
+                    out.write(buffer, 0, read);
+                }
+            }
+            return spool;
+        } catch (IOException | RuntimeException e) {
+            deleteSpool(spool);
+            throw e instanceof RuntimeException runtime ? runtime : new RuntimeException("Could not read upload", e);
+        }
+    }
+
+    private static long size(Path spool) {
+        try {
+            return Files.size(spool);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not read upload", e);
+        }
+    }
+
+    private static void deleteSpool(Path spool) {
+        try {
+            Files.deleteIfExists(spool);
+        } catch (IOException e) {
+            log.warn("Could not delete import spool file {}", spool, e);
+        }
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    private JobImportResponse toResponse(JobImport jobImport) {
+        int percent = jobImport.getStatus() == JobImportStatus.COMPLETED ? 100
+                : jobImport.getTotalBytes() == 0 ? 0
+                : (int) Math.min(99, jobImport.getBytesRead() * 100 / jobImport.getTotalBytes());
+        return JobImportResponse.builder()
+                .id(jobImport.getId())
+                .status(jobImport.getStatus())
+                .fileName(jobImport.getFileName())
+                .totalBytes(jobImport.getTotalBytes())
+                .bytesRead(jobImport.getBytesRead())
+                .percentComplete(percent)
+                .rowsRead(jobImport.getRowsRead())
+                .rowsValid(jobImport.getRowsValid())
+                .rowsRejected(jobImport.getRowsRejected())
+                .rowsImported(jobImport.getRowsImported())
+                .failureReason(jobImport.getFailureReason())
+                .errorReportUrl(jobImport.getRowsRejected() > 0
+                        ? "/api/v1/jobs/imports/" + jobImport.getId() + "/errors" : null)
+                .createdAt(jobImport.getCreatedAt())
+                .updatedAt(jobImport.getUpdatedAt())
+                .completedAt(jobImport.getCompletedAt())
+                .build();
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private long count;
+
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        long count() {
+            return count;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.platform.talent.jobposting.service.imports;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.talent.jobposting.domain.model.Job;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * SQL side of CSV imports (V9__job_import.sql): COPY of validated rows into the
+ * unlogged staging table, the set-based merge into ggj_jobs, the error rows and
+ * the per-import advisory lock held while a worker runs.
+ */
+@Component
+@RequiredArgsConstructor
+class JobImportStore {
+
+    record RowError(int errorNo, long lineNumber, String field, String message) {}
+
+    record CustomFields(long lineNumber, UUID jobId, Map<String, Object> fields) {}
+
+    // Two-key advisory locks ("jobi", hash of the import id) live apart from the single-key job locks
+    private static final int IMPORT_LOCK_CLASS = 0x6A6F6269;
+
+    private static final String STAGING_COPY = "COPY ggj_job_import_staging (import_id, line_number, id, tenant_id, "
+            + "title, description, location, employment_type, experience_level, salary_min, salary_max, "
+            + "salary_currency, salary_normalized_min, salary_normalized_max, department_id, recruiter_id, "
+            + "hiring_manager_id, number_of_positions, expires_at, custom_fields, requirements, benefits, "
+            + "is_remote, is_featured, latitude, longitude, geohash) FROM STDIN (FORMAT csv)";
+
+    // Copies the import's rows in one statement, so nothing is half-merged. Staging is kept until
+    // the custom fields have been handed to Kernel, then cleared.
+    private static final String MERGE = "INSERT INTO ggj_jobs (id, tenant_id, title, description, location, employment_type, experience_level, "
+            + "salary_min, salary_max, salary_currency, salary_normalized_min, salary_normalized_max, status, "
+            + "department_id, recruiter_id, hiring_manager_id, number_of_positions, expires_at, custom_fields, "
+            + "requirements, benefits, application_count, view_count, is_remote, is_featured, latitude, longitude, "
+            + "geohash, created_at, updated_at, created_by, version) "
+            + "SELECT id, tenant_id, title, description, location, employment_type, experience_level, "
+            + "salary_min, salary_max, salary_currency, salary_normalized_min, salary_normalized_max, 'DRAFT', "
+            + "department_id, recruiter_id, hiring_manager_id, number_of_positions, expires_at, custom_fields, "
+            + "requirements, benefits, 0, 0, is_remote, is_featured, latitude, longitude, "
+            + "geohash, ?, ?, ?, 0 "
+            + "FROM ggj_job_import_staging WHERE import_id = ? ORDER BY line_number";
+
+    private static final int FLUSH_CHARS = 1 << 16;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+    private final ObjectMapper objectMapper;
+
+    /** Opens a COPY into staging on its own connection; rows become visible on {@link StagingWriter#commit()}. */
+    StagingWriter openStaging(UUID importId) throws SQLException {
+        Connection connection = dataSource.getConnection();
+        try {
+            connection.setAutoCommit(false);
+            CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(STAGING_COPY);
+            return new StagingWriter(importId, connection, copyIn);
+        } catch (SQLException | RuntimeException e) {
+            connection.close();
+            throw e;
+        }
+    }
+
+    long merge(UUID importId, UUID createdBy, LocalDateTime now) {
+        return jdbcTemplate.update(MERGE, now, now, createdBy, importId);
+    }
+
+    /** Merged rows that carry custom fields, in file order after {@code afterLine}; keyset-paged on the staging key. */
+    List<CustomFields> customFields(UUID importId, long afterLine, int limit) {
+        return jdbcTemplate.query("SELECT line_number, id, custom_fields FROM ggj_job_import_staging "
+                        + "WHERE import_id = ? AND line_number > ? AND custom_fields IS NOT NULL "
+                        + "ORDER BY line_number LIMIT ?",
+                (rs, rowNum) -> new CustomFields(rs.getLong("line_number"), rs.getObject("id", UUID.class),
+                        fields(rs.getString("custom_fields"))),
+                importId, afterLine, limit);
+    }
+
+    /**
+     * Takes the import's session advisory lock on a connection of its own, or returns null
+     * when another worker holds it. Closing the lock releases it; so does the connection
+     * dropping when an instance dies.
+     */
+    ImportLock tryLock(UUID importId) throws SQLException {
+        Connection connection = dataSource.getConnection();
+        try {
+            try (PreparedStatement ps = connection.prepareStatement("SELECT pg_try_advisory_lock(?, hashtext(?))")) {
+                ps.setInt(1, IMPORT_LOCK_CLASS);
+                ps.setString(2, importId.toString());
+                try (ResultSet rs = ps.executeQuery()) {
+                    rs.next();
+                    if (rs.getBoolean(1)) {
+                        return new ImportLock(importId, connection);
+                    }
+                }
+            }
+        } catch (SQLException | RuntimeException e) {
+            connection.close();
+            throw e;
+        }
+        connection.close();
+        return null;
+    }
+
+    void clearStaging(UUID importId) {
+        jdbcTemplate.update("DELETE FROM ggj_job_import_staging WHERE import_id = ?", importId);
+    }
+
+    void saveErrors(UUID importId, List<RowError> errors) {
+        if (errors.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO ggj_job_import_errors (import_id, error_no, line_number, field, message) "
+                        + "VALUES (?, ?, ?, ?, ?)",
+                errors, errors.size(), (ps, error) -> {
+                    ps.setObject(1, importId);
+                    ps.setInt(2, error.errorNo());
+                    ps.setLong(3, error.lineNumber());
+                    ps.setString(4, error.field());
+                    ps.setString(5, error.message());
+                });
+    }
+
+    /** Streams the import's errors in file order without loading them all. */
+    void forEachError(UUID importId, RowCallbackHandler handler) {
+        jdbcTemplate.query(connection -> {
+            var ps = connection.prepareStatement("SELECT line_number, field, message FROM ggj_job_import_errors "
+                    + "WHERE import_id = ? ORDER BY error_no");
+            ps.setObject(1, importId);
+            ps.setFetchSize(1000);
+            return ps;
+        }, handler);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> fields(String json) {
+        try {
+            return objectMapper.readValue(json, Map.class);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Could not read staged custom fields", e);
+        }
+    }
+
+    static final class ImportLock implements AutoCloseable {
+
+        private final UUID importId;
+        private final Connection connection;
+
+        private ImportLock(UUID importId, Connection connection) {
+            this.importId = importId;
+            this.connection = connection;
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try (PreparedStatement ps = connection.prepareStatement("SELECT pg_advisory_unlock(?, hashtext(?))")) {
+                ps.setInt(1, IMPORT_LOCK_CLASS);
+                ps.setString(2, importId.toString());
+                ps.execute();
+            } finally {
+                connection.close();
+            }
+        }
+    }
+
+    /** Writes staging rows in COPY's CSV format: unquoted empty is NULL, every value is quoted. */
+    class StagingWriter implements AutoCloseable {
+
+        private final UUID importId;
+        private final Connection connection;
+        private final CopyIn copyIn;
+        private final StringBuilder buffer = new StringBuilder(FLUSH_CHARS + 4096);
+        private boolean committed;
+
+        private StagingWriter(UUID importId, Connection connection, CopyIn copyIn) {
+            this.importId = importId;
+            this.connection = connection;
+            this.copyIn = copyIn;
+        }
+
+        void write(long lineNumber, Job job) throws SQLException {
+            value(importId).value(lineNumber).value(job.getId()).value(job.getTenantId())
+                    .value(job.getTitle()).value(job.getDescription()).value(job.getLocation())
+                    .value(job.getEmploymentType()).value(job.getExperienceLevel())
+                    .value(job.getSalaryMin()).value(job.getSalaryMax()).value(job.getSalaryCurrency())
+                    .value(job.getSalaryNormalizedMin()).value(job.getSalaryNormalizedMax())
+                    .value(job.getDepartmentId()).value(job.getRecruiterId()).value(job.getHiringManagerId())
+                    .value(job.getNumberOfPositions()).value(job.getExpiresAt())
+                    .value(json(job.getCustomFields())).value(json(job.getRequirements())).value(json(job.getBenefits()))
+                    .value(job.getIsRemote()).value(job.getIsFeatured())
+                    .value(job.getLatitude()).value(job.getLongitude()).value(job.getGeohash());
+            buffer.setCharAt(buffer.length() - 1, '\n');
+            if (buffer.length() >= FLUSH_CHARS) {
+                flush();
+            }
+        }
+
+        void commit() throws SQLException {
+            flush();
+            copyIn.endCopy();
+            connection.commit();
+            committed = true;
+        }
+
+        private StagingWriter value(Object value) {
+            if (value != null) {
+                String text = value instanceof Double d ? BigDecimal.valueOf(d).toPlainString() : value.toString();
+                buffer.append('"').append(text.replace("\"", "\"\"")).append('"');
+            }
+            buffer.append(',');
+            return this;
+        }
+
+        private String json(Map<String, Object> value) {
+            try {
+                return value == null ? null : objectMapper.writeValueAsString(value);
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException("Could not serialize import row", e);
+            }
+        }
+
+        private void flush() throws SQLException {
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                if (!committed) {
+                    if (copyIn.isActive()) {
+                        copyIn.cancelCopy();
+                    }
+                    connection.rollback();
+                }
+            } finally {
+                connection.close();
+            }
+        }
+    }
+}
@@ -1,17 +1,21 @@
 package com.platform.talent.jobposting.service.integration;
 
 import com.platform.talent.jobposting.domain.model.Job;
+import com.platform.talent.jobposting.service.jfr.IntegrationCallEvent;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.List;
 import java.util.Map;
 
 @Service
+@Lazy
 @RequiredArgsConstructor
 @Slf4j
 public class EmailNotificationService {
@@ -24,6 +28,7 @@ public class EmailNotificationService {
     @CircuitBreaker(name = "email", fallbackMethod = "sendEmailFallback")
     @Retry(name = "email")
     public void sendJobPublishedNotification(Job job) {
+        IntegrationCallEvent event = IntegrationCallEvent.begin("EMAIL", "jobPublished", job.getId());
         try {
             String url = emailServiceUrl + "/api/v1/email/send";
             Map<String, Object> request = Map.of(
@@ -36,15 +41,19 @@ public class EmailNotificationService {
                 )
             );
             restTemplate.postForEntity(url, request, Void.class);
+            event.rows(1).succeeded();
             log.info("Sent job published notification for job: {}", job.getId());
         } catch (Exception e) {
             log.error("Failed to send job published notification", e);
+        } finally {
+            event.commit();
         }
     }
 
     @CircuitBreaker(name = "email", fallbackMethod = "sendEmailFallback")
     @Retry(name = "email")
     public void sendJobApprovedNotification(Job job) {
+        IntegrationCallEvent event = IntegrationCallEvent.begin("EMAIL", "jobApproved", job.getId());
         try {
             String url = emailServiceUrl + "/api/v1/email/send";
             Map<String, Object> request = Map.of(
@@ -58,9 +67,40 @@ public class EmailNotificationService {
                 )
             );
             restTemplate.postForEntity(url, request, Void.class);
+            event.rows(1).succeeded();
             log.info("Sent job approved notification for job: {}", job.getId());
         } catch (Exception e) {
             log.error("Failed to send job approved notification", e);
+        } finally {
+            event.commit();
+        }
+    }
+
+    // One digest for a bulk approval instead of an email per job
+    @CircuitBreaker(name = "email", fallbackMethod = "sendBatchEmailFallback")
+    @Retry(name = "email")
+    public void sendJobsApprovedNotification(List<Job> jobs) {
+        IntegrationCallEvent event = IntegrationCallEvent.begin("EMAIL", "jobsApprovedDigest", null);
+        try {
+            String url = emailServiceUrl + "/api/v1/email/send";
+            Map<String, Object> request = Map.of(
+                "to", new String[]{"recruiter@platform.com"},
+                "subject", jobs.size() + " Jobs Approved",
+                "template", "jobs-approved-digest",
+                "data", Map.of(
+                    "jobs", jobs.stream()
+                        .map(job -> Map.of("jobTitle", job.getTitle(), "jobId", job.getId().toString()))
+                        .toList(),
+                    "approvedAt", jobs.get(0).getApprovedAt().toString()
+                )
+            );
+            restTemplate.postForEntity(url, request, Void.class);
+            event.rows(jobs.size()).succeeded();
+            log.info("Sent jobs approved notification for {} jobs", jobs.size());
+        } catch (Exception e) {
+            log.error("Failed to send jobs approved notification", e);
+        } finally {
+            event.commit();
         }
     }
 
@@ -69,5 +109,9 @@ public class EmailNotificationService {
         log.warn("Email service unavailable, notification not sent for job: {}", job.getId());
         // Could queue for later retry or log to database
     }
+
+    public void sendBatchEmailFallback(List<Job> jobs, Exception e) {
+        log.warn("Email service unavailable, notification not sent for {} jobs", jobs.size());
+    }
 }
 
@@ -1,10 +1,13 @@
 package com.platform.talent.jobposting.service.integration;
 
+import com.platform.talent.jobposting.service.jfr.IntegrationCallEvent;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
@@ -12,6 +15,7 @@ import java.util.Map;
 import java.util.UUID;
 
 @Service
+@Lazy
 @RequiredArgsConstructor
 @Slf4j
 public class KernelIntegrationService {
@@ -24,6 +28,7 @@ public class KernelIntegrationService {
     @CircuitBreaker(name = "kernel", fallbackMethod = "storeExtendedAttributesFallback")
     @Retry(name = "kernel")
     public void storeExtendedAttributes(UUID objectId, String objectType, Map<String, Object> attributes) {
+        IntegrationCallEvent event = IntegrationCallEvent.begin("KERNEL", "storeAttributes", objectId);
         try {
             String url = kernelUrl + "/api/v1/objects/" + objectId + "/attributes";
             Map<String, Object> request = Map.of(
@@ -31,22 +36,33 @@ public class KernelIntegrationService {
                 "attributes", attributes
             );
             restTemplate.postForEntity(url, request, Void.class);
+            event.rows(attributes.size()).succeeded();
             log.info("Stored extended attributes for {} {}", objectType, objectId);
         } catch (Exception e) {
             log.error("Failed to store extended attributes", e);
             throw e;
+        } finally {
+            event.commit();
         }
     }
 
     @CircuitBreaker(name = "kernel", fallbackMethod = "getExtendedAttributesFallback")
     @Retry(name = "kernel")
     public Map<String, Object> getExtendedAttributes(UUID objectId) {
+        IntegrationCallEvent event = IntegrationCallEvent.begin("KERNEL", "getAttributes", objectId);
         try {
             String url = kernelUrl + "/api/v1/objects/" + objectId + "/attributes";
-            return restTemplate.getForObject(url, Map.class);
+            ResponseEntity<Map> response = restTemplate.getForEntity(url, Map.class);
+            Map<String, Object> attributes = response.getBody();
+            event.rows(attributes != null ? attributes.size() : 0)
+                .bytes(response.getHeaders().getContentLength())
+                .succeeded();
+            return attributes;
         } catch (Exception e) {
             log.error("Failed to get extended attributes", e);
             return Map.of();
+        } finally {
+            event.commit();
         }
     }
 
@@ -0,0 +1,80 @@
+package com.platform.talent.jobposting.service.jfr;
+
+import com.platform.talent.jobposting.domain.model.JobPosting;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One call to a downstream system: Kernel, the email service or a job board.
+ * Retries of a resilience4j-wrapped call show up as separate events. Fields are
+ * only filled in while a recording has the event enabled; callers begin it,
+ * mark it succeeded and commit it in a {@code finally} block.
+ */
+@Name("com.platform.talent.jobposting.IntegrationCall")
+@Label("Integration Call")
+@Category({"Job Posting", "Integration"})
+@Description("A call to Kernel, the email service or a job board")
+@StackTrace(false)
+public class IntegrationCallEvent extends Event {
+
+    @Label("Target")
+    String target;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Job ID")
+    String jobId;
+
+    @Label("Items")
+    @Description("Attributes, jobs or ids sent or received")
+    long rows;
+
+    @Label("Payload Size")
+    @Description("Response Content-Length where the target reports it, otherwise characters of job text sent")
+    @DataAmount
+    long bytes;
+
+    @Label("Succeeded")
+    boolean succeeded;
+
+    public static IntegrationCallEvent begin(String target, String operation, Object jobId) {
+        IntegrationCallEvent event = new IntegrationCallEvent();
+        if (event.isEnabled()) {
+            event.target = target;
+            event.operation = operation;
+            event.jobId = jobId != null ? jobId.toString() : null;
+            event.begin();
+        }
+        return event;
+    }
+
+    public IntegrationCallEvent rows(long rows) {
+        this.rows += rows;
+        return this;
+    }
+
+    public IntegrationCallEvent bytes(long bytes) {
+        if (bytes > 0) {
+            this.bytes += bytes;
+        }
+        return this;
+    }
+
+    public IntegrationCallEvent posting(JobPosting posting) {
+        if (isEnabled()) {
+            rows++;
+            bytes += TextSize.of(posting);
+        }
+        return this;
+    }
+
+    public void succeeded() {
+        succeeded = true;
+    }
+}
@@ -0,0 +1,28 @@
+package com.platform.talent.jobposting.service.jfr;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Records each call of the annotated service method as a {@link JobOperationEvent}.
+ * {@link #tenant()} and {@link #job()} are SpEL expressions over the method's
+ * parameters, such as {@code #tenantId} or {@code #criteria.tenantId}; they are
+ * only evaluated while a recording has the event enabled.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface JobOperation {
+
+    /** Operation name in the event; the method name when empty. */
+    String value() default "";
+
+    /** Tenant (organization for postings) of the call. */
+    String tenant() default "";
+
+    /** Job id when it is an argument; otherwise it comes from the returned job or posting. */
+    String job() default "";
+}
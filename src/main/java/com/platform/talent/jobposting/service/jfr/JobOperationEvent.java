@@ -0,0 +1,146 @@
+package com.platform.talent.jobposting.service.jfr;
+
+import com.platform.talent.jobposting.api.dto.JobResponse;
+import com.platform.talent.jobposting.domain.model.Job;
+import com.platform.talent.jobposting.domain.model.JobPosting;
+import com.platform.talent.jobposting.domain.model.PublishedJobView;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One {@code JobService} or {@code JobPostingService} call, emitted by
+ * {@link JobOperationInterceptor} around methods annotated with
+ * {@link JobOperation}. The duration includes the transaction commit. Rows and
+ * text are taken from the return value; a method that returns nothing adds its
+ * job through {@link #current()}.
+ * <p>
+ * Fields are only filled in while a recording has the event enabled, so with
+ * no recording running a call costs one {@link #isEnabled()} check.
+ */
+@Name("com.platform.talent.jobposting.JobOperation")
+@Label("Job Operation")
+@Category({"Job Posting", "Service"})
+@Description("A job or job posting service call, with the rows and text it handled")
+@StackTrace(false)
+public class JobOperationEvent extends Event {
+
+    private static final ThreadLocal<JobOperationEvent> CURRENT = new ThreadLocal<>();
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Tenant")
+    String tenantId;
+
+    @Label("Job ID")
+    String jobId;
+
+    @Label("Rows")
+    @Description("Jobs or postings loaded or written")
+    long rows;
+
+    @Label("Text Length")
+    @Description("Characters of title and description text handled, approximating payload size")
+    long textLength;
+
+    @Label("Succeeded")
+    boolean succeeded;
+
+    public static JobOperationEvent begin(String operation, Object tenantId, Object jobId) {
+        JobOperationEvent event = new JobOperationEvent();
+        if (event.isEnabled()) {
+            event.operation = operation;
+            event.tenantId = tenantId != null ? tenantId.toString() : null;
+            event.jobId = jobId != null ? jobId.toString() : null;
+            event.begin();
+        }
+        return event;
+    }
+
+    /**
+     * The event of the innermost {@link JobOperation} running on this thread, or a detached
+     * one that is never committed when the method was called without its proxy.
+     */
+    public static JobOperationEvent current() {
+        JobOperationEvent event = CURRENT.get();
+        return event != null ? event : new JobOperationEvent();
+    }
+
+    /** Makes this the current event; returns the outer one for {@link #restore}. */
+    JobOperationEvent enter() {
+        JobOperationEvent outer = CURRENT.get();
+        CURRENT.set(this);
+        return outer;
+    }
+
+    static void restore(JobOperationEvent outer) {
+        if (outer != null) {
+            CURRENT.set(outer);
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    public JobOperationEvent job(Job job) {
+        if (isEnabled() && job != null) {
+            jobId = String.valueOf(job.getId());
+            rows++;
+            textLength += TextSize.of(job);
+        }
+        return this;
+    }
+
+    public JobOperationEvent posting(JobPosting posting) {
+        if (isEnabled() && posting != null) {
+            jobId = posting.getJobId();
+            rows++;
+            textLength += TextSize.of(posting);
+        }
+        return this;
+    }
+
+    /** Counts what the operation returned: a job, posting or response, or a page or list of them. */
+    JobOperationEvent result(Object result) {
+        if (!isEnabled()) {
+            return this;
+        }
+        if (result instanceof Iterable<?> items) {
+            for (Object item : items) {
+                count(item);
+            }
+        } else if (result instanceof Job job) {
+            job(job);
+        } else if (result instanceof JobPosting posting) {
+            posting(posting);
+        } else if (result instanceof JobResponse response) {
+            jobId = String.valueOf(response.getId());
+            count(response);
+        }
+        return this;
+    }
+
+    public void succeeded() {
+        succeeded = true;
+    }
+
+    private void count(Object item) {
+        long length;
+        if (item instanceof Job job) {
+            length = TextSize.of(job);
+        } else if (item instanceof JobPosting posting) {
+            length = TextSize.of(posting);
+        } else if (item instanceof PublishedJobView view) {
+            length = TextSize.of(view);
+        } else if (item instanceof JobResponse response) {
+            length = TextSize.of(response.getTitle(), response.getDescription());
+        } else {
+            return;
+        }
+        rows++;
+        textLength += length;
+    }
+}
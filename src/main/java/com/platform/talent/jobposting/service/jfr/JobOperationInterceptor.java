@@ -0,0 +1,66 @@
+package com.platform.talent.jobposting.service.jfr;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Wraps {@link JobOperation} methods in a {@link JobOperationEvent}: begins it
+ * with the operation, tenant and job id, counts the return value, marks it
+ * succeeded when the call returns normally and commits it either way.
+ */
+public class JobOperationInterceptor implements MethodInterceptor {
+
+    private final SpelExpressionParser parser = new SpelExpressionParser();
+    private final ParameterNameDiscoverer parameterNames = new DefaultParameterNameDiscoverer();
+    private final Map<Method, Operation> operations = new ConcurrentHashMap<>();
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Operation operation = operations.computeIfAbsent(invocation.getMethod(), method ->
+                parse(AopUtils.getMostSpecificMethod(method, AopUtils.getTargetClass(invocation.getThis()))));
+        JobOperationEvent event = new JobOperationEvent();
+        if (event.isEnabled()) {
+            MethodBasedEvaluationContext context = new MethodBasedEvaluationContext(
+                    invocation.getThis(), operation.method(), invocation.getArguments(), parameterNames);
+            event = JobOperationEvent.begin(operation.name(),
+                    operation.tenant() != null ? operation.tenant().getValue(context) : null,
+                    operation.job() != null ? operation.job().getValue(context) : null);
+        }
+        JobOperationEvent outer = event.enter();
+        try {
+            Object result = invocation.proceed();
+            event.result(result).succeeded();
+            return result;
+        } finally {
+            JobOperationEvent.restore(outer);
+            event.commit();
+        }
+    }
+
+    private Operation parse(Method method) {
+        JobOperation annotation = AnnotatedElementUtils.findMergedAnnotation(method, JobOperation.class);
+        if (annotation == null) {
+            return new Operation(method, method.getName(), null, null);
+        }
+        return new Operation(method, annotation.value().isEmpty() ? method.getName() : annotation.value(),
+                expression(annotation.tenant()), expression(annotation.job()));
+    }
+
+    private Expression expression(String source) {
+        return source.isEmpty() ? null : parser.parseExpression(source);
+    }
+
+    private record Operation(Method method, String name, Expression tenant, Expression job) {
+    }
+}
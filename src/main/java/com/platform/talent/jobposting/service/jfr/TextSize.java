@@ -0,0 +1,36 @@
+package com.platform.talent.jobposting.service.jfr;
+
+import com.platform.talent.jobposting.domain.model.Job;
+import com.platform.talent.jobposting.domain.model.JobPosting;
+import com.platform.talent.jobposting.domain.model.PublishedJobView;
+
+/** Character counts for the event size fields; cheaper than encoding the text to count bytes. */
+final class TextSize {
+
+    private TextSize() {
+    }
+
+    static long of(String... texts) {
+        long size = 0;
+        for (String text : texts) {
+            if (text != null) {
+                size += text.length();
+            }
+        }
+        return size;
+    }
+
+    static long of(Job job) {
+        return of(job.getTitle(), job.getDescription());
+    }
+
+    static long of(JobPosting posting) {
+        return of(posting.getJobTitle(), posting.getJobDescription(), posting.getResponsibilities(),
+                posting.getQualifications(), posting.getBenefits());
+    }
+
+    static long of(PublishedJobView view) {
+        return of(view.getJobTitle(), view.getJobDescription(), view.getResponsibilities(),
+                view.getQualifications(), view.getBenefits());
+    }
+}
@@ -0,0 +1,202 @@
+package com.platform.talent.jobposting.service.similar;
+
+import com.platform.talent.jobposting.api.dto.SimilarJobResponse;
+import com.platform.talent.jobposting.domain.model.Job;
+import com.platform.talent.jobposting.domain.model.JobStatus;
+import com.platform.talent.jobposting.domain.repository.JobRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * "Similar jobs" for published jobs, served from precomputed top-k lists.
+ * <ul>
+ *   <li>Offline: a nightly rebuild re-vectorizes each tenant's published jobs
+ *       with fresh IDF and recomputes every list in one set-based statement.</li>
+ *   <li>Incremental: a publish vectorizes the job against the tenant's current
+ *       document frequencies, computes its list, and offers it to the lists of
+ *       the jobs it is closest to. A close or delete removes the job and
+ *       recomputes only the lists that contained it.</li>
+ * </ul>
+ * Incremental refreshes run after commit on a background thread, coalesced
+ * per job. Each refresh re-reads the job, so a publish followed quickly by a
+ * close settles on the final state. Writers of one tenant are serialized by an
+ * advisory lock.
+ */
+@Service
+@Slf4j
+public class SimilarJobService {
+
+    private final JobRepository jobRepository;
+    private final SimilarJobStore store;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TermVectorizer vectorizer;
+    private final Set<UUID> pending = ConcurrentHashMap.newKeySet();
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "similar-jobs-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${similar-jobs.enabled:true}")
+    private boolean enabled;
+
+    @Value("${similar-jobs.neighbors:20}")
+    private int neighbors;
+
+    @Value("${similar-jobs.fanout:100}")
+    private int fanout;
+
+    @Value("${similar-jobs.min-score:0.05}")
+    private double minScore;
+
+    @Value("${similar-jobs.max-df-ratio:0.5}")
+    private double maxDfRatio;
+
+    public SimilarJobService(JobRepository jobRepository,
+                             SimilarJobStore store,
+                             JdbcTemplate jdbcTemplate,
+                             TransactionTemplate transactionTemplate,
+                             @Value("${similar-jobs.hash-bits:20}") int hashBits,
+                             @Value("${similar-jobs.max-terms:200}") int maxTerms) {
+        this.jobRepository = jobRepository;
+        this.store = store;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.vectorizer = new TermVectorizer(hashBits, maxTerms);
+    }
+
+    @Transactional(readOnly = true)
+    public List<SimilarJobResponse> findSimilar(UUID tenantId, UUID jobId, int limit) {
+        return jdbcTemplate.query(
+                "SELECT j.id, j.title, j.location, j.employment_type, j.experience_level, s.score " +
+                "FROM ggj_job_similar s JOIN ggj_jobs j ON j.id = s.similar_job_id " +
+                "WHERE s.job_id = ? AND s.tenant_id = ? AND j.status = 'PUBLISHED' " +
+                "ORDER BY s.score DESC LIMIT ?",
+                (rs, i) -> SimilarJobResponse.builder()
+                        .id(rs.getObject("id", UUID.class))
+                        .title(rs.getString("title"))
+                        .location(rs.getString("location"))
+                        .employmentType(rs.getString("employment_type"))
+                        .experienceLevel(rs.getString("experience_level"))
+                        .score(rs.getDouble("score"))
+                        .build(),
+                jobId, tenantId, Math.max(1, Math.min(limit, neighbors)));
+    }
+
+    /** Call after a job is published, closed or deleted; the refresh runs once the transaction commits. */
+    public void onStatusChanged(Job job) {
+        if (!enabled) {
+            return;
+        }
+        UUID jobId = job.getId();
+        UUID tenantId = job.getTenantId();
+        Runnable submit = () -> {
+            if (pending.add(jobId)) {
+                refresher.execute(() -> {
+                    pending.remove(jobId);
+                    try {
+                        transactionTemplate.executeWithoutResult(status -> refresh(tenantId, jobId));
+                    } catch (Exception e) {
+                        log.warn("Similar-jobs refresh failed for job {}; the nightly rebuild will repair it", jobId, e);
+                    }
+                });
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit.run();
+                }
+            });
+        } else {
+            submit.run();
+        }
+    }
+
+    void refresh(UUID tenantId, UUID jobId) {
+        store.lockTenant(tenantId);
+        Optional<Job> job = jobRepository.findByIdAndTenantId(jobId, tenantId)
+                .filter(j -> j.getStatus() == JobStatus.PUBLISHED);
+        if (job.isEmpty()) {
+            store.removeVector(jobId);
+            for (UUID owner : store.removeFromLists(jobId)) {
+                store.replaceNeighbors(owner, tenantId, store.nearest(owner, tenantId, minScore, neighbors));
+            }
+            return;
+        }
+
+        // Counted without this job's previous vector, then with it once: df includes the job itself
+        store.removeVector(jobId);
+        Map<Integer, Integer> counts = termCounts(job.get());
+        long documents = store.countVectors(tenantId) + 1;
+        Map<Integer, Long> frequencies = store.documentFrequencies(tenantId, counts.keySet());
+        store.replaceVector(jobId, tenantId, vectorizer.weigh(counts, term ->
+                TermVectorizer.idf(documents, frequencies.getOrDefault(term, 0L) + 1, maxDfRatio)));
+
+        List<SimilarJobStore.Neighbor> closest = store.nearest(jobId, tenantId, minScore, fanout);
+        store.replaceNeighbors(jobId, tenantId, closest.subList(0, Math.min(neighbors, closest.size())));
+        store.offerToLists(jobId, tenantId, closest, neighbors);
+    }
+
+    @Scheduled(cron = "${similar-jobs.rebuild-cron:0 15 4 * * *}")
+    public void rebuildAll() {
+        if (!enabled) {
+            return;
+        }
+        for (UUID tenantId : store.tenantsWithPublishedJobs()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> rebuildTenant(tenantId));
+            } catch (Exception e) {
+                log.error("Similar-jobs rebuild failed for tenant {}", tenantId, e);
+            }
+        }
+    }
+
+    void rebuildTenant(UUID tenantId) {
+        store.lockTenant(tenantId);
+        List<Job> published = jobRepository.findByTenantIdAndStatus(tenantId, JobStatus.PUBLISHED);
+        Map<UUID, Map<Integer, Integer>> counts = new HashMap<>();
+        Map<Integer, Long> frequencies = new HashMap<>();
+        for (Job job : published) {
+            Map<Integer, Integer> jobCounts = termCounts(job);
+            counts.put(job.getId(), jobCounts);
+            jobCounts.keySet().forEach(term -> frequencies.merge(term, 1L, Long::sum));
+        }
+
+        store.clearTenant(tenantId);
+        long documents = published.size();
+        counts.forEach((jobId, jobCounts) -> store.replaceVector(jobId, tenantId, vectorizer.weigh(jobCounts,
+                term -> TermVectorizer.idf(documents, frequencies.get(term), maxDfRatio))));
+        int rows = store.rebuildNeighbors(tenantId, minScore, neighbors);
+        log.info("Rebuilt similar jobs for tenant {}: {} jobs, {} neighbor rows", tenantId, documents, rows);
+    }
+
+    private Map<Integer, Integer> termCounts(Job job) {
+        return vectorizer.termCounts(job.getTitle(), job.getDescription(), job.getRequirements());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+}
@@ -0,0 +1,163 @@
+package com.platform.talent.jobposting.service.similar;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * SQL side of the similar-jobs store (V8__similar_jobs.sql). Arrays are passed
+ * as Postgres array literals and unnested, so writing a vector or a neighbor
+ * list is one statement regardless of its length.
+ */
+@Component
+@RequiredArgsConstructor
+class SimilarJobStore {
+
+    record Neighbor(UUID jobId, double score) {}
+
+    // Cosine similarity via the inverted index: join the job's own terms to every other job sharing them
+    private static final String NEAREST =
+            "SELECT o.job_id, SUM(s.weight * o.weight) AS score " +
+            "FROM ggj_job_vector_terms s " +
+            "JOIN ggj_job_vector_terms o ON o.tenant_id = s.tenant_id AND o.term = s.term AND o.job_id <> s.job_id " +
+            "WHERE s.job_id = ? AND s.tenant_id = ? " +
+            "GROUP BY o.job_id HAVING SUM(s.weight * o.weight) >= ? " +
+            "ORDER BY score DESC, o.job_id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** Serializes all writers of one tenant's vectors and lists until the transaction ends. */
+    void lockTenant(UUID tenantId) {
+        jdbcTemplate.queryForObject("SELECT pg_advisory_xact_lock(?)::text", String.class,
+                tenantId.getMostSignificantBits() ^ tenantId.getLeastSignificantBits());
+    }
+
+    long countVectors(UUID tenantId) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM ggj_job_vectors WHERE tenant_id = ?", Long.class, tenantId);
+        return count != null ? count : 0;
+    }
+
+    Map<Integer, Long> documentFrequencies(UUID tenantId, Iterable<Integer> terms) {
+        Map<Integer, Long> frequencies = new HashMap<>();
+        jdbcTemplate.query("SELECT term, COUNT(*) FROM ggj_job_vector_terms " +
+                        "WHERE tenant_id = ? AND term = ANY(CAST(? AS int[])) GROUP BY term",
+                rs -> {
+                    frequencies.put(rs.getInt(1), rs.getLong(2));
+                },
+                tenantId, arrayLiteral(terms));
+        return frequencies;
+    }
+
+    void replaceVector(UUID jobId, UUID tenantId, Map<Integer, Float> vector) {
+        removeVector(jobId);
+        if (vector.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update("INSERT INTO ggj_job_vectors (job_id, tenant_id) VALUES (?, ?)", jobId, tenantId);
+        List<Map.Entry<Integer, Float>> entries = List.copyOf(vector.entrySet());
+        jdbcTemplate.update("INSERT INTO ggj_job_vector_terms (job_id, term, tenant_id, weight) " +
+                        "SELECT ?, u.term, ?, u.weight " +
+                        "FROM unnest(CAST(? AS int[]), CAST(? AS real[])) AS u(term, weight)",
+                jobId, tenantId,
+                arrayLiteral(entries.stream().map(Map.Entry::getKey).toList()),
+                arrayLiteral(entries.stream().map(Map.Entry::getValue).toList()));
+    }
+
+    void removeVector(UUID jobId) {
+        jdbcTemplate.update("DELETE FROM ggj_job_vectors WHERE job_id = ?", jobId); // terms cascade
+    }
+
+    List<Neighbor> nearest(UUID jobId, UUID tenantId, double minScore, int limit) {
+        return jdbcTemplate.query(NEAREST,
+                (rs, i) -> new Neighbor(rs.getObject(1, UUID.class), rs.getDouble(2)),
+                jobId, tenantId, minScore, limit);
+    }
+
+    void replaceNeighbors(UUID jobId, UUID tenantId, List<Neighbor> neighbors) {
+        jdbcTemplate.update("DELETE FROM ggj_job_similar WHERE job_id = ?", jobId);
+        if (neighbors.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update("INSERT INTO ggj_job_similar (job_id, similar_job_id, tenant_id, score) " +
+                        "SELECT ?, u.similar_job_id, ?, u.score " +
+                        "FROM unnest(CAST(? AS uuid[]), CAST(? AS real[])) AS u(similar_job_id, score)",
+                jobId, tenantId,
+                arrayLiteral(neighbors.stream().map(Neighbor::jobId).toList()),
+                arrayLiteral(neighbors.stream().map(Neighbor::score).toList()));
+    }
+
+    /**
+     * Offers {@code candidate} to each owner's list with the owner's score and
+     * trims every touched list back to {@code k}, so it only stays where it
+     * beats the current k-th neighbor.
+     */
+    void offerToLists(UUID candidate, UUID tenantId, List<Neighbor> owners, int k) {
+        if (owners.isEmpty()) {
+            return;
+        }
+        String ownerIds = arrayLiteral(owners.stream().map(Neighbor::jobId).toList());
+        jdbcTemplate.update("INSERT INTO ggj_job_similar (job_id, similar_job_id, tenant_id, score) " +
+                        "SELECT u.job_id, ?, ?, u.score " +
+                        "FROM unnest(CAST(? AS uuid[]), CAST(? AS real[])) AS u(job_id, score) " +
+                        "ON CONFLICT (job_id, similar_job_id) DO UPDATE SET score = EXCLUDED.score",
+                candidate, tenantId, ownerIds,
+                arrayLiteral(owners.stream().map(Neighbor::score).toList()));
+        jdbcTemplate.update("DELETE FROM ggj_job_similar s USING (" +
+                        "  SELECT job_id, similar_job_id, " +
+                        "         ROW_NUMBER() OVER (PARTITION BY job_id ORDER BY score DESC, similar_job_id) AS rn " +
+                        "  FROM ggj_job_similar WHERE job_id = ANY(CAST(? AS uuid[]))) r " +
+                        "WHERE s.job_id = r.job_id AND s.similar_job_id = r.similar_job_id AND r.rn > ?",
+                ownerIds, k);
+    }
+
+    /** Drops the job's own list and its entries in other lists; returns the owners of those lists. */
+    List<UUID> removeFromLists(UUID jobId) {
+        jdbcTemplate.update("DELETE FROM ggj_job_similar WHERE job_id = ?", jobId);
+        return jdbcTemplate.queryForList(
+                "DELETE FROM ggj_job_similar WHERE similar_job_id = ? RETURNING job_id", UUID.class, jobId);
+    }
+
+    void clearTenant(UUID tenantId) {
+        jdbcTemplate.update("DELETE FROM ggj_job_similar WHERE tenant_id = ?", tenantId);
+        jdbcTemplate.update("DELETE FROM ggj_job_vectors WHERE tenant_id = ?", tenantId);
+    }
+
+    /** All-pairs top-k for a tenant in one statement, used by the full rebuild. */
+    int rebuildNeighbors(UUID tenantId, double minScore, int k) {
+        return jdbcTemplate.update("INSERT INTO ggj_job_similar (job_id, similar_job_id, tenant_id, score) " +
+                        "SELECT job_id, similar_job_id, ?, score FROM (" +
+                        "  SELECT a.job_id, b.job_id AS similar_job_id, SUM(a.weight * b.weight) AS score, " +
+                        "         ROW_NUMBER() OVER (PARTITION BY a.job_id " +
+                        "                            ORDER BY SUM(a.weight * b.weight) DESC, b.job_id) AS rn " +
+                        "  FROM ggj_job_vector_terms a " +
+                        "  JOIN ggj_job_vector_terms b " +
+                        "    ON b.tenant_id = a.tenant_id AND b.term = a.term AND b.job_id <> a.job_id " +
+                        "  WHERE a.tenant_id = ? " +
+                        "  GROUP BY a.job_id, b.job_id) ranked " +
+                        "WHERE rn <= ? AND score >= ?",
+                tenantId, tenantId, k, minScore);
+    }
+
+    List<UUID> tenantsWithPublishedJobs() {
+        return jdbcTemplate.queryForList(
+                "SELECT DISTINCT tenant_id FROM ggj_jobs WHERE status = 'PUBLISHED' " +
+                "UNION SELECT DISTINCT tenant_id FROM ggj_job_vectors", UUID.class);
+    }
+
+    private static String arrayLiteral(Iterable<?> values) {
+        StringBuilder literal = new StringBuilder("{");
+        for (Object value : values) {
+            if (literal.length() > 1) {
+                literal.append(',');
+            }
+            literal.append(value);
+        }
+        return literal.append('}').toString();
+    }
+}
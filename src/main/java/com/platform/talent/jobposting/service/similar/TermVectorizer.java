@@ -0,0 +1,124 @@
+package com.platform.talent.jobposting.service.similar;
+
+import java.text.Normalizer;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Sparse TF-IDF vectors over hashed terms (the hashing trick): terms map
+ * straight to one of 2^bits feature ids, so there is no vocabulary to store
+ * or keep in sync across replicas, at the cost of rare collisions.
+ * <p>
+ * Title terms count three times and requirement terms twice, so two jobs
+ * with the same role but different boilerplate still land close together.
+ */
+final class TermVectorizer {
+
+    static final int TITLE_BOOST = 3;
+    static final int REQUIREMENTS_BOOST = 2;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "has", "have", "in", "is",
+            "it", "its", "of", "on", "or", "our", "that", "the", "their", "this", "to", "we", "will",
+            "with", "you", "your", "who", "what", "which", "all", "can", "us", "about", "into");
+
+    private final int mask;
+    private final int maxTerms;
+
+    TermVectorizer(int bits, int maxTerms) {
+        this.mask = (1 << bits) - 1;
+        this.maxTerms = maxTerms;
+    }
+
+    /** Raw boosted term counts of a job's title, description and requirements. */
+    Map<Integer, Integer> termCounts(String title, String description, Map<String, Object> requirements) {
+        Map<Integer, Integer> counts = new HashMap<>();
+        addTerms(counts, title, TITLE_BOOST);
+        addTerms(counts, description, 1);
+        if (requirements != null) {
+            StringBuilder text = new StringBuilder();
+            flatten(requirements.values(), text);
+            addTerms(counts, text.toString(), REQUIREMENTS_BOOST);
+        }
+        return counts;
+    }
+
+    /**
+     * Sublinear TF times IDF, keeping the {@code maxTerms} heaviest components,
+     * L2-normalized so a dot product is the cosine similarity. Terms whose IDF
+     * is zero or negative (present in almost every job) are dropped.
+     */
+    Map<Integer, Float> weigh(Map<Integer, Integer> counts, IntToDoubleFunction idf) {
+        Map<Integer, Double> weights = new HashMap<>();
+        counts.forEach((term, count) -> {
+            double w = (1.0 + Math.log(count)) * idf.applyAsDouble(term);
+            if (w > 0) {
+                weights.put(term, w);
+            }
+        });
+        Map<Integer, Float> vector = new HashMap<>();
+        double norm = Math.sqrt(weights.values().stream()
+                .sorted((a, b) -> Double.compare(b, a))
+                .limit(maxTerms)
+                .mapToDouble(w -> w * w)
+                .sum());
+        if (norm == 0) {
+            return vector;
+        }
+        weights.entrySet().stream()
+                .sorted((a, b) -> Double.compare(b.getValue(), a.getValue()))
+                .limit(maxTerms)
+                .forEach(e -> vector.put(e.getKey(), (float) (e.getValue() / norm)));
+        return vector;
+    }
+
+    /**
+     * Smoothed IDF, ln((1 + n) / (1 + df)) + 1; zero for terms in more than
+     * maxDfRatio of a tenant's jobs once it has enough jobs for that to mean something.
+     */
+    static double idf(long documents, long documentFrequency, double maxDfRatio) {
+        if (documents >= 20 && documentFrequency > maxDfRatio * documents) {
+            return 0;
+        }
+        return Math.log((1.0 + documents) / (1.0 + documentFrequency)) + 1.0;
+    }
+
+    private void addTerms(Map<Integer, Integer> counts, String text, int boost) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        String folded = Normalizer.normalize(text, Normalizer.Form.NFKD)
+                .replaceAll("\\p{M}+", "")
+                .toLowerCase(Locale.ROOT);
+        for (String token : folded.split("[^\\p{L}\\p{N}+#]+")) {
+            if (token.length() > 1 && !STOP_WORDS.contains(token)) {
+                counts.merge(hash(token), boost, Integer::sum);
+            }
+        }
+    }
+
+    private int hash(String token) {
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < token.length(); i++) {
+            h ^= token.charAt(i);
+            h *= 0x100000001B3L;
+        }
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private static void flatten(Collection<?> values, StringBuilder text) {
+        for (Object value : values) {
+            if (value instanceof Map<?, ?> map) {
+                flatten(map.values(), text);
+            } else if (value instanceof Collection<?> list) {
+                flatten(list, text);
+            } else if (value != null) {
+                text.append(value).append(' ');
+            }
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.platform.talent.jobposting.service.typeahead;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Weighted prefix trie for autocomplete. Each completion is indexed under its
+ * full key and under every later word start, so "eng" finds "Software Engineer".
+ * Every node caches the best weight in its subtree. Top-k is therefore a
+ * best-first walk that visits only branches that can still beat the current
+ * k-th result, whatever the size of the subtree under the prefix.
+ * <p>
+ * Children are parallel sorted arrays rather than maps to keep nodes small.
+ * Not thread-safe; {@link TenantTypeaheadIndex} guards it.
+ */
+final class CompletionTrie {
+
+    static final int MAX_KEY_LENGTH = 64;
+    private static final int MAX_WORD_STARTS = 6;
+
+    private static final char[] NO_LABELS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final Completion[] NO_COMPLETIONS = new Completion[0];
+
+    /** A suggestion and its aggregate weight; the owner mutates weight and calls {@link #reweigh}. */
+    static final class Completion {
+        final String key;
+        final Object payload;
+        long weight;
+
+        Completion(String key, Object payload, long weight) {
+            this.key = key;
+            this.payload = payload;
+            this.weight = weight;
+        }
+    }
+
+    private static final class Node {
+        char[] labels = NO_LABELS;
+        Node[] children = NO_CHILDREN;
+        Completion[] completions = NO_COMPLETIONS; // completions whose indexed key ends here
+        long best = Long.MIN_VALUE;                // highest completion weight in this subtree
+    }
+
+    private enum Op { ADD, REMOVE, REWEIGH }
+
+    // Queue entry for the best-first walk: a subtree ranked by its best weight, or a completion
+    private record Ranked(long weight, Node node, Completion completion) {}
+
+    private final Node root = new Node();
+
+    void add(Completion completion) {
+        forEachIndexedKey(completion.key, k -> update(root, k, 0, completion, Op.ADD));
+    }
+
+    void remove(Completion completion) {
+        forEachIndexedKey(completion.key, k -> update(root, k, 0, completion, Op.REMOVE));
+    }
+
+    void reweigh(Completion completion) {
+        forEachIndexedKey(completion.key, k -> update(root, k, 0, completion, Op.REWEIGH));
+    }
+
+    /** Up to {@code limit} completions under the (already normalized) prefix, heaviest first. */
+    List<Completion> complete(String prefix, int limit) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = child(node, prefix.charAt(i));
+        }
+        if (node == null || node.best == Long.MIN_VALUE || limit <= 0) {
+            return Collections.emptyList();
+        }
+        PriorityQueue<Ranked> queue = new PriorityQueue<>((a, b) -> Long.compare(b.weight(), a.weight()));
+        queue.add(new Ranked(node.best, node, null));
+        List<Completion> results = new ArrayList<>(limit);
+        // A completion can sit under the prefix at more than one word start
+        Set<Completion> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        while (!queue.isEmpty() && results.size() < limit) {
+            Ranked next = queue.poll();
+            if (next.completion() != null) {
+                if (seen.add(next.completion())) {
+                    results.add(next.completion());
+                }
+                continue;
+            }
+            for (Completion c : next.node().completions) {
+                queue.add(new Ranked(c.weight, null, c));
+            }
+            for (Node c : next.node().children) {
+                queue.add(new Ranked(c.best, c, null));
+            }
+        }
+        return results;
+    }
+
+    boolean isEmpty() {
+        return root.children.length == 0;
+    }
+
+    // Returns true when the node no longer holds anything and can be unlinked
+    private boolean update(Node node, String key, int depth, Completion completion, Op op) {
+        if (depth == key.length()) {
+            if (op == Op.ADD) {
+                node.completions = append(node.completions, completion);
+            } else if (op == Op.REMOVE) {
+                node.completions = without(node.completions, completion);
+            }
+        } else {
+            char label = key.charAt(depth);
+            int idx = Arrays.binarySearch(node.labels, label);
+            if (idx < 0) {
+                if (op != Op.ADD) {
+                    return false; // not indexed under this key; nothing to do
+                }
+                idx = -idx - 1;
+                insertChild(node, idx, label, new Node());
+            }
+            if (update(node.children[idx], key, depth + 1, completion, op)) {
+                removeChild(node, idx);
+            }
+        }
+        node.best = Long.MIN_VALUE;
+        for (Completion c : node.completions) {
+            node.best = Math.max(node.best, c.weight);
+        }
+        for (Node c : node.children) {
+            node.best = Math.max(node.best, c.best);
+        }
+        return node != root && node.completions.length == 0 && node.children.length == 0;
+    }
+
+    private static Node child(Node node, char label) {
+        int idx = Arrays.binarySearch(node.labels, label);
+        return idx < 0 ? null : node.children[idx];
+    }
+
+    private static void insertChild(Node node, int idx, char label, Node child) {
+        int n = node.labels.length;
+        char[] labels = new char[n + 1];
+        Node[] children = new Node[n + 1];
+        System.arraycopy(node.labels, 0, labels, 0, idx);
+        System.arraycopy(node.children, 0, children, 0, idx);
+        labels[idx] = label;
+        children[idx] = child;
+        System.arraycopy(node.labels, idx, labels, idx + 1, n - idx);
+        System.arraycopy(node.children, idx, children, idx + 1, n - idx);
+        node.labels = labels;
+        node.children = children;
+    }
+
+    private static void removeChild(Node node, int idx) {
+        int n = node.labels.length;
+        if (n == 1) {
+            node.labels = NO_LABELS;
+            node.children = NO_CHILDREN;
+            return;
+        }
+        char[] labels = new char[n - 1];
+        Node[] children = new Node[n - 1];
+        System.arraycopy(node.labels, 0, labels, 0, idx);
+        System.arraycopy(node.children, 0, children, 0, idx);
+        System.arraycopy(node.labels, idx + 1, labels, idx, n - idx - 1);
+        System.arraycopy(node.children, idx + 1, children, idx, n - idx - 1);
+        node.labels = labels;
+        node.children = children;
+    }
+
+    private static Completion[] append(Completion[] completions, Completion completion) {
+        for (Completion c : completions) {
+            if (c == completion) {
+                return completions;
+            }
+        }
+        Completion[] grown = Arrays.copyOf(completions, completions.length + 1);
+        grown[completions.length] = completion;
+        return grown;
+    }
+
+    private static Completion[] without(Completion[] completions, Completion completion) {
+        for (int i = 0; i < completions.length; i++) {
+            if (completions[i] == completion) {
+                if (completions.length == 1) {
+                    return NO_COMPLETIONS;
+                }
+                Completion[] shrunk = new Completion[completions.length - 1];
+                System.arraycopy(completions, 0, shrunk, 0, i);
+                System.arraycopy(completions, i + 1, shrunk, i, completions.length - i - 1);
+                return shrunk;
+            }
+        }
+        return completions;
+    }
+
+    private static void forEachIndexedKey(String key, Consumer<String> action) {
+        int starts = 0;
+        for (int i = 0; i < key.length() && starts < MAX_WORD_STARTS; i++) {
+            if (i == 0 || key.charAt(i - 1) == ' ') {
+                action.accept(key.substring(i));
+                starts++;
+            }
+        }
+    }
+}
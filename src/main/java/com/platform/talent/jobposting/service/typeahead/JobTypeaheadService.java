@@ -0,0 +1,136 @@
+package com.platform.talent.jobposting.service.typeahead;
+
+import com.platform.talent.jobposting.api.dto.JobSuggestion;
+import com.platform.talent.jobposting.domain.model.Job;
+import com.platform.talent.jobposting.domain.model.JobStatus;
+import com.platform.talent.jobposting.domain.model.JobTypeaheadTerms;
+import com.platform.talent.jobposting.domain.repository.JobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Title/location autocomplete for published jobs, served from a per-tenant
+ * in-memory trie instead of a LIKE query per keystroke. Drafts and jobs
+ * awaiting approval are not public, so they never enter the index.
+ * <p>
+ * A tenant's index is built from the database on its first request, then kept
+ * current as jobs are created, edited, closed and deleted. Changes are applied
+ * only after the job's transaction commits. View counts change on every read,
+ * so popularity weights are refreshed by a periodic rebuild instead. That
+ * rebuild also repairs any update that raced with it. Tenants idle for longer
+ * than the idle timeout are dropped and rebuilt on demand.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobTypeaheadService {
+
+    private static final Set<JobStatus> INDEXED = EnumSet.of(JobStatus.PUBLISHED);
+
+    private final JobRepository jobRepository;
+    private final Map<UUID, TenantTypeaheadIndex> indexes = new ConcurrentHashMap<>();
+
+    @Value("${typeahead.enabled:true}")
+    private boolean enabled;
+
+    @Value("${typeahead.max-limit:20}")
+    private int maxLimit;
+
+    @Value("${typeahead.idle-evict-ms:3600000}")
+    private long idleEvictMs;
+
+    public List<JobSuggestion> complete(UUID tenantId, String prefix, int limit) {
+        if (!enabled || prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        return indexFor(tenantId).complete(prefix, Math.max(1, Math.min(limit, maxLimit)));
+    }
+
+    /** Created, edited or status changed; only published jobs stay in the index. */
+    public void onJobSaved(Job job) {
+        if (!INDEXED.contains(job.getStatus())) {
+            onJobRemoved(job);
+            return;
+        }
+        JobTypeaheadTerms terms = JobTypeaheadTerms.of(job);
+        afterCommit(job.getTenantId(), index -> index.put(terms));
+    }
+
+    public void onJobRemoved(Job job) {
+        UUID jobId = job.getId();
+        afterCommit(job.getTenantId(), index -> index.remove(jobId));
+    }
+
+    /** Many jobs changed at once (bulk import): the tenant reloads on next use instead of per-job updates. */
+    public void onBulkChange(UUID tenantId) {
+        indexes.remove(tenantId);
+    }
+
+    @Scheduled(fixedDelayString = "${typeahead.refresh-interval-ms:300000}")
+    public void refresh() {
+        long idleCutoff = System.currentTimeMillis() - idleEvictMs;
+        for (Map.Entry<UUID, TenantTypeaheadIndex> entry : indexes.entrySet()) {
+            if (entry.getValue().lastAccess() < idleCutoff) {
+                indexes.remove(entry.getKey(), entry.getValue());
+            } else {
+                indexes.replace(entry.getKey(), entry.getValue(), build(entry.getKey()));
+            }
+        }
+    }
+
+    // Built outside the map so the database load never runs inside a ConcurrentHashMap
+    // compute; two concurrent first requests may both build, and the first one wins
+    private TenantTypeaheadIndex indexFor(UUID tenantId) {
+        TenantTypeaheadIndex index = indexes.get(tenantId);
+        if (index != null) {
+            return index;
+        }
+        TenantTypeaheadIndex built = build(tenantId);
+        TenantTypeaheadIndex existing = indexes.putIfAbsent(tenantId, built);
+        return existing != null ? existing : built;
+    }
+
+    private TenantTypeaheadIndex build(UUID tenantId) {
+        long started = System.nanoTime();
+        TenantTypeaheadIndex index = new TenantTypeaheadIndex();
+        for (JobTypeaheadTerms terms : jobRepository.findTypeaheadTerms(tenantId, INDEXED)) {
+            index.put(terms);
+        }
+        log.debug("Built typeahead index for tenant {}: {} terms in {} ms",
+                tenantId, index.size(), (System.nanoTime() - started) / 1_000_000);
+        return index;
+    }
+
+    // Only tenants already in memory are updated; the others load fresh on first use
+    private void afterCommit(UUID tenantId, Consumer<TenantTypeaheadIndex> change) {
+        Runnable apply = () -> {
+            TenantTypeaheadIndex index = indexes.get(tenantId);
+            if (index != null) {
+                change.accept(index);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+}
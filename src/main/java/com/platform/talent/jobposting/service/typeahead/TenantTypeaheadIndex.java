@@ -0,0 +1,166 @@
+package com.platform.talent.jobposting.service.typeahead;
+
+import com.platform.talent.jobposting.api.dto.JobSuggestion;
+import com.platform.talent.jobposting.domain.model.JobTypeaheadTerms;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * One tenant's titles and locations. Jobs sharing a normalized title (or
+ * location) collapse into one suggestion. Its weight is the sum of the jobs'
+ * popularity (1 + viewCount), so it tracks jobs being added, edited and closed.
+ */
+final class TenantTypeaheadIndex {
+
+    private record TermKey(JobSuggestion.Type type, String key) {}
+
+    // What one job currently contributes, so it can be taken back out
+    private record Contribution(TermKey title, TermKey location, long weight) {}
+
+    private static final class Term {
+        final JobSuggestion.Type type;
+        final String text;
+        int jobs;
+
+        Term(JobSuggestion.Type type, String text) {
+            this.type = type;
+            this.text = text;
+        }
+    }
+
+    private final CompletionTrie trie = new CompletionTrie();
+    private final Map<TermKey, CompletionTrie.Completion> terms = new HashMap<>();
+    private final Map<UUID, Contribution> contributions = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile long lastAccess = System.currentTimeMillis();
+
+    void put(JobTypeaheadTerms job) {
+        lock.writeLock().lock();
+        try {
+            withdraw(job.jobId());
+            long weight = 1L + (job.viewCount() != null ? Math.max(job.viewCount(), 0) : 0);
+            TermKey title = contribute(JobSuggestion.Type.TITLE, job.title(), weight);
+            TermKey location = contribute(JobSuggestion.Type.LOCATION, job.location(), weight);
+            if (title != null || location != null) {
+                contributions.put(job.jobId(), new Contribution(title, location, weight));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(UUID jobId) {
+        lock.writeLock().lock();
+        try {
+            withdraw(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    List<JobSuggestion> complete(String prefix, int limit) {
+        lastAccess = System.currentTimeMillis();
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            List<JobSuggestion> suggestions = new ArrayList<>(limit);
+            for (CompletionTrie.Completion completion : trie.complete(key, limit)) {
+                Term term = (Term) completion.payload;
+                suggestions.add(JobSuggestion.builder()
+                        .text(term.text)
+                        .type(term.type)
+                        .jobCount(term.jobs)
+                        .build());
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    long lastAccess() {
+        return lastAccess;
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return terms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private TermKey contribute(JobSuggestion.Type type, String text, long weight) {
+        String key = normalize(text);
+        if (key.isEmpty()) {
+            return null;
+        }
+        TermKey termKey = new TermKey(type, key);
+        CompletionTrie.Completion completion = terms.get(termKey);
+        if (completion == null) {
+            completion = new CompletionTrie.Completion(key, new Term(type, display(text)), weight);
+            terms.put(termKey, completion);
+            ((Term) completion.payload).jobs = 1;
+            trie.add(completion);
+        } else {
+            completion.weight += weight;
+            ((Term) completion.payload).jobs++;
+            trie.reweigh(completion);
+        }
+        return termKey;
+    }
+
+    private void withdraw(UUID jobId) {
+        Contribution previous = contributions.remove(jobId);
+        if (previous != null) {
+            withdraw(previous.title(), previous.weight());
+            withdraw(previous.location(), previous.weight());
+        }
+    }
+
+    private void withdraw(TermKey termKey, long weight) {
+        if (termKey == null) {
+            return;
+        }
+        CompletionTrie.Completion completion = terms.get(termKey);
+        Term term = (Term) completion.payload;
+        if (--term.jobs == 0) {
+            terms.remove(termKey);
+            trie.remove(completion);
+        } else {
+            completion.weight -= weight;
+            trie.reweigh(completion);
+        }
+    }
+
+    // Lowercase, accents folded, punctuation as spaces; capped so long titles stay cheap to index
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String folded = Normalizer.normalize(text, Normalizer.Form.NFKD)
+                .replaceAll("\\p{M}+", "")
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("[^\\p{L}\\p{N}]+", " ")
+                .trim();
+        return folded.length() > CompletionTrie.MAX_KEY_LENGTH
+                ? folded.substring(0, CompletionTrie.MAX_KEY_LENGTH).trim()
+                : folded;
+    }
+
+    private static String display(String text) {
+        return text.trim().replaceAll("\\s+", " ");
+    }
+}
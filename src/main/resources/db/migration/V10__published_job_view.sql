@@ -0,0 +1,50 @@
+-- Job Posting Service - Published jobs read model
+-- Version: 10
+--
+-- One row per PUBLISHED job_postings row, with only the columns the public
+-- endpoints return. JobPostingService writes it in the same transaction as the
+-- status change, so public reads never filter job_postings by status.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE TABLE IF NOT EXISTS published_job_view (
+    job_id VARCHAR(255) PRIMARY KEY,
+    organization_id VARCHAR(255) NOT NULL,
+    job_title VARCHAR(255) NOT NULL,
+    job_description VARCHAR(6000),
+    responsibilities VARCHAR(3000),
+    qualifications VARCHAR(3000),
+    benefits VARCHAR(2000),
+    department VARCHAR(255) NOT NULL,
+    location VARCHAR(255),
+    work_type VARCHAR(255),
+    employment_type VARCHAR(255),
+    salary_min NUMERIC(38, 2),
+    salary_max NUMERIC(38, 2),
+    currency VARCHAR(255),
+    salary_normalized_min NUMERIC(38, 2),
+    salary_normalized_max NUMERIC(38, 2),
+    show_salary BOOLEAN,
+    published_date DATE,
+    expiry_date DATE
+);
+
+-- Public sort orders: newest first, job_id breaking ties. The text columns
+-- cannot be INCLUDEd (a description alone can exceed the btree tuple limit),
+-- so these serve the filter and the ORDER BY without a sort step.
+CREATE INDEX IF NOT EXISTS idx_published_job_view_recent ON published_job_view (published_date DESC, job_id);
+CREATE INDEX IF NOT EXISTS idx_published_job_view_department ON published_job_view (department, published_date DESC, job_id);
+
+-- Same open-ended range semantics as idx_job_salary_band on ggj_jobs
+CREATE INDEX IF NOT EXISTS idx_published_job_view_salary_band ON published_job_view
+    USING GIST (numrange(salary_normalized_min, salary_normalized_max, '[]'))
+    WHERE salary_normalized_min IS NOT NULL OR salary_normalized_max IS NOT NULL;
+
+-- Keyword search is a case-insensitive substring match on title or description
+CREATE INDEX IF NOT EXISTS idx_published_job_view_title_trgm ON published_job_view USING GIN (lower(job_title) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_published_job_view_description_trgm ON published_job_view
+    USING GIN (lower(job_description) gin_trgm_ops);
+
+-- Filled from job_postings by V11, once that table and its columns are guaranteed
+
+COMMENT ON TABLE published_job_view IS 'Live job postings for the public endpoints, maintained with job_postings';
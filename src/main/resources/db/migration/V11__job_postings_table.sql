@@ -0,0 +1,92 @@
+-- Job Posting Service - Managed job_postings schema
+-- Version: 11
+--
+-- job_postings used to be created by Hibernate (ddl-auto). The definition below
+-- is what that produced, so existing databases keep their table and new ones
+-- get the same columns; Hibernate now only validates it. Indexes are built
+-- without blocking writes in V12.
+
+CREATE TABLE IF NOT EXISTS job_postings (
+    job_id VARCHAR(255) PRIMARY KEY,
+    organization_id VARCHAR(255) NOT NULL,
+    requisition_id VARCHAR(255),
+    job_title VARCHAR(255) NOT NULL,
+    job_description VARCHAR(6000),
+    responsibilities VARCHAR(3000),
+    qualifications VARCHAR(3000),
+    benefits VARCHAR(2000),
+    department VARCHAR(255) NOT NULL,
+    location VARCHAR(255),
+    latitude DOUBLE PRECISION,
+    longitude DOUBLE PRECISION,
+    geohash VARCHAR(255),
+    work_type VARCHAR(255),
+    employment_type VARCHAR(255),
+    salary_min NUMERIC(38, 2),
+    salary_max NUMERIC(38, 2),
+    currency VARCHAR(255),
+    salary_normalized_min NUMERIC(38, 2),
+    salary_normalized_max NUMERIC(38, 2),
+    show_salary BOOLEAN,
+    status VARCHAR(255) NOT NULL
+        CHECK (status IN ('DRAFT', 'PENDING_APPROVAL', 'PUBLISHED', 'PAUSED', 'EXPIRED', 'CLOSED')),
+    published_date DATE,
+    expiry_date DATE,
+    view_count INTEGER,
+    application_count INTEGER,
+    publish_to_linked_in BOOLEAN,
+    publish_to_indeed BOOLEAN,
+    publish_to_glassdoor BOOLEAN,
+    publish_to_company_website BOOLEAN,
+    linked_in_job_id VARCHAR(255),
+    indeed_job_id VARCHAR(255),
+    glassdoor_job_id VARCHAR(255),
+    created_date DATE,
+    last_modified_date DATE,
+    created_by VARCHAR(255),
+    near_duplicate_of VARCHAR(255)
+);
+
+-- A table Hibernate built from an older JobPosting (production) lacks the columns added since
+ALTER TABLE job_postings
+    ADD COLUMN IF NOT EXISTS latitude DOUBLE PRECISION,
+    ADD COLUMN IF NOT EXISTS longitude DOUBLE PRECISION,
+    ADD COLUMN IF NOT EXISTS geohash VARCHAR(255),
+    ADD COLUMN IF NOT EXISTS salary_normalized_min NUMERIC(38, 2),
+    ADD COLUMN IF NOT EXISTS salary_normalized_max NUMERIC(38, 2),
+    ADD COLUMN IF NOT EXISTS near_duplicate_of VARCHAR(255);
+
+-- A duplicate would fail the concurrent unique build in V12 and leave an INVALID
+-- index behind, so stop here instead, while the migration is still transactional
+DO $$
+DECLARE
+    duplicates BIGINT;
+BEGIN
+    SELECT COUNT(*) INTO duplicates FROM (
+        SELECT requisition_id FROM job_postings
+        WHERE requisition_id IS NOT NULL
+        GROUP BY requisition_id
+        HAVING COUNT(*) > 1
+    ) d;
+    IF duplicates > 0 THEN
+        RAISE EXCEPTION 'job_postings has % requisition ids on more than one posting; resolve them before migrating',
+            duplicates;
+    END IF;
+END;
+$$;
+
+-- Postings published before the read model existed
+INSERT INTO published_job_view (job_id, organization_id, job_title, job_description, responsibilities,
+                                qualifications, benefits, department, location, work_type, employment_type,
+                                salary_min, salary_max, currency, salary_normalized_min,
+                                salary_normalized_max, show_salary, published_date, expiry_date)
+SELECT job_id, organization_id, job_title, job_description, responsibilities,
+       qualifications, benefits, department, location, work_type, employment_type,
+       salary_min, salary_max, currency, salary_normalized_min,
+       salary_normalized_max, show_salary, published_date, expiry_date
+FROM job_postings
+WHERE status = 'PUBLISHED'
+ON CONFLICT (job_id) DO NOTHING;
+
+COMMENT ON TABLE job_postings IS 'Job postings created from approved requisitions or directly by recruiters';
+COMMENT ON COLUMN job_postings.requisition_id IS 'Source requisition; at most one posting per requisition';
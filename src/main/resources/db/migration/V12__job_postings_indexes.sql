@@ -0,0 +1,41 @@
+-- Job Posting Service - job_postings indexes
+-- Version: 12
+--
+-- Built CONCURRENTLY so postings stay writable while the indexes build; this
+-- script runs outside a transaction (V12__job_postings_indexes.sql.conf).
+
+-- A failed concurrent build leaves an INVALID index behind, which IF NOT EXISTS
+-- below would keep. Drop those so a re-run after a failure rebuilds them; an
+-- invalid index is never used, so the brief exclusive lock is all this costs.
+DO $$
+DECLARE
+    invalid TEXT;
+BEGIN
+    FOR invalid IN
+        SELECT c.relname FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid
+        WHERE i.indrelid = 'job_postings'::regclass
+          AND NOT i.indisvalid
+          AND c.relname IN ('idx_job_posting_org_status', 'uq_job_posting_requisition',
+                            'idx_job_posting_published_boards')
+    LOOP
+        RAISE NOTICE 'Dropping invalid index % left by an earlier failed build', invalid;
+        EXECUTE format('DROP INDEX %I', invalid);
+    END LOOP;
+END;
+$$;
+
+-- Organization listings and per-status counts (findByOrganizationId uses the prefix)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_job_posting_org_status
+    ON job_postings (organization_id, status);
+
+-- One posting per requisition; NULLs stay distinct for postings created directly
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS uq_job_posting_requisition
+    ON job_postings (requisition_id);
+
+-- Published rows only: board ids for JobBoardReconciler without touching the wide heap rows
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_job_posting_published_boards
+    ON job_postings (job_id)
+    INCLUDE (publish_to_linked_in, publish_to_indeed, publish_to_glassdoor,
+             linked_in_job_id, indeed_job_id, glassdoor_job_id)
+    WHERE status = 'PUBLISHED';
+
@@ -0,0 +1,41 @@
+-- Job Posting Service - Keep near-duplicate matches inside the tenant
+-- Version: 13
+--
+-- near_duplicate_of is returned to API callers, so it may only name a job of
+-- the same tenant (organization for job_postings). A match against another
+-- tenant's description sets near_duplicate_external instead; the foreign id
+-- stays in ggj_near_dup_signatures.duplicate_of, which is never exposed.
+
+-- A column Hibernate already created has no default, which the import merge relies on
+ALTER TABLE ggj_jobs ADD COLUMN IF NOT EXISTS near_duplicate_external BOOLEAN NOT NULL DEFAULT FALSE;
+ALTER TABLE ggj_jobs ALTER COLUMN near_duplicate_external SET DEFAULT FALSE;
+
+-- Keep the partitioned copy column-aligned while the online migration is pending
+DO $$
+BEGIN
+    IF to_regclass('ggj_jobs_p') IS NOT NULL THEN
+        ALTER TABLE ggj_jobs_p ADD COLUMN IF NOT EXISTS near_duplicate_external BOOLEAN NOT NULL DEFAULT FALSE;
+        ALTER TABLE ggj_jobs_p ALTER COLUMN near_duplicate_external SET DEFAULT FALSE;
+    END IF;
+END;
+$$;
+
+ALTER TABLE job_postings ADD COLUMN IF NOT EXISTS near_duplicate_external BOOLEAN NOT NULL DEFAULT FALSE;
+ALTER TABLE job_postings ALTER COLUMN near_duplicate_external SET DEFAULT FALSE;
+
+-- Ids written before this migration: anything not provably the same tenant's
+-- (including a match that has since been archived or deleted) is hidden
+UPDATE ggj_jobs j
+SET near_duplicate_external = TRUE, near_duplicate_of = NULL
+WHERE j.near_duplicate_of IS NOT NULL
+  AND NOT EXISTS (SELECT 1 FROM ggj_jobs o WHERE o.id = j.near_duplicate_of AND o.tenant_id = j.tenant_id);
+
+UPDATE job_postings p
+SET near_duplicate_external = TRUE, near_duplicate_of = NULL
+WHERE p.near_duplicate_of IS NOT NULL
+  AND NOT EXISTS (SELECT 1 FROM job_postings o
+                  WHERE o.job_id = p.near_duplicate_of AND o.organization_id = p.organization_id);
+
+COMMENT ON COLUMN ggj_jobs.near_duplicate_of IS 'Earlier job of the same tenant whose description this one nearly duplicates';
+COMMENT ON COLUMN ggj_jobs.near_duplicate_external IS 'Description nearly duplicates another tenant''s job (id not exposed)';
+COMMENT ON COLUMN job_postings.near_duplicate_external IS 'Description nearly duplicates another organization''s posting (id not exposed)';
@@ -0,0 +1,54 @@
+-- Job Posting Service - Normalized salary band
+-- Version: 2
+--
+-- Production databases baseline at 1 (application-prod.yml): their ggj_jobs
+-- was built by Hibernate (ddl-auto: update) rather than V1, and tables or
+-- columns of later entities may already be there. From here on scripts create
+-- with IF NOT EXISTS and then bring types and defaults to what the scripts
+-- declare, which is a no-op where the earlier scripts ran.
+
+CREATE EXTENSION IF NOT EXISTS "uuid-ossp";
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- The Double mapping produced float8 salaries and no column defaults. chk_salary
+-- is left out: rows written without it may break it, and V4 copies the
+-- constraints of ggj_jobs onto the partitioned table its rows move into.
+ALTER TABLE ggj_jobs
+    ALTER COLUMN id SET DEFAULT uuid_generate_v4(),
+    ALTER COLUMN salary_min TYPE NUMERIC(15, 2),
+    ALTER COLUMN salary_max TYPE NUMERIC(15, 2),
+    ALTER COLUMN application_count SET DEFAULT 0,
+    ALTER COLUMN view_count SET DEFAULT 0,
+    ALTER COLUMN is_remote SET DEFAULT FALSE,
+    ALTER COLUMN is_featured SET DEFAULT FALSE,
+    ALTER COLUMN created_at SET DEFAULT CURRENT_TIMESTAMP,
+    ALTER COLUMN version SET DEFAULT 0;
+
+CREATE TABLE IF NOT EXISTS ggj_exchange_rates (
+    currency VARCHAR(3) PRIMARY KEY,
+    rate_to_base NUMERIC(18, 8) NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT chk_rate_positive CHECK (rate_to_base > 0)
+);
+
+ALTER TABLE ggj_jobs ADD COLUMN IF NOT EXISTS salary_normalized_min NUMERIC(15, 2);
+ALTER TABLE ggj_jobs ADD COLUMN IF NOT EXISTS salary_normalized_max NUMERIC(15, 2);
+ALTER TABLE ggj_jobs
+    ALTER COLUMN salary_normalized_min TYPE NUMERIC(15, 2),
+    ALTER COLUMN salary_normalized_max TYPE NUMERIC(15, 2);
+
+-- Backfill from rates already loaded; jobs in unknown currencies stay unbanded
+UPDATE ggj_jobs j
+SET salary_normalized_min = j.salary_min * r.rate_to_base,
+    salary_normalized_max = j.salary_max * r.rate_to_base
+FROM ggj_exchange_rates r
+WHERE r.currency = j.salary_currency;
+
+-- Range overlap index: numrange with a NULL bound is open-ended on that side
+CREATE INDEX IF NOT EXISTS idx_job_salary_band ON ggj_jobs
+    USING GIST (tenant_id, numrange(salary_normalized_min, salary_normalized_max, '[]'))
+    WHERE salary_normalized_min IS NOT NULL OR salary_normalized_max IS NOT NULL;
+
+COMMENT ON TABLE ggj_exchange_rates IS 'Conversion rates into the salary base currency';
+COMMENT ON COLUMN ggj_jobs.salary_normalized_min IS 'salary_min converted to the base currency';
+COMMENT ON COLUMN ggj_jobs.salary_normalized_max IS 'salary_max converted to the base currency';
@@ -0,0 +1,13 @@
+-- Job Posting Service - Geocoded job locations
+-- Version: 3
+
+ALTER TABLE ggj_jobs ADD COLUMN IF NOT EXISTS latitude DOUBLE PRECISION;
+ALTER TABLE ggj_jobs ADD COLUMN IF NOT EXISTS longitude DOUBLE PRECISION;
+ALTER TABLE ggj_jobs ADD COLUMN IF NOT EXISTS geohash VARCHAR(12);
+-- "C" collation keeps byte order so a prefix is a contiguous index range;
+-- a Hibernate-built column has the database default
+ALTER TABLE ggj_jobs ALTER COLUMN geohash TYPE VARCHAR(12) COLLATE "C";
+
+CREATE INDEX IF NOT EXISTS idx_job_geohash ON ggj_jobs(tenant_id, geohash) WHERE geohash IS NOT NULL;
+
+COMMENT ON COLUMN ggj_jobs.geohash IS 'Geohash of (latitude, longitude), geocoded from location at write time';
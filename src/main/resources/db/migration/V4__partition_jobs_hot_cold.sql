@@ -0,0 +1,173 @@
+-- Job Posting Service - Hot/cold partitioned ggj_jobs
+-- Version: 4
+--
+-- Builds the partitioned layout next to the live table. Existing rows are
+-- copied online by JobPartitionMigrator in keyset chunks while the sync
+-- trigger below mirrors concurrent writes; ggj_jobs_partition_cutover()
+-- then swaps the tables in one short transaction.
+--
+--   ggj_jobs_p (LIST status)
+--   ├── ggj_jobs_hot   DRAFT, PENDING_APPROVAL, APPROVED, PUBLISHED   full index set
+--   └── ggj_jobs_cold  CLOSED, CANCELLED, ARCHIVED (RANGE created_at)  lookup indexes only
+--       ├── ggj_jobs_cold_<year> ...
+--       └── ggj_jobs_cold_default
+--
+-- Nothing here exists before this script, also where Hibernate built ggj_jobs:
+-- LIKE copies whatever column order and columns the live table has, which
+-- V2 and V3 have already aligned, so the row copies by NEW.* stay positional.
+
+CREATE TABLE ggj_jobs_p (LIKE ggj_jobs INCLUDING DEFAULTS INCLUDING CONSTRAINTS)
+    PARTITION BY LIST (status);
+
+-- Partition keys must be part of the primary key, so it no longer makes id
+-- unique on its own: the same id could sit in two partitions with different
+-- statuses. ggj_job_ids below enforces id uniqueness across partitions.
+ALTER TABLE ggj_jobs_p ADD CONSTRAINT ggj_jobs_p_pkey PRIMARY KEY (id, status, created_at);
+
+CREATE TABLE ggj_jobs_hot PARTITION OF ggj_jobs_p
+    FOR VALUES IN ('DRAFT', 'PENDING_APPROVAL', 'APPROVED', 'PUBLISHED');
+
+CREATE TABLE ggj_jobs_cold PARTITION OF ggj_jobs_p
+    FOR VALUES IN ('CLOSED', 'CANCELLED', 'ARCHIVED')
+    PARTITION BY RANGE (created_at);
+
+CREATE TABLE ggj_jobs_cold_default PARTITION OF ggj_jobs_cold DEFAULT;
+
+CREATE OR REPLACE FUNCTION ggj_jobs_ensure_cold_partition(p_year INTEGER) RETURNS VOID AS $$
+DECLARE
+    part_name TEXT := 'ggj_jobs_cold_' || p_year;
+BEGIN
+    IF to_regclass(part_name) IS NULL THEN
+        EXECUTE format('CREATE TABLE %I PARTITION OF ggj_jobs_cold FOR VALUES FROM (%L) TO (%L)',
+                       part_name, make_date(p_year, 1, 1), make_date(p_year + 1, 1, 1));
+    END IF;
+END;
+$$ LANGUAGE plpgsql;
+
+DO $$
+DECLARE
+    first_year INTEGER := COALESCE((SELECT EXTRACT(YEAR FROM MIN(created_at))::INTEGER FROM ggj_jobs),
+                                   EXTRACT(YEAR FROM CURRENT_DATE)::INTEGER);
+BEGIN
+    FOR y IN first_year .. EXTRACT(YEAR FROM CURRENT_DATE)::INTEGER + 1 LOOP
+        PERFORM ggj_jobs_ensure_cold_partition(y);
+    END LOOP;
+END;
+$$;
+
+-- Indexes on every partition (names match the JPA @Table declarations after cutover)
+CREATE INDEX idx_jobp_tenant_status ON ggj_jobs_p(tenant_id, status);
+CREATE INDEX idx_jobp_published_at ON ggj_jobs_p(published_at);
+CREATE INDEX idx_jobp_expires_at ON ggj_jobs_p(expires_at);
+CREATE INDEX idx_jobp_recruiter ON ggj_jobs_p(recruiter_id);
+
+-- Hot-only indexes: search, jsonb and geo/salary lookups only matter for live jobs
+CREATE INDEX idx_jobp_hot_department ON ggj_jobs_hot(department_id);
+CREATE INDEX idx_jobp_hot_title_search ON ggj_jobs_hot USING GIN(to_tsvector('english', title));
+CREATE INDEX idx_jobp_hot_description_search ON ggj_jobs_hot USING GIN(to_tsvector('english', description));
+CREATE INDEX idx_jobp_hot_custom_fields ON ggj_jobs_hot USING GIN(custom_fields);
+CREATE INDEX idx_jobp_hot_requirements ON ggj_jobs_hot USING GIN(requirements);
+CREATE INDEX idx_jobp_hot_salary_band ON ggj_jobs_hot
+    USING GIST (tenant_id, numrange(salary_normalized_min, salary_normalized_max, '[]'))
+    WHERE salary_normalized_min IS NOT NULL OR salary_normalized_max IS NOT NULL;
+CREATE INDEX idx_jobp_hot_geohash ON ggj_jobs_hot(tenant_id, geohash) WHERE geohash IS NOT NULL;
+
+-- One row per job id across all partitions. A second row with an id already
+-- in use fails on ggj_job_ids_pkey whichever partition it lands in. A status
+-- change that moves a row between partitions fires AFTER DELETE then AFTER
+-- INSERT, which releases and re-registers the id.
+CREATE TABLE ggj_job_ids (
+    id UUID PRIMARY KEY
+);
+
+CREATE OR REPLACE FUNCTION ggj_jobs_register_id() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'DELETE' OR (TG_OP = 'UPDATE' AND NEW.id <> OLD.id) THEN
+        DELETE FROM ggj_job_ids WHERE id = OLD.id;
+    END IF;
+    IF TG_OP = 'INSERT' OR (TG_OP = 'UPDATE' AND NEW.id <> OLD.id) THEN
+        INSERT INTO ggj_job_ids (id) VALUES (NEW.id);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_ggj_jobs_p_register_id
+    AFTER INSERT OR UPDATE OF id OR DELETE ON ggj_jobs_p
+    FOR EACH ROW EXECUTE FUNCTION ggj_jobs_register_id();
+
+COMMENT ON TABLE ggj_job_ids IS 'Job ids in the partitioned ggj_jobs; enforces id uniqueness the partition-keyed primary key cannot';
+
+-- Mirror writes on the live table while the backfill runs. A status change
+-- moves the row between partitions, so updates are delete + insert by id.
+CREATE OR REPLACE FUNCTION ggj_jobs_sync_to_partitioned() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        DELETE FROM ggj_jobs_p WHERE id = OLD.id;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        INSERT INTO ggj_jobs_p SELECT NEW.* ON CONFLICT DO NOTHING;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_ggj_jobs_sync_partitioned
+    AFTER INSERT OR UPDATE OR DELETE ON ggj_jobs
+    FOR EACH ROW EXECUTE FUNCTION ggj_jobs_sync_to_partitioned();
+
+-- Copies one chunk after the given id. Source rows are share-locked so a
+-- concurrent update either lands before the copy (and is read) or waits and
+-- is then mirrored by the trigger.
+CREATE OR REPLACE FUNCTION ggj_jobs_partition_copy_chunk(p_after UUID, p_limit INTEGER)
+    RETURNS UUID AS $$
+DECLARE
+    last_id UUID;
+BEGIN
+    WITH chunk AS (
+        SELECT * FROM ggj_jobs
+        WHERE id > p_after
+        ORDER BY id
+        LIMIT p_limit
+        FOR SHARE
+    ), copied AS (
+        INSERT INTO ggj_jobs_p SELECT * FROM chunk ON CONFLICT DO NOTHING
+    )
+    SELECT id INTO last_id FROM chunk ORDER BY id DESC LIMIT 1;
+    RETURN last_id;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION ggj_jobs_partition_cutover() RETURNS VOID AS $$
+DECLARE
+    live_count BIGINT;
+    partitioned_count BIGINT;
+BEGIN
+    LOCK TABLE ggj_jobs IN ACCESS EXCLUSIVE MODE;
+
+    SELECT COUNT(*) INTO live_count FROM ggj_jobs;
+    SELECT COUNT(*) INTO partitioned_count FROM ggj_jobs_p;
+    IF live_count <> partitioned_count THEN
+        RAISE EXCEPTION 'Partition backfill incomplete: % live rows, % partitioned rows',
+            live_count, partitioned_count;
+    END IF;
+
+    DROP TRIGGER trg_ggj_jobs_sync_partitioned ON ggj_jobs;
+
+    ALTER TABLE ggj_jobs RENAME TO ggj_jobs_legacy;
+    ALTER INDEX idx_job_tenant_status RENAME TO idx_job_legacy_tenant_status;
+    ALTER INDEX idx_job_published_at RENAME TO idx_job_legacy_published_at;
+    ALTER INDEX idx_job_expires_at RENAME TO idx_job_legacy_expires_at;
+    ALTER INDEX idx_job_recruiter RENAME TO idx_job_legacy_recruiter;
+
+    ALTER TABLE ggj_jobs_p RENAME TO ggj_jobs;
+    ALTER TABLE ggj_jobs RENAME CONSTRAINT ggj_jobs_p_pkey TO ggj_jobs_part_pkey;
+    ALTER INDEX idx_jobp_tenant_status RENAME TO idx_job_tenant_status;
+    ALTER INDEX idx_jobp_published_at RENAME TO idx_job_published_at;
+    ALTER INDEX idx_jobp_expires_at RENAME TO idx_job_expires_at;
+    ALTER INDEX idx_jobp_recruiter RENAME TO idx_job_recruiter;
+
+    COMMENT ON TABLE ggj_jobs IS 'Job postings with approval workflow (hot/cold partitioned by status)';
+    COMMENT ON TABLE ggj_jobs_legacy IS 'Pre-partitioning copy of ggj_jobs; drop once the cutover is verified';
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,35 @@
+-- Job Posting Service - Archive for terminal jobs
+-- Version: 5
+
+CREATE TABLE IF NOT EXISTS ggj_jobs_archive (
+    id UUID PRIMARY KEY,
+    tenant_id UUID NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    title VARCHAR(255),
+    closed_at TIMESTAMP,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    payload JSONB NOT NULL
+);
+
+-- Compress every payload, not only rows past the default ~2kB TOAST threshold.
+-- lz4 where the server was built with it; otherwise the column keeps pglz.
+DO $$
+BEGIN
+    EXECUTE 'ALTER TABLE ggj_jobs_archive ALTER COLUMN payload SET COMPRESSION lz4';
+EXCEPTION WHEN feature_not_supported THEN
+    RAISE NOTICE 'lz4 not supported by this server, ggj_jobs_archive.payload keeps pglz';
+END;
+$$;
+ALTER TABLE ggj_jobs_archive SET (toast_tuple_target = 128);
+
+CREATE INDEX IF NOT EXISTS idx_job_archive_tenant_closed ON ggj_jobs_archive(tenant_id, closed_at);
+
+-- Candidate scan for the archival job; kept small by the partial predicate,
+-- which must match ArchivedJobRepository.archiveChunk. ARCHIVED jobs (bulk
+-- archive) are moved like closed ones, retention counted from the request.
+CREATE INDEX IF NOT EXISTS idx_job_archival_candidates ON ggj_jobs (COALESCE(updated_at, created_at))
+    WHERE status IN ('CLOSED', 'CANCELLED', 'ARCHIVED');
+CREATE INDEX IF NOT EXISTS idx_jobp_cold_archival_candidates ON ggj_jobs_cold (COALESCE(updated_at, created_at))
+    WHERE status IN ('CLOSED', 'CANCELLED', 'ARCHIVED');
+
+COMMENT ON TABLE ggj_jobs_archive IS 'Closed/cancelled/archived jobs past retention, full row kept as compressed jsonb';
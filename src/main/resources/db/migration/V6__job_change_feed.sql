@@ -0,0 +1,109 @@
+-- Job Posting Service - Change feed (delta sync) for ggj_jobs
+-- Version: 6
+--
+-- Every content change to a job stamps it with the next per-tenant change
+-- sequence; deletes leave a tombstone stamped the same way. Sequences come
+-- from a per-tenant counter row whose lock is held until commit, so within a
+-- tenant changes become visible strictly in sequence order and a consumer's
+-- watermark can never skip a late-committing lower value.
+
+CREATE TABLE IF NOT EXISTS ggj_job_change_counters (
+    tenant_id UUID PRIMARY KEY,
+    last_seq BIGINT NOT NULL,
+    purged_through BIGINT NOT NULL DEFAULT 0  -- tombstones at or below this seq have been purged
+);
+
+CREATE OR REPLACE FUNCTION ggj_next_change_seq(p_tenant_id UUID) RETURNS BIGINT AS $$
+    INSERT INTO ggj_job_change_counters AS c (tenant_id, last_seq)
+    VALUES (p_tenant_id, 1)
+    ON CONFLICT (tenant_id) DO UPDATE SET last_seq = c.last_seq + 1
+    RETURNING c.last_seq;
+$$ LANGUAGE sql;
+
+ALTER TABLE ggj_jobs ADD COLUMN IF NOT EXISTS change_seq BIGINT;
+
+-- Keep the partitioned copy column-aligned with ggj_jobs while the online
+-- migration is pending (the sync trigger copies rows with NEW.*)
+DO $$
+BEGIN
+    IF to_regclass('ggj_jobs_p') IS NOT NULL THEN
+        ALTER TABLE ggj_jobs_p ADD COLUMN IF NOT EXISTS change_seq BIGINT;
+    END IF;
+END;
+$$;
+
+-- Seed existing rows in (updated_at, id) order and start each tenant's counter after them
+UPDATE ggj_jobs j SET change_seq = s.seq
+FROM (SELECT id, ROW_NUMBER() OVER (PARTITION BY tenant_id
+                                    ORDER BY COALESCE(updated_at, created_at), id) AS seq
+      FROM ggj_jobs) s
+WHERE j.id = s.id;
+
+INSERT INTO ggj_job_change_counters AS c (tenant_id, last_seq)
+SELECT tenant_id, MAX(change_seq) FROM ggj_jobs GROUP BY tenant_id
+ON CONFLICT (tenant_id) DO UPDATE SET last_seq = GREATEST(c.last_seq, EXCLUDED.last_seq);
+
+-- Counters (view/application counts) and audit/version columns are not content:
+-- bumping the sequence for them would make every consumer re-pull on page views.
+CREATE OR REPLACE FUNCTION ggj_jobs_stamp_change() RETURNS TRIGGER AS $$
+BEGIN
+    -- Rows copied into ggj_jobs_p by the partition backfill or sync trigger keep
+    -- their stamp; the application never supplies change_seq itself
+    IF TG_OP = 'INSERT' AND NEW.change_seq IS NOT NULL THEN
+        RETURN NEW;
+    END IF;
+    IF TG_OP = 'UPDATE'
+       AND (to_jsonb(NEW) - 'view_count' - 'application_count' - 'updated_at' - 'updated_by' - 'version' - 'change_seq')
+         = (to_jsonb(OLD) - 'view_count' - 'application_count' - 'updated_at' - 'updated_by' - 'version' - 'change_seq') THEN
+        NEW.change_seq := OLD.change_seq;
+        RETURN NEW;
+    END IF;
+    NEW.change_seq := ggj_next_change_seq(NEW.tenant_id);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_ggj_jobs_stamp_change
+    BEFORE INSERT OR UPDATE ON ggj_jobs
+    FOR EACH ROW EXECUTE FUNCTION ggj_jobs_stamp_change();
+
+CREATE INDEX IF NOT EXISTS idx_job_tenant_change_seq ON ggj_jobs(tenant_id, change_seq);
+CREATE INDEX IF NOT EXISTS idx_job_tenant_updated_at ON ggj_jobs(tenant_id, updated_at);
+
+DO $$
+BEGIN
+    IF to_regclass('ggj_jobs_p') IS NOT NULL THEN
+        CREATE TRIGGER trg_ggj_jobs_p_stamp_change
+            BEFORE INSERT OR UPDATE ON ggj_jobs_p
+            FOR EACH ROW EXECUTE FUNCTION ggj_jobs_stamp_change();
+        CREATE INDEX IF NOT EXISTS idx_jobp_tenant_change_seq ON ggj_jobs_p(tenant_id, change_seq);
+        CREATE INDEX IF NOT EXISTS idx_jobp_tenant_updated_at ON ggj_jobs_p(tenant_id, updated_at);
+    END IF;
+END;
+$$;
+
+-- Deleted jobs. Archival is not a deletion: archived jobs stay readable via
+-- getJob, and consumers already received their CLOSED/CANCELLED change.
+CREATE TABLE IF NOT EXISTS ggj_job_tombstones (
+    job_id UUID PRIMARY KEY,
+    tenant_id UUID NOT NULL,
+    change_seq BIGINT NOT NULL,
+    deleted_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_job_tombstone_tenant_seq ON ggj_job_tombstones(tenant_id, change_seq);
+CREATE INDEX IF NOT EXISTS idx_job_tombstone_deleted_at ON ggj_job_tombstones(deleted_at);
+
+CREATE OR REPLACE FUNCTION ggj_job_tombstones_stamp() RETURNS TRIGGER AS $$
+BEGIN
+    NEW.change_seq := ggj_next_change_seq(NEW.tenant_id);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_ggj_job_tombstones_stamp
+    BEFORE INSERT ON ggj_job_tombstones
+    FOR EACH ROW EXECUTE FUNCTION ggj_job_tombstones_stamp();
+
+COMMENT ON TABLE ggj_job_change_counters IS 'Per-tenant change sequence for the ggj_jobs delta sync feed';
+COMMENT ON TABLE ggj_job_tombstones IS 'Deleted ggj_jobs rows, kept for delta sync consumers until purged';
@@ -0,0 +1,37 @@
+-- Job Posting Service - MinHash/LSH near-duplicate index
+-- Version: 7
+--
+-- One row per indexed description (ggj_jobs.description or
+-- job_postings.job_description). band_hashes holds one hash per LSH band with
+-- the band number mixed in, so "shares at least one band" is a plain array
+-- overlap served by the GIN index instead of a pairwise scan.
+
+CREATE TABLE IF NOT EXISTS ggj_near_dup_signatures (
+    doc_kind VARCHAR(16) NOT NULL,       -- JOB (ggj_jobs) or POSTING (job_postings)
+    doc_id VARCHAR(64) NOT NULL,
+    owner_id VARCHAR(64) NOT NULL,       -- tenant_id or organization_id
+    signature INTEGER[] NOT NULL,        -- MinHash values, one per hash function
+    band_hashes BIGINT[] NOT NULL,
+    duplicate_of VARCHAR(64),
+    similarity DOUBLE PRECISION,         -- estimated Jaccard similarity to duplicate_of
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (doc_kind, doc_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_near_dup_bands ON ggj_near_dup_signatures USING GIN (band_hashes);
+CREATE INDEX IF NOT EXISTS idx_near_dup_duplicate_of ON ggj_near_dup_signatures(doc_kind, duplicate_of)
+    WHERE duplicate_of IS NOT NULL;
+
+ALTER TABLE ggj_jobs ADD COLUMN IF NOT EXISTS near_duplicate_of UUID;
+
+-- Keep the partitioned copy column-aligned while the online migration is pending
+DO $$
+BEGIN
+    IF to_regclass('ggj_jobs_p') IS NOT NULL THEN
+        ALTER TABLE ggj_jobs_p ADD COLUMN IF NOT EXISTS near_duplicate_of UUID;
+    END IF;
+END;
+$$;
+
+COMMENT ON TABLE ggj_near_dup_signatures IS 'MinHash signatures and LSH bands for near-duplicate job descriptions';
+COMMENT ON COLUMN ggj_jobs.near_duplicate_of IS 'Earlier job whose description this one nearly duplicates (any tenant)';
@@ -0,0 +1,43 @@
+-- Job Posting Service - Precomputed "similar jobs" for published jobs
+-- Version: 8
+--
+-- ggj_job_vector_terms stores each published job's L2-normalized TF-IDF
+-- vector over hashed terms, one row per non-zero component. Cosine
+-- similarity of two jobs is a sum over shared terms, so the (tenant_id, term)
+-- index doubles as an inverted index: a job's neighbors are found by joining
+-- on its own terms, never by scanning the tenant. ggj_job_similar holds the
+-- resulting top-k list per job; the API only reads that table.
+
+-- One row per vectorized job; the tenant's row count is N for IDF
+CREATE TABLE IF NOT EXISTS ggj_job_vectors (
+    job_id UUID PRIMARY KEY,
+    tenant_id UUID NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_job_vectors_tenant ON ggj_job_vectors(tenant_id);
+
+CREATE TABLE IF NOT EXISTS ggj_job_vector_terms (
+    job_id UUID NOT NULL REFERENCES ggj_job_vectors(job_id) ON DELETE CASCADE,
+    term INTEGER NOT NULL,
+    tenant_id UUID NOT NULL,
+    weight REAL NOT NULL,
+    PRIMARY KEY (job_id, term)
+);
+
+CREATE INDEX IF NOT EXISTS idx_job_vector_tenant_term ON ggj_job_vector_terms(tenant_id, term) INCLUDE (job_id, weight);
+
+CREATE TABLE IF NOT EXISTS ggj_job_similar (
+    job_id UUID NOT NULL,
+    similar_job_id UUID NOT NULL,
+    tenant_id UUID NOT NULL,
+    score REAL NOT NULL,
+    PRIMARY KEY (job_id, similar_job_id)
+);
+
+-- Which lists mention a job, for repairing them when it closes
+CREATE INDEX IF NOT EXISTS idx_job_similar_similar ON ggj_job_similar(similar_job_id);
+
+COMMENT ON TABLE ggj_job_vectors IS 'Published jobs currently in the similar-jobs vector store';
+COMMENT ON TABLE ggj_job_vector_terms IS 'Sparse TF-IDF vectors (hashed terms) of published jobs';
+COMMENT ON TABLE ggj_job_similar IS 'Precomputed top-k similar published jobs per published job';
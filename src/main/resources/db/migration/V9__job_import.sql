@@ -0,0 +1,75 @@
+-- Job Posting Service - CSV bulk import of jobs
+-- Version: 9
+--
+-- An upload is parsed and validated row by row; valid rows are COPYed into
+-- ggj_job_import_staging and merged into ggj_jobs with one INSERT ... SELECT.
+-- Import progress and rejected rows live in tables so any replica can answer
+-- progress polls and serve the error report.
+
+CREATE TABLE IF NOT EXISTS ggj_job_imports (
+    id UUID PRIMARY KEY,
+    tenant_id UUID NOT NULL,
+    status VARCHAR(20) NOT NULL,          -- RECEIVED, PARSING, MERGING, COMPLETED, FAILED
+    file_name VARCHAR(255),
+    skip_invalid BOOLEAN NOT NULL DEFAULT TRUE,
+    total_bytes BIGINT NOT NULL DEFAULT 0,
+    bytes_read BIGINT NOT NULL DEFAULT 0,
+    rows_read BIGINT NOT NULL DEFAULT 0,
+    rows_valid BIGINT NOT NULL DEFAULT 0,
+    rows_rejected BIGINT NOT NULL DEFAULT 0,
+    rows_imported BIGINT NOT NULL DEFAULT 0,
+    failure_reason TEXT,
+    created_by UUID,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    completed_at TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_job_imports_tenant_created ON ggj_job_imports(tenant_id, created_at);
+CREATE INDEX IF NOT EXISTS idx_job_imports_active ON ggj_job_imports(updated_at) WHERE status IN ('RECEIVED', 'PARSING', 'MERGING');
+
+-- One row per field error; line_number is the physical line the CSV record starts on
+CREATE TABLE IF NOT EXISTS ggj_job_import_errors (
+    import_id UUID NOT NULL REFERENCES ggj_job_imports(id) ON DELETE CASCADE,
+    error_no INTEGER NOT NULL,
+    line_number BIGINT NOT NULL,
+    field VARCHAR(64),
+    message TEXT NOT NULL,
+    PRIMARY KEY (import_id, error_no)
+);
+
+-- Valid rows waiting for the merge. Unlogged: contents are disposable, a crash
+-- only fails the in-flight imports, and COPY into it skips WAL.
+CREATE UNLOGGED TABLE IF NOT EXISTS ggj_job_import_staging (
+    import_id UUID NOT NULL,
+    line_number BIGINT NOT NULL,
+    id UUID NOT NULL,
+    tenant_id UUID NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    location VARCHAR(100),
+    employment_type VARCHAR(50),
+    experience_level VARCHAR(50),
+    salary_min NUMERIC(15, 2),
+    salary_max NUMERIC(15, 2),
+    salary_currency VARCHAR(3),
+    salary_normalized_min NUMERIC(15, 2),
+    salary_normalized_max NUMERIC(15, 2),
+    department_id UUID,
+    recruiter_id UUID NOT NULL,
+    hiring_manager_id UUID,
+    number_of_positions INTEGER,
+    expires_at TIMESTAMP,
+    custom_fields JSONB,
+    requirements JSONB,
+    benefits JSONB,
+    is_remote BOOLEAN,
+    is_featured BOOLEAN,
+    latitude DOUBLE PRECISION,
+    longitude DOUBLE PRECISION,
+    geohash VARCHAR(12) COLLATE "C",
+    PRIMARY KEY (import_id, line_number)
+);
+
+COMMENT ON TABLE ggj_job_imports IS 'CSV job imports: status and progress counters';
+COMMENT ON TABLE ggj_job_import_staging IS 'Validated import rows awaiting the set-based merge into ggj_jobs';
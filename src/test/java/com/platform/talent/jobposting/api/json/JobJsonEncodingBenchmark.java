@@ -0,0 +1,175 @@
+package com.platform.talent.jobposting.api.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.platform.talent.jobposting.api.dto.JobResponse;
+import com.platform.talent.jobposting.domain.model.Job;
+import com.platform.talent.jobposting.domain.model.JobStatus;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Bytes allocated and jobs per second when a page of jobs is written as JSON,
+ * mapped to {@link JobResponse} first (before) versus written from the entity
+ * by {@link JobJsonSerializer} (after). Allocation is read from the thread's
+ * allocation counter, so it includes the mapping copy, Jackson's own garbage
+ * and the encoded strings.
+ *
+ * <pre>
+ * mvn -Pbenchmark test -Dbenchmark.jobjson.seconds=5 -Dbenchmark.jobjson.page-size=50
+ * </pre>
+ *
+ * Results go to {@code target/benchmark/job-json-encoding.json}.
+ */
+@Tag("benchmark")
+class JobJsonEncodingBenchmark {
+
+    private final ObjectMapper mapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .registerModule(new SimpleModule().addSerializer(Job.class, new JobJsonSerializer()))
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final CountingOutputStream out = new CountingOutputStream();
+
+    @Test
+    void responseCopyVersusDirectWriter() throws Exception {
+        int pageSize = Integer.getInteger("benchmark.jobjson.page-size", 20);
+        long seconds = Long.getLong("benchmark.jobjson.seconds", 3L);
+        List<List<Job>> pages = samplePages(new Random(11), 500, pageSize);
+        ObjectWriter writer = mapper.writer();
+
+        Consumer<List<Job>> before = page -> write(writer, page.stream().map(JobResponse::from).toList());
+        Consumer<List<Job>> after = page -> write(writer, page);
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        results.put("pageSize", pageSize);
+        results.put("jobResponse", measure(pages, pageSize, before, seconds));
+        results.put("directWriter", measure(pages, pageSize, after, seconds));
+
+        ObjectMapper report = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        Path file = Path.of("target", "benchmark", "job-json-encoding.json");
+        Files.createDirectories(file.getParent());
+        report.writeValue(file.toFile(), results);
+        System.out.println(report.writeValueAsString(results));
+
+        long beforeBytes = (Long) ((Map<?, ?>) results.get("jobResponse")).get("allocatedBytesPerJob");
+        long afterBytes = (Long) ((Map<?, ?>) results.get("directWriter")).get("allocatedBytesPerJob");
+        assertTrue(afterBytes < beforeBytes, "direct writer should allocate less per job");
+        assertTrue(out.count > 0);
+    }
+
+    private Map<String, Object> measure(List<List<Job>> pages, int pageSize, Consumer<List<Job>> op, long seconds) {
+        long bytesWritten = out.count;
+        pages.forEach(op);
+        long bytesPerJob = (out.count - bytesWritten) / ((long) pages.size() * pageSize);
+
+        runFor(1_000_000_000L, pages, op); // warm-up
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(thread);
+        long start = System.nanoTime();
+        long pagesWritten = runFor(seconds * 1_000_000_000L, pages, op);
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(thread) - allocatedBefore;
+
+        long jobs = pagesWritten * pageSize;
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("jsonBytesPerJob", bytesPerJob);
+        result.put("allocatedBytesPerJob", allocated / jobs);
+        result.put("jobsPerSecond", Math.round(jobs / (elapsed / 1e9)));
+        return result;
+    }
+
+    private static long runFor(long nanos, List<List<Job>> pages, Consumer<List<Job>> op) {
+        long deadline = System.nanoTime() + nanos;
+        long calls = 0;
+        while (System.nanoTime() < deadline) {
+            pages.forEach(op);
+            calls += pages.size();
+        }
+        return calls;
+    }
+
+    private void write(ObjectWriter writer, Object value) {
+        try {
+            writer.writeValue(out, value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<List<Job>> samplePages(Random random, int count, int pageSize) {
+        String[] titles = {"Senior Backend Engineer", "Product Designer", "Data Analyst", "Site Reliability Engineer"};
+        String[] locations = {"Berlin", "Lisbon", "Remote", "Singapore"};
+        JobStatus[] statuses = {JobStatus.PUBLISHED, JobStatus.DRAFT, JobStatus.CLOSED};
+        List<List<Job>> pages = new ArrayList<>(count);
+        for (int p = 0; p < count; p++) {
+            List<Job> page = new ArrayList<>(pageSize);
+            for (int i = 0; i < pageSize; i++) {
+                LocalDateTime created = LocalDateTime.of(2026, 1, 1, 0, 0).plusMinutes(random.nextInt(500_000));
+                page.add(Job.builder()
+                        .id(UUID.randomUUID())
+                        .tenantId(UUID.randomUUID())
+                        .title(titles[random.nextInt(titles.length)])
+                        .description("Join the team. ".repeat(10 + random.nextInt(40)))
+                        .location(locations[random.nextInt(locations.length)])
+                        .employmentType("FULL_TIME")
+                        .experienceLevel("SENIOR")
+                        .salaryMin(50_000.0 + random.nextInt(50_000))
+                        .salaryMax(100_000.0 + random.nextInt(50_000))
+                        .salaryCurrency("EUR")
+                        .status(statuses[random.nextInt(statuses.length)])
+                        .departmentId(UUID.randomUUID())
+                        .recruiterId(UUID.randomUUID())
+                        .numberOfPositions(1 + random.nextInt(3))
+                        .publishedAt(created.plusDays(1))
+                        .expiresAt(created.plusDays(60))
+                        .customFields(Map.of("team", "Platform", "level", random.nextInt(5)))
+                        .requirements(Map.of("years", random.nextInt(10)))
+                        .applicationCount(random.nextInt(200))
+                        .viewCount(random.nextInt(5000))
+                        .isRemote(random.nextBoolean())
+                        .isFeatured(false)
+                        .createdAt(created)
+                        .updatedAt(created.plusHours(random.nextInt(100)))
+                        .createdBy(UUID.randomUUID())
+                        .changeSeq((long) random.nextInt(1_000_000))
+                        .build());
+            }
+            pages.add(page);
+        }
+        return pages;
+    }
+
+    /** Discards the JSON; only its length is kept, so buffer growth is not part of the measurement. */
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
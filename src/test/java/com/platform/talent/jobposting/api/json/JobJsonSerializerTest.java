@@ -0,0 +1,126 @@
+package com.platform.talent.jobposting.api.json;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.platform.talent.jobposting.api.dto.JobPage;
+import com.platform.talent.jobposting.api.dto.JobResponse;
+import com.platform.talent.jobposting.domain.model.Job;
+import com.platform.talent.jobposting.domain.model.JobStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobJsonSerializerTest {
+
+    @Test
+    void serialize_ShouldMatchJobResponseJsonExactly() throws Exception {
+        ObjectMapper mapper = mapper();
+        Job job = fullJob();
+
+        assertEquals(mapper.writeValueAsString(JobResponse.from(job)), mapper.writeValueAsString(job));
+        assertEquals(mapper.writeValueAsString(List.of(JobResponse.from(job))), mapper.writeValueAsString(List.of(job)));
+    }
+
+    @Test
+    void serialize_ShouldFollowTheMappersNullInclusion() throws Exception {
+        Job sparse = Job.builder().id(UUID.randomUUID()).title("Engineer").status(JobStatus.DRAFT).build();
+
+        ObjectMapper mapper = mapper();
+        assertEquals(mapper.writeValueAsString(JobResponse.from(sparse)), mapper.writeValueAsString(sparse));
+
+        ObjectMapper nonNull = mapper().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        String json = nonNull.writeValueAsString(sparse);
+        assertEquals(nonNull.writeValueAsString(JobResponse.from(sparse)), json);
+        assertFalse(json.contains("null"));
+    }
+
+    @Test
+    void serialize_ShouldUseTheMappersDateSettings() throws Exception {
+        Job job = fullJob();
+        job.setUpdatedAt(LocalDateTime.of(2026, 3, 14, 9, 26, 53, 100));
+
+        ObjectMapper iso = mapper();
+        assertTrue(iso.writeValueAsString(job).contains("\"updatedAt\":\"2026-03-14T09:26:53.0000001\""));
+
+        ObjectMapper timestamps = mapper().enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        assertEquals(timestamps.writeValueAsString(JobResponse.from(job)), timestamps.writeValueAsString(job));
+    }
+
+    @Test
+    void jobPage_ShouldWriteItemsInJobResponseShapeWithoutAGlobalSerializer() throws Exception {
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        Job job = fullJob();
+        job.setLatitude(52.52);
+        PageRequest pageable = PageRequest.of(0, 20);
+
+        String page = mapper.writeValueAsString(JobPage.of(new PageImpl<>(List.of(job), pageable, 1)));
+        assertEquals(mapper.readTree(mapper.writeValueAsString(new PageImpl<>(List.of(JobResponse.from(job)), pageable, 1))),
+                mapper.readTree(page));
+        assertTrue(page.contains(mapper.writeValueAsString(JobResponse.from(job))));
+        // Outside a page the entity keeps Jackson's default serialization
+        assertTrue(mapper.writeValueAsString(job).contains("\"latitude\":52.52"));
+    }
+
+    // Configured the way Spring Boot configures the MVC mapper
+    private static ObjectMapper mapper() {
+        return new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .registerModule(new SimpleModule().addSerializer(Job.class, new JobJsonSerializer()))
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    static Job fullJob() {
+        Map<String, Object> customFields = new LinkedHashMap<>();
+        customFields.put("team", "Platform");
+        customFields.put("level", 3);
+        customFields.put("tags", List.of("java", "kafka"));
+        LocalDateTime created = LocalDateTime.of(2026, 3, 14, 9, 26, 53, 589_000_000);
+        return Job.builder()
+                .id(UUID.randomUUID())
+                .tenantId(UUID.randomUUID())
+                .title("Senior \"Backend\" Engineer")
+                .description("Build services.\nOwn on-call.")
+                .location("Berlin")
+                .employmentType("FULL_TIME")
+                .experienceLevel("SENIOR")
+                .salaryMin(85000.0)
+                .salaryMax(110000.5)
+                .salaryCurrency("EUR")
+                .status(JobStatus.PUBLISHED)
+                .departmentId(UUID.randomUUID())
+                .recruiterId(UUID.randomUUID())
+                .hiringManagerId(UUID.randomUUID())
+                .numberOfPositions(2)
+                .publishedAt(created.plusDays(1))
+                .expiresAt(LocalDateTime.of(2026, 6, 1, 0, 0))
+                .approvedAt(created.plusHours(5))
+                .approvedBy(UUID.randomUUID())
+                .customFields(customFields)
+                .requirements(Map.of("years", 5))
+                .benefits(Map.of("remoteBudget", true))
+                .applicationCount(12)
+                .viewCount(340)
+                .isRemote(true)
+                .isFeatured(false)
+                .createdAt(created)
+                .updatedAt(created.plusDays(2))
+                .createdBy(UUID.randomUUID())
+                .updatedBy(UUID.randomUUID())
+                .changeSeq(42L)
+                .nearDuplicateOf(UUID.randomUUID())
+                .build();
+    }
+}
@@ -0,0 +1,206 @@
+package com.platform.talent.jobposting.config.datasource;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the routing datasource against two embedded PostgreSQL servers, each
+ * tagged with its own marker row, so the test can see which one served a query.
+ * Replication lag is simulated by the replica's lag query reading a table.
+ */
+@SpringJUnitConfig(ReadReplicaRoutingIntegrationTest.RoutingTestConfig.class)
+class ReadReplicaRoutingIntegrationTest {
+
+    @Autowired
+    private MarkerReader markerReader;
+
+    @Autowired
+    private ReplicaPool replicaPool;
+
+    @Autowired
+    private JdbcTemplate replicaJdbc;
+
+    @BeforeEach
+    void setUp() {
+        replicaJdbc.update("UPDATE replica_lag SET seconds = 0");
+        replicaPool.probe();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadConsistencyContext.clear();
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldUseReplica() {
+        assertEquals("replica", markerReader.readOnly());
+    }
+
+    @Test
+    void readWriteTransaction_ShouldUsePrimary() {
+        assertEquals("primary", markerReader.readWrite());
+    }
+
+    @Test
+    void readOnlyTransaction_WhenPrimaryRequired_ShouldUsePrimary() {
+        ReadConsistencyContext.requirePrimary();
+
+        assertEquals("primary", markerReader.readOnly());
+    }
+
+    @Test
+    void readOnlyTransaction_WhenReplicaBehindReadAfter_ShouldUsePrimary() {
+        ReadConsistencyContext.requireReadAfter(Instant.now().plusSeconds(60));
+        assertEquals("primary", markerReader.readOnly());
+
+        ReadConsistencyContext.requireReadAfter(Instant.now().minusSeconds(60));
+        assertEquals("replica", markerReader.readOnly());
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldRunAsAReadOnlyPostgresTransaction() {
+        assertEquals("on", markerReader.readOnlySetting());
+        assertEquals("off", markerReader.readWriteSetting());
+    }
+
+    @Test
+    void defaultLagQuery_ShouldRunOnPostgres() {
+        // Not a standby, so no WAL is replayed: the query still answers, with a NULL lag
+        ReplicaPool pool = new ReplicaPool(List.of(new ReplicaPool.Node("standalone", replicaJdbc.getDataSource())),
+                new ReplicaProperties().getLagQuery(), 5.0, 60_000);
+
+        pool.probe();
+
+        assertTrue(pool.getNodes().get(0).isHealthy());
+        assertEquals(0.0, pool.getNodes().get(0).getLagSeconds());
+    }
+
+    @Test
+    void laggingReplica_ShouldBeEjectedAndReadmitted() {
+        replicaJdbc.update("UPDATE replica_lag SET seconds = 30");
+        replicaPool.probe();
+
+        assertFalse(replicaPool.getNodes().get(0).isHealthy());
+        assertEquals("primary", markerReader.readOnly());
+
+        replicaJdbc.update("UPDATE replica_lag SET seconds = 0");
+        replicaPool.probe();
+
+        assertTrue(replicaPool.getNodes().get(0).isHealthy());
+        assertEquals("replica", markerReader.readOnly());
+    }
+
+    static class MarkerReader {
+
+        private final JdbcTemplate jdbcTemplate;
+
+        MarkerReader(DataSource dataSource) {
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+        }
+
+        @Transactional(readOnly = true)
+        public String readOnly() {
+            return jdbcTemplate.queryForObject("SELECT name FROM db_marker", String.class);
+        }
+
+        @Transactional
+        public String readWrite() {
+            return jdbcTemplate.queryForObject("SELECT name FROM db_marker", String.class);
+        }
+
+        @Transactional(readOnly = true)
+        public String readOnlySetting() {
+            return jdbcTemplate.queryForObject("SELECT current_setting('transaction_read_only')", String.class);
+        }
+
+        @Transactional
+        public String readWriteSetting() {
+            return jdbcTemplate.queryForObject("SELECT current_setting('transaction_read_only')", String.class);
+        }
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    static class RoutingTestConfig {
+
+        @Bean(destroyMethod = "close")
+        EmbeddedPostgres primaryPostgres() throws IOException {
+            return EmbeddedPostgres.builder().start();
+        }
+
+        @Bean(destroyMethod = "close")
+        EmbeddedPostgres replicaPostgres() throws IOException {
+            return EmbeddedPostgres.builder().start();
+        }
+
+        @Bean
+        DataSource primaryDataSource() throws IOException {
+            DataSource dataSource = primaryPostgres().getPostgresDatabase();
+            JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+            jdbc.execute("CREATE TABLE IF NOT EXISTS db_marker (name VARCHAR(20))");
+            jdbc.execute("DELETE FROM db_marker");
+            jdbc.update("INSERT INTO db_marker VALUES ('primary')");
+            return dataSource;
+        }
+
+        @Bean
+        DataSource replicaDataSource() throws IOException {
+            DataSource dataSource = replicaPostgres().getPostgresDatabase();
+            JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+            jdbc.execute("CREATE TABLE IF NOT EXISTS db_marker (name VARCHAR(20))");
+            jdbc.execute("DELETE FROM db_marker");
+            jdbc.update("INSERT INTO db_marker VALUES ('replica')");
+            jdbc.execute("CREATE TABLE IF NOT EXISTS replica_lag (seconds DOUBLE PRECISION)");
+            jdbc.execute("DELETE FROM replica_lag");
+            jdbc.update("INSERT INTO replica_lag VALUES (0)");
+            return dataSource;
+        }
+
+        @Bean
+        JdbcTemplate replicaJdbc() throws IOException {
+            return new JdbcTemplate(replicaDataSource());
+        }
+
+        @Bean
+        ReplicaPool replicaPool() throws IOException {
+            // Probed explicitly by the tests rather than on a timer
+            return new ReplicaPool(List.of(new ReplicaPool.Node("replica-1", replicaDataSource())),
+                    "SELECT seconds, now() - make_interval(secs => seconds) FROM replica_lag", 5.0, 60_000);
+        }
+
+        @Bean
+        DataSource dataSource() throws IOException {
+            return new LazyConnectionDataSourceProxy(
+                    new ReadWriteRoutingDataSource(primaryDataSource(), replicaPool()));
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager() throws IOException {
+            return new DataSourceTransactionManager(dataSource());
+        }
+
+        @Bean
+        MarkerReader markerReader() throws IOException {
+            return new MarkerReader(dataSource());
+        }
+    }
+}
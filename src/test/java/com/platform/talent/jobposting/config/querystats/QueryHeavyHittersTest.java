@@ -0,0 +1,48 @@
+package com.platform.talent.jobposting.config.querystats;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryHeavyHittersTest {
+
+    private static final SqlFingerprint BY_ID = SqlFingerprint.of("select * from ggj_jobs where id = ?");
+    private static final SqlFingerprint SEARCH = SqlFingerprint.of("select * from ggj_jobs where title like ?");
+
+    @Test
+    void top_ShouldRankTenantStatementPairsByTotalTime() {
+        QueryHeavyHitters hitters = new QueryHeavyHitters(10);
+        for (int i = 0; i < 100; i++) {
+            hitters.record("tenant-a", BY_ID, "JobRepository.findByIdAndTenantId", 1_000_000, 1);
+        }
+        hitters.record("tenant-b", SEARCH, "JobRepository.searchJobs", 300_000_000, 20);
+
+        List<Map<String, Object>> top = hitters.top(10, null);
+
+        assertEquals("tenant-b", top.get(0).get("tenant"));
+        assertEquals(SEARCH.id(), top.get(0).get("fingerprint"));
+        Map<String, Object> byId = top.get(1);
+        assertEquals(100L, byId.get("calls"));
+        assertEquals(100L, byId.get("rows"));
+        assertEquals(1.0, (double) byId.get("meanMs"), 1e-9);
+        assertTrue((double) byId.get("p95Ms") <= 1.0);
+        assertEquals(List.of("tenant-a"), hitters.top(10, "tenant-a").stream().map(row -> row.get("tenant")).toList());
+    }
+
+    @Test
+    void record_ShouldEvictTheSmallestEntryAndCarryItsTimeAsError() {
+        QueryHeavyHitters hitters = new QueryHeavyHitters(2);
+        hitters.record("tenant-a", BY_ID, "JobRepository.findByIdAndTenantId", 5_000_000, 1);
+        hitters.record("tenant-b", BY_ID, "JobRepository.findByIdAndTenantId", 2_000_000, 1);
+        hitters.record("tenant-c", SEARCH, "JobRepository.searchJobs", 1_000_000, 1);
+
+        List<Map<String, Object>> top = hitters.top(10, null);
+
+        assertEquals(List.of("tenant-a", "tenant-c"), top.stream().map(row -> row.get("tenant")).toList());
+        assertEquals(2.0, (double) top.get(1).get("errorMs"), 1e-9);
+        assertEquals(3.0, (double) top.get(1).get("totalMs"), 1e-9);
+    }
+}
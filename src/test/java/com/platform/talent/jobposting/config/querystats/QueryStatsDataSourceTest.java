@@ -0,0 +1,115 @@
+package com.platform.talent.jobposting.config.querystats;
+
+import com.platform.talent.jobposting.config.TenantResolutionFilter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class QueryStatsDataSourceTest {
+
+    private static final String UPDATE = "update ggj_jobs set status = ? where id = ?";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final QueryHeavyHitters heavyHitters = new QueryHeavyHitters(100);
+    private QueryStatsDataSource dataSource;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(statement.executeUpdate()).thenReturn(1);
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenReturn(connection);
+
+        QueryStatsRecorder recorder = new QueryStatsRecorder(meterRegistry, new QueryStatsProperties(), heavyHitters);
+        ObjectProvider<QueryStatsRecorder> provider = mock(ObjectProvider.class);
+        when(provider.getObject()).thenReturn(recorder);
+        dataSource = new QueryStatsDataSource(target, provider);
+    }
+
+    @AfterEach
+    void tearDown() {
+        QueryStatsContext.clearRequest();
+    }
+
+    @Test
+    void prepareStatement_InsideRepositoryCall_ShouldRecordRepositoryMethod() throws Exception {
+        QueryStatsContext.setRequest("tenant-a", "PUT /api/v1/jobs/{id}/publish");
+        String outer = QueryStatsContext.enter("JobRepository.save");
+        try {
+            executeUpdate();
+        } finally {
+            QueryStatsContext.exit(outer);
+        }
+
+        assertEquals(1, timer("JobRepository.save").count());
+    }
+
+    @Test
+    void prepareStatement_OutsideRepositoryCall_ShouldRecordEndpoint() throws Exception {
+        // Hibernate's flush at commit runs after the repository method returned
+        QueryStatsContext.setRequest("tenant-a", "PUT /api/v1/jobs/{id}/publish");
+
+        executeUpdate();
+
+        assertEquals(1, timer("PUT /api/v1/jobs/{id}/publish").count());
+        List<Map<String, Object>> top = heavyHitters.top(10, "tenant-a");
+        assertEquals(1, top.size());
+        assertEquals("PUT /api/v1/jobs/{id}/publish", top.get(0).get("source"));
+    }
+
+    @Test
+    void prepareStatement_OffRequestThread_ShouldRecordBackground() throws Exception {
+        executeUpdate();
+
+        assertEquals(1, timer(QueryStatsContext.BACKGROUND).count());
+    }
+
+    @Test
+    void preHandle_ShouldTakeTenantFromResolutionFilterAndBoundIt() {
+        QueryStatsRequestInterceptor interceptor = new QueryStatsRequestInterceptor();
+        MockHttpServletRequest search = new MockHttpServletRequest("POST", "/api/v1/jobs/search");
+        search.setAttribute(TenantResolutionFilter.TENANT_ATTRIBUTE, "tenant-from-body");
+        search.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/jobs/search");
+
+        interceptor.preHandle(search, new MockHttpServletResponse(), new Object());
+
+        assertEquals("tenant-from-body", QueryStatsContext.tenant());
+        assertEquals("POST /api/v1/jobs/search", QueryStatsContext.endpoint());
+        assertEquals("anonymous", QueryStatsRequestInterceptor.tenantOf(new MockHttpServletRequest()));
+        MockHttpServletRequest longTenant = new MockHttpServletRequest();
+        longTenant.addHeader("X-Tenant-ID", "t".repeat(100));
+        assertEquals(64, QueryStatsRequestInterceptor.tenantOf(longTenant).length());
+    }
+
+    private void executeUpdate() throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(UPDATE)) {
+            statement.setString(1, "PUBLISHED");
+            statement.setObject(2, "id");
+            statement.executeUpdate();
+        }
+    }
+
+    private Timer timer(String source) {
+        return meterRegistry.get("jobposting.db.query").tag("source", source).timer();
+    }
+}
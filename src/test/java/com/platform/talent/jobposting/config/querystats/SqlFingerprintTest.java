@@ -0,0 +1,27 @@
+package com.platform.talent.jobposting.config.querystats;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlFingerprintTest {
+
+    @Test
+    void of_ShouldIgnoreLiteralsWhitespaceAndParameterListLength() {
+        SqlFingerprint a = SqlFingerprint.of("select j1_0.id from ggj_jobs j1_0 where j1_0.status in (?, ?)\n"
+                + "  and j1_0.title = 'Engineer' fetch first 20 rows only");
+        SqlFingerprint b = SqlFingerprint.of("select j1_0.id from ggj_jobs j1_0 where j1_0.status in (?,?,?,?) "
+                + "and j1_0.title = 'It''s' fetch first 50 rows only");
+
+        assertEquals(a, b);
+        assertEquals("select j1_0.id from ggj_jobs j1_0 where j1_0.status in (?...) and j1_0.title = ? "
+                + "fetch first ? rows only", a.normalized());
+        assertEquals(16, a.id().length());
+    }
+
+    @Test
+    void of_ShouldSeparateDifferentStatements() {
+        assertNotEquals(SqlFingerprint.of("select * from ggj_jobs where id = ?").id(),
+                SqlFingerprint.of("select * from ggj_jobs where tenant_id = ?").id());
+    }
+}
@@ -0,0 +1,124 @@
+package com.platform.talent.jobposting.config.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.talent.jobposting.config.TenantResolutionFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+
+    private static final int BURST = 2;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ThrottledTenantTracker tracker = new ThrottledTenantTracker(10);
+    private final List<String> receivedBodies = new ArrayList<>();
+    private RateLimitFilter rateLimitFilter;
+    private TenantResolutionFilter tenantResolutionFilter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit();
+        limit.setRatePerSecond(1);
+        limit.setBurst(BURST);
+        Map<EndpointClass, RateLimitProperties.Limit> limits = new EnumMap<>(EndpointClass.class);
+        limits.put(EndpointClass.SEARCH, limit);
+        limits.put(EndpointClass.FEED, limit);
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getTiers().put("standard", limits);
+
+        rateLimitFilter = new RateLimitFilter(new TenantRateLimiter(1024), properties, tracker, meterRegistry);
+        tenantResolutionFilter = new TenantResolutionFilter(new ObjectMapper());
+    }
+
+    @Test
+    void doFilter_WhenBucketEmpty_ShouldAnswer429WithRetryAfter() throws Exception {
+        for (int i = 0; i < BURST; i++) {
+            assertEquals(HttpStatus.OK.value(), send(feed("tenant-a")).getStatus());
+        }
+
+        MockHttpServletResponse throttled = send(feed("tenant-a"));
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), throttled.getStatus());
+        assertEquals("1", throttled.getHeader("Retry-After"));
+        assertTrue(throttled.getContentType().startsWith(MediaType.APPLICATION_JSON_VALUE));
+        assertTrue(throttled.getContentAsString().contains("\"endpointClass\":\"FEED\""));
+        assertEquals(BURST, receivedBodies.size());
+        assertEquals(1.0, meterRegistry.get("jobposting.ratelimit.throttled")
+                .tag("endpointClass", "FEED").tag("tier", "standard").counter().count());
+        assertEquals("tenant-a", tracker.top(1).get(0).get("tenant"));
+    }
+
+    @Test
+    void doFilter_ShouldKeySearchByTenantInRequestBody() throws Exception {
+        for (int i = 0; i < BURST; i++) {
+            assertEquals(HttpStatus.OK.value(), send(search("{\"tenantId\":\"tenant-a\",\"keyword\":\"java\"}")).getStatus());
+        }
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(),
+                send(search("{\"tenantId\":\"tenant-a\"}")).getStatus());
+        // Same address, different tenant: a separate bucket
+        assertEquals(HttpStatus.OK.value(), send(search("{\"tenantId\":\"tenant-b\"}")).getStatus());
+        assertEquals("tenant-a", tracker.top(1).get(0).get("tenant"));
+        // The controller still reads the full body after the tenant was taken from it
+        assertEquals("{\"tenantId\":\"tenant-a\",\"keyword\":\"java\"}", receivedBodies.get(0));
+    }
+
+    @Test
+    void doFilter_ShouldLimitEachEndpointClassSeparately() throws Exception {
+        for (int i = 0; i < BURST; i++) {
+            send(search("{\"tenantId\":\"tenant-a\"}"));
+        }
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), send(search("{\"tenantId\":\"tenant-a\"}")).getStatus());
+
+        assertEquals(HttpStatus.OK.value(), send(feed("tenant-a")).getStatus());
+        for (int i = 0; i < 2 * BURST; i++) {
+            MockHttpServletRequest unlimited = new MockHttpServletRequest("GET", "/api/v1/jobs");
+            unlimited.addHeader("X-Tenant-ID", "tenant-a");
+            assertEquals(HttpStatus.OK.value(), send(unlimited).getStatus());
+        }
+    }
+
+    private MockHttpServletResponse send(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        HttpServlet controller = new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                receivedBodies.add(StreamUtils.copyToString(req.getInputStream(), StandardCharsets.UTF_8));
+            }
+        };
+        new MockFilterChain(controller, tenantResolutionFilter, rateLimitFilter).doFilter(request, response);
+        return response;
+    }
+
+    private static MockHttpServletRequest feed(String tenant) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/jobs/public");
+        request.addHeader("X-Organization-Id", tenant);
+        return request;
+    }
+
+    private static MockHttpServletRequest search(String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/jobs/search");
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
@@ -0,0 +1,85 @@
+package com.platform.talent.jobposting.config.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TenantRateLimiterTest {
+
+    private static final long SECOND = 1_000_000L;
+
+    @Test
+    void tryAcquire_ShouldAdmitBurstThenThrottle() {
+        TenantRateLimiter limiter = new TenantRateLimiter(1024);
+        long now = 10 * SECOND;
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, limiter.tryAcquire("tenant-a|SEARCH", 1.0, 5, now));
+        }
+        long wait = limiter.tryAcquire("tenant-a|SEARCH", 1.0, 5, now);
+
+        assertTrue(wait > 0 && wait <= SECOND, "expected to wait at most one emission interval, got " + wait);
+    }
+
+    @Test
+    void tryAcquire_ShouldRefillAtConfiguredRate() {
+        TenantRateLimiter limiter = new TenantRateLimiter(1024);
+        long now = 10 * SECOND;
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("tenant-a|FEED", 2.0, 3, now);
+        }
+        assertTrue(limiter.tryAcquire("tenant-a|FEED", 2.0, 3, now) > 0);
+
+        assertEquals(0, limiter.tryAcquire("tenant-a|FEED", 2.0, 3, now + SECOND / 2));
+    }
+
+    @Test
+    void tryAcquire_ShouldIsolateTenants() {
+        TenantRateLimiter limiter = new TenantRateLimiter(1024);
+        long now = 10 * SECOND;
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire("noisy|SEARCH", 1.0, 2, now);
+        }
+
+        assertEquals(0, limiter.tryAcquire("quiet|SEARCH", 1.0, 2, now));
+    }
+
+    @Test
+    void tryAcquire_ShouldStayBoundedWithManyMoreKeysThanSlots() {
+        TenantRateLimiter limiter = new TenantRateLimiter(64);
+        long now = 10 * SECOND;
+        int admitted = 0;
+
+        for (int i = 0; i < 100_000; i++) {
+            if (limiter.tryAcquire("tenant-" + i + "|SEARCH", 1.0, 1, now) == 0) {
+                admitted++;
+            }
+        }
+
+        // Colliding keys share a bucket, which can only throttle more, never admit more
+        assertTrue(admitted <= 64, "admitted " + admitted);
+    }
+
+    @Test
+    void tryAcquire_WhenSlotTakenOverByAnotherKey_ShouldNotGrantAFreshBurst() {
+        TenantRateLimiter limiter = new TenantRateLimiter(8);
+        long now = 10 * SECOND;
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, limiter.tryAcquire("tenant-a|SEARCH", 1.0, 5, now));
+        }
+        // Keys with a deep burst are admitted into busy shared slots and overwrite their owners
+        for (int i = 0; i < 1_000; i++) {
+            limiter.tryAcquire("tenant-" + i + "|FEED", 1.0, 10, now);
+        }
+
+        int admitted = 0;
+        for (int i = 0; i < 5; i++) {
+            if (limiter.tryAcquire("tenant-a|SEARCH", 1.0, 5, now + SECOND) == 0) {
+                admitted++;
+            }
+        }
+
+        // One second refills one token, whichever slot tenant-a ends up in
+        assertTrue(admitted <= 1, "admitted " + admitted);
+    }
+}
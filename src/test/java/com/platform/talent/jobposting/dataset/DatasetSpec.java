@@ -0,0 +1,119 @@
+package com.platform.talent.jobposting.dataset;
+
+import com.platform.talent.jobposting.domain.model.JobPostingStatus;
+import com.platform.talent.jobposting.domain.model.JobStatus;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Shape of a synthetic dataset. The same spec and seed always produce the same
+ * rows, so plans and benchmark numbers are comparable between runs.
+ */
+@Value
+@Builder(toBuilder = true)
+public class DatasetSpec {
+
+    @Builder.Default
+    long seed = 42L;
+
+    @Builder.Default
+    int tenants = 50;
+
+    @Builder.Default
+    long jobs = 100_000L;
+
+    /** job_postings rows; loaded only when the table exists (V11 and later). */
+    @Builder.Default
+    long postings = 20_000L;
+
+    /** Zipf exponent over tenant rank: 0 is uniform, 1.1 puts ~25% of 50 tenants' rows in the largest. */
+    @Builder.Default
+    double tenantSkew = 1.1;
+
+    @Builder.Default
+    Map<JobStatus, Double> jobStatusMix = defaultJobStatusMix();
+
+    @Builder.Default
+    Map<JobPostingStatus, Double> postingStatusMix = defaultPostingStatusMix();
+
+    /** Mean description length; each row varies between half and one and a half times this. */
+    @Builder.Default
+    int descriptionWords = 350;
+
+    /** Keys in custom_fields; with requirements and benefits this sets the jsonb payload size. */
+    @Builder.Default
+    int customFields = 12;
+
+    @Builder.Default
+    int requirements = 8;
+
+    /** Share of jobs with latitude/longitude/geohash; the rest are left for the geocoding backfill. */
+    @Builder.Default
+    double geocodedRatio = 0.7;
+
+    /** created_at is spread uniformly over this many days before {@link #referenceTime}. */
+    @Builder.Default
+    int historyDays = 730;
+
+    @Builder.Default
+    LocalDateTime referenceTime = LocalDate.now().atStartOfDay();
+
+    /** Rows per COPY transaction, so tens of millions of rows never sit in one transaction. */
+    @Builder.Default
+    long rowsPerCopy = 1_000_000L;
+
+    /**
+     * Opt-in fast path: loads with {@code session_replication_role = replica}, which needs a
+     * superuser and skips every trigger and foreign-key check, not just the partition sync.
+     * Only the partition copy and change counters are reapplied afterwards. Off by default, so
+     * rows go through the same triggers and constraints as application writes.
+     */
+    @Builder.Default
+    boolean bypassTriggers = false;
+
+    /**
+     * Starts from {@code defaults} and overrides seed, tenants, jobs, postings, skew,
+     * description length and the trigger bypass from {@code <prefix>.seed}, {@code <prefix>.tenants}, ... system properties.
+     */
+    public static DatasetSpecBuilder fromSystemProperties(String prefix, DatasetSpec defaults) {
+        return defaults.toBuilder()
+                .seed(Long.getLong(prefix + ".seed", defaults.seed))
+                .tenants(Integer.getInteger(prefix + ".tenants", defaults.tenants))
+                .jobs(Long.getLong(prefix + ".jobs", defaults.jobs))
+                .postings(Long.getLong(prefix + ".postings", defaults.postings))
+                .tenantSkew(Double.parseDouble(System.getProperty(prefix + ".tenantSkew",
+                        Double.toString(defaults.tenantSkew))))
+                .descriptionWords(Integer.getInteger(prefix + ".descriptionWords", defaults.descriptionWords))
+                .bypassTriggers(Boolean.parseBoolean(System.getProperty(prefix + ".bypassTriggers",
+                        Boolean.toString(defaults.bypassTriggers))));
+    }
+
+    // Roughly half live, long closed/archived history, like a tenant a few years in
+    private static Map<JobStatus, Double> defaultJobStatusMix() {
+        Map<JobStatus, Double> mix = new EnumMap<>(JobStatus.class);
+        mix.put(JobStatus.PUBLISHED, 0.45);
+        mix.put(JobStatus.DRAFT, 0.15);
+        mix.put(JobStatus.PENDING_APPROVAL, 0.05);
+        mix.put(JobStatus.APPROVED, 0.05);
+        mix.put(JobStatus.CLOSED, 0.15);
+        mix.put(JobStatus.ARCHIVED, 0.10);
+        mix.put(JobStatus.CANCELLED, 0.05);
+        return mix;
+    }
+
+    private static Map<JobPostingStatus, Double> defaultPostingStatusMix() {
+        Map<JobPostingStatus, Double> mix = new EnumMap<>(JobPostingStatus.class);
+        mix.put(JobPostingStatus.PUBLISHED, 0.40);
+        mix.put(JobPostingStatus.DRAFT, 0.15);
+        mix.put(JobPostingStatus.PENDING_APPROVAL, 0.05);
+        mix.put(JobPostingStatus.PAUSED, 0.05);
+        mix.put(JobPostingStatus.EXPIRED, 0.15);
+        mix.put(JobPostingStatus.CLOSED, 0.20);
+        return mix;
+    }
+}
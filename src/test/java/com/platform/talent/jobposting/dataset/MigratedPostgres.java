@@ -0,0 +1,78 @@
+package com.platform.talent.jobposting.dataset;
+
+import com.platform.talent.jobposting.JobPostingApplication;
+import com.platform.talent.jobposting.loadtest.LoadTestStubs;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An embedded PostgreSQL carrying the db/migration schema, with the service
+ * booted against it (Kafka and outbound HTTP stubbed as in the load test).
+ * For tests of SQL only PostgreSQL runs: ranges, partitions, native queries.
+ * <p>
+ * {@link #admin()} bypasses the application's datasource, for seeding and
+ * for asserting on rows directly.
+ */
+public final class MigratedPostgres implements AutoCloseable {
+
+    private final EmbeddedPostgres postgres;
+    private final ConfigurableApplicationContext context;
+
+    private MigratedPostgres(EmbeddedPostgres postgres, ConfigurableApplicationContext context) {
+        this.postgres = postgres;
+        this.context = context;
+    }
+
+    public static MigratedPostgres start(String... properties) throws IOException, SQLException {
+        EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+        try {
+            MigrationScripts.apply(postgres.getPostgresDatabase());
+            List<String> all = new ArrayList<>(List.of(
+                    "server.port=0",
+                    "spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                    "spring.datasource.username=postgres",
+                    "spring.datasource.password=postgres",
+                    "spring.jpa.hibernate.ddl-auto=validate",
+                    // MigrationScripts already applied db/migration, without a Flyway history table
+                    "spring.flyway.enabled=false",
+                    "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration",
+                    "similar-jobs.enabled=false",
+                    "typeahead.enabled=false",
+                    "logging.level.com.platform.talent=WARN",
+                    "logging.level.root=WARN"));
+            all.addAll(List.of(properties));
+            // Arguments rather than default properties, which application.yml would override
+            ConfigurableApplicationContext context =
+                    new SpringApplicationBuilder(JobPostingApplication.class, LoadTestStubs.class)
+                            .run(all.stream().map(property -> "--" + property).toArray(String[]::new));
+            return new MigratedPostgres(postgres, context);
+        } catch (RuntimeException | IOException | SQLException e) {
+            postgres.close();
+            throw e;
+        }
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public DataSource admin() {
+        return postgres.getPostgresDatabase();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            context.close();
+        } finally {
+            postgres.close();
+        }
+    }
+}
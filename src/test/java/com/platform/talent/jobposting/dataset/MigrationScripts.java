@@ -0,0 +1,86 @@
+package com.platform.talent.jobposting.dataset;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Applies the classpath {@code db/migration/V*__*.sql} scripts in version order,
+ * for harnesses that need the migrated schema on an embedded database. Scripts
+ * whose {@code .sql.conf} sets {@code executeInTransaction=false} run one
+ * statement at a time, as Flyway runs them.
+ */
+public final class MigrationScripts {
+
+    private MigrationScripts() {
+    }
+
+    public static void apply(DataSource dataSource) throws IOException, SQLException {
+        Resource[] scripts = new PathMatchingResourcePatternResolver().getResources("classpath:db/migration/V*__*.sql");
+        Arrays.sort(scripts, Comparator.comparingInt(MigrationScripts::version));
+        for (Resource script : scripts) {
+            String sql = read(script);
+            if (transactional(script)) {
+                execute(dataSource, sql);
+            } else {
+                // CREATE INDEX CONCURRENTLY fails inside the implicit transaction of a multi-statement execute
+                for (String statement : statements(sql)) {
+                    if (!statement.lines().allMatch(line -> line.isBlank() || line.trim().startsWith("--"))) {
+                        execute(dataSource, statement);
+                    }
+                }
+            }
+        }
+    }
+
+    // The driver splits multi-statement scripts itself and honours dollar quoting
+    public static void execute(DataSource dataSource, String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    // Splits at semicolons ending a line, keeping dollar-quoted DO bodies whole
+    private static List<String> statements(String sql) {
+        List<String> statements = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (String part : sql.split("(?<=;)\\s*\\n")) {
+            current.append(part).append('\n');
+            if (current.toString().split("\\$\\$", -1).length % 2 == 1) {
+                statements.add(current.toString());
+                current.setLength(0);
+            }
+        }
+        if (!current.isEmpty()) {
+            statements.add(current.toString());
+        }
+        return statements;
+    }
+
+    private static boolean transactional(Resource script) throws IOException {
+        Resource config = script.createRelative(script.getFilename() + ".conf");
+        return !config.exists() || !read(config).contains("executeInTransaction=false");
+    }
+
+    private static String read(Resource resource) throws IOException {
+        try (InputStream in = resource.getInputStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static int version(Resource script) {
+        String name = script.getFilename();
+        return Integer.parseInt(name.substring(1, name.indexOf("__")));
+    }
+}
@@ -0,0 +1,246 @@
+package com.platform.talent.jobposting.dataset;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Streams rows to {@code COPY ... FROM STDIN (FORMAT binary)}. Values are
+ * encoded in PostgreSQL's send format, so the server does no text parsing;
+ * callers must write exactly the column types of the target table, in order.
+ *
+ * <pre>
+ * try (PgBinaryCopyWriter copy = PgBinaryCopyWriter.open(connection, "COPY t (id, name) FROM STDIN (FORMAT binary)")) {
+ *     copy.startRow(2).uuid(id).text(name);
+ * }
+ * </pre>
+ */
+public final class PgBinaryCopyWriter implements Closeable {
+
+    private static final byte[] SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0};
+    private static final LocalDateTime PG_EPOCH = LocalDateTime.of(2000, 1, 1, 0, 0);
+    private static final int FLUSH_BYTES = 1 << 16;
+    private static final short NUMERIC_NEG = 0x4000;
+
+    private final CopyIn copyIn;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(FLUSH_BYTES * 2);
+    private final DataOutputStream out = new DataOutputStream(buffer);
+    private long rows;
+
+    private PgBinaryCopyWriter(CopyIn copyIn) throws IOException {
+        this.copyIn = copyIn;
+        out.write(SIGNATURE);
+        out.writeInt(0); // flags
+        out.writeInt(0); // header extension length
+    }
+
+    public static PgBinaryCopyWriter open(Connection connection, String copySql) throws SQLException {
+        try {
+            return new PgBinaryCopyWriter(connection.unwrap(PGConnection.class).getCopyAPI().copyIn(copySql));
+        } catch (IOException e) {
+            throw new SQLException("Could not start COPY", e);
+        }
+    }
+
+    public PgBinaryCopyWriter startRow(int fields) throws IOException {
+        if (rows > 0 && buffer.size() >= FLUSH_BYTES) {
+            flush();
+        }
+        out.writeShort(fields);
+        rows++;
+        return this;
+    }
+
+    public PgBinaryCopyWriter uuid(UUID value) throws IOException {
+        if (value == null) {
+            return nul();
+        }
+        out.writeInt(16);
+        out.writeLong(value.getMostSignificantBits());
+        out.writeLong(value.getLeastSignificantBits());
+        return this;
+    }
+
+    /** text, varchar and char columns share the same send format. */
+    public PgBinaryCopyWriter text(String value) throws IOException {
+        if (value == null) {
+            return nul();
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+        return this;
+    }
+
+    public PgBinaryCopyWriter jsonb(String json) throws IOException {
+        if (json == null) {
+            return nul();
+        }
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length + 1);
+        out.writeByte(1); // jsonb binary format version
+        out.write(bytes);
+        return this;
+    }
+
+    public PgBinaryCopyWriter int4(Integer value) throws IOException {
+        if (value == null) {
+            return nul();
+        }
+        out.writeInt(4);
+        out.writeInt(value);
+        return this;
+    }
+
+    public PgBinaryCopyWriter int8(Long value) throws IOException {
+        if (value == null) {
+            return nul();
+        }
+        out.writeInt(8);
+        out.writeLong(value);
+        return this;
+    }
+
+    public PgBinaryCopyWriter bool(Boolean value) throws IOException {
+        if (value == null) {
+            return nul();
+        }
+        out.writeInt(1);
+        out.writeByte(value ? 1 : 0);
+        return this;
+    }
+
+    public PgBinaryCopyWriter float8(Double value) throws IOException {
+        if (value == null) {
+            return nul();
+        }
+        out.writeInt(8);
+        out.writeDouble(value);
+        return this;
+    }
+
+    /** timestamp without time zone, as microseconds since 2000-01-01. */
+    public PgBinaryCopyWriter timestamp(LocalDateTime value) throws IOException {
+        if (value == null) {
+            return nul();
+        }
+        out.writeInt(8);
+        out.writeLong(ChronoUnit.MICROS.between(PG_EPOCH, value));
+        return this;
+    }
+
+    public PgBinaryCopyWriter date(LocalDate value) throws IOException {
+        if (value == null) {
+            return nul();
+        }
+        out.writeInt(4);
+        out.writeInt((int) ChronoUnit.DAYS.between(PG_EPOCH.toLocalDate(), value));
+        return this;
+    }
+
+    /**
+     * numeric as base-10000 digit groups: ndigits, weight (power of 10000 of
+     * the first group), sign and display scale, then the groups themselves.
+     */
+    public PgBinaryCopyWriter numeric(BigDecimal value) throws IOException {
+        if (value == null) {
+            return nul();
+        }
+        BigDecimal abs = value.abs();
+        int scale = Math.max(abs.scale(), 0);
+        String digits = abs.setScale(scale).unscaledValue().toString();
+        if (digits.length() <= scale) {
+            digits = "0".repeat(scale - digits.length() + 1) + digits;
+        }
+        String integer = digits.substring(0, digits.length() - scale);
+        String fraction = digits.substring(digits.length() - scale);
+        integer = "0".repeat((4 - integer.length() % 4) % 4) + integer;
+        fraction = fraction + "0".repeat((4 - fraction.length() % 4) % 4);
+
+        List<Short> groups = new ArrayList<>();
+        for (int i = 0; i < integer.length(); i += 4) {
+            groups.add(Short.parseShort(integer.substring(i, i + 4)));
+        }
+        for (int i = 0; i < fraction.length(); i += 4) {
+            groups.add(Short.parseShort(fraction.substring(i, i + 4)));
+        }
+        int weight = integer.length() / 4 - 1;
+        while (!groups.isEmpty() && groups.get(0) == 0) {
+            groups.remove(0);
+            weight--;
+        }
+        while (!groups.isEmpty() && groups.get(groups.size() - 1) == 0) {
+            groups.remove(groups.size() - 1);
+        }
+        boolean zero = groups.isEmpty() || abs.unscaledValue().equals(BigInteger.ZERO);
+
+        out.writeInt(8 + 2 * groups.size());
+        out.writeShort(groups.size());
+        out.writeShort(zero ? 0 : weight);
+        out.writeShort(value.signum() < 0 ? NUMERIC_NEG : 0);
+        out.writeShort(scale);
+        for (short group : groups) {
+            out.writeShort(group);
+        }
+        return this;
+    }
+
+    public PgBinaryCopyWriter nul() throws IOException {
+        out.writeInt(-1);
+        return this;
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    private void flush() throws IOException {
+        try {
+            copyIn.writeToCopy(buffer.toByteArray(), 0, buffer.size());
+        } catch (SQLException e) {
+            throw new IOException("COPY failed after " + rows + " rows", e);
+        }
+        buffer.reset();
+    }
+
+    /** Writes the trailer and completes the COPY; the rows commit with the connection's transaction. */
+    @Override
+    public void close() throws IOException {
+        if (!copyIn.isActive()) {
+            return;
+        }
+        out.writeShort(-1);
+        flush();
+        try {
+            copyIn.endCopy();
+        } catch (SQLException e) {
+            throw new IOException("COPY failed after " + rows + " rows", e);
+        }
+    }
+
+    /** Abandons the COPY, discarding every row sent so far. */
+    public void cancel() {
+        try {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        } catch (SQLException ignored) {
+            // the connection is rolled back or closed by the caller either way
+        }
+    }
+}
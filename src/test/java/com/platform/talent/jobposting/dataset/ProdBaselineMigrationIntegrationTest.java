@@ -0,0 +1,145 @@
+package com.platform.talent.jobposting.dataset;
+
+import com.platform.talent.jobposting.JobPostingApplication;
+import com.platform.talent.jobposting.loadtest.LoadTestStubs;
+import com.platform.talent.jobposting.service.JobPartitionMigrator;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Production's schema predates Flyway: Hibernate built it with ddl-auto update
+ * from the original entities. Rebuilds that schema, then boots with the prod
+ * profile so Flyway baselines it at version 1 and runs V2 onwards over it.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ProdBaselineMigrationIntegrationTest {
+
+    private static final UUID JOB = UUID.randomUUID();
+    private static final String POSTING = UUID.randomUUID().toString();
+
+    private EmbeddedPostgres postgres;
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate admin;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        postgres = EmbeddedPostgres.builder().start();
+        admin = new JdbcTemplate(postgres.getPostgresDatabase());
+
+        boot(new SpringApplicationBuilder(JobPostingApplication.class, LoadTestStubs.class),
+                "--spring.jpa.hibernate.ddl-auto=create",
+                "--spring.flyway.enabled=false").close();
+        hibernateBaseline();
+        admin.update("INSERT INTO ggj_jobs (id, tenant_id, title, description, status, recruiter_id, "
+                        + "salary_min, salary_max, salary_currency, created_at) "
+                        + "VALUES (?, ?, 'Engineer', 'Builds things', 'PUBLISHED', ?, 90000.5, 120000, 'USD', ?)",
+                JOB, UUID.randomUUID(), UUID.randomUUID(), LocalDateTime.now().withNano(0));
+        admin.update("INSERT INTO job_postings (job_id, organization_id, job_title, job_description, department, "
+                        + "status, published_date) VALUES (?, 'org-1', 'Engineer', 'Builds things', 'R&D', 'PUBLISHED', ?)",
+                POSTING, LocalDate.now());
+
+        context = boot(new SpringApplicationBuilder(JobPostingApplication.class, LoadTestStubs.class)
+                .profiles("prod"));
+    }
+
+    @AfterAll
+    void tearDown() throws Exception {
+        try {
+            if (context != null) {
+                context.close();
+            }
+        } finally {
+            if (postgres != null) {
+                postgres.close();
+            }
+        }
+    }
+
+    @Test
+    void migrate_ShouldBaselineAtOneAndApplyEveryLaterScript() {
+        assertEquals("1", admin.queryForObject(
+                "SELECT version FROM flyway_schema_history WHERE type = 'BASELINE'", String.class));
+        assertEquals(0, count("SELECT COUNT(*) FROM flyway_schema_history WHERE NOT success"));
+        assertEquals("13", admin.queryForObject("SELECT version FROM flyway_schema_history "
+                + "WHERE version IS NOT NULL ORDER BY installed_rank DESC LIMIT 1", String.class));
+    }
+
+    @Test
+    void migrate_ShouldConvertHibernateColumnsAndKeepTheirRows() {
+        assertEquals("numeric", admin.queryForObject("SELECT data_type FROM information_schema.columns "
+                + "WHERE table_name = 'ggj_jobs' AND column_name = 'salary_min'", String.class));
+        assertEquals("90000.50", admin.queryForObject(
+                "SELECT salary_min::text FROM ggj_jobs WHERE id = ?", String.class, JOB));
+        assertEquals(Boolean.FALSE, admin.queryForObject(
+                "SELECT near_duplicate_external FROM job_postings WHERE job_id = ?", Boolean.class, POSTING));
+    }
+
+    @Test
+    void migrate_ShouldBackfillPublishedPostingsIntoTheReadModel() {
+        assertEquals(1, count("SELECT COUNT(*) FROM published_job_view WHERE job_id = '" + POSTING + "'"));
+    }
+
+    @Test
+    void migrate_ShouldLetThePartitionBackfillCopyHibernateRows() {
+        context.getBean(JobPartitionMigrator.class).migrate();
+
+        assertEquals(count("SELECT COUNT(*) FROM ggj_jobs"), count("SELECT COUNT(*) FROM ggj_jobs_p"));
+        assertEquals(1, count("SELECT COUNT(*) FROM ggj_jobs_p WHERE id = '" + JOB + "'"));
+    }
+
+    private ConfigurableApplicationContext boot(SpringApplicationBuilder builder, String... extra) {
+        // Arguments, so they win over application-prod.yml
+        String[] args = {
+                "--server.port=0",
+                "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                "--spring.datasource.username=postgres",
+                "--spring.datasource.password=postgres",
+                "--spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration",
+                "--similar-jobs.enabled=false",
+                "--typeahead.enabled=false",
+                "--logging.level.com.platform.talent=WARN",
+                "--logging.level.root=WARN"};
+        String[] all = new String[args.length + extra.length];
+        System.arraycopy(args, 0, all, 0, args.length);
+        System.arraycopy(extra, 0, all, args.length, extra.length);
+        return builder.run(all);
+    }
+
+    // Trims the ddl-auto schema of today's entities back to what the original two built
+    private void hibernateBaseline() {
+        for (String table : admin.queryForList("SELECT tablename FROM pg_tables WHERE schemaname = 'public' "
+                + "AND tablename NOT IN ('ggj_jobs', 'job_postings')", String.class)) {
+            admin.execute("DROP TABLE " + table + " CASCADE");
+        }
+        for (String sequence : admin.queryForList(
+                "SELECT sequencename FROM pg_sequences WHERE schemaname = 'public'", String.class)) {
+            admin.execute("DROP SEQUENCE " + sequence + " CASCADE");
+        }
+        admin.execute("ALTER TABLE ggj_jobs "
+                + "DROP COLUMN latitude, DROP COLUMN longitude, DROP COLUMN geohash, "
+                + "DROP COLUMN salary_normalized_min, DROP COLUMN salary_normalized_max, DROP COLUMN change_seq, "
+                + "DROP COLUMN near_duplicate_of, DROP COLUMN near_duplicate_external, "
+                + "ALTER COLUMN salary_min TYPE double precision, ALTER COLUMN salary_max TYPE double precision");
+        admin.execute("ALTER TABLE job_postings "
+                + "DROP COLUMN latitude, DROP COLUMN longitude, DROP COLUMN geohash, "
+                + "DROP COLUMN salary_normalized_min, DROP COLUMN salary_normalized_max, "
+                + "DROP COLUMN near_duplicate_of, DROP COLUMN near_duplicate_external");
+    }
+
+    private long count(String sql) {
+        Long count = admin.queryForObject(sql, Long.class);
+        return count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,499 @@
+package com.platform.talent.jobposting.dataset;
+
+import com.platform.talent.jobposting.domain.model.JobPostingStatus;
+import com.platform.talent.jobposting.domain.model.JobStatus;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Loads a synthetic {@code ggj_jobs} / {@code job_postings} dataset through binary
+ * COPY: skewed tenant sizes, a configurable status mix, multi-kB descriptions and
+ * jsonb payloads. Expects the migrated schema ({@link MigrationScripts}); postings
+ * are loaded only when {@code job_postings} exists, and published ones are copied
+ * into {@code published_job_view}.
+ *
+ * <p>Ids of tenants, departments, recruiters and organizations follow a fixed scheme
+ * ({@link #tenantId(int)} etc.) so harnesses can address a tenant of a known size.
+ */
+public class SyntheticDatasetGenerator {
+
+    public static final int DEPARTMENTS_PER_TENANT = 20;
+    public static final int RECRUITERS_PER_TENANT = 50;
+
+    private static final String JOB_COPY = "COPY ggj_jobs (id, tenant_id, title, description, location, "
+            + "employment_type, experience_level, salary_min, salary_max, salary_currency, salary_normalized_min, "
+            + "salary_normalized_max, status, department_id, recruiter_id, hiring_manager_id, number_of_positions, "
+            + "published_at, expires_at, approved_at, custom_fields, requirements, benefits, application_count, "
+            + "view_count, is_remote, is_featured, created_at, updated_at, version, latitude, longitude, geohash, "
+            + "change_seq) FROM STDIN (FORMAT binary)";
+    private static final int JOB_COLUMNS = 34;
+
+    private static final String POSTING_COPY = "COPY job_postings (job_id, organization_id, requisition_id, "
+            + "job_title, job_description, responsibilities, qualifications, benefits, department, location, "
+            + "work_type, employment_type, salary_min, salary_max, currency, salary_normalized_min, "
+            + "salary_normalized_max, show_salary, status, published_date, expiry_date, view_count, "
+            + "application_count, publish_to_linked_in, publish_to_indeed, publish_to_glassdoor, "
+            + "publish_to_company_website, created_date, last_modified_date, created_by) FROM STDIN (FORMAT binary)";
+    private static final int POSTING_COLUMNS = 30;
+    private static final int POSTING_DESCRIPTION_MAX = 5_900; // column is varchar(6000)
+
+    // What JobPostingService keeps in the read model for each published posting
+    private static final String PUBLISHED_VIEW_FILL = "INSERT INTO published_job_view (job_id, organization_id, "
+            + "job_title, job_description, responsibilities, qualifications, benefits, department, location, "
+            + "work_type, employment_type, salary_min, salary_max, currency, salary_normalized_min, "
+            + "salary_normalized_max, show_salary, published_date, expiry_date) "
+            + "SELECT job_id, organization_id, job_title, job_description, responsibilities, qualifications, "
+            + "benefits, department, location, work_type, employment_type, salary_min, salary_max, currency, "
+            + "salary_normalized_min, salary_normalized_max, show_salary, published_date, expiry_date "
+            + "FROM job_postings WHERE status = 'PUBLISHED' ON CONFLICT (job_id) DO NOTHING";
+
+    private static final String[] LEVELS = {"Senior", "Staff", "Junior", "Lead", "Principal"};
+    private static final String[] ROLES = {"Java Engineer", "Data Analyst", "Product Manager", "Sales Manager",
+            "Designer", "Recruiter", "Site Reliability Engineer", "Accountant", "Nurse", "Support Specialist",
+            "Data Scientist", "Account Executive"};
+    private static final String[] DEPARTMENTS = {"Engineering", "Sales", "Marketing", "Finance", "People",
+            "Operations", "Design", "Support", "Legal", "Data"};
+    private static final String[] EMPLOYMENT_TYPES = {"FULL_TIME", "FULL_TIME", "FULL_TIME", "PART_TIME",
+            "CONTRACT", "INTERNSHIP"};
+    private static final String[] EXPERIENCE_LEVELS = {"ENTRY", "MID", "SENIOR", "LEAD", "EXECUTIVE"};
+    private static final String[] WORK_TYPES = {"REMOTE", "ONSITE", "HYBRID"};
+    private static final String[] CITIES = {"New York, NY", "San Francisco, CA", "London, UK", "Berlin, DE",
+            "Seattle, WA", "Chicago, IL", "Austin, TX", "Boston, MA"};
+    private static final String[] GEOHASH_PREFIXES = {"dr5ru", "9q8yy", "gcpvj", "u33db", "c23nb", "dp3wj",
+            "9v6km", "drt2z"};
+    private static final double[] LATITUDES = {40.71, 37.77, 51.51, 52.52, 47.61, 41.88, 30.27, 42.36};
+    private static final double[] LONGITUDES = {-74.01, -122.42, -0.13, 13.40, -122.33, -87.63, -97.74, -71.06};
+    private static final String[] CURRENCIES = {"USD", "USD", "USD", "USD", "USD", "USD", "USD", "EUR", "EUR", "GBP"};
+    private static final Map<String, BigDecimal> RATES = Map.of(
+            "USD", BigDecimal.ONE, "EUR", new BigDecimal("1.08"), "GBP", new BigDecimal("1.27"));
+    private static final String[] SKILLS = {"java", "kotlin", "spring", "postgres", "kafka", "react", "python",
+            "kubernetes", "aws", "sql", "excel", "salesforce", "figma", "terraform", "go", "scala"};
+    private static final String[] BENEFITS = {"health insurance", "dental", "pension", "stock options",
+            "remote stipend", "learning budget", "parental leave", "gym membership", "bonus"};
+    private static final String GEOHASH_ALPHABET = "0123456789bcdefghjkmnpqrstuvwxyz";
+    private static final String[] WORDS = ("you will own services end to end and work closely with product design "
+            + "and data teams to ship features that matter for customers across the globe we value ownership "
+            + "clear writing pragmatic testing and steady delivery the role includes mentoring reviewing code "
+            + "planning roadmaps improving reliability and reducing cost while keeping latency low our stack "
+            + "includes managed databases event streaming container orchestration and a modern frontend "
+            + "requirements include several years of relevant experience strong communication and curiosity "
+            + "benefits include flexible hours generous leave and a budget for conferences and books").split(" ");
+
+    private final DatasetSpec spec;
+
+    public SyntheticDatasetGenerator(DatasetSpec spec) {
+        this.spec = spec;
+    }
+
+    public static UUID tenantId(int tenant) {
+        return seededId(0, tenant);
+    }
+
+    public static UUID departmentId(int tenant, int department) {
+        return seededId(1, (long) tenant * DEPARTMENTS_PER_TENANT + department);
+    }
+
+    public static UUID recruiterId(int tenant, int recruiter) {
+        return seededId(2, (long) tenant * RECRUITERS_PER_TENANT + recruiter);
+    }
+
+    public static String organizationId(int tenant) {
+        return "org-" + tenant;
+    }
+
+    public static String requisitionId(long posting) {
+        return "REQ-" + posting;
+    }
+
+    private static UUID seededId(int kind, long index) {
+        return UUID.fromString(String.format("00000000-0000-0000-%04x-%012x", kind, index));
+    }
+
+    public GenerationReport generate(DataSource dataSource) throws SQLException, IOException {
+        long started = System.nanoTime();
+        long[] jobsPerTenant = new long[spec.getTenants()];
+        long postings = 0;
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            if (spec.isBypassTriggers()) {
+                execute(connection, "SET session_replication_role = replica");
+            }
+            try {
+                loadJobs(connection, jobsPerTenant);
+                if (tableExists(connection, "job_postings")) {
+                    postings = loadPostings(connection);
+                }
+            } finally {
+                if (spec.isBypassTriggers()) {
+                    execute(connection, "RESET session_replication_role");
+                    connection.commit();
+                }
+            }
+
+            boolean publishedView = postings > 0 && tableExists(connection, "published_job_view");
+            if (publishedView) {
+                execute(connection, PUBLISHED_VIEW_FILL);
+            }
+
+            // Rows carry their own change_seq, which the stamp trigger keeps without advancing
+            // the tenant counter, so the counters are caught up once per load in either mode
+            execute(connection, "INSERT INTO ggj_job_change_counters AS c (tenant_id, last_seq) "
+                    + "SELECT tenant_id, MAX(change_seq) FROM ggj_jobs WHERE change_seq IS NOT NULL GROUP BY tenant_id "
+                    + "ON CONFLICT (tenant_id) DO UPDATE SET last_seq = GREATEST(c.last_seq, EXCLUDED.last_seq)");
+            if (spec.isBypassTriggers() && tableExists(connection, "ggj_jobs_p")) {
+                execute(connection, "INSERT INTO ggj_jobs_p SELECT * FROM ggj_jobs ON CONFLICT DO NOTHING");
+            }
+            connection.commit();
+
+            connection.setAutoCommit(true);
+            execute(connection, "ANALYZE ggj_jobs");
+            if (tableExists(connection, "ggj_jobs_p")) {
+                execute(connection, "ANALYZE ggj_jobs_p");
+            }
+            if (postings > 0) {
+                execute(connection, "ANALYZE job_postings");
+            }
+            if (publishedView) {
+                execute(connection, "ANALYZE published_job_view");
+            }
+        }
+        return new GenerationReport(Arrays.stream(jobsPerTenant).sum(), postings, jobsPerTenant,
+                Duration.ofNanos(System.nanoTime() - started));
+    }
+
+    private void loadJobs(Connection connection, long[] jobsPerTenant) throws SQLException, IOException {
+        SplittableRandom random = new SplittableRandom(spec.getSeed());
+        ZipfSampler tenants = new ZipfSampler(spec.getTenants(), spec.getTenantSkew());
+        WeightedSampler<JobStatus> statuses = new WeightedSampler<>(spec.getJobStatusMix());
+        long[] changeSeq = currentChangeSequences(connection);
+
+        long loaded = 0;
+        while (loaded < spec.getJobs()) {
+            long chunk = Math.min(spec.getRowsPerCopy(), spec.getJobs() - loaded);
+            PgBinaryCopyWriter copy = PgBinaryCopyWriter.open(connection, JOB_COPY);
+            try {
+                for (long i = 0; i < chunk; i++) {
+                    int tenant = tenants.sample(random);
+                    jobsPerTenant[tenant]++;
+                    writeJob(copy, random, tenant, statuses.sample(random), ++changeSeq[tenant]);
+                }
+                copy.close();
+            } catch (IOException | RuntimeException e) {
+                copy.cancel();
+                connection.rollback();
+                throw e;
+            }
+            connection.commit();
+            loaded += chunk;
+        }
+    }
+
+    private void writeJob(PgBinaryCopyWriter copy, SplittableRandom random, int tenant, JobStatus status,
+                          long changeSeq) throws IOException {
+        String role = pick(random, ROLES);
+        int city = random.nextInt(CITIES.length);
+        String currency = pick(random, CURRENCIES);
+        BigDecimal salaryMin = BigDecimal.valueOf(30_000L + 1_000L * random.nextInt(170)).setScale(2);
+        BigDecimal salaryMax = salaryMin.add(BigDecimal.valueOf(10_000L + 1_000L * random.nextInt(50)));
+        LocalDateTime createdAt = spec.getReferenceTime()
+                .minusMinutes(random.nextLong(Math.max(1, spec.getHistoryDays()) * 24L * 60L));
+        boolean published = status == JobStatus.PUBLISHED || status == JobStatus.CLOSED || status == JobStatus.ARCHIVED;
+        LocalDateTime publishedAt = published ? createdAt.plusDays(1 + random.nextInt(10)) : null;
+        boolean approved = published || status == JobStatus.APPROVED;
+        boolean geocoded = random.nextDouble() < spec.getGeocodedRatio();
+
+        copy.startRow(JOB_COLUMNS)
+                .uuid(new UUID(random.nextLong() & ~0xF000L | 0x4000L,
+                        random.nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L))
+                .uuid(tenantId(tenant))
+                .text(pick(random, LEVELS) + " " + role)
+                .text(description(random, role, Integer.MAX_VALUE))
+                .text(CITIES[city])
+                .text(pick(random, EMPLOYMENT_TYPES))
+                .text(pick(random, EXPERIENCE_LEVELS))
+                .numeric(salaryMin)
+                .numeric(salaryMax)
+                .text(currency)
+                .numeric(salaryMin.multiply(RATES.get(currency)).setScale(2, RoundingMode.HALF_UP))
+                .numeric(salaryMax.multiply(RATES.get(currency)).setScale(2, RoundingMode.HALF_UP))
+                .text(status.name())
+                .uuid(departmentId(tenant, random.nextInt(DEPARTMENTS_PER_TENANT)))
+                .uuid(recruiterId(tenant, random.nextInt(RECRUITERS_PER_TENANT)))
+                .uuid(random.nextInt(4) == 0 ? null : recruiterId(tenant, random.nextInt(RECRUITERS_PER_TENANT)))
+                .int4(1 + random.nextInt(3))
+                .timestamp(publishedAt)
+                .timestamp(publishedAt != null ? publishedAt.plusDays(60) : null)
+                .timestamp(approved ? createdAt.plusHours(4 + random.nextInt(20)) : null)
+                .jsonb(customFields(random))
+                .jsonb(requirements(random))
+                .jsonb(benefits(random))
+                .int4(published ? random.nextInt(200) : 0)
+                .int4(published ? random.nextInt(5_000) : random.nextInt(20))
+                .bool(random.nextInt(6) == 0)
+                .bool(random.nextInt(25) == 0)
+                .timestamp(createdAt)
+                .timestamp(createdAt.plusDays(random.nextInt(30)))
+                .int8(0L)
+                .float8(geocoded ? LATITUDES[city] + jitter(random) : null)
+                .float8(geocoded ? LONGITUDES[city] + jitter(random) : null)
+                .text(geocoded ? GEOHASH_PREFIXES[city] + geohashSuffix(random) : null)
+                .int8(changeSeq);
+    }
+
+    private long loadPostings(Connection connection) throws SQLException, IOException {
+        // Independent stream: changing the job count must not reshuffle postings
+        SplittableRandom random = new SplittableRandom(spec.getSeed() ^ 0x5DEECE66DL);
+        ZipfSampler organizations = new ZipfSampler(spec.getTenants(), spec.getTenantSkew());
+        WeightedSampler<JobPostingStatus> statuses = new WeightedSampler<>(spec.getPostingStatusMix());
+
+        // Numbering continues after existing rows so repeated loads do not collide on job_id
+        long offset = count(connection, "job_postings");
+        long loaded = 0;
+        while (loaded < spec.getPostings()) {
+            long chunk = Math.min(spec.getRowsPerCopy(), spec.getPostings() - loaded);
+            PgBinaryCopyWriter copy = PgBinaryCopyWriter.open(connection, POSTING_COPY);
+            try {
+                for (long i = 0; i < chunk; i++) {
+                    writePosting(copy, random, offset + loaded + i + 1, organizations.sample(random),
+                            statuses.sample(random));
+                }
+                copy.close();
+            } catch (IOException | RuntimeException e) {
+                copy.cancel();
+                connection.rollback();
+                throw e;
+            }
+            connection.commit();
+            loaded += chunk;
+        }
+        return loaded;
+    }
+
+    private void writePosting(PgBinaryCopyWriter copy, SplittableRandom random, long n, int organization,
+                              JobPostingStatus status) throws IOException {
+        String role = pick(random, ROLES);
+        String currency = pick(random, CURRENCIES);
+        BigDecimal salaryMin = BigDecimal.valueOf(40_000L + 1_000L * random.nextInt(120)).setScale(2);
+        BigDecimal salaryMax = salaryMin.add(BigDecimal.valueOf(30_000L));
+        LocalDate created = spec.getReferenceTime().toLocalDate().minusDays(random.nextInt(Math.max(1, spec.getHistoryDays())));
+        boolean published = status != JobPostingStatus.DRAFT && status != JobPostingStatus.PENDING_APPROVAL;
+
+        copy.startRow(POSTING_COLUMNS)
+                .text("JP-" + n)
+                .text(organizationId(organization))
+                .text(requisitionId(n))
+                .text(role + " " + (n % 50))
+                .text(description(random, role, POSTING_DESCRIPTION_MAX))
+                .text(sentences(random, 40, 2_900))
+                .text(sentences(random, 30, 2_900))
+                .text(String.join(", ", pickSome(random, BENEFITS, 4)))
+                .text(pick(random, DEPARTMENTS))
+                .text(random.nextInt(4) == 0 ? "Remote" : pick(random, CITIES))
+                .text(pick(random, WORK_TYPES))
+                .text(pick(random, EMPLOYMENT_TYPES))
+                .numeric(salaryMin)
+                .numeric(salaryMax)
+                .text(currency)
+                .numeric(salaryMin.multiply(RATES.get(currency)).setScale(2, RoundingMode.HALF_UP))
+                .numeric(salaryMax.multiply(RATES.get(currency)).setScale(2, RoundingMode.HALF_UP))
+                .bool(random.nextInt(3) != 0)
+                .text(status.name())
+                .date(published ? created.plusDays(2) : null)
+                .date(published ? created.plusDays(62) : null)
+                .int4(published ? random.nextInt(3_000) : 0)
+                .int4(published ? random.nextInt(150) : 0)
+                .bool(random.nextBoolean())
+                .bool(random.nextBoolean())
+                .bool(random.nextInt(4) == 0)
+                .bool(true)
+                .date(created)
+                .date(created.plusDays(random.nextInt(20)))
+                .text("synthetic");
+    }
+
+    private String description(SplittableRandom random, String role, int maxChars) {
+        int words = spec.getDescriptionWords() / 2 + random.nextInt(Math.max(1, spec.getDescriptionWords()));
+        StringBuilder text = new StringBuilder("We are hiring a ").append(role).append(". ");
+        appendWords(text, random, words, maxChars);
+        text.append(" Skills: ").append(String.join(", ", pickSome(random, SKILLS, 5))).append('.');
+        return text.length() <= maxChars ? text.toString() : text.substring(0, maxChars);
+    }
+
+    private String sentences(SplittableRandom random, int words, int maxChars) {
+        StringBuilder text = new StringBuilder();
+        appendWords(text, random, words / 2 + random.nextInt(words), maxChars);
+        return text.toString();
+    }
+
+    private static void appendWords(StringBuilder text, SplittableRandom random, int words, int maxChars) {
+        for (int i = 0; i < words && text.length() < maxChars - 16; i++) {
+            text.append(pick(random, WORDS)).append(i % 14 == 13 ? ". " : " ");
+        }
+    }
+
+    private String customFields(SplittableRandom random) {
+        StringBuilder json = new StringBuilder("{\"cost_center\": \"CC-").append(random.nextInt(400)).append('"');
+        for (int i = 0; i < spec.getCustomFields(); i++) {
+            json.append(", \"field_").append(i).append("\": ");
+            switch (i % 3) {
+                case 0 -> json.append('"').append(pick(random, WORDS)).append(' ').append(pick(random, WORDS)).append('"');
+                case 1 -> json.append(random.nextInt(10_000));
+                default -> json.append(random.nextBoolean());
+            }
+        }
+        return json.append('}').toString();
+    }
+
+    private String requirements(SplittableRandom random) {
+        StringBuilder json = new StringBuilder("{\"skills\": [");
+        String[] skills = pickSome(random, SKILLS, Math.max(1, spec.getRequirements()));
+        for (int i = 0; i < skills.length; i++) {
+            json.append(i > 0 ? ", " : "").append('"').append(skills[i]).append('"');
+        }
+        return json.append("], \"yearsOfExperience\": ").append(random.nextInt(12))
+                .append(", \"education\": \"").append(random.nextBoolean() ? "BACHELOR" : "MASTER").append("\"}")
+                .toString();
+    }
+
+    private static String benefits(SplittableRandom random) {
+        StringBuilder json = new StringBuilder("{\"items\": [");
+        String[] items = pickSome(random, BENEFITS, 4);
+        for (int i = 0; i < items.length; i++) {
+            json.append(i > 0 ? ", " : "").append('"').append(items[i]).append('"');
+        }
+        return json.append("]}").toString();
+    }
+
+    private static String geohashSuffix(SplittableRandom random) {
+        char[] suffix = new char[4];
+        for (int i = 0; i < suffix.length; i++) {
+            suffix[i] = GEOHASH_ALPHABET.charAt(random.nextInt(GEOHASH_ALPHABET.length()));
+        }
+        return new String(suffix);
+    }
+
+    private static double jitter(SplittableRandom random) {
+        return (random.nextDouble() - 0.5) * 0.1;
+    }
+
+    private static <T> T pick(SplittableRandom random, T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    // Up to n distinct values; duplicates drawn are dropped rather than redrawn
+    private static String[] pickSome(SplittableRandom random, String[] values, int n) {
+        return random.ints(Math.min(n, values.length), 0, values.length).distinct()
+                .mapToObj(i -> values[i]).toArray(String[]::new);
+    }
+
+    // Continue each tenant's change sequence after rows already in the table
+    private long[] currentChangeSequences(Connection connection) throws SQLException {
+        long[] sequences = new long[spec.getTenants()];
+        Map<UUID, Integer> index = new HashMap<>();
+        for (int i = 0; i < sequences.length; i++) {
+            index.put(tenantId(i), i);
+        }
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT tenant_id, last_seq FROM ggj_job_change_counters")) {
+            while (rs.next()) {
+                Integer tenant = index.get(rs.getObject(1, UUID.class));
+                if (tenant != null) {
+                    sequences[tenant] = rs.getLong(2);
+                }
+            }
+        }
+        return sequences;
+    }
+
+    private static long count(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            return rs.next() ? rs.getLong(1) : 0L;
+        }
+    }
+
+    private static boolean tableExists(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT to_regclass('" + table + "') IS NOT NULL")) {
+            return rs.next() && rs.getBoolean(1);
+        }
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    public record GenerationReport(long jobs, long postings, long[] jobsPerTenant, Duration elapsed) {
+
+        public double rowsPerSecond() {
+            return (jobs + postings) / Math.max(elapsed.toNanos() / 1e9, 1e-9);
+        }
+    }
+
+    /** Tenant rank sampler: P(rank k) proportional to 1 / (k + 1)^skew. */
+    static final class ZipfSampler {
+
+        private final double[] cumulative;
+
+        ZipfSampler(int size, double skew) {
+            cumulative = new double[size];
+            double total = 0;
+            for (int k = 0; k < size; k++) {
+                total += 1.0 / Math.pow(k + 1, skew);
+                cumulative[k] = total;
+            }
+            for (int k = 0; k < size; k++) {
+                cumulative[k] /= total;
+            }
+        }
+
+        int sample(SplittableRandom random) {
+            int i = Arrays.binarySearch(cumulative, random.nextDouble());
+            return Math.min(i >= 0 ? i : -i - 1, cumulative.length - 1);
+        }
+    }
+
+    static final class WeightedSampler<E> {
+
+        private final Object[] values;
+        private final double[] cumulative;
+
+        WeightedSampler(Map<E, Double> weights) {
+            values = weights.keySet().toArray();
+            cumulative = new double[values.length];
+            double total = 0;
+            int i = 0;
+            for (double weight : weights.values()) {
+                total += weight;
+                cumulative[i++] = total;
+            }
+            for (int k = 0; k < cumulative.length; k++) {
+                cumulative[k] /= total;
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        E sample(SplittableRandom random) {
+            int i = Arrays.binarySearch(cumulative, random.nextDouble());
+            return (E) values[Math.min(i >= 0 ? i : -i - 1, values.length - 1)];
+        }
+    }
+}
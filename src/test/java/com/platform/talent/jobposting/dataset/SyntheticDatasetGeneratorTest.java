@@ -0,0 +1,170 @@
+package com.platform.talent.jobposting.dataset;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SyntheticDatasetGeneratorTest {
+
+    private static final DatasetSpec SPEC = DatasetSpec.builder()
+            .tenants(20)
+            .jobs(5_000L)
+            .postings(2_000L)
+            .descriptionWords(60)
+            .rowsPerCopy(2_000L)
+            .referenceTime(LocalDateTime.of(2026, 1, 1, 0, 0))
+            .build();
+
+    private EmbeddedPostgres postgres;
+    private DataSource dataSource;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        postgres = EmbeddedPostgres.builder().start();
+        dataSource = postgres.getPostgresDatabase();
+        MigrationScripts.apply(dataSource);
+    }
+
+    @AfterAll
+    void tearDown() throws IOException {
+        postgres.close();
+    }
+
+    @Test
+    void copyWriter_ShouldRoundTripBinaryValues() throws Exception {
+        UUID id = UUID.randomUUID();
+        LocalDateTime at = LocalDateTime.of(1999, 12, 31, 23, 59, 58, 123_456_000);
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TEMP TABLE copy_types (id uuid, name varchar(20), n integer, big bigint, "
+                    + "flag boolean, d double precision, a numeric(15, 2), b numeric, c numeric, z numeric(15, 2), "
+                    + "at timestamp, day date, doc jsonb, missing text)");
+
+            PgBinaryCopyWriter copy = PgBinaryCopyWriter.open(connection,
+                    "COPY copy_types FROM STDIN (FORMAT binary)");
+            copy.startRow(14).uuid(id).text("héllo").int4(-7).int8(1L << 40).bool(true).float8(2.5)
+                    .numeric(new BigDecimal("-1234.50")).numeric(new BigDecimal("0.0001"))
+                    .numeric(new BigDecimal("100000000.25")).numeric(new BigDecimal("0.00"))
+                    .timestamp(at).date(LocalDate.of(2026, 2, 28)).jsonb("{\"skills\": [\"java\"]}").nul();
+            copy.close();
+            assertEquals(1, copy.rows());
+
+            try (ResultSet rs = statement.executeQuery("SELECT * FROM copy_types")) {
+                assertTrue(rs.next());
+                assertEquals(id, rs.getObject("id", UUID.class));
+                assertEquals("héllo", rs.getString("name"));
+                assertEquals(-7, rs.getInt("n"));
+                assertEquals(1L << 40, rs.getLong("big"));
+                assertTrue(rs.getBoolean("flag"));
+                assertEquals(2.5, rs.getDouble("d"));
+                assertEquals(new BigDecimal("-1234.50"), rs.getBigDecimal("a"));
+                assertEquals(new BigDecimal("0.0001"), rs.getBigDecimal("b"));
+                assertEquals(new BigDecimal("100000000.25"), rs.getBigDecimal("c"));
+                assertEquals(new BigDecimal("0.00"), rs.getBigDecimal("z"));
+                assertEquals(at, rs.getObject("at", LocalDateTime.class));
+                assertEquals(LocalDate.of(2026, 2, 28), rs.getObject("day", LocalDate.class));
+                assertEquals("{\"skills\": [\"java\"]}", rs.getString("doc"));
+                assertNull(rs.getString("missing"));
+                assertFalse(rs.next());
+            }
+        }
+    }
+
+    @Test
+    void generate_ShouldLoadSkewedDeterministicDataset() throws Exception {
+        SyntheticDatasetGenerator.GenerationReport report = new SyntheticDatasetGenerator(SPEC).generate(dataSource);
+        String firstDigest = digest();
+
+        assertEquals(5_000L, report.jobs());
+        assertEquals(5_000L, queryLong("SELECT COUNT(*) FROM ggj_jobs"));
+        // Zipf: the largest tenant dwarfs a mid-ranked one
+        long[] perTenant = report.jobsPerTenant();
+        assertTrue(perTenant[0] > 5 * perTenant[10]);
+        assertEquals(perTenant[0], queryLong("SELECT COUNT(*) FROM ggj_jobs WHERE tenant_id = '"
+                + SyntheticDatasetGenerator.tenantId(0) + "'"));
+        // Loaded through the partition-sync and change-stamp triggers
+        assertEquals(5_000L, queryLong("SELECT COUNT(*) FROM ggj_job_ids"));
+        assertEquals(5_000L, queryLong("SELECT COUNT(*) FROM ggj_jobs_p"));
+        assertEquals(perTenant[0], queryLong("SELECT last_seq FROM ggj_job_change_counters WHERE tenant_id = '"
+                + SyntheticDatasetGenerator.tenantId(0) + "'"));
+        assertTrue(queryLong("SELECT COUNT(*) FROM ggj_jobs WHERE status = 'PUBLISHED'") > 1_500L);
+        // job_postings is migrated too, and published postings reach the read model
+        assertEquals(2_000L, report.postings());
+        assertEquals(queryLong("SELECT COUNT(*) FROM job_postings WHERE status = 'PUBLISHED'"),
+                queryLong("SELECT COUNT(*) FROM published_job_view"));
+
+        clearJobs();
+        new SyntheticDatasetGenerator(SPEC).generate(dataSource);
+        assertEquals(firstDigest, digest());
+    }
+
+    @Test
+    void generate_WhenBypassingTriggers_ShouldReapplyPartitionCopyAndCounters() throws Exception {
+        DatasetSpec plainSpec = SPEC.toBuilder().postings(0L).build();
+        clearJobs();
+        new SyntheticDatasetGenerator(plainSpec).generate(dataSource);
+        String plainDigest = digest();
+        clearJobs();
+
+        SyntheticDatasetGenerator.GenerationReport report =
+                new SyntheticDatasetGenerator(plainSpec.toBuilder().bypassTriggers(true).build()).generate(dataSource);
+
+        assertEquals(plainDigest, digest());
+        assertEquals(5_000L, queryLong("SELECT COUNT(*) FROM ggj_jobs_p"));
+        assertEquals(5_000L, queryLong("SELECT COUNT(*) FROM ggj_job_ids"));
+        assertEquals(report.jobsPerTenant()[0], queryLong("SELECT last_seq FROM ggj_job_change_counters "
+                + "WHERE tenant_id = '" + SyntheticDatasetGenerator.tenantId(0) + "'"));
+        clearJobs();
+    }
+
+    @Test
+    void spec_ShouldLoadThroughTriggersByDefault() {
+        assertFalse(DatasetSpec.builder().build().isBypassTriggers());
+    }
+
+    private void clearJobs() throws SQLException {
+        execute("TRUNCATE ggj_jobs, ggj_jobs_p, ggj_job_ids, ggj_job_change_counters CASCADE");
+    }
+
+    private String digest() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT md5(string_agg(id::text || tenant_id || status "
+                     + "|| md5(description) || requirements::text, ',' ORDER BY id)) FROM ggj_jobs")) {
+            rs.next();
+            return rs.getString(1);
+        }
+    }
+
+    private long queryLong(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private void execute(String sql) throws SQLException {
+        MigrationScripts.execute(dataSource, sql);
+    }
+}
@@ -0,0 +1,178 @@
+package com.platform.talent.jobposting.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.platform.talent.jobposting.JobPostingApplication;
+import com.platform.talent.jobposting.domain.repository.JobRepository;
+import com.platform.talent.jobposting.repository.JobPostingRepository;
+import com.platform.talent.jobposting.repository.PublishedJobViewRepository;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Boots the service against an embedded PostgreSQL with Kafka and outbound
+ * HTTP stubbed, seeds a realistic dataset, drives a fixed-rate mixed workload
+ * and writes per-endpoint latency percentiles and throughput as JSON.
+ *
+ * <pre>
+ * mvn -Ploadtest test -Dloadtest.durationSeconds=120 -Dloadtest.rate.get=200
+ * </pre>
+ *
+ * Compare two versions by diffing their {@code target/loadtest/results.json}.
+ */
+@Tag("loadtest")
+class JobPostingLoadTest {
+
+    private final ObjectMapper mapper = new ObjectMapper()
+            .enable(SerializationFeature.INDENT_OUTPUT)
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+
+    @Test
+    void mixedWorkload() throws Exception {
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+             ConfigurableApplicationContext context = boot(postgres)) {
+
+            WorkloadSeeder seeder = new WorkloadSeeder(Long.getLong("loadtest.seed", 42L));
+            seeder.seed(context.getBean(JobRepository.class), context.getBean(JobPostingRepository.class),
+                    context.getBean(PublishedJobViewRepository.class),
+                    Integer.getInteger("loadtest.seed.tenants", 50),
+                    Integer.getInteger("loadtest.seed.jobs", 20_000),
+                    Integer.getInteger("loadtest.seed.postings", 5_000));
+
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            String base = "http://localhost:" + port;
+            ConcurrentLinkedQueue<UUID[]> drafts = new ConcurrentLinkedQueue<>();
+
+            LoadGenerator generator = new LoadGenerator()
+                    .add("POST /api/v1/jobs", rate("create", 20), () -> createRequest(base, seeder, drafts),
+                            body -> rememberDraft(body, drafts))
+                    .add("PUT /api/v1/jobs/{id}/publish", rate("publish", 5), () -> publishRequest(base, drafts))
+                    .add("GET /api/v1/jobs/{id}", rate("get", 100), () -> getRequest(base, seeder))
+                    .add("POST /api/v1/jobs/search", rate("search", 20), () -> searchRequest(base, seeder))
+                    .add("GET /api/jobs/public", rate("public", 10),
+                            () -> HttpRequest.newBuilder(URI.create(base + "/api/jobs/public")).GET().build());
+
+            Duration warmup = Duration.ofSeconds(Long.getLong("loadtest.warmupSeconds", 15L));
+            Duration measured = Duration.ofSeconds(Long.getLong("loadtest.durationSeconds", 60L));
+            Map<String, Object> endpoints = generator.run(warmup, measured);
+
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("service", "job-posting-service");
+            report.put("version", System.getProperty("loadtest.label", "local"));
+            report.put("timestamp", Instant.now().toString());
+            report.put("warmupSeconds", warmup.toSeconds());
+            report.put("durationSeconds", measured.toSeconds());
+            report.put("endpoints", endpoints);
+
+            Path output = Path.of(System.getProperty("loadtest.output", "target/loadtest/results.json"));
+            Files.createDirectories(output.getParent());
+            mapper.writeValue(output.toFile(), report);
+
+            assertTrue(Files.size(output) > 0);
+        }
+    }
+
+    private ConfigurableApplicationContext boot(EmbeddedPostgres postgres) {
+        return new SpringApplicationBuilder(JobPostingApplication.class, LoadTestStubs.class)
+                // Arguments rather than default properties, which application.yml would override
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                        "--spring.datasource.username=postgres",
+                        "--spring.datasource.password=postgres",
+                        // Flyway applies db/migration as in production; Hibernate only validates
+                        "--spring.jpa.hibernate.ddl-auto=validate",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration",
+                        "--logging.level.com.platform.talent=WARN",
+                        "--logging.level.root=WARN");
+    }
+
+    private static double rate(String workload, double defaultRate) {
+        return Double.parseDouble(System.getProperty("loadtest.rate." + workload, Double.toString(defaultRate)));
+    }
+
+    private HttpRequest createRequest(String base, WorkloadSeeder seeder, ConcurrentLinkedQueue<UUID[]> drafts) {
+        UUID tenant = seeder.skewedTenant();
+        String body = json(Map.of(
+                "title", seeder.randomTitle(),
+                "description", seeder.randomDescription(),
+                "location", seeder.randomLocation(),
+                "employmentType", "FULL_TIME",
+                "salaryMin", 60000,
+                "salaryMax", 120000,
+                "salaryCurrency", "USD",
+                "recruiterId", UUID.randomUUID().toString(),
+                "numberOfPositions", 1));
+        return HttpRequest.newBuilder(URI.create(base + "/api/v1/jobs"))
+                .header("Content-Type", "application/json")
+                .header("X-Tenant-ID", tenant.toString())
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private void rememberDraft(String body, ConcurrentLinkedQueue<UUID[]> drafts) {
+        try {
+            JsonNode node = mapper.readTree(body);
+            drafts.add(new UUID[]{UUID.fromString(node.get("tenantId").asText()),
+                    UUID.fromString(node.get("id").asText())});
+        } catch (Exception ignored) {
+            // a malformed body is already counted as a success for create; nothing to publish
+        }
+    }
+
+    private HttpRequest publishRequest(String base, ConcurrentLinkedQueue<UUID[]> drafts) {
+        UUID[] draft = drafts.poll();
+        if (draft == null) {
+            throw new IllegalStateException("No draft created yet");
+        }
+        return HttpRequest.newBuilder(URI.create(base + "/api/v1/jobs/" + draft[1] + "/publish"))
+                .header("X-Tenant-ID", draft[0].toString())
+                .PUT(HttpRequest.BodyPublishers.noBody())
+                .build();
+    }
+
+    private HttpRequest getRequest(String base, WorkloadSeeder seeder) {
+        UUID[] job = seeder.randomJob();
+        return HttpRequest.newBuilder(URI.create(base + "/api/v1/jobs/" + job[1]))
+                .header("X-Tenant-ID", job[0].toString())
+                .GET()
+                .build();
+    }
+
+    private HttpRequest searchRequest(String base, WorkloadSeeder seeder) {
+        String body = json(Map.of(
+                "tenantId", seeder.skewedTenant().toString(),
+                "keyword", seeder.randomKeyword()));
+        return HttpRequest.newBuilder(URI.create(base + "/api/v1/jobs/search?size=20"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private String json(Object value) {
+        try {
+            return mapper.writeValueAsString(value);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
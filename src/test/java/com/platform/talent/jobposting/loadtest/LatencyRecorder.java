@@ -0,0 +1,69 @@
+package com.platform.talent.jobposting.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects latencies for one endpoint. Samples are kept in full (runs are
+ * minutes long, so at most a few hundred thousand longs) which keeps the
+ * percentiles exact rather than bucket-approximated.
+ */
+class LatencyRecorder {
+
+    private final String endpoint;
+    private long[] samples = new long[1024];
+    private int size;
+    private final AtomicLong errors = new AtomicLong();
+
+    LatencyRecorder(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    String getEndpoint() {
+        return endpoint;
+    }
+
+    synchronized void record(long latencyNanos) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = latencyNanos;
+    }
+
+    void recordError() {
+        errors.incrementAndGet();
+    }
+
+    synchronized void reset() {
+        size = 0;
+        errors.set(0);
+    }
+
+    synchronized Map<String, Object> summarize(double measuredSeconds) {
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", size);
+        summary.put("errors", errors.get());
+        summary.put("throughputRps", round(size / measuredSeconds));
+        summary.put("p50Ms", percentileMs(sorted, 0.50));
+        summary.put("p95Ms", percentileMs(sorted, 0.95));
+        summary.put("p99Ms", percentileMs(sorted, 0.99));
+        summary.put("maxMs", sorted.length == 0 ? 0.0 : round(sorted[sorted.length - 1] / 1e6));
+        return summary;
+    }
+
+    private static double percentileMs(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return round(sorted[Math.max(0, index)] / 1e6);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000.0) / 1000.0;
+    }
+}
@@ -0,0 +1,103 @@
+package com.platform.talent.jobposting.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Open-model load generator: each workload fires at a fixed rate regardless of
+ * how fast earlier requests complete, and latency is measured from the
+ * scheduled send time so a stalled server shows up in the tail instead of
+ * silently lowering the offered load.
+ */
+class LoadGenerator {
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newFixedThreadPool(64))
+            .build();
+    private final List<Workload> workloads = new ArrayList<>();
+    private final Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+
+    /**
+     * @param onSuccess receives the response body, e.g. to feed ids created by
+     *                  one workload into another
+     */
+    LoadGenerator add(String endpoint, double ratePerSecond, Supplier<HttpRequest> request,
+                      Consumer<String> onSuccess) {
+        if (ratePerSecond > 0) {
+            LatencyRecorder recorder = recorders.computeIfAbsent(endpoint, LatencyRecorder::new);
+            workloads.add(new Workload(recorder, ratePerSecond, request, onSuccess));
+        }
+        return this;
+    }
+
+    LoadGenerator add(String endpoint, double ratePerSecond, Supplier<HttpRequest> request) {
+        return add(endpoint, ratePerSecond, request, body -> { });
+    }
+
+    /** Runs the warm-up (discarded) and then the measured phase; returns per-endpoint summaries. */
+    Map<String, Object> run(Duration warmup, Duration measured) throws InterruptedException {
+        drive(warmup);
+        recorders.values().forEach(LatencyRecorder::reset);
+
+        long start = System.nanoTime();
+        drive(measured);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        recorders.forEach((endpoint, recorder) -> results.put(endpoint, recorder.summarize(seconds)));
+        return results;
+    }
+
+    private void drive(Duration duration) throws InterruptedException {
+        ScheduledExecutorService ticker = Executors.newScheduledThreadPool(workloads.size());
+        List<ScheduledFuture<?>> ticks = new ArrayList<>();
+        for (Workload workload : workloads) {
+            long periodNanos = (long) (1e9 / workload.ratePerSecond());
+            ticks.add(ticker.scheduleAtFixedRate(() -> fire(workload, System.nanoTime()),
+                    0, periodNanos, TimeUnit.NANOSECONDS));
+        }
+        Thread.sleep(duration.toMillis());
+        ticks.forEach(t -> t.cancel(false));
+        ticker.shutdown();
+        ticker.awaitTermination(5, TimeUnit.SECONDS);
+        // Let in-flight requests of this phase land in their recorder
+        Thread.sleep(1000);
+    }
+
+    private void fire(Workload workload, long intendedStart) {
+        HttpRequest request;
+        try {
+            request = workload.request().get();
+        } catch (RuntimeException e) {
+            workload.recorder().recordError();
+            return;
+        }
+        client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .whenComplete((response, error) -> {
+                    long latency = System.nanoTime() - intendedStart;
+                    if (error != null || response.statusCode() >= 400) {
+                        workload.recorder().recordError();
+                        return;
+                    }
+                    workload.recorder().record(latency);
+                    workload.onSuccess().accept(response.body());
+                });
+    }
+
+    private record Workload(LatencyRecorder recorder, double ratePerSecond,
+                            Supplier<HttpRequest> request, Consumer<String> onSuccess) {
+    }
+}
@@ -0,0 +1,60 @@
+package com.platform.talent.jobposting.loadtest;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpStatus;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Replaces the outbound dependencies so the harness measures only this service.
+ * Stubs are stub-only (no invocation recording) to stay flat in memory under load.
+ * Also used by the query-plan suite, which boots the same way.
+ */
+@TestConfiguration
+public class LoadTestStubs {
+
+    @Bean
+    @Primary
+    @SuppressWarnings("unchecked")
+    KafkaTemplate<String, Object> stubKafkaTemplate() {
+        KafkaTemplate<String, Object> template = mock(KafkaTemplate.class, withSettings().stubOnly());
+        // Every send is acknowledged at once so the event publisher never holds in-flight permits
+        when(template.send(anyString(), any(), any())).thenReturn(CompletableFuture.completedFuture(null));
+        return template;
+    }
+
+    // Backs the @KafkaListener containers; they are created but never started
+    @Bean
+    @SuppressWarnings("unchecked")
+    ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(mock(ConsumerFactory.class, withSettings().stubOnly()));
+        factory.setAutoStartup(false);
+        return factory;
+    }
+
+    // Kernel and email calls answer 200 immediately
+    @Bean
+    @Primary
+    RestTemplate stubRestTemplate() {
+        return new RestTemplate((uri, method) -> {
+            MockClientHttpRequest request = new MockClientHttpRequest(method, uri);
+            request.setResponse(new MockClientHttpResponse(new byte[0], HttpStatus.OK));
+            return request;
+        });
+    }
+}
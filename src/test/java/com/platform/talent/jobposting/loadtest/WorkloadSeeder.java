@@ -0,0 +1,182 @@
+package com.platform.talent.jobposting.loadtest;
+
+import com.platform.talent.jobposting.domain.model.Job;
+import com.platform.talent.jobposting.domain.model.JobPosting;
+import com.platform.talent.jobposting.domain.model.JobPostingStatus;
+import com.platform.talent.jobposting.domain.model.JobStatus;
+import com.platform.talent.jobposting.domain.model.PublishedJobView;
+import com.platform.talent.jobposting.domain.repository.JobRepository;
+import com.platform.talent.jobposting.repository.JobPostingRepository;
+import com.platform.talent.jobposting.repository.PublishedJobViewRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Seeds a fixed-seed dataset shaped like production: a few large tenants and a
+ * long tail of small ones, mostly-closed history, and descriptions of a few kB.
+ */
+class WorkloadSeeder {
+
+    private static final String[] TITLES = {"Software Engineer", "Senior Java Developer", "Data Analyst",
+            "Product Manager", "DevOps Engineer", "QA Engineer", "Account Executive", "Recruiter",
+            "UX Designer", "Customer Success Manager", "Site Reliability Engineer", "Data Scientist"};
+    private static final String[] LOCATIONS = {"London", "Berlin", "New York", "Singapore", "Bangalore",
+            "Toronto", "Sydney", "Remote", "Paris", "San Francisco"};
+    private static final String[] KEYWORDS = {"java", "kotlin", "spring", "postgres", "kafka", "react",
+            "python", "kubernetes", "aws", "sql"};
+
+    private final Random random;
+    private final List<UUID> tenants = new ArrayList<>();
+    private final List<UUID> jobIds = new ArrayList<>();
+    private final List<UUID> jobTenants = new ArrayList<>();
+
+    WorkloadSeeder(long seed) {
+        this.random = new Random(seed);
+    }
+
+    void seed(JobRepository jobRepository, JobPostingRepository jobPostingRepository,
+              PublishedJobViewRepository publishedJobViewRepository,
+              int tenantCount, int jobCount, int postingCount) {
+        for (int i = 0; i < tenantCount; i++) {
+            tenants.add(new UUID(0x10adL, i));
+        }
+
+        List<Job> batch = new ArrayList<>();
+        for (int i = 0; i < jobCount; i++) {
+            batch.add(randomJob(skewedTenant()));
+            if (batch.size() == 500 || i == jobCount - 1) {
+                for (Job saved : jobRepository.saveAll(batch)) {
+                    jobIds.add(saved.getId());
+                    jobTenants.add(saved.getTenantId());
+                }
+                batch.clear();
+            }
+        }
+
+        List<JobPosting> postings = new ArrayList<>();
+        for (int i = 0; i < postingCount; i++) {
+            postings.add(randomPosting(i));
+            if (postings.size() == 500 || i == postingCount - 1) {
+                jobPostingRepository.saveAll(postings);
+                publishedJobViewRepository.saveAll(postings.stream()
+                        .filter(posting -> posting.getStatus() == JobPostingStatus.PUBLISHED)
+                        .map(PublishedJobView::from)
+                        .toList());
+                postings.clear();
+            }
+        }
+    }
+
+    // Zipf-like: tenant k gets weight 1/(k+1)
+    synchronized UUID skewedTenant() {
+        double total = 0;
+        for (int k = 0; k < tenants.size(); k++) {
+            total += 1.0 / (k + 1);
+        }
+        double pick = random.nextDouble() * total;
+        for (int k = 0; k < tenants.size(); k++) {
+            pick -= 1.0 / (k + 1);
+            if (pick <= 0) {
+                return tenants.get(k);
+            }
+        }
+        return tenants.get(tenants.size() - 1);
+    }
+
+    /** Returns {tenantId, jobId} of a random seeded job. */
+    synchronized UUID[] randomJob() {
+        int index = random.nextInt(jobIds.size());
+        return new UUID[]{jobTenants.get(index), jobIds.get(index)};
+    }
+
+    synchronized String randomKeyword() {
+        return KEYWORDS[random.nextInt(KEYWORDS.length)];
+    }
+
+    synchronized String randomTitle() {
+        return TITLES[random.nextInt(TITLES.length)];
+    }
+
+    synchronized String randomLocation() {
+        return LOCATIONS[random.nextInt(LOCATIONS.length)];
+    }
+
+    synchronized String randomDescription() {
+        StringBuilder description = new StringBuilder();
+        int words = 300 + random.nextInt(600);
+        for (int i = 0; i < words; i++) {
+            description.append(i % 25 == 0 ? KEYWORDS[random.nextInt(KEYWORDS.length)] : "lorem").append(' ');
+        }
+        return description.toString();
+    }
+
+    private Job randomJob(UUID tenantId) {
+        JobStatus status = pickStatus();
+        LocalDateTime created = LocalDateTime.now().minusDays(random.nextInt(1000));
+        return Job.builder()
+                .tenantId(tenantId)
+                .title(randomTitle())
+                .description(randomDescription())
+                .location(randomLocation())
+                .employmentType("FULL_TIME")
+                .experienceLevel("MID")
+                .salaryMin(50000.0 + random.nextInt(50000))
+                .salaryMax(110000.0 + random.nextInt(90000))
+                .salaryCurrency("USD")
+                .status(status)
+                .recruiterId(new UUID(0xbeefL, random.nextInt(200)))
+                .numberOfPositions(1 + random.nextInt(3))
+                .publishedAt(status == JobStatus.PUBLISHED ? created.plusDays(3) : null)
+                .expiresAt(created.plusDays(90 + random.nextInt(400)))
+                .customFields(Map.of("costCenter", "CC-" + random.nextInt(100), "remotePolicy", "hybrid"))
+                .requirements(Map.of("skills", List.of(randomKeyword(), randomKeyword()), "years", random.nextInt(10)))
+                .benefits(Map.of("pto", 20 + random.nextInt(10)))
+                .isRemote(random.nextInt(5) == 0)
+                .isFeatured(random.nextInt(20) == 0)
+                .applicationCount(random.nextInt(200))
+                .viewCount(random.nextInt(5000))
+                .build();
+    }
+
+    private JobPosting randomPosting(int i) {
+        boolean published = random.nextInt(10) < 3;
+        return JobPosting.builder()
+                .jobId(UUID.randomUUID().toString())
+                .organizationId("org-" + (i % 50))
+                .requisitionId("REQ-" + i)
+                .jobTitle(randomTitle())
+                .jobDescription(truncate(randomDescription(), 2000))
+                .department("Engineering")
+                .location(randomLocation())
+                .workType("HYBRID")
+                .employmentType("FULL_TIME")
+                .status(published ? JobPostingStatus.PUBLISHED : JobPostingStatus.CLOSED)
+                .publishedDate(LocalDate.now().minusDays(random.nextInt(300)))
+                .viewCount(0)
+                .applicationCount(0)
+                .createdDate(LocalDate.now().minusDays(300))
+                .createdBy("loadtest")
+                .build();
+    }
+
+    private static String truncate(String value, int max) {
+        return value.length() <= max ? value : value.substring(0, max);
+    }
+
+    // ~70% terminal history, ~20% published, remainder in the workflow
+    private JobStatus pickStatus() {
+        int roll = random.nextInt(100);
+        if (roll < 55) return JobStatus.CLOSED;
+        if (roll < 65) return JobStatus.CANCELLED;
+        if (roll < 70) return JobStatus.ARCHIVED;
+        if (roll < 90) return JobStatus.PUBLISHED;
+        if (roll < 95) return JobStatus.DRAFT;
+        return JobStatus.APPROVED;
+    }
+}
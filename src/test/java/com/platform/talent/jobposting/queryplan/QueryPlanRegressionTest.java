@@ -0,0 +1,452 @@
+package com.platform.talent.jobposting.queryplan;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.platform.talent.jobposting.JobPostingApplication;
+import com.platform.talent.jobposting.api.dto.CreateJobRequest;
+import com.platform.talent.jobposting.api.dto.JobResponse;
+import com.platform.talent.jobposting.api.dto.UpdateJobRequest;
+import com.platform.talent.jobposting.dataset.DatasetSpec;
+import com.platform.talent.jobposting.dataset.MigrationScripts;
+import com.platform.talent.jobposting.dataset.SyntheticDatasetGenerator;
+import com.platform.talent.jobposting.domain.model.JobPostingStatus;
+import com.platform.talent.jobposting.domain.model.JobStatus;
+import com.platform.talent.jobposting.domain.repository.JobRepository;
+import com.platform.talent.jobposting.domain.repository.JobRepositoryCustom;
+import com.platform.talent.jobposting.loadtest.LoadTestStubs;
+import com.platform.talent.jobposting.repository.JobPostingRepository;
+import com.platform.talent.jobposting.repository.PublishedJobViewRepository;
+import com.platform.talent.jobposting.service.JobPostingService;
+import com.platform.talent.jobposting.service.JobService;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Seeds an embedded PostgreSQL with {@link SyntheticDatasetGenerator} (schema
+ * from the db/migration scripts, validated by Hibernate at startup) and replays
+ * every statement each repository method issues under
+ * {@code EXPLAIN (ANALYZE, BUFFERS)}. Fails on sequential
+ * scans over large tables unless listed in {@code queryplan/known-seq-scans.txt},
+ * and holds service operations to a budget of prepared statements measured with
+ * Hibernate statistics, so an N+1 or a dropped index breaks the build.
+ *
+ * <pre>
+ * mvn test -Dtest=QueryPlanRegressionTest -Dqueryplan.seed.jobs=200000
+ * </pre>
+ *
+ * Plans for every case are written to {@code target/queryplan/plans.json}.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanRegressionTest {
+
+    private static final DatasetSpec DATASET = DatasetSpec.fromSystemProperties("queryplan.seed",
+            DatasetSpec.builder().jobs(60_000L).postings(20_000L).descriptionWords(120).build()).build();
+    private static final long LARGE_TABLE_ROWS = Long.getLong("queryplan.largeTableRows", 10_000L);
+
+    // A mid-sized tenant (~0.7% of jobs): plans for the largest tenant may legitimately prefer a scan
+    private static final int TENANT_RANK = 25;
+    private static final UUID TENANT = SyntheticDatasetGenerator.tenantId(TENANT_RANK);
+    private static final UUID DEPARTMENT = SyntheticDatasetGenerator.departmentId(TENANT_RANK, 0);
+    private static final UUID RECRUITER = SyntheticDatasetGenerator.recruiterId(TENANT_RANK, 0);
+    private static final String ORGANIZATION = SyntheticDatasetGenerator.organizationId(TENANT_RANK);
+
+    private final ObjectMapper mapper = new ObjectMapper()
+            .enable(SerializationFeature.INDENT_OUTPUT)
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+
+    private EmbeddedPostgres postgres;
+    private ConfigurableApplicationContext context;
+    private DataSource admin;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        postgres = EmbeddedPostgres.builder().start();
+        admin = postgres.getPostgresDatabase();
+        MigrationScripts.apply(admin);
+        new SyntheticDatasetGenerator(DATASET).generate(admin);
+        context = boot();
+    }
+
+    @AfterAll
+    void tearDown() throws IOException {
+        if (context != null) {
+            context.close();
+        }
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+
+    @Test
+    void repositoryQueries_ShouldNotSeqScanLargeTables() throws Exception {
+        Map<String, Runnable> cases = repositoryCases();
+        assertEveryQueryMethodCovered(cases.keySet());
+
+        Set<String> allowed = loadAllowlist();
+        Set<String> seen = new LinkedHashSet<>();
+        List<String> violations = new ArrayList<>();
+        Map<String, Object> report = new LinkedHashMap<>();
+        TransactionTemplate tx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        for (Map.Entry<String, Runnable> entry : cases.entrySet()) {
+            String name = entry.getKey();
+            String method = name.contains("/") ? name.substring(0, name.indexOf('/')) : name;
+
+            List<StatementCapture.Captured> statements = tx.execute(status -> {
+                status.setRollbackOnly();
+                StatementCapture.start();
+                try {
+                    entry.getValue().run();
+                } catch (RuntimeException e) {
+                    StatementCapture.stop();
+                    throw e;
+                }
+                return StatementCapture.stop();
+            });
+            assertTrue(statements != null && !statements.isEmpty(), name + " issued no SQL");
+
+            List<Object> plans = new ArrayList<>();
+            for (StatementCapture.Captured statement : statements) {
+                JsonNode plan = explain(statement);
+                plans.add(Map.of("sql", statement.sql(), "plan", plan));
+                for (String table : seqScannedTables(plan.path(0).path("Plan"), new LinkedHashSet<>())) {
+                    if (reltuples(table) < LARGE_TABLE_ROWS) {
+                        continue;
+                    }
+                    String key = method + " " + table;
+                    seen.add(key);
+                    if (!allowed.contains(key)) {
+                        violations.add(name + ": Seq Scan on " + table + "\n    " + statement.sql());
+                    }
+                }
+            }
+            report.put(name, plans);
+        }
+
+        Set<String> stale = new LinkedHashSet<>(allowed);
+        stale.removeAll(seen);
+        report.put("_staleAllowlistEntries", stale);
+        if (!stale.isEmpty()) {
+            System.out.println("known-seq-scans.txt entries no longer needed (delete them): " + stale);
+        }
+
+        Path output = Path.of(System.getProperty("queryplan.output", "target/queryplan/plans.json"));
+        Files.createDirectories(output.getParent());
+        mapper.writeValue(output.toFile(), report);
+
+        assertTrue(violations.isEmpty(), "Sequential scans over large tables:\n" + String.join("\n", violations));
+    }
+
+    @Test
+    void serviceOperations_ShouldStayWithinStatementBudgets() {
+        JobService jobService = context.getBean(JobService.class);
+        JobPostingService jobPostingService = context.getBean(JobPostingService.class);
+        Statistics statistics = context.getBean(EntityManagerFactory.class)
+                .unwrap(SessionFactory.class).getStatistics();
+
+        // Budgets are prepared statements per call; raise one only with the reason in the commit
+        Map<String, Operation> operations = new LinkedHashMap<>();
+        operations.put("JobService.createJob", new Operation(6,
+                () -> () -> jobService.createJob(TENANT, createRequest())));
+        operations.put("JobService.getJob", new Operation(2,
+                () -> () -> jobService.getJob(TENANT, publishedJobId())));
+        operations.put("JobService.listJobs", new Operation(2,
+                () -> () -> jobService.listJobs(TENANT, JobStatus.PUBLISHED, PageRequest.of(0, 20))));
+        operations.put("JobService.updateJob", new Operation(6, () -> {
+            UUID jobId = jobService.createJob(TENANT, createRequest()).getId();
+            UpdateJobRequest update = UpdateJobRequest.builder()
+                    .title("Staff Java Engineer")
+                    .description("Own the platform roadmap and mentor the team. " + UUID.randomUUID())
+                    .build();
+            return () -> jobService.updateJob(TENANT, jobId, update);
+        }));
+        operations.put("JobService.publishJob", new Operation(3, () -> {
+            JobResponse draft = jobService.createJob(TENANT, createRequest());
+            return () -> jobService.publishJob(TENANT, draft.getId());
+        }));
+        operations.put("JobPostingService.getAllJobPostings", new Operation(1,
+                () -> () -> jobPostingService.getAllJobPostings(ORGANIZATION)));
+        operations.put("JobPostingService.getPublishedJobs", new Operation(1,
+                () -> jobPostingService::getPublishedJobs));
+
+        List<String> overBudget = new ArrayList<>();
+        for (Map.Entry<String, Operation> entry : operations.entrySet()) {
+            Operation operation = entry.getValue();
+            // First call warms caches (exchange rates, query plans) so only steady-state SQL is counted
+            operation.prepare().get().run();
+
+            Runnable measured = operation.prepare().get();
+            statistics.clear();
+            measured.run();
+            long statements = statistics.getPrepareStatementCount();
+            if (statements > operation.budget()) {
+                overBudget.add(entry.getKey() + ": " + statements + " statements, budget " + operation.budget());
+            }
+        }
+
+        assertTrue(overBudget.isEmpty(), "Statement budgets exceeded:\n" + String.join("\n", overBudget));
+    }
+
+    private record Operation(int budget, Supplier<Runnable> prepare) {}
+
+    /**
+     * One case per declared query method, keyed {@code Repository.method}; overloads add
+     * a {@code /variant} suffix. Parameters hit a mid-sized tenant of the seeded data.
+     */
+    private Map<String, Runnable> repositoryCases() {
+        JobRepository jobs = context.getBean(JobRepository.class);
+        JobPostingRepository postings = context.getBean(JobPostingRepository.class);
+        PublishedJobViewRepository published = context.getBean(PublishedJobViewRepository.class);
+        UUID jobId = publishedJobId();
+        LocalDateTime now = LocalDateTime.now();
+        PageRequest page = PageRequest.of(0, 20);
+        PageRequest byCreated = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        Map<String, Runnable> cases = new LinkedHashMap<>();
+        cases.put("JobRepository.findByTenantIdAndStatus",
+                () -> jobs.findByTenantIdAndStatus(TENANT, JobStatus.PUBLISHED));
+        cases.put("JobRepository.findByTenantIdAndStatus/paged",
+                () -> jobs.findByTenantIdAndStatus(TENANT, JobStatus.PUBLISHED, byCreated));
+        cases.put("JobRepository.findByTenantId", () -> jobs.findByTenantId(TENANT, page));
+        cases.put("JobRepository.findByIdAndTenantId", () -> jobs.findByIdAndTenantId(jobId, TENANT));
+        cases.put("JobRepository.findByIdAndTenantIdAndStatusIn",
+                () -> jobs.findByIdAndTenantIdAndStatusIn(jobId, TENANT, JobStatus.LIVE));
+        cases.put("JobRepository.findByTenantIdAndStatusIn",
+                () -> jobs.findByTenantIdAndStatusIn(TENANT, JobStatus.LIVE, page));
+        cases.put("JobRepository.findTypeaheadTerms", () -> jobs.findTypeaheadTerms(TENANT, Set.of(JobStatus.PUBLISHED)));
+        cases.put("JobRepository.findActiveJobs", () -> jobs.findActiveJobs(TENANT, now));
+        cases.put("JobRepository.findActiveJobs/paged", () -> jobs.findActiveJobs(TENANT, now, page));
+        cases.put("JobRepository.findByRecruiter", () -> jobs.findByRecruiter(TENANT, RECRUITER, page));
+        cases.put("JobRepository.findByDepartment", () -> jobs.findByDepartment(TENANT, DEPARTMENT));
+        cases.put("JobRepository.searchJobs", () -> jobs.searchJobs(TENANT, "reliability", page));
+        cases.put("JobRepository.countByTenantIdAndStatus",
+                () -> jobs.countByTenantIdAndStatus(TENANT, JobStatus.PUBLISHED));
+        cases.put("JobRepository.countExpiredJobs", () -> jobs.countExpiredJobs(TENANT, now));
+        cases.put("JobRepository.findBySalaryBandOverlap",
+                () -> jobs.findBySalaryBandOverlap(TENANT, 90_000d, 110_000d, page));
+        cases.put("JobRepository.renormalizeSalaries", () -> jobs.renormalizeSalaries("EUR", 1.09));
+        cases.put("JobRepository.findChangedAfter", () -> jobs.findChangedAfter(TENANT, 100L, PageRequest.of(0, 100)));
+        cases.put("JobRepository.findChangedAfterSince",
+                () -> jobs.findChangedAfterSince(TENANT, 100L, now.minusDays(30), PageRequest.of(0, 100)));
+        cases.put("JobRepository.findTop500ByIdGreaterThanAndGeohashIsNullAndLocationIsNotNullOrderByIdAsc",
+                () -> jobs.findTop500ByIdGreaterThanAndGeohashIsNullAndLocationIsNotNullOrderByIdAsc(new UUID(0, 0)));
+        cases.put("JobRepository.updateGeolocation",
+                () -> jobs.updateGeolocation(jobId, 40.71, -74.01, "dr5ru7zz"));
+        cases.put("JobRepository.findByGeohashPrefixes",
+                () -> jobs.findByGeohashPrefixes(TENANT, List.of("dr5ru", "drt2z"), 200));
+        cases.put("JobRepository.transitionStatus", () -> jobs.transitionStatus(TENANT, List.of(jobId, RECRUITER),
+                Set.of(JobStatus.PUBLISHED), JobStatus.CLOSED, null, now));
+        cases.put("JobRepository.findStatuses", () -> jobs.findStatuses(TENANT, List.of(jobId, RECRUITER)));
+
+        cases.put("JobPostingRepository.findByOrganizationId", () -> postings.findByOrganizationId(ORGANIZATION));
+        cases.put("JobPostingRepository.findByOrganizationIdAndStatus",
+                () -> postings.findByOrganizationIdAndStatus(ORGANIZATION, JobPostingStatus.PUBLISHED));
+        cases.put("JobPostingRepository.findByRequisitionId", () -> postings.findByRequisitionId(SyntheticDatasetGenerator.requisitionId(100)));
+        cases.put("JobPostingRepository.findBoardRefsByStatus",
+                () -> postings.findBoardRefsByStatus(JobPostingStatus.PUBLISHED));
+        cases.put("JobPostingRepository.renormalizeSalaries",
+                () -> postings.renormalizeSalaries("EUR", new BigDecimal("1.09")));
+
+        cases.put("PublishedJobViewRepository.findAllPublished", published::findAllPublished);
+        cases.put("PublishedJobViewRepository.findPublishedByDepartment",
+                () -> published.findPublishedByDepartment("Engineering"));
+        cases.put("PublishedJobViewRepository.searchJobs", () -> published.searchJobs("roadmap"));
+        cases.put("PublishedJobViewRepository.findPublishedBySalaryOverlap",
+                () -> published.findPublishedBySalaryOverlap(new BigDecimal("90000"), new BigDecimal("110000")));
+        cases.put("PublishedJobViewRepository.deleteByJobId", () -> published.deleteByJobId("JP-100"));
+        cases.put("PublishedJobViewRepository.renormalizeSalaries",
+                () -> published.renormalizeSalaries("EUR", new BigDecimal("1.09")));
+        return cases;
+    }
+
+    // A new query method without a case here would otherwise never be checked
+    private void assertEveryQueryMethodCovered(Set<String> cases) {
+        Set<String> covered = cases.stream()
+                .map(name -> name.contains("/") ? name.substring(0, name.indexOf('/')) : name)
+                .collect(Collectors.toSet());
+        List<String> missing = new ArrayList<>();
+        for (Class<?> repository : List.of(JobRepository.class, JobRepositoryCustom.class, JobPostingRepository.class,
+                PublishedJobViewRepository.class)) {
+            String owner = repository == JobRepositoryCustom.class ? "JobRepository" : repository.getSimpleName();
+            Arrays.stream(repository.getDeclaredMethods())
+                    .map(Method::getName)
+                    .map(name -> owner + "." + name)
+                    .filter(name -> !covered.contains(name))
+                    .forEach(missing::add);
+        }
+        assertTrue(missing.isEmpty(), "Query methods without a plan case: " + missing);
+    }
+
+    private JsonNode explain(StatementCapture.Captured statement) throws Exception {
+        try (Connection connection = admin.getConnection()) {
+            // ANALYZE executes the statement; roll back so updates leave the dataset unchanged
+            connection.setAutoCommit(false);
+            try (PreparedStatement explain = connection.prepareStatement(
+                    "EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON) " + statement.sql())) {
+                statement.bind(explain);
+                try (ResultSet rs = explain.executeQuery()) {
+                    rs.next();
+                    return mapper.readTree(rs.getString(1));
+                }
+            } finally {
+                connection.rollback();
+            }
+        }
+    }
+
+    private static Set<String> seqScannedTables(JsonNode node, Set<String> tables) {
+        String type = node.path("Node Type").asText();
+        if (type.equals("Seq Scan") || type.equals("Parallel Seq Scan")) {
+            tables.add(node.path("Relation Name").asText());
+        }
+        for (JsonNode child : node.path("Plans")) {
+            seqScannedTables(child, tables);
+        }
+        return tables;
+    }
+
+    private final Map<String, Long> reltuples = new HashMap<>();
+
+    private long reltuples(String table) throws Exception {
+        Long cached = reltuples.get(table);
+        if (cached != null) {
+            return cached;
+        }
+        try (Connection connection = admin.getConnection();
+             PreparedStatement ps = connection.prepareStatement(
+                     "SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass(?)")) {
+            ps.setString(1, table);
+            try (ResultSet rs = ps.executeQuery()) {
+                long rows = rs.next() ? rs.getLong(1) : 0L;
+                reltuples.put(table, rows);
+                return rows;
+            }
+        }
+    }
+
+    private Set<String> loadAllowlist() throws IOException {
+        return new String(read("queryplan/known-seq-scans.txt"), StandardCharsets.UTF_8).lines()
+                .map(String::trim)
+                .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                .map(line -> line.replaceAll("\\s+", " "))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private UUID publishedJobId() {
+        try (Connection connection = admin.getConnection();
+             PreparedStatement ps = connection.prepareStatement(
+                     "SELECT id FROM ggj_jobs WHERE tenant_id = ? AND status = 'PUBLISHED' ORDER BY id LIMIT 1")) {
+            ps.setObject(1, TENANT);
+            try (ResultSet rs = ps.executeQuery()) {
+                assertTrue(rs.next(), "Seed produced no published job for tenant " + TENANT);
+                return rs.getObject(1, UUID.class);
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static CreateJobRequest createRequest() {
+        return CreateJobRequest.builder()
+                .title("Senior Java Engineer")
+                .description("Build and run the hiring platform services. " + UUID.randomUUID())
+                .location("Berlin, DE")
+                .employmentType("FULL_TIME")
+                .salaryMin(80000d)
+                .salaryMax(110000d)
+                .salaryCurrency("EUR")
+                .recruiterId(RECRUITER)
+                .departmentId(DEPARTMENT)
+                .numberOfPositions(1)
+                .build();
+    }
+
+    private static byte[] read(String resource) throws IOException {
+        try (InputStream in = QueryPlanRegressionTest.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IOException("Missing test resource " + resource);
+            }
+            return in.readAllBytes();
+        }
+    }
+
+    private ConfigurableApplicationContext boot() {
+        return new SpringApplicationBuilder(JobPostingApplication.class, LoadTestStubs.class, CaptureConfig.class)
+                // Arguments rather than default properties, which application.yml would override
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                        "--spring.datasource.username=postgres",
+                        "--spring.datasource.password=postgres",
+                        "--spring.jpa.hibernate.ddl-auto=validate",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.generate_statistics=true",
+                        // MigrationScripts already applied db/migration, without a Flyway history table
+                        "--spring.flyway.enabled=false",
+                        "--spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration",
+                        // Statistics are global; keep background writers from adding to the counts
+                        "--similar-jobs.enabled=false",
+                        "--typeahead.enabled=false",
+                        "--queryplan.capture=true",
+                        "--logging.level.com.platform.talent=WARN",
+                        "--logging.level.root=WARN");
+    }
+
+    @TestConfiguration
+    @ConditionalOnProperty("queryplan.capture")
+    static class CaptureConfig {
+
+        @Bean
+        static BeanPostProcessor statementCapturingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? StatementCapture.wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+}
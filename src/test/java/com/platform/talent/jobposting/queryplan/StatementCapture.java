@@ -0,0 +1,101 @@
+package com.platform.talent.jobposting.queryplan;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Wraps a DataSource so every prepared statement executed on the recording
+ * thread is captured with its SQL and parameter setter calls, ready to be
+ * replayed under EXPLAIN with the exact values Hibernate bound.
+ */
+final class StatementCapture {
+
+    /** One executed statement: SQL plus the setXxx calls that bound its parameters, in order. */
+    record Captured(String sql, List<Setter> setters) {
+
+        void bind(PreparedStatement statement) throws Exception {
+            for (Setter setter : setters) {
+                setter.method().invoke(statement, setter.args());
+            }
+        }
+    }
+
+    record Setter(Method method, Object[] args) {}
+
+    private static final Set<String> EXECUTE = Set.of("execute", "executeQuery", "executeUpdate", "executeLargeUpdate");
+
+    private static final ThreadLocal<List<Captured>> RECORDING = new ThreadLocal<>();
+
+    private StatementCapture() {
+    }
+
+    static DataSource wrap(DataSource dataSource) {
+        return proxy(DataSource.class, dataSource, (target, method, args) -> {
+            Object result = method.invoke(target, args);
+            return method.getName().equals("getConnection") ? wrapConnection((Connection) result) : result;
+        });
+    }
+
+    /** Starts recording on this thread; statements on other threads (schedulers, async work) are ignored. */
+    static void start() {
+        RECORDING.set(new ArrayList<>());
+    }
+
+    static List<Captured> stop() {
+        List<Captured> captured = RECORDING.get();
+        RECORDING.remove();
+        return captured != null ? captured : List.of();
+    }
+
+    private static Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, connection, (target, method, args) -> {
+            Object result = method.invoke(target, args);
+            if (method.getName().equals("prepareStatement") && result instanceof PreparedStatement statement) {
+                return wrapStatement(statement, (String) args[0]);
+            }
+            return result;
+        });
+    }
+
+    private static PreparedStatement wrapStatement(PreparedStatement statement, String sql) {
+        List<Setter> setters = new ArrayList<>();
+        return proxy(PreparedStatement.class, statement, (target, method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                setters.add(new Setter(method, args.clone()));
+            } else if (name.equals("clearParameters")) {
+                setters.clear();
+            } else if (EXECUTE.contains(name) && (args == null || args.length == 0)) {
+                List<Captured> recording = RECORDING.get();
+                if (recording != null) {
+                    recording.add(new Captured(sql, List.copyOf(setters)));
+                }
+            }
+            return method.invoke(target, args);
+        });
+    }
+
+    private interface Handler<T> {
+        Object invoke(T target, Method method, Object[] args) throws Exception;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, Handler<T> handler) {
+        InvocationHandler invocationHandler = (p, method, args) -> {
+            try {
+                return handler.invoke(target, method, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+        return (T) Proxy.newProxyInstance(StatementCapture.class.getClassLoader(), new Class<?>[]{type}, invocationHandler);
+    }
+}
@@ -0,0 +1,164 @@
+package com.platform.talent.jobposting.service;
+
+import com.platform.talent.jobposting.api.dto.BulkTransitionResponse;
+import com.platform.talent.jobposting.api.dto.JobResponse;
+import com.platform.talent.jobposting.dataset.MigratedPostgres;
+import com.platform.talent.jobposting.domain.model.Job;
+import com.platform.talent.jobposting.domain.model.JobStatus;
+import com.platform.talent.jobposting.domain.repository.ArchivedJobRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Archival against PostgreSQL: the chunked move out of ggj_jobs, the
+ * retention cutoff and status filter, bulk-archived jobs, and reading
+ * archived jobs back.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class JobArchiveIntegrationTest {
+
+    private static final int CHUNK_SIZE = 3;
+
+    private MigratedPostgres db;
+    private JdbcTemplate admin;
+    private JobArchiveService jobArchiveService;
+    private ArchivedJobRepository archivedJobRepository;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        db = MigratedPostgres.start(
+                "archival.enabled=true",
+                "archival.retention-days=30",
+                "archival.chunk-size=" + CHUNK_SIZE,
+                "archival.pause-ms=0");
+        admin = new JdbcTemplate(db.admin());
+        jobArchiveService = db.bean(JobArchiveService.class);
+        archivedJobRepository = db.bean(ArchivedJobRepository.class);
+    }
+
+    @AfterAll
+    void tearDown() throws Exception {
+        if (db != null) {
+            db.close();
+        }
+    }
+
+    @Test
+    void archiveTerminalJobs_ShouldMoveOnlyTerminalJobsPastRetentionInChunks() {
+        UUID tenantId = UUID.randomUUID();
+        LocalDateTime old = LocalDateTime.now().minusDays(90);
+        LocalDateTime recent = LocalDateTime.now().minusDays(5);
+        List<UUID> expired = new ArrayList<>();
+        for (int i = 0; i < 2 * CHUNK_SIZE + 1; i++) {
+            expired.add(insert(tenantId, i % 2 == 0 ? "CLOSED" : "CANCELLED", old, null));
+        }
+        UUID closedRecently = insert(tenantId, "CLOSED", old, recent);
+        UUID publishedLongAgo = insert(tenantId, "PUBLISHED", old, null);
+
+        jobArchiveService.archiveTerminalJobs();
+
+        for (UUID id : expired) {
+            assertEquals(0, count("SELECT COUNT(*) FROM ggj_jobs WHERE id = ?", id));
+            assertEquals(1, count("SELECT COUNT(*) FROM ggj_jobs_archive WHERE id = ? AND tenant_id = ?", id, tenantId));
+        }
+        assertEquals(1, count("SELECT COUNT(*) FROM ggj_jobs WHERE id = ?", closedRecently));
+        assertEquals(1, count("SELECT COUNT(*) FROM ggj_jobs WHERE id = ?", publishedLongAgo));
+        assertEquals(0, count("SELECT COUNT(*) FROM ggj_jobs_archive WHERE id IN (?, ?)", closedRecently, publishedLongAgo));
+    }
+
+    @Test
+    void bulkArchive_ShouldRecordActorAndReachTheArchiveAfterRetention() {
+        UUID tenantId = UUID.randomUUID();
+        UUID actorId = UUID.randomUUID();
+        UUID closed = insert(tenantId, "CLOSED", LocalDateTime.now().minusDays(90), null);
+
+        BulkTransitionResponse response = db.bean(JobBulkTransitionService.class).transition(
+                tenantId, JobBulkTransitionService.Transition.ARCHIVE, List.of(closed), actorId);
+
+        assertEquals(List.of(closed), response.getTransitioned());
+        assertEquals(actorId, admin.queryForObject("SELECT updated_by FROM ggj_jobs WHERE id = ? AND status = 'ARCHIVED'",
+                UUID.class, closed));
+        // Retention counts from the archive request
+        jobArchiveService.archiveTerminalJobs();
+        assertEquals(1, count("SELECT COUNT(*) FROM ggj_jobs WHERE id = ?", closed));
+
+        admin.update("UPDATE ggj_jobs SET updated_at = ? WHERE id = ?", LocalDateTime.now().minusDays(31), closed);
+        jobArchiveService.archiveTerminalJobs();
+
+        assertEquals(0, count("SELECT COUNT(*) FROM ggj_jobs WHERE id = ?", closed));
+        assertEquals(JobStatus.ARCHIVED, jobArchiveService.findArchived(tenantId, closed).orElseThrow().getStatus());
+        assertEquals(actorId, jobArchiveService.findArchived(tenantId, closed).orElseThrow().getUpdatedBy());
+    }
+
+    @Test
+    void archiveChunk_ShouldMoveAtMostChunkSizeRows() {
+        UUID tenantId = UUID.randomUUID();
+        LocalDateTime old = LocalDateTime.now().minusDays(90);
+        for (int i = 0; i < CHUNK_SIZE + 2; i++) {
+            insert(tenantId, "CLOSED", old, null);
+        }
+
+        Integer moved = db.bean(TransactionTemplate.class).execute(status ->
+                archivedJobRepository.archiveChunk(LocalDateTime.now().minusDays(30), 2));
+
+        assertEquals(2, moved);
+        assertEquals(CHUNK_SIZE, count("SELECT COUNT(*) FROM ggj_jobs WHERE tenant_id = ?", tenantId));
+    }
+
+    @Test
+    void findArchived_ShouldRestoreTheJobFromItsPayload() {
+        UUID tenantId = UUID.randomUUID();
+        UUID id = insert(tenantId, "CLOSED", LocalDateTime.now().minusDays(90), null);
+        admin.update("UPDATE ggj_jobs SET salary_min = 50000, salary_max = 60000, salary_currency = 'EUR', "
+                + "custom_fields = '{\"team\": \"payments\"}'::jsonb WHERE id = ?", id);
+
+        jobArchiveService.archiveTerminalJobs();
+
+        Optional<Job> archived = jobArchiveService.findArchived(tenantId, id);
+        assertTrue(archived.isPresent());
+        assertEquals(id, archived.get().getId());
+        assertEquals("Job " + id, archived.get().getTitle());
+        assertEquals(JobStatus.CLOSED, archived.get().getStatus());
+        assertEquals(50_000d, archived.get().getSalaryMin());
+        assertEquals("EUR", archived.get().getSalaryCurrency());
+        assertEquals("payments", archived.get().getCustomFields().get("team"));
+        assertTrue(jobArchiveService.findArchived(UUID.randomUUID(), id).isEmpty());
+    }
+
+    @Test
+    void getJob_WhenJobWasArchived_ShouldFallBackToTheArchive() {
+        UUID tenantId = UUID.randomUUID();
+        UUID id = insert(tenantId, "CANCELLED", LocalDateTime.now().minusDays(90), null);
+
+        jobArchiveService.archiveTerminalJobs();
+
+        JobResponse response = db.bean(JobService.class).getJob(tenantId, id);
+        assertEquals(id, response.getId());
+        assertEquals(JobStatus.CANCELLED, response.getStatus());
+        assertThrows(RuntimeException.class, () -> db.bean(JobService.class).getJob(tenantId, UUID.randomUUID()));
+    }
+
+    private UUID insert(UUID tenantId, String status, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        UUID id = UUID.randomUUID();
+        admin.update("INSERT INTO ggj_jobs (id, tenant_id, title, status, recruiter_id, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                id, tenantId, "Job " + id, status, UUID.randomUUID(), createdAt, updatedAt);
+        return id;
+    }
+
+    private long count(String sql, Object... args) {
+        return admin.queryForObject(sql, Long.class, args);
+    }
+}
@@ -0,0 +1,119 @@
+package com.platform.talent.jobposting.service;
+
+import com.platform.talent.jobposting.api.dto.BulkTransitionResponse;
+import com.platform.talent.jobposting.domain.model.Job;
+import com.platform.talent.jobposting.domain.model.JobStatus;
+import com.platform.talent.jobposting.domain.model.JobStatusChange;
+import com.platform.talent.jobposting.domain.repository.JobRepository;
+import com.platform.talent.jobposting.service.event.JobEvent;
+import com.platform.talent.jobposting.service.event.JobEventPublisher;
+import com.platform.talent.jobposting.service.integration.EmailNotificationService;
+import com.platform.talent.jobposting.service.similar.SimilarJobService;
+import com.platform.talent.jobposting.service.typeahead.JobTypeaheadService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobBulkTransitionServiceTest {
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private JobEventPublisher jobEventPublisher;
+
+    @Mock
+    private EmailNotificationService emailService;
+
+    @Mock
+    private JobTypeaheadService jobTypeaheadService;
+
+    @Mock
+    private SimilarJobService similarJobService;
+
+    @InjectMocks
+    private JobBulkTransitionService service;
+
+    private final UUID tenantId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "chunkSize", 2);
+        ReflectionTestUtils.setField(service, "maxJobs", 10);
+    }
+
+    @Test
+    void transition_ShouldUpdateInChunksAndReportSkippedJobs() {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        UUID closed = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        when(jobRepository.transitionStatus(eq(tenantId), anyList(), eq(JobStatus.LIVE), eq(JobStatus.CLOSED),
+                any(), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> invocation.<List<UUID>>getArgument(1).stream()
+                        .filter(id -> id.equals(a) || id.equals(b))
+                        .map(id -> new JobStatusChange(id, tenantId, "Engineer", JobStatus.CLOSED, LocalDateTime.now()))
+                        .toList());
+        when(jobRepository.findStatuses(tenantId, List.of(closed, missing))).thenReturn(Map.of(closed, JobStatus.CLOSED));
+
+        BulkTransitionResponse response = service.transition(tenantId, JobBulkTransitionService.Transition.CLOSE,
+                List.of(a, closed, b, missing, a), null);
+
+        assertEquals(List.of(a, b), response.getTransitioned());
+        assertEquals("Not allowed in current status: CLOSED", response.getSkipped().get(closed));
+        assertEquals("Job not found", response.getSkipped().get(missing));
+        verify(jobRepository, times(2)).transitionStatus(any(), anyList(), any(), any(), any(), any());
+        verify(jobTypeaheadService, times(2)).onJobRemoved(any(Job.class));
+        ArgumentCaptor<JobEvent> events = ArgumentCaptor.forClass(JobEvent.class);
+        verify(jobEventPublisher, times(2)).publish(eq("talent.job.events"), any(), events.capture());
+        assertTrue(events.getAllValues().stream().allMatch(event -> event.eventType().equals("job.closed")));
+        verifyNoInteractions(emailService);
+    }
+
+    @Test
+    void transition_ShouldSendOneApprovalDigest() {
+        UUID approver = UUID.randomUUID();
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        when(jobRepository.transitionStatus(eq(tenantId), anyList(), any(), eq(JobStatus.APPROVED),
+                eq(approver), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> invocation.<List<UUID>>getArgument(1).stream()
+                        .map(id -> new JobStatusChange(id, tenantId, "Engineer", JobStatus.APPROVED, LocalDateTime.now()))
+                        .toList());
+
+        BulkTransitionResponse response = service.transition(tenantId, JobBulkTransitionService.Transition.APPROVE,
+                ids, approver);
+
+        assertEquals(ids, response.getTransitioned());
+        assertTrue(response.getSkipped().isEmpty());
+        verify(emailService).sendJobsApprovedNotification(argThat(jobs -> jobs.size() == 3
+                && jobs.stream().allMatch(job -> approver.equals(job.getApprovedBy()))));
+        verifyNoInteractions(jobTypeaheadService, similarJobService);
+    }
+
+    @Test
+    void transition_ShouldRejectOversizedRequests() {
+        List<UUID> ids = Stream.generate(UUID::randomUUID).limit(11).toList();
+
+        assertThrows(RuntimeException.class,
+                () -> service.transition(tenantId, JobBulkTransitionService.Transition.ARCHIVE, ids, null));
+        verifyNoInteractions(jobRepository);
+    }
+}
@@ -0,0 +1,93 @@
+package com.platform.talent.jobposting.service;
+
+import com.platform.talent.jobposting.domain.model.Job;
+import com.platform.talent.jobposting.domain.model.JobTombstone;
+import com.platform.talent.jobposting.domain.repository.JobRepository;
+import com.platform.talent.jobposting.domain.repository.JobTombstoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobChangeFeedServiceTest {
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private JobTombstoneRepository jobTombstoneRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private JobChangeFeedService feedService;
+
+    private UUID tenantId;
+
+    @BeforeEach
+    void setUp() {
+        tenantId = UUID.randomUUID();
+        ReflectionTestUtils.setField(feedService, "maxPageSize", 1000);
+    }
+
+    @Test
+    void findChanges_ShouldMergeJobsAndTombstonesInSequenceOrder() {
+        when(jobRepository.findChangedAfter(eq(tenantId), eq(10L), any(Pageable.class)))
+                .thenReturn(List.of(job(11), job(14), job(15)));
+        when(jobTombstoneRepository.findDeletedAfter(eq(tenantId), eq(10L), any(Pageable.class)))
+                .thenReturn(List.of(tombstone(12), tombstone(13)));
+
+        JobChangeFeedService.ChangePage page = feedService.findChanges(tenantId, 10, null, 4);
+
+        assertEquals(List.of(11L, 14L), page.changed().stream().map(Job::getChangeSeq).toList());
+        assertEquals(List.of(12L, 13L), page.deleted().stream().map(JobTombstone::getChangeSeq).toList());
+        assertEquals(14, page.watermark());
+        assertTrue(page.hasMore());
+        assertFalse(page.resyncRequired());
+    }
+
+    @Test
+    void findChanges_ShouldKeepWatermark_WhenNothingChanged() {
+        when(jobRepository.findChangedAfter(eq(tenantId), eq(42L), any(Pageable.class))).thenReturn(List.of());
+        when(jobTombstoneRepository.findDeletedAfter(eq(tenantId), eq(42L), any(Pageable.class))).thenReturn(List.of());
+
+        JobChangeFeedService.ChangePage page = feedService.findChanges(tenantId, 42, null, 100);
+
+        assertEquals(42, page.watermark());
+        assertFalse(page.hasMore());
+        assertTrue(page.changed().isEmpty());
+    }
+
+    @Test
+    void findChanges_ShouldRequireResync_WhenWatermarkPredatesPurgedTombstones() {
+        when(jobTombstoneRepository.findPurgedThrough(tenantId)).thenReturn(500L);
+
+        JobChangeFeedService.ChangePage page = feedService.findChanges(tenantId, 120, null, 100);
+
+        assertTrue(page.resyncRequired());
+        verify(jobRepository, never()).findChangedAfter(any(), anyLong(), any());
+    }
+
+    private Job job(long seq) {
+        return Job.builder().id(UUID.randomUUID()).tenantId(tenantId).changeSeq(seq).build();
+    }
+
+    private JobTombstone tombstone(long seq) {
+        return JobTombstone.builder().jobId(UUID.randomUUID()).tenantId(tenantId).changeSeq(seq).build();
+    }
+}
@@ -0,0 +1,157 @@
+package com.platform.talent.jobposting.service;
+
+import com.platform.talent.jobposting.domain.model.Job;
+import com.platform.talent.jobposting.domain.repository.JobRepository;
+import com.platform.talent.jobposting.service.geo.GazetteerGeocoder;
+import com.platform.talent.jobposting.service.geo.GeoHash;
+import com.platform.talent.jobposting.service.geo.GeoPoint;
+import com.platform.talent.jobposting.service.geo.RadiusSearchPage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JobLocationServiceTest {
+
+    private static final UUID TENANT = UUID.randomUUID();
+    private static final GeoPoint BERLIN = new GeoPoint(52.5200, 13.4050);
+
+    @Mock
+    private GazetteerGeocoder geocoder;
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private JobLocationService jobLocationService;
+
+    private final List<Job> stored = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // Honours the repository contract: rows grouped by prefix in list order, cut at the limit
+        when(jobRepository.findByGeohashPrefixes(eq(TENANT), anyList(), anyInt())).thenAnswer(invocation -> {
+            List<String> prefixes = invocation.getArgument(1);
+            int limit = invocation.getArgument(2);
+            return stored.stream()
+                    .filter(j -> rank(prefixes, j) >= 0)
+                    .sorted(Comparator.comparingInt(j -> rank(prefixes, j)))
+                    .limit(limit)
+                    .toList();
+        });
+    }
+
+    @Test
+    void findWithinRadius_ShouldReturnJobsInsideRadiusNearestFirst() {
+        ReflectionTestUtils.setField(jobLocationService, "maxCandidates", 5000);
+        Job near = store(52.5210, 13.4060);
+        Job mid = store(52.6000, 13.4050);
+        store(53.5000, 13.4050); // ~109 km north
+
+        RadiusSearchPage page = jobLocationService.findWithinRadius(TENANT, BERLIN, 25, PageRequest.of(0, 10));
+
+        assertEquals(List.of(near, mid), page.getContent());
+        assertEquals(2, page.getTotalElements());
+        assertFalse(page.isTruncated());
+        assertEquals(25, page.getCompleteWithinKm());
+    }
+
+    @Test
+    void findWithinRadius_WhenCapHit_ShouldRefineCellsAndKeepNearestJobs() {
+        ReflectionTestUtils.setField(jobLocationService, "maxCandidates", 100);
+        List<Job> inside = scatter(50, 20);
+        // A dense cluster 22 km north: inside a coarse cover cell, outside the radius
+        Random random = new Random(7);
+        for (int i = 0; i < 400; i++) {
+            store(BERLIN.latitude() + 22 / 111.32 + (random.nextDouble() - 0.5) * 0.005,
+                    BERLIN.longitude() + (random.nextDouble() - 0.5) * 0.005);
+        }
+
+        RadiusSearchPage page = jobLocationService.findWithinRadius(TENANT, BERLIN, 20, Pageable.unpaged());
+
+        assertFalse(page.isTruncated());
+        assertEquals(sortedByDistance(inside), page.getContent());
+        verify(jobRepository, atLeast(2)).findByGeohashPrefixes(eq(TENANT), anyList(), anyInt());
+    }
+
+    @Test
+    void findWithinRadius_WhenCapStillExceeded_ShouldReturnCompleteSmallerRadiusAndFlagIt() {
+        ReflectionTestUtils.setField(jobLocationService, "maxCandidates", 40);
+        List<Job> all = scatter(2000, 20);
+
+        RadiusSearchPage page = jobLocationService.findWithinRadius(TENANT, BERLIN, 20, PageRequest.of(0, 500));
+
+        assertTrue(page.isTruncated());
+        assertTrue(page.getCompleteWithinKm() < 20);
+        List<Job> expected = sortedByDistance(all).stream()
+                .filter(j -> BERLIN.distanceKm(j.getLatitude(), j.getLongitude()) < page.getCompleteWithinKm())
+                .toList();
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, page.getContent());
+        assertEquals(expected.size(), page.getTotalElements());
+    }
+
+    private List<Job> scatter(int count, double maxKm) {
+        Random random = new Random(count);
+        List<Job> jobs = new ArrayList<>();
+        while (jobs.size() < count) {
+            double lat = BERLIN.latitude() + (random.nextDouble() * 2 - 1) * maxKm / 111.32;
+            double lon = BERLIN.longitude() + (random.nextDouble() * 2 - 1) * maxKm / 68.0;
+            if (BERLIN.distanceKm(lat, lon) <= maxKm) {
+                jobs.add(store(lat, lon));
+            }
+        }
+        return jobs;
+    }
+
+    private Job store(double latitude, double longitude) {
+        Job job = Job.builder()
+                .id(UUID.randomUUID())
+                .tenantId(TENANT)
+                .latitude(latitude)
+                .longitude(longitude)
+                .geohash(GeoHash.encode(latitude, longitude, GeoHash.MAX_PRECISION))
+                .build();
+        stored.add(job);
+        return job;
+    }
+
+    private static List<Job> sortedByDistance(List<Job> jobs) {
+        return jobs.stream()
+                .sorted(Comparator.comparingDouble(j -> BERLIN.distanceKm(j.getLatitude(), j.getLongitude())))
+                .toList();
+    }
+
+    private static int rank(List<String> prefixes, Job job) {
+        for (int i = 0; i < prefixes.size(); i++) {
+            if (job.getGeohash().startsWith(prefixes.get(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,152 @@
+package com.platform.talent.jobposting.service;
+
+import com.platform.talent.jobposting.dataset.MigratedPostgres;
+import com.platform.talent.jobposting.domain.model.Job;
+import com.platform.talent.jobposting.domain.model.JobStatus;
+import com.platform.talent.jobposting.domain.repository.JobRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The V4 online partition migration end to end: backfill of rows written
+ * before the sync trigger, mirroring of concurrent writes, cutover, and id
+ * uniqueness across partitions. The cases run in order; cutover is one-way.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class JobPartitionMigratorIntegrationTest {
+
+    private static final UUID TENANT = UUID.randomUUID();
+
+    private MigratedPostgres db;
+    private JdbcTemplate admin;
+    private JobPartitionMigrator migrator;
+    private final List<UUID> seeded = new ArrayList<>();
+
+    @BeforeAll
+    void setUp() throws Exception {
+        db = MigratedPostgres.start(
+                "partitioning.migration.chunk-size=7",
+                "partitioning.migration.pause-ms=0");
+        admin = new JdbcTemplate(db.admin());
+        migrator = db.bean(JobPartitionMigrator.class);
+
+        // Rows that predate the sync trigger exist only in the live table
+        admin.execute("ALTER TABLE ggj_jobs DISABLE TRIGGER trg_ggj_jobs_sync_partitioned");
+        for (int i = 0; i < 40; i++) {
+            String status = i % 4 == 0 ? "CLOSED" : "PUBLISHED";
+            LocalDateTime createdAt = LocalDateTime.now().minusYears(i % 3).withNano(0);
+            seeded.add(insertLive(UUID.randomUUID(), status, createdAt));
+        }
+        admin.execute("ALTER TABLE ggj_jobs ENABLE TRIGGER trg_ggj_jobs_sync_partitioned");
+    }
+
+    @AfterAll
+    void tearDown() throws Exception {
+        if (db != null) {
+            db.close();
+        }
+    }
+
+    @Test
+    @Order(1)
+    void migrate_ShouldCopyExistingRowsIntoHotAndColdPartitions() {
+        assertEquals(0, count("SELECT COUNT(*) FROM ggj_jobs_p"));
+
+        migrator.migrate();
+
+        assertEquals(count("SELECT COUNT(*) FROM ggj_jobs"), count("SELECT COUNT(*) FROM ggj_jobs_p"));
+        assertEquals(0, count("SELECT COUNT(*) FROM ggj_jobs_p WHERE status = 'CLOSED' "
+                + "AND tableoid::regclass::text NOT LIKE 'ggj_jobs_cold%'"));
+        assertEquals(0, count("SELECT COUNT(*) FROM ggj_jobs_p WHERE status = 'PUBLISHED' "
+                + "AND tableoid::regclass::text <> 'ggj_jobs_hot'"));
+        assertEquals(count("SELECT COUNT(*) FROM ggj_jobs_p"), count("SELECT COUNT(*) FROM ggj_job_ids"));
+    }
+
+    @Test
+    @Order(2)
+    void syncTrigger_ShouldMirrorWritesToTheLiveTable() {
+        UUID moved = seeded.get(1);
+        UUID deleted = seeded.get(2);
+        UUID inserted = insertLive(UUID.randomUUID(), "DRAFT", LocalDateTime.now().withNano(0));
+
+        admin.update("UPDATE ggj_jobs SET status = 'CLOSED' WHERE id = ?", moved);
+        admin.update("DELETE FROM ggj_jobs WHERE id = ?", deleted);
+
+        assertEquals("CLOSED", admin.queryForObject("SELECT status FROM ggj_jobs_p WHERE id = ?", String.class, moved));
+        assertEquals(0, count("SELECT COUNT(*) FROM ggj_jobs_p WHERE id = ?", deleted));
+        assertEquals(1, count("SELECT COUNT(*) FROM ggj_jobs_p WHERE id = ?", inserted));
+        assertEquals(0, count("SELECT COUNT(*) FROM ggj_job_ids WHERE id = ?", deleted));
+        assertEquals(count("SELECT COUNT(*) FROM ggj_jobs"), count("SELECT COUNT(*) FROM ggj_jobs_p"));
+    }
+
+    @Test
+    @Order(3)
+    void partitionedTable_ShouldRejectSameIdInAnotherPartition() {
+        UUID published = seeded.get(3);
+        Map<String, Object> row = admin.queryForMap(
+                "SELECT status, created_at FROM ggj_jobs_p WHERE id = ?", published);
+        assertEquals("PUBLISHED", row.get("status"));
+
+        // Same id, different partition key: the primary key alone would accept it
+        assertThrows(DataIntegrityViolationException.class, () -> admin.update(
+                "INSERT INTO ggj_jobs_p (id, tenant_id, title, status, recruiter_id, created_at) "
+                        + "VALUES (?, ?, 'Duplicate', 'CANCELLED', ?, now())",
+                published, TENANT, UUID.randomUUID()));
+        assertEquals(1, count("SELECT COUNT(*) FROM ggj_jobs_p WHERE id = ?", published));
+    }
+
+    @Test
+    @Order(4)
+    void cutover_ShouldServeJobsFromPartitionsAndMoveRowsOnStatusChange() {
+        long before = count("SELECT COUNT(*) FROM ggj_jobs");
+
+        migrator.cutover();
+
+        assertNotNull(admin.queryForObject("SELECT to_regclass('ggj_jobs_legacy')::text", String.class));
+        assertEquals(before, count("SELECT COUNT(*) FROM ggj_jobs"));
+
+        UUID id = seeded.get(5);
+        Job job = db.bean(JobRepository.class).findById(id).orElseThrow();
+        assertEquals(JobStatus.PUBLISHED, job.getStatus());
+
+        db.bean(JobService.class).closeJob(TENANT, id);
+
+        assertEquals("ggj_jobs_cold", admin.queryForObject(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhparent "
+                        + "WHERE i.inhrelid = (SELECT tableoid FROM ggj_jobs WHERE id = ?)", String.class, id));
+        assertEquals(1, count("SELECT COUNT(*) FROM ggj_job_ids WHERE id = ?", id));
+        assertEquals(count("SELECT COUNT(*) FROM ggj_jobs"), count("SELECT COUNT(*) FROM ggj_job_ids"));
+
+        assertThrows(DataIntegrityViolationException.class, () -> admin.update(
+                "INSERT INTO ggj_jobs (id, tenant_id, title, status, recruiter_id, created_at) "
+                        + "VALUES (?, ?, 'Duplicate', 'DRAFT', ?, now())",
+                id, TENANT, UUID.randomUUID()));
+    }
+
+    private UUID insertLive(UUID id, String status, LocalDateTime createdAt) {
+        admin.update("INSERT INTO ggj_jobs (id, tenant_id, title, status, recruiter_id, created_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?)",
+                id, TENANT, "Job " + id, status, UUID.randomUUID(), createdAt);
+        return id;
+    }
+
+    private long count(String sql, Object... args) {
+        return admin.queryForObject(sql, Long.class, args);
+    }
+}
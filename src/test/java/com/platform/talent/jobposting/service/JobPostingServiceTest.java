@@ -0,0 +1,232 @@
+package com.platform.talent.jobposting.service;
+
+import com.platform.talent.jobposting.domain.model.JobPosting;
+import com.platform.talent.jobposting.domain.model.JobPostingStatus;
+import com.platform.talent.jobposting.domain.model.PublishedJobView;
+import com.platform.talent.jobposting.repository.JobPostingRepository;
+import com.platform.talent.jobposting.repository.PublishedJobViewRepository;
+import com.platform.talent.jobposting.service.dedup.NearDuplicateDetector;
+import com.platform.talent.jobposting.service.event.JobEventPublisher;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobPostingServiceTest {
+
+    @Mock
+    private JobPostingRepository jobPostingRepository;
+
+    @Mock
+    private PublishedJobViewRepository publishedJobViewRepository;
+
+    @Mock
+    private JobEventPublisher jobEventPublisher;
+
+    @Mock
+    private JobBoardPublisher jobBoardPublisher;
+
+    @Mock
+    private SalaryNormalizationService salaryNormalizationService;
+
+    @Mock
+    private JobLocationService jobLocationService;
+
+    @Mock
+    private NearDuplicateDetector nearDuplicateDetector;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private JobPostingService jobPostingService;
+
+    @Test
+    void publishJob_ShouldWritePublishedView() {
+        JobPosting posting = posting(JobPostingStatus.DRAFT);
+        when(jobPostingRepository.findById("job-1")).thenReturn(Optional.of(posting));
+        when(jobPostingRepository.save(any(JobPosting.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        jobPostingService.publishJob("org-1", "job-1", "user-1");
+
+        ArgumentCaptor<PublishedJobView> view = ArgumentCaptor.forClass(PublishedJobView.class);
+        verify(publishedJobViewRepository).save(view.capture());
+        assertEquals("job-1", view.getValue().getJobId());
+        assertEquals("Java Engineer", view.getValue().getJobTitle());
+        assertEquals(new BigDecimal("90000.00"), view.getValue().getSalaryNormalizedMin());
+        assertNotNull(view.getValue().getPublishedDate());
+        verify(publishedJobViewRepository, never()).deleteByJobId(any());
+    }
+
+    @Test
+    void publishJob_ShouldCallBoardsOnlyAfterCommit() {
+        JobPosting posting = posting(JobPostingStatus.DRAFT);
+        posting.setPublishToLinkedIn(true);
+        JobPosting committed = posting(JobPostingStatus.PUBLISHED);
+        when(jobPostingRepository.findById("job-1")).thenReturn(Optional.of(posting), Optional.of(committed));
+        when(jobPostingRepository.save(any(JobPosting.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(jobBoardPublisher.publishToLinkedIn(any())).thenReturn("LI-1");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            jobPostingService.publishJob("org-1", "job-1", "user-1");
+            verifyNoInteractions(jobBoardPublisher);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(jobBoardPublisher).publishToLinkedIn(posting);
+        verify(jobBoardPublisher, never()).publishToIndeed(any());
+        assertEquals("LI-1", committed.getLinkedInJobId());
+        verify(jobPostingRepository).save(committed);
+    }
+
+    @Test
+    void publishJob_WhenClosedBeforeBoardsAnswer_ShouldNotStoreBoardIds() {
+        JobPosting posting = posting(JobPostingStatus.DRAFT);
+        posting.setPublishToIndeed(true);
+        JobPosting closed = posting(JobPostingStatus.CLOSED);
+        when(jobPostingRepository.findById("job-1")).thenReturn(Optional.of(posting), Optional.of(closed));
+        when(jobPostingRepository.save(any(JobPosting.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(jobBoardPublisher.publishToIndeed(any())).thenReturn("IND-1");
+
+        jobPostingService.publishJob("org-1", "job-1", "user-1");
+
+        assertNull(closed.getIndeedJobId());
+        verify(jobPostingRepository, never()).save(closed);
+    }
+
+    @Test
+    void closeJob_ShouldRemovePublishedView() {
+        JobPosting posting = posting(JobPostingStatus.PUBLISHED);
+        when(jobPostingRepository.findById("job-1")).thenReturn(Optional.of(posting));
+        when(jobPostingRepository.save(any(JobPosting.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        JobPosting closed = jobPostingService.closeJob("org-1", "job-1");
+
+        assertEquals(JobPostingStatus.CLOSED, closed.getStatus());
+        verify(publishedJobViewRepository).deleteByJobId("job-1");
+        verify(publishedJobViewRepository, never()).save(any());
+    }
+
+    @Test
+    void pauseJob_ShouldRemovePublishedView() {
+        JobPosting posting = posting(JobPostingStatus.PUBLISHED);
+        when(jobPostingRepository.findById("job-1")).thenReturn(Optional.of(posting));
+        when(jobPostingRepository.save(any(JobPosting.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        JobPosting paused = jobPostingService.pauseJob("org-1", "job-1");
+
+        assertEquals(JobPostingStatus.PAUSED, paused.getStatus());
+        verify(publishedJobViewRepository).deleteByJobId("job-1");
+        verify(publishedJobViewRepository, never()).save(any());
+    }
+
+    @Test
+    void updateJobPosting_WhenPublished_ShouldRefreshPublishedView() {
+        JobPosting posting = posting(JobPostingStatus.PUBLISHED);
+        when(jobPostingRepository.findById("job-1")).thenReturn(Optional.of(posting));
+        when(jobPostingRepository.save(any(JobPosting.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        jobPostingService.updateJobPosting("org-1", "job-1",
+                JobPosting.builder().jobTitle("Senior Java Engineer").salaryMax(new BigDecimal("140000.00")).build(), "user-1");
+
+        ArgumentCaptor<PublishedJobView> view = ArgumentCaptor.forClass(PublishedJobView.class);
+        verify(publishedJobViewRepository).save(view.capture());
+        assertEquals("Senior Java Engineer", view.getValue().getJobTitle());
+        assertEquals(new BigDecimal("140000.00"), view.getValue().getSalaryMax());
+        verify(publishedJobViewRepository, never()).deleteByJobId(any());
+    }
+
+    @Test
+    void updateJobPosting_WhenNotPublished_ShouldKeepItOutOfPublishedView() {
+        JobPosting posting = posting(JobPostingStatus.DRAFT);
+        when(jobPostingRepository.findById("job-1")).thenReturn(Optional.of(posting));
+        when(jobPostingRepository.save(any(JobPosting.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        jobPostingService.updateJobPosting("org-1", "job-1",
+                JobPosting.builder().jobTitle("Senior Java Engineer").build(), "user-1");
+
+        verify(publishedJobViewRepository).deleteByJobId("job-1");
+        verify(publishedJobViewRepository, never()).save(any());
+    }
+
+    @Test
+    void getPublishedJobs_ShouldReadFromView() {
+        PublishedJobView view = PublishedJobView.from(posting(JobPostingStatus.PUBLISHED));
+        when(publishedJobViewRepository.findAllPublished()).thenReturn(List.of(view));
+
+        assertEquals(List.of(view), jobPostingService.getPublishedJobs());
+        verifyNoInteractions(jobPostingRepository);
+    }
+
+    @Test
+    void handleRequisitionApproved_ShouldSkipRequisitionWithPosting() {
+        JobPosting existing = posting(JobPostingStatus.DRAFT);
+        when(jobPostingRepository.findByRequisitionId("REQ-1")).thenReturn(Optional.of(existing));
+
+        jobPostingService.handleRequisitionApproved(Map.of(
+                "requisitionId", "REQ-1", "organizationId", "org-1", "jobTitle", "Java Engineer"));
+
+        verify(jobPostingRepository, never()).save(any());
+    }
+
+    @Test
+    void createJobPosting_WhenNearDuplicateOfOtherOrganization_ShouldOnlyFlagIt() {
+        when(jobPostingRepository.save(any(JobPosting.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(nearDuplicateDetector.index(any(), any(), any(), any())).thenReturn(Optional.of(
+                new NearDuplicateDetector.Match("foreign-job", "org-2", 0.95)));
+
+        JobPosting saved = jobPostingService.createJobPosting(posting(JobPostingStatus.DRAFT), "user-1");
+
+        assertNull(saved.getNearDuplicateOf());
+        assertTrue(saved.isNearDuplicateExternal());
+    }
+
+    @Test
+    void createJobPosting_WhenNearDuplicateOfSameOrganization_ShouldExposeMatchId() {
+        when(jobPostingRepository.save(any(JobPosting.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(nearDuplicateDetector.index(any(), any(), any(), any())).thenReturn(Optional.of(
+                new NearDuplicateDetector.Match("earlier-job", "org-1", 0.95)));
+
+        JobPosting saved = jobPostingService.createJobPosting(posting(JobPostingStatus.DRAFT), "user-1");
+
+        assertEquals("earlier-job", saved.getNearDuplicateOf());
+        assertFalse(saved.isNearDuplicateExternal());
+    }
+
+    private JobPosting posting(JobPostingStatus status) {
+        return JobPosting.builder()
+                .jobId("job-1")
+                .organizationId("org-1")
+                .jobTitle("Java Engineer")
+                .jobDescription("Build the platform")
+                .department("Engineering")
+                .salaryMin(new BigDecimal("90000.00"))
+                .salaryMax(new BigDecimal("120000.00"))
+                .currency("USD")
+                .salaryNormalizedMin(new BigDecimal("90000.00"))
+                .salaryNormalizedMax(new BigDecimal("120000.00"))
+                .status(status)
+                .viewCount(0)
+                .applicationCount(0)
+                .build();
+    }
+}
@@ -5,15 +5,18 @@ import com.platform.talent.jobposting.api.dto.JobResponse;
 import com.platform.talent.jobposting.domain.model.Job;
 import com.platform.talent.jobposting.domain.model.JobStatus;
 import com.platform.talent.jobposting.domain.repository.JobRepository;
+import com.platform.talent.jobposting.service.dedup.NearDuplicateDetector;
+import com.platform.talent.jobposting.service.event.JobEventPublisher;
 import com.platform.talent.jobposting.service.integration.EmailNotificationService;
 import com.platform.talent.jobposting.service.integration.KernelIntegrationService;
+import com.platform.talent.jobposting.service.similar.SimilarJobService;
+import com.platform.talent.jobposting.service.typeahead.JobTypeaheadService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.kafka.core.KafkaTemplate;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -36,7 +39,28 @@ class JobServiceTest {
     private EmailNotificationService emailService;
 
     @Mock
-    private KafkaTemplate<String, Object> kafkaTemplate;
+    private JobEventPublisher jobEventPublisher;
+
+    @Mock
+    private NearDuplicateDetector nearDuplicateDetector;
+
+    @Mock
+    private JobTypeaheadService jobTypeaheadService;
+
+    @Mock
+    private SimilarJobService similarJobService;
+
+    @Mock
+    private SalaryNormalizationService salaryNormalizationService;
+
+    @Mock
+    private JobLocationService jobLocationService;
+
+    @Mock
+    private JobArchiveService jobArchiveService;
+
+    @Mock
+    private JobChangeFeedService jobChangeFeedService;
 
     @InjectMocks
     private JobService jobService;
@@ -93,6 +117,33 @@ class JobServiceTest {
         verify(jobRepository).save(any(Job.class));
     }
 
+    @Test
+    void createJob_WhenNearDuplicateOfSameTenant_ShouldExposeMatchId() {
+        UUID earlier = UUID.randomUUID();
+        when(jobRepository.save(any(Job.class))).thenReturn(job);
+        when(nearDuplicateDetector.index(any(), any(), any(), any())).thenReturn(Optional.of(
+                new NearDuplicateDetector.Match(earlier.toString(), tenantId.toString(), 0.9)));
+
+        JobResponse response = jobService.createJob(tenantId, createRequest);
+
+        assertEquals(earlier, response.getNearDuplicateOf());
+        assertFalse(response.isNearDuplicateExternal());
+    }
+
+    @Test
+    void createJob_WhenNearDuplicateOfOtherTenant_ShouldOnlyFlagIt() {
+        UUID foreign = UUID.randomUUID();
+        when(jobRepository.save(any(Job.class))).thenReturn(job);
+        when(nearDuplicateDetector.index(any(), any(), any(), any())).thenReturn(Optional.of(
+                new NearDuplicateDetector.Match(foreign.toString(), UUID.randomUUID().toString(), 0.9)));
+
+        JobResponse response = jobService.createJob(tenantId, createRequest);
+
+        assertNull(response.getNearDuplicateOf());
+        assertTrue(response.isNearDuplicateExternal());
+        assertNull(job.getNearDuplicateOf());
+    }
+
     @Test
     void publishJob_ShouldUpdateStatusToPublished() {
         // Arrange
@@ -151,17 +202,26 @@ class JobServiceTest {
     }
 
     @Test
-    void getJob_ShouldIncrementViewCount() {
+    void getJob_ShouldOnlyRead() {
         // Arrange
         when(jobRepository.findByIdAndTenantId(job.getId(), tenantId)).thenReturn(Optional.of(job));
-        when(jobRepository.save(any(Job.class))).thenReturn(job);
 
         // Act
         JobResponse response = jobService.getJob(tenantId, job.getId());
 
         // Assert
         assertNotNull(response);
-        verify(jobRepository).save(any(Job.class));
+        verify(jobRepository, never()).save(any(Job.class));
+    }
+
+    @Test
+    void incrementViewCount_ShouldUpdateTheCounterInPlace() {
+        // Act
+        jobService.incrementViewCount(tenantId, job.getId());
+
+        // Assert
+        verify(jobRepository).incrementViewCount(tenantId, job.getId());
+        verify(jobRepository, never()).save(any(Job.class));
     }
 }
 
@@ -0,0 +1,170 @@
+package com.platform.talent.jobposting.service;
+
+import com.platform.talent.jobposting.api.dto.JobSearchCriteria;
+import com.platform.talent.jobposting.dataset.MigratedPostgres;
+import com.platform.talent.jobposting.domain.model.Job;
+import com.platform.talent.jobposting.domain.model.JobStatus;
+import com.platform.talent.jobposting.domain.model.PublishedJobView;
+import com.platform.talent.jobposting.domain.repository.JobRepository;
+import com.platform.talent.jobposting.repository.PublishedJobViewRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Salary band search against PostgreSQL: the numrange overlap queries, open
+ * bounds, currency conversion and sorting of the native query.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SalaryBandSearchIntegrationTest {
+
+    private MigratedPostgres db;
+    private JobService jobService;
+    private JobRepository jobRepository;
+    private PublishedJobViewRepository publishedJobViewRepository;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        db = MigratedPostgres.start();
+        jobService = db.bean(JobService.class);
+        jobRepository = db.bean(JobRepository.class);
+        publishedJobViewRepository = db.bean(PublishedJobViewRepository.class);
+        db.bean(SalaryNormalizationService.class).updateRate("EUR", new BigDecimal("1.10"));
+    }
+
+    @AfterAll
+    void tearDown() throws Exception {
+        if (db != null) {
+            db.close();
+        }
+    }
+
+    @Test
+    void findBySalaryBandOverlap_ShouldMatchOverlappingAndOpenEndedBands() {
+        UUID tenantId = UUID.randomUUID();
+        Job inside = save(tenantId, "Inside", 95_000d, 105_000d);
+        Job straddling = save(tenantId, "Straddling", 60_000d, 95_000d);
+        Job minOnly = save(tenantId, "Min only", 100_000d, null);
+        Job below = save(tenantId, "Below", 40_000d, 60_000d);
+        Job unbanded = save(tenantId, "Unbanded", null, null);
+        save(UUID.randomUUID(), "Other tenant", 95_000d, 105_000d);
+
+        Set<UUID> found = ids(jobRepository.findBySalaryBandOverlap(tenantId, 90_000d, 110_000d, PageRequest.of(0, 20)));
+
+        assertEquals(Set.of(inside.getId(), straddling.getId(), minOnly.getId()), found);
+        assertFalse(found.contains(below.getId()));
+        assertFalse(found.contains(unbanded.getId()));
+    }
+
+    @Test
+    void searchJobs_BySalary_ShouldConvertCurrencyAndKeepMissingBoundOpen() {
+        UUID tenantId = UUID.randomUUID();
+        Job low = save(tenantId, "Low", 50_000d, 70_000d);
+        Job high = save(tenantId, "High", 120_000d, 150_000d);
+
+        // 100,000 EUR is 110,000 USD: only the high band reaches it
+        Page<Job> page = jobService.searchJobs(JobSearchCriteria.builder()
+                .tenantId(tenantId).salaryMin(100_000d).salaryCurrency("EUR").build(), PageRequest.of(0, 20));
+
+        assertEquals(Set.of(high.getId()), ids(page));
+        assertFalse(ids(page).contains(low.getId()));
+    }
+
+    @Test
+    void searchJobs_BySalary_ShouldSortByEntityProperty() {
+        UUID tenantId = UUID.randomUUID();
+        save(tenantId, "Beta", 90_000d, 100_000d);
+        save(tenantId, "Alpha", 90_000d, 100_000d);
+
+        Page<Job> page = jobService.searchJobs(JobSearchCriteria.builder()
+                        .tenantId(tenantId).salaryMin(80_000d).salaryMax(120_000d).build(),
+                PageRequest.of(0, 20, Sort.by("title").and(Sort.by(Sort.Direction.DESC, "createdAt"))));
+
+        assertEquals(List.of("Alpha", "Beta"), page.getContent().stream().map(Job::getTitle).toList());
+        assertEquals(2, page.getTotalElements());
+    }
+
+    @Test
+    void searchJobs_BySalary_WithUnknownCurrency_ShouldRejectWithBadRequest() {
+        JobSearchCriteria criteria = JobSearchCriteria.builder()
+                .tenantId(UUID.randomUUID()).salaryMin(50_000d).salaryCurrency("XYZ").build();
+
+        ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                () -> jobService.searchJobs(criteria, PageRequest.of(0, 20)));
+        assertEquals(HttpStatus.BAD_REQUEST, e.getStatusCode());
+    }
+
+    @Test
+    void searchJobs_BySalary_WithInvertedRange_ShouldRejectWithBadRequest() {
+        JobSearchCriteria criteria = JobSearchCriteria.builder()
+                .tenantId(UUID.randomUUID()).salaryMin(120_000d).salaryMax(80_000d).build();
+
+        ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                () -> jobService.searchJobs(criteria, PageRequest.of(0, 20)));
+        assertEquals(HttpStatus.BAD_REQUEST, e.getStatusCode());
+    }
+
+    @Test
+    void findPublishedBySalaryOverlap_ShouldMatchOverlappingBands() {
+        String prefix = "SAL-" + UUID.randomUUID() + "-";
+        publishedJobViewRepository.save(view(prefix + "in", "95000", "105000"));
+        publishedJobViewRepository.save(view(prefix + "open", "100000", null));
+        publishedJobViewRepository.save(view(prefix + "out", "40000", "60000"));
+
+        Set<String> found = publishedJobViewRepository
+                .findPublishedBySalaryOverlap(new BigDecimal("90000"), new BigDecimal("110000")).stream()
+                .map(PublishedJobView::getJobId)
+                .filter(id -> id.startsWith(prefix))
+                .collect(Collectors.toSet());
+
+        assertEquals(Set.of(prefix + "in", prefix + "open"), found);
+    }
+
+    private Job save(UUID tenantId, String title, Double salaryMin, Double salaryMax) {
+        return jobRepository.save(Job.builder()
+                .tenantId(tenantId)
+                .title(title)
+                .recruiterId(UUID.randomUUID())
+                .status(JobStatus.PUBLISHED)
+                .salaryMin(salaryMin)
+                .salaryMax(salaryMax)
+                .salaryCurrency("USD")
+                .salaryNormalizedMin(salaryMin)
+                .salaryNormalizedMax(salaryMax)
+                .build());
+    }
+
+    private static PublishedJobView view(String jobId, String min, String max) {
+        return PublishedJobView.builder()
+                .jobId(jobId)
+                .organizationId("org-salary")
+                .jobTitle("Engineer")
+                .department("Engineering")
+                .salaryMin(new BigDecimal(min))
+                .salaryMax(max == null ? null : new BigDecimal(max))
+                .currency("USD")
+                .salaryNormalizedMin(new BigDecimal(min))
+                .salaryNormalizedMax(max == null ? null : new BigDecimal(max))
+                .publishedDate(LocalDate.now())
+                .build();
+    }
+
+    private static Set<UUID> ids(Page<Job> page) {
+        return page.getContent().stream().map(Job::getId).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,102 @@
+package com.platform.talent.jobposting.service;
+
+import com.platform.talent.jobposting.domain.model.ExchangeRate;
+import com.platform.talent.jobposting.domain.model.Job;
+import com.platform.talent.jobposting.domain.repository.ExchangeRateRepository;
+import com.platform.talent.jobposting.domain.repository.JobRepository;
+import com.platform.talent.jobposting.repository.JobPostingRepository;
+import com.platform.talent.jobposting.repository.PublishedJobViewRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+class SalaryNormalizationServiceTest {
+
+    @Mock
+    private ExchangeRateRepository exchangeRateRepository;
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private JobPostingRepository jobPostingRepository;
+
+    @Mock
+    private PublishedJobViewRepository publishedJobViewRepository;
+
+    @InjectMocks
+    private SalaryNormalizationService service;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "baseCurrency", "USD");
+        // Not every case reaches a rate lookup
+        lenient().when(exchangeRateRepository.findAll()).thenReturn(List.of(
+                ExchangeRate.builder().currency("EUR").rateToBase(new BigDecimal("1.10")).build()));
+    }
+
+    @Test
+    void normalize_ShouldConvertBandToBaseCurrency() {
+        Job job = Job.builder().salaryMin(50_000d).salaryMax(60_000d).salaryCurrency("eur").build();
+
+        service.normalize(job);
+
+        assertEquals(55_000d, job.getSalaryNormalizedMin());
+        assertEquals(66_000d, job.getSalaryNormalizedMax());
+    }
+
+    @Test
+    void normalize_WithUnknownCurrency_ShouldLeaveBandEmpty() {
+        Job job = Job.builder().salaryMin(50_000d).salaryMax(60_000d).salaryCurrency("XYZ").build();
+
+        service.normalize(job);
+
+        assertNull(job.getSalaryNormalizedMin());
+        assertNull(job.getSalaryNormalizedMax());
+    }
+
+    @Test
+    void toBaseRange_ShouldDefaultToBaseCurrencyAndKeepMissingBoundOpen() {
+        SalaryNormalizationService.SalaryBand band = service.toBaseRange(new BigDecimal("90000"), null, null);
+
+        assertEquals(new BigDecimal("90000.00"), band.low());
+        assertEquals(BigDecimal.valueOf(Long.MAX_VALUE), band.high());
+    }
+
+    @Test
+    void toBaseRange_ShouldConvertBothBounds() {
+        SalaryNormalizationService.SalaryBand band = service.toBaseRange(50_000d, 60_000d, "EUR");
+
+        assertEquals(new BigDecimal("55000.00"), band.low());
+        assertEquals(new BigDecimal("66000.00"), band.high());
+    }
+
+    @Test
+    void toBaseRange_WithUnknownCurrency_ShouldRejectWithBadRequest() {
+        ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                () -> service.toBaseRange(50_000d, 60_000d, "XYZ"));
+
+        assertEquals(HttpStatus.BAD_REQUEST, e.getStatusCode());
+    }
+
+    @Test
+    void toBaseRange_WithInvertedRange_ShouldRejectWithBadRequest() {
+        ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                () -> service.toBaseRange(60_000d, 50_000d, "USD"));
+
+        assertEquals(HttpStatus.BAD_REQUEST, e.getStatusCode());
+    }
+}
@@ -0,0 +1,188 @@
+package com.platform.talent.jobposting.service;
+
+import com.platform.talent.jobposting.config.datasource.ReadConsistencyContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private static final String OPERATION = "getJob";
+    private static final List<Object> ARGS = List.of("tenant-a", "job-1");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch leaderStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseLeader = new CountDownLatch(1);
+    private final AtomicInteger loads = new AtomicInteger();
+    private final List<Thread> threads = new ArrayList<>();
+    private SingleFlight singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        singleFlight = new SingleFlight(meterRegistry);
+        ReflectionTestUtils.setField(singleFlight, "maxWaitMs", 10_000L);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        releaseLeader.countDown();
+        for (Thread thread : threads) {
+            thread.join(10_000);
+        }
+    }
+
+    @Test
+    void execute_ShouldShareLeaderResultWithConcurrentCallers() throws Exception {
+        CompletableFuture<Object> leader = call(blockingLoader(() -> "loaded"));
+        assertTrue(leaderStarted.await(10, TimeUnit.SECONDS));
+        List<CompletableFuture<Object>> followers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            followers.add(call(countingLoader(() -> "follower loaded")));
+        }
+        awaitWaiting(followers.size());
+
+        releaseLeader.countDown();
+
+        assertEquals("loaded", leader.get(10, TimeUnit.SECONDS));
+        for (CompletableFuture<Object> follower : followers) {
+            assertEquals("loaded", follower.get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1.0, count("leader"));
+        assertEquals(5.0, count("coalesced"));
+    }
+
+    @Test
+    void execute_ShouldPropagateLeaderExceptionToWaiters() throws Exception {
+        IllegalStateException failure = new IllegalStateException("database unavailable");
+        CompletableFuture<Object> leader = call(blockingLoader(() -> {
+            throw failure;
+        }));
+        assertTrue(leaderStarted.await(10, TimeUnit.SECONDS));
+        CompletableFuture<Object> follower = call(countingLoader(() -> "follower loaded"));
+        awaitWaiting(1);
+
+        releaseLeader.countDown();
+
+        assertSame(failure, assertThrows(ExecutionException.class, () -> leader.get(10, TimeUnit.SECONDS)).getCause());
+        assertSame(failure, assertThrows(ExecutionException.class, () -> follower.get(10, TimeUnit.SECONDS)).getCause());
+        assertEquals(1, loads.get());
+        assertEquals(1.0, count("coalesced"));
+    }
+
+    @Test
+    void execute_WhenLeaderExceedsMaxWait_ShouldLoadIndependently() throws Exception {
+        ReflectionTestUtils.setField(singleFlight, "maxWaitMs", 50L);
+        CompletableFuture<Object> leader = call(blockingLoader(() -> "loaded"));
+        assertTrue(leaderStarted.await(10, TimeUnit.SECONDS));
+
+        long start = System.nanoTime();
+        String own = singleFlight.execute(OPERATION, ARGS, countingLoader(() -> "follower loaded"));
+        long waitedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals("follower loaded", own);
+        assertTrue(waitedMs >= 50, "follower gave up after " + waitedMs + " ms");
+        assertFalse(leader.isDone());
+        assertEquals(2, loads.get());
+        assertEquals(1.0, count("timeout"));
+        assertEquals(0.0, count("coalesced"));
+
+        releaseLeader.countDown();
+        assertEquals("loaded", leader.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void execute_ShouldNotShareAcrossKeysOrAfterCompletion() {
+        assertEquals("a", singleFlight.execute(OPERATION, ARGS, countingLoader(() -> "a")));
+        assertEquals("b", singleFlight.execute(OPERATION, ARGS, countingLoader(() -> "b")));
+        assertEquals("c", singleFlight.execute(OPERATION, List.of("tenant-b", "job-1"), countingLoader(() -> "c")));
+
+        assertEquals(3, loads.get());
+        assertEquals(3.0, count("leader"));
+    }
+
+    @Test
+    void execute_WhenReadConsistencyRequired_ShouldNotJoinAFlight() throws Exception {
+        CompletableFuture<Object> leader = call(blockingLoader(() -> "loaded"));
+        assertTrue(leaderStarted.await(10, TimeUnit.SECONDS));
+
+        ReadConsistencyContext.requirePrimary();
+        try {
+            assertEquals("primary", singleFlight.execute(OPERATION, ARGS, countingLoader(() -> "primary")));
+        } finally {
+            ReadConsistencyContext.clear();
+        }
+
+        assertFalse(leader.isDone());
+        assertEquals(2, loads.get());
+        assertEquals(1.0, count("bypassed"));
+        assertEquals(0.0, count("coalesced"));
+
+        releaseLeader.countDown();
+        assertEquals("loaded", leader.get(10, TimeUnit.SECONDS));
+    }
+
+    private <T> Supplier<T> countingLoader(Supplier<T> value) {
+        return () -> {
+            loads.incrementAndGet();
+            return value.get();
+        };
+    }
+
+    private <T> Supplier<T> blockingLoader(Supplier<T> value) {
+        return countingLoader(() -> {
+            leaderStarted.countDown();
+            try {
+                if (!releaseLeader.await(10, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("leader was never released");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return value.get();
+        });
+    }
+
+    private CompletableFuture<Object> call(Supplier<Object> loader) {
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        Thread thread = new Thread(() -> {
+            try {
+                result.complete(singleFlight.execute(OPERATION, ARGS, loader));
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        threads.add(thread);
+        thread.start();
+        return result;
+    }
+
+    // Followers park in the timed wait on the leader's future; the leader parks on its latch
+    private void awaitWaiting(int followers) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (threads.stream().skip(1).filter(t -> t.getState() == Thread.State.TIMED_WAITING).count() < followers) {
+            assertTrue(System.nanoTime() < deadline, "followers never started waiting");
+            Thread.sleep(5);
+        }
+    }
+
+    private double count(String outcome) {
+        Counter counter = meterRegistry.find("jobposting.singleflight.requests")
+                .tag("operation", OPERATION).tag("outcome", outcome).counter();
+        return counter == null ? 0.0 : counter.count();
+    }
+}
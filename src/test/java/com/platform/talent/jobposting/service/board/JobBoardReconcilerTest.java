@@ -0,0 +1,178 @@
+package com.platform.talent.jobposting.service.board;
+
+import com.platform.talent.jobposting.domain.model.JobBoardRefs;
+import com.platform.talent.jobposting.domain.model.JobPosting;
+import com.platform.talent.jobposting.domain.model.JobPostingStatus;
+import com.platform.talent.jobposting.repository.JobPostingRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobBoardReconcilerTest {
+
+    @Mock
+    private JobPostingRepository jobPostingRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection lockConnection;
+
+    @Mock
+    private PreparedStatement lockStatement;
+
+    @Mock
+    private ResultSet lockResult;
+
+    private StubJobBoardServer board;
+    private JobBoardReconciler reconciler;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        board = new StubJobBoardServer();
+        JobBoardProperties properties = new JobBoardProperties();
+        properties.getEndpoints().put(JobBoard.LINKEDIN, board.url());
+        properties.setBatchSize(100);
+        properties.getReconcile().setPageSize(50);
+        JobBoardClient client = new JobBoardClient(new RestTemplate(), properties);
+        reconciler = new JobBoardReconciler(jobPostingRepository, client, properties,
+                transactionTemplate, new SimpleMeterRegistry(), dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        board.close();
+    }
+
+    @Test
+    void reconcile_ShouldUnpublishOrphansInBulk_OnlyAfterTwoRuns() {
+        board.active().add("LI-live");
+        IntStream.range(0, 250).forEach(i -> board.active().add("LI-orphan-" + i));
+        when(jobPostingRepository.findBoardRefsByStatus(JobPostingStatus.PUBLISHED))
+                .thenReturn(List.of(refs("job-1", "LI-live")));
+
+        JobBoardReconciler.Result first = reconciler.reconcile(JobBoard.LINKEDIN);
+        assertEquals(0, first.unpublished());
+        assertEquals(251, board.active().size());
+
+        JobBoardReconciler.Result second = reconciler.reconcile(JobBoard.LINKEDIN);
+        assertEquals(250, second.unpublished());
+        assertEquals(List.of("LI-live"), new ArrayList<>(board.active()));
+        assertEquals(3, board.unpublishCalls.get());
+        assertEquals(List.of(100, 100, 50), board.unpublishBatchSizes);
+    }
+
+    @Test
+    void reconcile_ShouldRepublishPostingsMissingFromBoard_AndStoreNewIds() {
+        JobPosting stale = posting("job-1", "LI-gone");
+        JobPosting neverPublished = posting("job-2", null);
+        when(jobPostingRepository.findBoardRefsByStatus(JobPostingStatus.PUBLISHED))
+                .thenReturn(List.of(JobBoardRefs.of(stale), JobBoardRefs.of(neverPublished)));
+        when(jobPostingRepository.findAllById(any())).thenReturn(List.of(stale, neverPublished));
+        when(transactionTemplate.execute(any())).thenAnswer(inv -> {
+            // Ids are written in a transaction of their own, after the board call returned
+            assertEquals(1, board.publishCalls.get());
+            return inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null);
+        });
+
+        reconciler.reconcile(JobBoard.LINKEDIN);
+        assertEquals(0, board.publishCalls.get());
+
+        JobBoardReconciler.Result second = reconciler.reconcile(JobBoard.LINKEDIN);
+        assertEquals(2, second.republished());
+        assertEquals(1, board.publishCalls.get());
+        assertTrue(stale.getLinkedInJobId().startsWith("STUB-"));
+        assertTrue(board.active().contains(neverPublished.getLinkedInJobId()));
+        verify(jobPostingRepository).saveAll(List.of(stale, neverPublished));
+    }
+
+    @Test
+    void reconcile_WhenPostingClosedDuringBoardCall_ShouldNotStoreItsId() {
+        JobPosting posting = posting("job-1", null);
+        JobPosting closed = posting("job-1", null);
+        closed.setStatus(JobPostingStatus.CLOSED);
+        when(jobPostingRepository.findBoardRefsByStatus(JobPostingStatus.PUBLISHED))
+                .thenReturn(List.of(JobBoardRefs.of(posting)));
+        when(jobPostingRepository.findAllById(any())).thenReturn(List.of(posting), List.of(closed));
+        when(transactionTemplate.execute(any())).thenAnswer(inv ->
+                inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        reconciler.reconcile(JobBoard.LINKEDIN);
+        reconciler.reconcile(JobBoard.LINKEDIN);
+
+        assertEquals(1, board.publishCalls.get());
+        assertNull(closed.getLinkedInJobId());
+        verify(jobPostingRepository).saveAll(List.of());
+    }
+
+    @Test
+    void reconcileAll_WhenAnotherInstanceHoldsTheLock_ShouldSkip() throws Exception {
+        givenLock(false);
+
+        assertTrue(reconciler.reconcileAll().isEmpty());
+
+        verifyNoInteractions(jobPostingRepository);
+        verify(lockConnection).close();
+    }
+
+    @Test
+    void reconcileAll_ShouldReconcileConfiguredBoardsUnderTheLockAndReleaseIt() throws Exception {
+        givenLock(true);
+        when(jobPostingRepository.findBoardRefsByStatus(JobPostingStatus.PUBLISHED)).thenReturn(List.of());
+
+        assertEquals(Set.of(JobBoard.LINKEDIN), reconciler.reconcileAll().keySet());
+
+        verify(lockConnection).prepareStatement("SELECT pg_advisory_unlock(?)");
+        verify(lockConnection).close();
+    }
+
+    private void givenLock(boolean acquired) throws Exception {
+        when(dataSource.getConnection()).thenReturn(lockConnection);
+        when(lockConnection.prepareStatement(anyString())).thenReturn(lockStatement);
+        when(lockStatement.executeQuery()).thenReturn(lockResult);
+        when(lockResult.next()).thenReturn(true);
+        when(lockResult.getBoolean(1)).thenReturn(acquired);
+    }
+
+    private JobBoardRefs refs(String jobId, String linkedInJobId) {
+        return new JobBoardRefs(jobId, true, false, false, linkedInJobId, null, null);
+    }
+
+    private JobPosting posting(String jobId, String linkedInJobId) {
+        return JobPosting.builder()
+                .jobId(jobId)
+                .organizationId("org-1")
+                .jobTitle("Backend Engineer")
+                .department("Engineering")
+                .status(JobPostingStatus.PUBLISHED)
+                .publishToLinkedIn(true)
+                .linkedInJobId(linkedInJobId)
+                .build();
+    }
+}
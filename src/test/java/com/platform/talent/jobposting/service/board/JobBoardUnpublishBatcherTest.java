@@ -0,0 +1,44 @@
+package com.platform.talent.jobposting.service.board;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobBoardUnpublishBatcherTest {
+
+    private StubJobBoardServer board;
+    private JobBoardUnpublishBatcher batcher;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        board = new StubJobBoardServer();
+        JobBoardProperties properties = new JobBoardProperties();
+        properties.getEndpoints().put(JobBoard.INDEED, board.url());
+        batcher = new JobBoardUnpublishBatcher(new JobBoardClient(new RestTemplate(), properties));
+    }
+
+    @AfterEach
+    void tearDown() {
+        board.close();
+    }
+
+    @Test
+    void flush_ShouldSendQueuedUnpublishesAsOneBulkCall() {
+        List.of("IND-1", "IND-2", "IND-3").forEach(board.active()::add);
+
+        batcher.enqueue(JobBoard.INDEED, "IND-1");
+        batcher.enqueue(JobBoard.INDEED, "IND-2");
+        batcher.enqueue(JobBoard.INDEED, "IND-2");
+        batcher.enqueue(JobBoard.LINKEDIN, "LI-unconfigured");
+        batcher.flush();
+
+        assertEquals(1, board.unpublishCalls.get());
+        assertEquals(List.of(2), board.unpublishBatchSizes);
+        assertEquals(List.of("IND-3"), List.copyOf(board.active()));
+    }
+}
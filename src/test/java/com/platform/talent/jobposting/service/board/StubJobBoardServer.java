@@ -0,0 +1,108 @@
+package com.platform.talent.jobposting.service.board;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process stand-in for a job board's bulk API (see JobBoardClient), backed
+ * by an in-memory set of active ids. Records how many bulk calls it received.
+ */
+class StubJobBoardServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Set<String> active = new ConcurrentSkipListSet<>();
+    private final AtomicInteger nextId = new AtomicInteger(1);
+
+    final AtomicInteger unpublishCalls = new AtomicInteger();
+    final AtomicInteger publishCalls = new AtomicInteger();
+    final List<Integer> unpublishBatchSizes = Collections.synchronizedList(new ArrayList<>());
+
+    StubJobBoardServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/jobs", this::handle);
+        server.start();
+    }
+
+    String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    Set<String> active() {
+        return active;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        Object body;
+        if ("GET".equals(exchange.getRequestMethod()) && path.equals("/jobs")) {
+            body = listPage(exchange.getRequestURI());
+        } else if (path.equals("/jobs/bulk-unpublish")) {
+            body = unpublish(mapper.readTree(exchange.getRequestBody()));
+        } else if (path.equals("/jobs/bulk-publish")) {
+            body = publish(mapper.readTree(exchange.getRequestBody()));
+        } else {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+            return;
+        }
+        byte[] json = mapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, json.length);
+        exchange.getResponseBody().write(json);
+        exchange.close();
+    }
+
+    private Map<String, Object> listPage(URI uri) {
+        Map<String, String> query = new HashMap<>();
+        for (String pair : Optional.ofNullable(uri.getRawQuery()).orElse("").split("&")) {
+            String[] kv = pair.split("=", 2);
+            if (kv.length == 2) {
+                query.put(kv[0], java.net.URLDecoder.decode(kv[1], StandardCharsets.UTF_8));
+            }
+        }
+        int limit = Integer.parseInt(query.getOrDefault("limit", "100"));
+        int offset = Integer.parseInt(query.getOrDefault("cursor", "0"));
+        List<String> all = new ArrayList<>(active);
+        List<String> page = all.subList(Math.min(offset, all.size()), Math.min(offset + limit, all.size()));
+        Map<String, Object> body = new HashMap<>();
+        body.put("ids", page);
+        body.put("nextCursor", offset + limit < all.size() ? String.valueOf(offset + limit) : null);
+        return body;
+    }
+
+    private Map<String, Object> unpublish(JsonNode request) {
+        unpublishCalls.incrementAndGet();
+        List<String> removed = new ArrayList<>();
+        List<String> failed = new ArrayList<>();
+        request.get("ids").forEach(id -> (active.remove(id.asText()) ? removed : failed).add(id.asText()));
+        unpublishBatchSizes.add(request.get("ids").size());
+        return Map.of("unpublished", removed, "failed", failed);
+    }
+
+    private Map<String, Object> publish(JsonNode request) {
+        publishCalls.incrementAndGet();
+        Map<String, String> published = new HashMap<>();
+        request.get("jobs").forEach(job -> {
+            String externalId = "STUB-" + nextId.getAndIncrement();
+            active.add(externalId);
+            published.put(job.get("reference").asText(), externalId);
+        });
+        return Map.of("published", published);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
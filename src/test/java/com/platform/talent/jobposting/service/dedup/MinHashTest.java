@@ -0,0 +1,43 @@
+package com.platform.talent.jobposting.service.dedup;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MinHashTest {
+
+    private static final String DESCRIPTION =
+            "We are looking for a senior backend engineer to design, build and operate the services "
+            + "behind our hiring platform. You will own APIs used by thousands of recruiters, work "
+            + "closely with product and data teams, mentor other engineers and improve the reliability, "
+            + "performance and observability of a Java and PostgreSQL stack running on Kubernetes.";
+
+    private final MinHash minHash = new MinHash(5, 16, 8);
+
+    @Test
+    void signature_ShouldIgnoreCaseAndPunctuation() {
+        int[] original = minHash.signature(DESCRIPTION);
+        int[] reformatted = minHash.signature(DESCRIPTION.toUpperCase().replace(",", " ;"));
+
+        assertArrayEquals(original, reformatted);
+        assertArrayEquals(minHash.bandHashes(original), minHash.bandHashes(reformatted));
+    }
+
+    @Test
+    void similarity_ShouldBeHighForLightEditsAndLowForUnrelatedText() {
+        int[] original = minHash.signature(DESCRIPTION);
+        int[] edited = minHash.signature(DESCRIPTION.replace("thousands", "hundreds"));
+        int[] unrelated = minHash.signature(
+                "Join our retail store team as a part-time sales associate. Greet customers, keep the "
+                + "shop floor tidy, handle the register and help with weekly stock deliveries.");
+
+        assertTrue(MinHash.similarity(original, edited) > 0.7);
+        assertTrue(MinHash.similarity(original, unrelated) < 0.1);
+    }
+
+    @Test
+    void signature_ShouldBeNullForTextShorterThanOneShingle() {
+        assertNull(minHash.signature("Backend engineer, Berlin"));
+        assertNull(minHash.signature(null));
+    }
+}
@@ -0,0 +1,83 @@
+package com.platform.talent.jobposting.service.dedup;
+
+import com.platform.talent.jobposting.domain.model.NearDuplicateKind;
+import com.platform.talent.jobposting.domain.model.NearDuplicateSignature;
+import com.platform.talent.jobposting.domain.repository.NearDuplicateSignatureRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NearDuplicateDetectorTest {
+
+    private static final String TEXT =
+            "Own the payroll integrations for our customers across Europe, from contract review to "
+            + "go-live, and keep every monthly payroll run on time and free of errors.";
+
+    @Mock
+    private NearDuplicateSignatureRepository signatureRepository;
+
+    private final MinHash minHash = new MinHash(5, 16, 8);
+    private NearDuplicateDetector detector;
+
+    @BeforeEach
+    void setUp() {
+        detector = new NearDuplicateDetector(signatureRepository, new SimpleMeterRegistry(), 5, 16, 8);
+        ReflectionTestUtils.setField(detector, "enabled", true);
+        ReflectionTestUtils.setField(detector, "threshold", 0.8);
+        ReflectionTestUtils.setField(detector, "maxCandidates", 20);
+    }
+
+    @Test
+    void index_ShouldFlagCandidateAboveThresholdAndStoreSignature() {
+        NearDuplicateSignature same = stored("posting-1", TEXT);
+        NearDuplicateSignature other = stored("posting-2",
+                "Drive our brand campaigns on social media, write copy for launches and report on reach "
+                + "and engagement every week with the growth team.");
+        when(signatureRepository.findCandidates(eq("POSTING"), eq("posting-3"), startsWith("{"), eq(20)))
+                .thenReturn(List.of(other, same));
+
+        Optional<NearDuplicateDetector.Match> match =
+                detector.index(NearDuplicateKind.POSTING, "posting-3", "org-2", TEXT);
+
+        assertEquals("posting-1", match.orElseThrow().docId());
+        ArgumentCaptor<NearDuplicateSignature> saved = ArgumentCaptor.forClass(NearDuplicateSignature.class);
+        verify(signatureRepository).save(saved.capture());
+        assertEquals("posting-1", saved.getValue().getDuplicateOf());
+        assertEquals("org-2", saved.getValue().getOwnerId());
+        assertEquals(16, saved.getValue().getBandHashes().length);
+    }
+
+    @Test
+    void index_ShouldDropShortTextFromIndex() {
+        when(signatureRepository.existsById(any())).thenReturn(true);
+
+        assertTrue(detector.index(NearDuplicateKind.JOB, "job-1", "tenant-1", "Nurse").isEmpty());
+
+        verify(signatureRepository).deleteById(new NearDuplicateSignature.Key(NearDuplicateKind.JOB, "job-1"));
+        verify(signatureRepository, never()).save(any());
+    }
+
+    private NearDuplicateSignature stored(String docId, String text) {
+        int[] signature = minHash.signature(text);
+        return NearDuplicateSignature.builder()
+                .docKind(NearDuplicateKind.POSTING)
+                .docId(docId)
+                .ownerId("org-1")
+                .signature(signature)
+                .bandHashes(minHash.bandHashes(signature))
+                .build();
+    }
+}
@@ -0,0 +1,100 @@
+package com.platform.talent.jobposting.service.event;
+
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobEventCodecTest {
+
+    private final JobEvent event = JobEvent.builder()
+            .eventType("job.published")
+            .jobId(UUID.randomUUID().toString())
+            .tenantId(UUID.randomUUID())
+            .status("PUBLISHED")
+            .timestamp(Instant.parse("2026-03-01T10:15:30.123456Z"))
+            .build();
+
+    @Test
+    void encode_ShouldRoundTripWithUuidsAsSixteenBytes() {
+        byte[] bytes = JobEventCodec.encode(event);
+
+        // header 4 + jobId (1 + 16) + tenantId 16 + status (1 + 9) + timestamp 8
+        assertEquals(55, bytes.length);
+        assertEquals(event, JobEventCodec.decode(bytes));
+    }
+
+    @Test
+    void encode_ShouldKeepNonUuidIdsAndCustomTypesAsStrings() {
+        JobEvent custom = JobEvent.builder()
+                .eventType("job.reindexed")
+                .jobId("5D0C8F1E-AAAA-4BBB-8CCC-000000000001") // not canonical lower-case
+                .organizationId("org-acme")
+                .requisitionId("REQ-2026-0042")
+                .build();
+
+        assertEquals(custom, JobEventCodec.decode(JobEventCodec.encode(custom)));
+    }
+
+    @Test
+    void decode_ShouldIgnoreFieldsAppendedByNewerSchemaVersions() {
+        byte[] bytes = JobEventCodec.encode(event);
+        byte[] newer = new byte[bytes.length + 3];
+        System.arraycopy(bytes, 0, newer, 0, bytes.length);
+        newer[1] = 2;
+        newer[3] |= 1 << 6;
+
+        assertEquals(event, JobEventCodec.decode(newer));
+    }
+
+    @Test
+    void serializer_ShouldNegotiateFormatPerTopicThroughContentTypeHeader() {
+        JobEventSerializer serializer = new JobEventSerializer(List.of("talent.job.events"));
+        JobEventDeserializer deserializer = new JobEventDeserializer();
+
+        RecordHeaders binaryHeaders = new RecordHeaders();
+        byte[] binary = serializer.serialize("talent.job.events", binaryHeaders, event);
+        assertEquals(JobEventCodec.CONTENT_TYPE_BINARY, header(binaryHeaders));
+        assertEquals(event, deserializer.deserialize("talent.job.events", binaryHeaders, binary));
+
+        RecordHeaders jsonHeaders = new RecordHeaders();
+        byte[] json = serializer.serialize("talent.job.posted", jsonHeaders, event);
+        assertEquals(JobEventCodec.CONTENT_TYPE_JSON, header(jsonHeaders));
+        assertTrue(new String(json, StandardCharsets.UTF_8).contains("\"jobId\":\"" + event.jobId() + "\""));
+        JobEvent fromJson = deserializer.deserialize("talent.job.posted", jsonHeaders, json);
+        assertEquals(event.jobId(), fromJson.jobId());
+        assertEquals(event.tenantId(), fromJson.tenantId());
+        assertEquals(event.timestamp(), fromJson.timestamp());
+
+        // Records from producers that predate the header are told apart by the magic byte
+        assertEquals(event, deserializer.deserialize("talent.job.events", binary));
+        JobEvent legacyJson = deserializer.deserialize("talent.job.posted", json);
+        assertEquals(event.jobId(), legacyJson.jobId());
+        assertEquals(event.timestamp(), legacyJson.timestamp());
+    }
+
+    @Test
+    void fromJsonPayload_ShouldReadEveryTimestampShape() {
+        Instant expected = Instant.parse("2026-03-01T10:15:00Z");
+        LocalDateTime local = LocalDateTime.ofInstant(expected, ZoneId.systemDefault());
+
+        // Jackson drops zero seconds and nanos from the array form
+        assertEquals(expected, JobEvent.fromJsonPayload(Map.of("timestamp",
+                List.of(local.getYear(), local.getMonthValue(), local.getDayOfMonth(),
+                        local.getHour(), local.getMinute()))).timestamp());
+        assertEquals(expected, JobEvent.fromJsonPayload(Map.of("timestamp", local.toString())).timestamp());
+        assertEquals(expected, JobEvent.fromJsonPayload(Map.of("timestamp", expected.toEpochMilli())).timestamp());
+    }
+
+    private String header(RecordHeaders headers) {
+        return new String(headers.lastHeader(JobEventCodec.CONTENT_TYPE_HEADER).value(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,137 @@
+package com.platform.talent.jobposting.service.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.IntUnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Bytes per event and serialize/deserialize throughput of the JSON and binary
+ * job event formats over a mix shaped like the three job topics.
+ *
+ * <pre>
+ * mvn -Pbenchmark test -Dbenchmark.events.seconds=5
+ * </pre>
+ *
+ * Results go to {@code target/benchmark/job-event-encoding.json}.
+ */
+@Tag("benchmark")
+class JobEventEncodingBenchmark {
+
+    private static final String[] TOPICS = {"talent.job.events", "talent.job.posted", "talent.job.closed"};
+
+    private final ObjectMapper mapper = new ObjectMapper()
+            .enable(SerializationFeature.INDENT_OUTPUT)
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+
+    private long sink;
+
+    @Test
+    void jsonVersusBinary() throws Exception {
+        List<JobEvent> events = sampleEvents(new Random(7), 10_000);
+        long seconds = Long.getLong("benchmark.events.seconds", 3L);
+
+        JobEventSerializer json = new JobEventSerializer(List.of());
+        JobEventSerializer binary = new JobEventSerializer(List.of(TOPICS));
+        JobEventDeserializer deserializer = new JobEventDeserializer();
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        results.put("events", events.size());
+        results.put("json", measure(events, json, deserializer, seconds));
+        results.put("binary", measure(events, binary, deserializer, seconds));
+
+        Path out = Path.of("target", "benchmark", "job-event-encoding.json");
+        Files.createDirectories(out.getParent());
+        mapper.writeValue(out.toFile(), results);
+        System.out.println(mapper.writeValueAsString(results));
+        assertTrue(sink != 0);
+    }
+
+    private Map<String, Object> measure(List<JobEvent> events, JobEventSerializer serializer,
+                                        JobEventDeserializer deserializer, long seconds) {
+        List<byte[]> encoded = new ArrayList<>(events.size());
+        List<RecordHeaders> headers = new ArrayList<>(events.size());
+        long bytes = 0;
+        for (int i = 0; i < events.size(); i++) {
+            RecordHeaders h = new RecordHeaders();
+            byte[] data = serializer.serialize(TOPICS[i % TOPICS.length], h, events.get(i));
+            encoded.add(data);
+            headers.add(h);
+            bytes += data.length;
+        }
+
+        double serializeOps = throughput(seconds, i -> {
+            RecordHeaders h = new RecordHeaders();
+            return serializer.serialize(TOPICS[i % TOPICS.length], h, events.get(i)).length;
+        }, events.size());
+        double deserializeOps = throughput(seconds, i ->
+                deserializer.deserialize(TOPICS[i % TOPICS.length], headers.get(i), encoded.get(i)).hashCode(),
+                events.size());
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("bytesPerEvent", Math.round(bytes * 10.0 / events.size()) / 10.0);
+        result.put("serializePerSecond", Math.round(serializeOps));
+        result.put("deserializePerSecond", Math.round(deserializeOps));
+        return result;
+    }
+
+    /** Warms up for a second, then counts calls over the measured window. */
+    private double throughput(long seconds, IntUnaryOperator op, int n) {
+        runFor(1_000_000_000L, op, n);
+        long start = System.nanoTime();
+        long calls = runFor(seconds * 1_000_000_000L, op, n);
+        return calls / ((System.nanoTime() - start) / 1e9);
+    }
+
+    private long runFor(long nanos, IntUnaryOperator op, int n) {
+        long deadline = System.nanoTime() + nanos;
+        long calls = 0;
+        while (System.nanoTime() < deadline) {
+            for (int i = 0; i < n; i++) {
+                sink += op.applyAsInt(i);
+            }
+            calls += n;
+        }
+        return calls;
+    }
+
+    private List<JobEvent> sampleEvents(Random random, int count) {
+        String[] types = {"job.published", "job.approved", "job.closed"};
+        String[] statuses = {"PUBLISHED", "APPROVED", "CLOSED"};
+        List<JobEvent> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Instant ts = Instant.ofEpochSecond(1_780_000_000L + random.nextInt(10_000_000), random.nextInt(1_000_000) * 1_000);
+            JobEvent event = switch (i % TOPICS.length) {
+                case 0 -> JobEvent.builder()
+                        .eventType(types[random.nextInt(types.length)])
+                        .jobId(UUID.randomUUID().toString())
+                        .tenantId(UUID.randomUUID())
+                        .status(statuses[random.nextInt(statuses.length)])
+                        .timestamp(ts)
+                        .build();
+                case 1 -> JobEvent.builder()
+                        .jobId(UUID.randomUUID().toString())
+                        .requisitionId("REQ-" + random.nextInt(1_000_000))
+                        .organizationId(UUID.randomUUID().toString())
+                        .timestamp(ts)
+                        .build();
+                default -> JobEvent.builder()
+                        .jobId(UUID.randomUUID().toString())
+                        .organizationId(UUID.randomUUID().toString())
+                        .timestamp(ts)
+                        .build();
+            };
+            events.add(event);
+        }
+        return events;
+    }
+}
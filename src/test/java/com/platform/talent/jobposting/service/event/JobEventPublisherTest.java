@@ -0,0 +1,131 @@
+package com.platform.talent.jobposting.service.event;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.errors.NotLeaderOrFollowerException;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobEventPublisherTest {
+
+    private static final String TOPIC = "talent.job.events";
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JobEventPublisherProperties properties = new JobEventPublisherProperties();
+
+    @BeforeEach
+    void setUp() {
+        properties.setMaxInFlight(1);
+        properties.setMaxBlockMs(50);
+        properties.setDrainTimeoutMs(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void publish_ShouldCompleteOnAcknowledgementAndReleaseCapacity() throws Exception {
+        SendResult<String, Object> ack = new SendResult<>(null, null);
+        when(kafkaTemplate.send(TOPIC, "job-1", "event")).thenReturn(CompletableFuture.completedFuture(ack));
+        JobEventPublisher publisher = new JobEventPublisher(kafkaTemplate, properties, meterRegistry);
+
+        assertSame(ack, publisher.publish(TOPIC, "job-1", "event").get(5, TimeUnit.SECONDS));
+
+        assertEquals(1, meterRegistry.get("jobposting.events.send.latency").timer().count());
+        assertEquals(0, meterRegistry.get("jobposting.events.inflight").gauge().value());
+    }
+
+    @Test
+    void publish_WhenProducerGivesUp_ShouldSurfaceFailureWithoutResending() {
+        // The producer already retried until delivery.timeout.ms; a re-send could reorder or duplicate
+        when(kafkaTemplate.send(TOPIC, "job-1", "event"))
+                .thenReturn(CompletableFuture.failedFuture(new NotLeaderOrFollowerException("moved")));
+        JobEventPublisher publisher = new JobEventPublisher(kafkaTemplate, properties, meterRegistry);
+
+        CompletableFuture<SendResult<String, Object>> result = publisher.publish(TOPIC, "job-1", "event");
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(NotLeaderOrFollowerException.class, e.getCause());
+        verify(kafkaTemplate, times(1)).send(TOPIC, "job-1", "event");
+        assertEquals(1, meterRegistry.counter("jobposting.events.send.failures",
+                "topic", TOPIC, "reason", "retries_exhausted").count());
+        assertEquals(0, meterRegistry.get("jobposting.events.inflight").gauge().value());
+    }
+
+    @Test
+    void publish_ShouldFailFastOnNonRetriableErrorAndReleaseCapacity() {
+        when(kafkaTemplate.send(TOPIC, "job-1", "event"))
+                .thenReturn(CompletableFuture.failedFuture(new RecordTooLargeException("too big")));
+        JobEventPublisher publisher = new JobEventPublisher(kafkaTemplate, properties, meterRegistry);
+
+        CompletableFuture<SendResult<String, Object>> result = publisher.publish(TOPIC, "job-1", "event");
+
+        assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        verify(kafkaTemplate, times(1)).send(TOPIC, "job-1", "event");
+        assertEquals(1, meterRegistry.counter("jobposting.events.send.failures",
+                "topic", TOPIC, "reason", "non_retriable").count());
+        assertEquals(0, meterRegistry.get("jobposting.events.inflight").gauge().value());
+    }
+
+    @Test
+    void publish_ShouldRejectCallerWhenInFlightLimitIsReached() {
+        when(kafkaTemplate.send(TOPIC, "job-1", "event")).thenReturn(new CompletableFuture<>());
+        JobEventPublisher publisher = new JobEventPublisher(kafkaTemplate, properties, meterRegistry);
+
+        publisher.publish(TOPIC, "job-1", "event");
+
+        assertThrows(RuntimeException.class, () -> publisher.publish(TOPIC, "job-2", "event"));
+        verify(kafkaTemplate, never()).send(TOPIC, "job-2", "event");
+        assertEquals(1, meterRegistry.counter("jobposting.events.send.failures",
+                "topic", TOPIC, "reason", "buffer_full").count());
+    }
+
+    @Test
+    void publishAfterCommit_ShouldSendOnlyOnceTheTransactionCommits() {
+        when(kafkaTemplate.send(TOPIC, "job-1", "event")).thenReturn(new CompletableFuture<>());
+        JobEventPublisher publisher = new JobEventPublisher(kafkaTemplate, properties, meterRegistry);
+        TransactionSynchronizationManager.initSynchronization();
+
+        publisher.publishAfterCommit(TOPIC, "job-1", "event");
+        verify(kafkaTemplate, never()).send(TOPIC, "job-1", "event");
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(kafkaTemplate).send(TOPIC, "job-1", "event");
+    }
+
+    @Test
+    void publishAfterCommit_WhenSaturated_ShouldLogInsteadOfThrowing() {
+        when(kafkaTemplate.send(TOPIC, "job-1", "event")).thenReturn(new CompletableFuture<>());
+        JobEventPublisher publisher = new JobEventPublisher(kafkaTemplate, properties, meterRegistry);
+        publisher.publish(TOPIC, "job-1", "event");
+
+        assertDoesNotThrow(() -> publisher.publishAfterCommit(TOPIC, "job-2", "event"));
+
+        verify(kafkaTemplate, never()).send(TOPIC, "job-2", "event");
+        assertEquals(1, meterRegistry.counter("jobposting.events.send.failures",
+                "topic", TOPIC, "reason", "buffer_full").count());
+    }
+}
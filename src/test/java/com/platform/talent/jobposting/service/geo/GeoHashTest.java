@@ -0,0 +1,68 @@
+package com.platform.talent.jobposting.service.geo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeoHashTest {
+
+    @Test
+    void encode_ShouldMatchReferenceHash() {
+        assertEquals("u4pruydqqvj", GeoHash.encode(57.64911, 10.40744, 11));
+    }
+
+    @Test
+    void coveringPrefixes_ShouldContainEveryPointInsideRadius() {
+        GeoPoint berlin = new GeoPoint(52.5200, 13.4050);
+        double radiusKm = 25;
+
+        Set<String> prefixes = GeoHash.coveringPrefixes(berlin.latitude(), berlin.longitude(), radiusKm);
+
+        assertTrue(prefixes.size() <= 9);
+        for (int bearing = 0; bearing < 360; bearing += 15) {
+            double rad = Math.toRadians(bearing);
+            double lat = berlin.latitude() + (radiusKm * 0.99 / 111.32) * Math.cos(rad);
+            double lon = berlin.longitude()
+                    + (radiusKm * 0.99 / (111.32 * Math.cos(Math.toRadians(lat)))) * Math.sin(rad);
+            String hash = GeoHash.encode(lat, lon, GeoHash.MAX_PRECISION);
+            assertTrue(prefixes.stream().anyMatch(hash::startsWith), "uncovered point at bearing " + bearing);
+        }
+    }
+
+    @Test
+    void minDistanceKm_ShouldNeverExceedDistanceToAnyPointInCell() {
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            GeoPoint from = new GeoPoint(random.nextDouble() * 170 - 85, random.nextDouble() * 360 - 180);
+            // A point, and the cell that contains it
+            double lat = random.nextDouble() * 170 - 85;
+            double lon = random.nextDouble() * 360 - 180;
+            String cell = GeoHash.encode(lat, lon, 1 + random.nextInt(6));
+
+            double bound = GeoHash.minDistanceKm(cell, from.latitude(), from.longitude());
+
+            assertTrue(from.distanceKm(lat, lon) >= bound - 1e-6, "bound " + bound + " for cell " + cell);
+        }
+    }
+
+    @Test
+    void minDistanceKm_ShouldBeZeroInsideCell() {
+        String cell = GeoHash.encode(52.5200, 13.4050, 5);
+
+        assertEquals(0, GeoHash.minDistanceKm(cell, 52.5200, 13.4050));
+        assertEquals(32, GeoHash.children(cell).size());
+        assertTrue(GeoHash.children(cell).stream().allMatch(child -> child.startsWith(cell)));
+    }
+
+    @Test
+    void distanceKm_ShouldApproximateKnownCityDistance() {
+        GeoPoint london = new GeoPoint(51.5074, -0.1278);
+
+        double toParis = london.distanceKm(48.8566, 2.3522);
+
+        assertEquals(344, toParis, 5);
+    }
+}
@@ -0,0 +1,47 @@
+package com.platform.talent.jobposting.service.imports;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvReaderTest {
+
+    @Test
+    void next_ShouldHandleQuotesLineBreaksAndTrackRecordLines() throws IOException {
+        CsvReader csv = reader("\uFEFFtitle,description\r\n"
+                + "\"Engineer, Backend\",\"Says \"\"hi\"\"\"\r\n"
+                + "Analyst,\"two\nlines\"\n"
+                + "Tester,\n"
+                + "last,row");
+
+        assertEquals(List.of("title", "description"), csv.next());
+        assertEquals(1, csv.recordLine());
+        assertEquals(List.of("Engineer, Backend", "Says \"hi\""), csv.next());
+        assertEquals(2, csv.recordLine());
+        assertEquals(List.of("Analyst", "two\nlines"), csv.next());
+        assertEquals(3, csv.recordLine());
+        assertEquals(List.of("Tester", ""), csv.next());
+        assertEquals(5, csv.recordLine());
+        assertEquals(List.of("last", "row"), csv.next());
+        assertNull(csv.next());
+    }
+
+    @Test
+    void next_ShouldRejectUnterminatedQuotesAndOversizedFields() throws IOException {
+        CsvReader unterminated = reader("a,b\n\"open,c\n");
+        unterminated.next();
+        assertThrows(IOException.class, unterminated::next);
+
+        CsvReader oversized = reader("a\n" + "x".repeat(21) + "\n");
+        oversized.next();
+        assertThrows(IOException.class, oversized::next);
+    }
+
+    private static CsvReader reader(String content) {
+        return new CsvReader(new StringReader(content), 20);
+    }
+}
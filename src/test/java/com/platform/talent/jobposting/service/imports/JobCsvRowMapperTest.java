@@ -0,0 +1,63 @@
+package com.platform.talent.jobposting.service.imports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobCsvRowMapperTest {
+
+    private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+    private static final String RECRUITER = "550e8400-e29b-41d4-a716-446655440001";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void map_ShouldBindColumnsByNormalizedHeaderName() {
+        JobCsvRowMapper mapper = mapper("Title", "description", "recruiter_id", "Salary Min", "salary-max",
+                "isRemote", "expiresAt", "requirements", "Notes");
+        String expires = LocalDate.now().plusDays(30).toString();
+
+        JobCsvRowMapper.Result result = mapper.map(List.of("Backend Engineer", "Build APIs", RECRUITER,
+                "90,000", "120000", "yes", expires, "{\"skills\":[\"java\"]}", "ignored"));
+
+        assertTrue(result.isValid(), () -> result.errors().toString());
+        assertEquals(List.of("Notes"), mapper.ignoredColumns());
+        assertEquals(UUID.fromString(RECRUITER), result.request().getRecruiterId());
+        assertEquals(90_000.0, result.request().getSalaryMin());
+        assertTrue(result.request().getIsRemote());
+        assertEquals(LocalDate.parse(expires).atTime(23, 59, 59), result.request().getExpiresAt());
+        assertEquals(Map.of("skills", List.of("java")), result.request().getRequirements());
+    }
+
+    @Test
+    void map_ShouldCollectParseAndValidationErrorsPerField() {
+        JobCsvRowMapper mapper = mapper("title", "description", "recruiterId", "salaryMin", "salaryMax",
+                "numberOfPositions");
+
+        JobCsvRowMapper.Result result = mapper.map(List.of("", "Build APIs", "not-a-uuid", "5000", "100", "0"));
+
+        assertFalse(result.isValid());
+        assertNull(result.request());
+        assertEquals(List.of("recruiterId", "numberOfPositions", "title", "salaryMax"),
+                result.errors().stream().map(JobCsvRowMapper.FieldError::field).toList());
+        assertEquals(1, mapper.map(List.of("too", "few")).errors().size());
+    }
+
+    @Test
+    void constructor_ShouldRejectHeaderWithoutRequiredColumns() {
+        RuntimeException e = assertThrows(RuntimeException.class, () -> mapper("title", "location"));
+        assertTrue(e.getMessage().contains("description, recruiterId"));
+    }
+
+    private JobCsvRowMapper mapper(String... header) {
+        return new JobCsvRowMapper(List.of(header), VALIDATOR, objectMapper);
+    }
+}
@@ -0,0 +1,172 @@
+package com.platform.talent.jobposting.service.imports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.talent.jobposting.domain.model.Job;
+import com.platform.talent.jobposting.domain.model.JobImport;
+import com.platform.talent.jobposting.domain.model.JobImportStatus;
+import com.platform.talent.jobposting.domain.repository.JobImportRepository;
+import com.platform.talent.jobposting.service.JobLocationService;
+import com.platform.talent.jobposting.service.SalaryNormalizationService;
+import com.platform.talent.jobposting.service.integration.KernelIntegrationService;
+import com.platform.talent.jobposting.service.typeahead.JobTypeaheadService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobImportServiceTest {
+
+    @Mock
+    private JobImportRepository jobImportRepository;
+
+    @Mock
+    private JobImportStore jobImportStore;
+
+    @Mock
+    private SalaryNormalizationService salaryNormalizationService;
+
+    @Mock
+    private JobLocationService jobLocationService;
+
+    @Mock
+    private JobTypeaheadService jobTypeaheadService;
+
+    @Mock
+    private KernelIntegrationService kernelService;
+
+    @Mock
+    private JobImportStore.StagingWriter staging;
+
+    @Mock
+    private JobImportStore.ImportLock lock;
+
+    @TempDir
+    Path spoolDir;
+
+    private JobImportService jobImportService;
+    private JobImport jobImport;
+
+    @BeforeEach
+    void setUp() {
+        jobImportService = new JobImportService(jobImportRepository, jobImportStore, salaryNormalizationService,
+                jobLocationService, jobTypeaheadService, kernelService,
+                Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper(), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(jobImportService, "maxRows", 1000L);
+        ReflectionTestUtils.setField(jobImportService, "maxFieldLength", 65536);
+        ReflectionTestUtils.setField(jobImportService, "maxErrors", 100);
+        ReflectionTestUtils.setField(jobImportService, "progressEveryRows", 1000);
+        ReflectionTestUtils.setField(jobImportService, "staleAfterMs", 900_000L);
+        ReflectionTestUtils.setField(jobImportService, "kernelBatchSize", 2);
+
+        jobImport = JobImport.builder()
+                .id(UUID.randomUUID())
+                .tenantId(UUID.randomUUID())
+                .status(JobImportStatus.RECEIVED)
+                .skipInvalid(true)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    void process_ShouldStoreCustomFieldsOfMergedRowsInKernelBatchByBatch() throws Exception {
+        Path spool = spool("title,description,recruiterId,customFields\n"
+                + "Engineer,Build APIs," + UUID.randomUUID() + ",\"{\"\"team\"\":\"\"core\"\"}\"\n");
+        when(jobImportStore.tryLock(jobImport.getId())).thenReturn(lock);
+        when(jobImportRepository.findById(jobImport.getId())).thenReturn(Optional.of(jobImport));
+        when(jobImportStore.openStaging(jobImport.getId())).thenReturn(staging);
+        when(jobImportStore.merge(eq(jobImport.getId()), any(), any())).thenReturn(3L);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        when(jobImportStore.customFields(jobImport.getId(), 0L, 2)).thenReturn(List.of(
+                new JobImportStore.CustomFields(2, first, Map.of("team", "core")),
+                new JobImportStore.CustomFields(5, second, Map.of("team", "infra"))));
+        when(jobImportStore.customFields(jobImport.getId(), 5L, 2)).thenReturn(List.of(
+                new JobImportStore.CustomFields(9, third, Map.of("team", "data"))));
+        doThrow(new RuntimeException("kernel down")).when(kernelService)
+                .storeExtendedAttributes(second, "Job", Map.of("team", "infra"));
+
+        jobImportService.process(jobImport.getId(), spool);
+
+        verify(staging).write(anyLong(), any(Job.class));
+        verify(kernelService).storeExtendedAttributes(first, "Job", Map.of("team", "core"));
+        verify(kernelService).storeExtendedAttributes(third, "Job", Map.of("team", "data"));
+        verify(jobImportStore).clearStaging(jobImport.getId());
+        verify(lock).close();
+        assertEquals(JobImportStatus.COMPLETED, jobImport.getStatus());
+        assertEquals(3L, jobImport.getRowsImported());
+        assertFalse(Files.exists(spool));
+    }
+
+    @Test
+    void process_WhenSweepFailedItWhileQueued_ShouldNotRun() throws Exception {
+        Path spool = spool("title\n");
+        jobImport.setStatus(JobImportStatus.FAILED);
+        when(jobImportStore.tryLock(jobImport.getId())).thenReturn(lock);
+        when(jobImportRepository.findById(jobImport.getId())).thenReturn(Optional.of(jobImport));
+
+        jobImportService.process(jobImport.getId(), spool);
+
+        verify(jobImportStore, never()).openStaging(any());
+        verify(jobImportRepository, never()).save(any());
+        verify(lock).close();
+        assertFalse(Files.exists(spool));
+    }
+
+    @Test
+    void failStaleImports_WhenWorkerHoldsLock_ShouldLeaveImportRunning() throws Exception {
+        jobImport.setStatus(JobImportStatus.MERGING);
+        when(jobImportRepository.findByStatusInAndUpdatedAtBefore(any(), any())).thenReturn(List.of(jobImport));
+        when(jobImportStore.tryLock(jobImport.getId())).thenReturn(null);
+
+        jobImportService.failStaleImports();
+
+        verify(jobImportStore, never()).clearStaging(any());
+        verify(jobImportRepository, never()).save(any());
+        assertEquals(JobImportStatus.MERGING, jobImport.getStatus());
+    }
+
+    @Test
+    void failStaleImports_WhenNoWorkerHoldsLock_ShouldFailImport() throws Exception {
+        jobImport.setStatus(JobImportStatus.PARSING);
+        when(jobImportRepository.findByStatusInAndUpdatedAtBefore(any(), any())).thenReturn(List.of(jobImport));
+        when(jobImportStore.tryLock(jobImport.getId())).thenReturn(lock);
+        when(jobImportRepository.findById(jobImport.getId())).thenReturn(Optional.of(jobImport));
+
+        jobImportService.failStaleImports();
+
+        verify(jobImportStore).clearStaging(jobImport.getId());
+        verify(jobImportRepository).save(jobImport);
+        verify(lock).close();
+        assertEquals(JobImportStatus.FAILED, jobImport.getStatus());
+        assertEquals("Import was interrupted", jobImport.getFailureReason());
+    }
+
+    private Path spool(String csv) throws Exception {
+        Path spool = spoolDir.resolve(jobImport.getId() + ".csv");
+        Files.writeString(spool, csv, StandardCharsets.UTF_8);
+        return spool;
+    }
+}
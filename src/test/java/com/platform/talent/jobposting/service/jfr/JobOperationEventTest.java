@@ -0,0 +1,68 @@
+package com.platform.talent.jobposting.service.jfr;
+
+import com.platform.talent.jobposting.domain.model.Job;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobOperationEventTest {
+
+    @Test
+    void commit_ShouldRecordTenantJobAndSizesWhileEnabled() throws Exception {
+        UUID tenantId = UUID.randomUUID();
+        Job job = Job.builder().id(UUID.randomUUID()).title("Engineer").description("Builds things").build();
+
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(JobOperationEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+
+            JobOperationEvent event = JobOperationEvent.begin("getJob", tenantId, null);
+            try {
+                event.result(job).succeeded();
+            } finally {
+                event.commit();
+            }
+            JobOperationEvent failed = JobOperationEvent.begin("publishJob", tenantId, job.getId());
+            failed.commit();
+
+            recording.stop();
+            Path file = Files.createTempFile("job-operation", ".jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file).stream()
+                    .filter(e -> e.getEventType().getName().equals("com.platform.talent.jobposting.JobOperation"))
+                    .toList();
+            Files.delete(file);
+        }
+
+        assertEquals(2, events.size());
+        RecordedEvent get = events.get(0);
+        assertEquals("getJob", get.getString("operation"));
+        assertEquals(tenantId.toString(), get.getString("tenantId"));
+        assertEquals(job.getId().toString(), get.getString("jobId"));
+        assertEquals(1, get.getLong("rows"));
+        assertEquals("Engineer".length() + "Builds things".length(), get.getLong("textLength"));
+        assertTrue(get.getBoolean("succeeded"));
+        assertFalse(events.get(1).getBoolean("succeeded"));
+    }
+
+    @Test
+    void begin_ShouldLeaveFieldsUnsetWithoutARecording() {
+        JobOperationEvent event = JobOperationEvent.begin("getJob", UUID.randomUUID(), null);
+        event.job(Job.builder().id(UUID.randomUUID()).title("Engineer").build());
+
+        assertFalse(event.isEnabled());
+        assertNull(event.operation);
+        assertEquals(0, event.rows);
+        event.commit();
+    }
+}
@@ -0,0 +1,103 @@
+package com.platform.talent.jobposting.service.jfr;
+
+import com.platform.talent.jobposting.config.jfr.JobOperationConfig;
+import com.platform.talent.jobposting.domain.model.Job;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobOperationInterceptorTest {
+
+    private static final Job JOB = Job.builder().id(UUID.randomUUID()).title("Engineer").description("Builds things").build();
+
+    @Test
+    void invoke_ShouldRecordAnnotatedCallsWithTenantRowsAndOutcome() throws Exception {
+        UUID tenantId = UUID.randomUUID();
+        Operations operations = proxy();
+
+        List<RecordedEvent> events = record(() -> {
+            operations.listJobs(tenantId);
+            operations.publishJob(tenantId, JOB.getId());
+            assertThrows(IllegalStateException.class, () -> operations.closeJob(tenantId, JOB.getId()));
+            operations.unannotated();
+        });
+
+        assertEquals(3, events.size());
+        RecordedEvent list = events.get(0);
+        assertEquals("listJobs", list.getString("operation"));
+        assertEquals(tenantId.toString(), list.getString("tenantId"));
+        assertEquals(2, list.getLong("rows"));
+        assertEquals(2L * ("Engineer".length() + "Builds things".length()), list.getLong("textLength"));
+        assertTrue(list.getBoolean("succeeded"));
+
+        RecordedEvent publish = events.get(1);
+        assertEquals("publishJob", publish.getString("operation"));
+        assertEquals(JOB.getId().toString(), publish.getString("jobId"));
+        assertEquals(1, publish.getLong("rows"));
+        assertTrue(publish.getBoolean("succeeded"));
+
+        RecordedEvent close = events.get(2);
+        assertEquals("closeJobPosting", close.getString("operation"));
+        assertFalse(close.getBoolean("succeeded"));
+    }
+
+    @Test
+    void current_ShouldBeDetachedOutsideAnOperation() throws Exception {
+        List<RecordedEvent> events = record(() -> JobOperationEvent.current().job(JOB));
+
+        assertTrue(events.isEmpty());
+    }
+
+    private static Operations proxy() {
+        ProxyFactory factory = new ProxyFactory(new Operations());
+        factory.addAdvisor(JobOperationConfig.jobOperationAdvisor());
+        return (Operations) factory.getProxy();
+    }
+
+    private static List<RecordedEvent> record(Runnable calls) throws Exception {
+        try (Recording recording = new Recording()) {
+            recording.enable(JobOperationEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+            calls.run();
+            recording.stop();
+            Path file = Files.createTempFile("job-operation", ".jfr");
+            recording.dump(file);
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                    .filter(e -> e.getEventType().getName().equals("com.platform.talent.jobposting.JobOperation"))
+                    .toList();
+            Files.delete(file);
+            return events;
+        }
+    }
+
+    static class Operations {
+
+        @JobOperation(tenant = "#tenantId")
+        public List<Job> listJobs(UUID tenantId) {
+            return List.of(JOB, JOB);
+        }
+
+        @JobOperation(tenant = "#tenantId", job = "#jobId")
+        public void publishJob(UUID tenantId, UUID jobId) {
+            JobOperationEvent.current().job(JOB);
+        }
+
+        @JobOperation(value = "closeJobPosting", tenant = "#tenantId", job = "#jobId")
+        public void closeJob(UUID tenantId, UUID jobId) {
+            throw new IllegalStateException("Job cannot be closed");
+        }
+
+        public void unannotated() {
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.platform.talent.jobposting.service.similar;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TermVectorizerTest {
+
+    private final TermVectorizer vectorizer = new TermVectorizer(20, 200);
+
+    @Test
+    void termCounts_ShouldBoostTitleAndRequirementsAndSkipStopWords() {
+        Map<Integer, Integer> counts = vectorizer.termCounts("Java Developer", "Build the APIs with Java",
+                Map.of("skills", List.of("Kubernetes", "Java")));
+
+        assertEquals(TermVectorizer.TITLE_BOOST + 1 + TermVectorizer.REQUIREMENTS_BOOST,
+                counts.get(single("java")));
+        assertEquals(TermVectorizer.REQUIREMENTS_BOOST, counts.get(single("kubernetes")));
+        assertTrue(vectorizer.termCounts("the", null, null).isEmpty());
+    }
+
+    @Test
+    void weigh_ShouldProduceUnitVectorsWhoseDotProductRanksRelatedJobsHigher() {
+        Map<Integer, Float> backend = weigh("Backend Engineer", "Java services, PostgreSQL and Kafka");
+        Map<Integer, Float> platform = weigh("Platform Engineer", "Kafka pipelines and Java services");
+        Map<Integer, Float> nurse = weigh("Registered Nurse", "Patient care on the cardiology ward");
+
+        assertEquals(1.0, dot(backend, backend), 1e-5);
+        assertTrue(dot(backend, platform) > 0.3);
+        assertEquals(0.0, dot(backend, nurse), 1e-9);
+    }
+
+    @Test
+    void idf_ShouldDropTermsPresentInMostJobsOfALargeTenant() {
+        assertEquals(0.0, TermVectorizer.idf(100, 80, 0.5));
+        assertTrue(TermVectorizer.idf(10, 8, 0.5) > 0);
+        assertTrue(TermVectorizer.idf(100, 1, 0.5) > TermVectorizer.idf(100, 40, 0.5));
+    }
+
+    private Map<Integer, Float> weigh(String title, String description) {
+        return vectorizer.weigh(vectorizer.termCounts(title, description, null), term -> 1.0);
+    }
+
+    private int single(String word) {
+        return vectorizer.termCounts(word, null, null).keySet().iterator().next();
+    }
+
+    private static double dot(Map<Integer, Float> a, Map<Integer, Float> b) {
+        return a.entrySet().stream()
+                .mapToDouble(e -> e.getValue() * b.getOrDefault(e.getKey(), 0f))
+                .sum();
+    }
+}
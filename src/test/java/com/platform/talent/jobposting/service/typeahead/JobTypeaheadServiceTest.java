@@ -0,0 +1,100 @@
+package com.platform.talent.jobposting.service.typeahead;
+
+import com.platform.talent.jobposting.api.dto.JobSuggestion;
+import com.platform.talent.jobposting.domain.model.Job;
+import com.platform.talent.jobposting.domain.model.JobStatus;
+import com.platform.talent.jobposting.domain.model.JobTypeaheadTerms;
+import com.platform.talent.jobposting.domain.repository.JobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobTypeaheadServiceTest {
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @InjectMocks
+    private JobTypeaheadService jobTypeaheadService;
+
+    private final UUID tenantId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(jobTypeaheadService, "enabled", true);
+        ReflectionTestUtils.setField(jobTypeaheadService, "maxLimit", 20);
+        ReflectionTestUtils.setField(jobTypeaheadService, "idleEvictMs", 3_600_000L);
+    }
+
+    @Test
+    void complete_ShouldBuildFromPublishedJobsOnceAndReuseTheIndex() {
+        when(jobRepository.findTypeaheadTerms(tenantId, Set.of(JobStatus.PUBLISHED)))
+                .thenReturn(List.of(new JobTypeaheadTerms(UUID.randomUUID(), "Java Developer", "Berlin", 3)));
+
+        assertEquals(List.of("Java Developer"), texts(jobTypeaheadService.complete(tenantId, "ja", 10)));
+        assertEquals(List.of("Java Developer"), texts(jobTypeaheadService.complete(tenantId, "jav", 10)));
+
+        verify(jobRepository, times(1)).findTypeaheadTerms(eq(tenantId), eq(Set.of(JobStatus.PUBLISHED)));
+    }
+
+    @Test
+    void onJobSaved_ShouldIndexOnlyPublishedJobs() {
+        when(jobRepository.findTypeaheadTerms(tenantId, Set.of(JobStatus.PUBLISHED))).thenReturn(List.of());
+        jobTypeaheadService.complete(tenantId, "x", 10);
+
+        Job draft = job("Draft Role", JobStatus.DRAFT);
+        Job pending = job("Pending Role", JobStatus.PENDING_APPROVAL);
+        Job published = job("Published Role", JobStatus.PUBLISHED);
+        jobTypeaheadService.onJobSaved(draft);
+        jobTypeaheadService.onJobSaved(pending);
+        jobTypeaheadService.onJobSaved(published);
+
+        assertEquals(List.of("Published Role"), texts(jobTypeaheadService.complete(tenantId, "role", 10)));
+        assertTrue(jobTypeaheadService.complete(tenantId, "draft", 10).isEmpty());
+        assertTrue(jobTypeaheadService.complete(tenantId, "pending", 10).isEmpty());
+    }
+
+    @Test
+    void onJobSaved_WhenJobLeavesPublished_ShouldRemoveIt() {
+        when(jobRepository.findTypeaheadTerms(tenantId, Set.of(JobStatus.PUBLISHED))).thenReturn(List.of());
+        jobTypeaheadService.complete(tenantId, "x", 10);
+        Job job = job("Platform Engineer", JobStatus.PUBLISHED);
+        jobTypeaheadService.onJobSaved(job);
+
+        job.setStatus(JobStatus.PENDING_APPROVAL);
+        jobTypeaheadService.onJobSaved(job);
+
+        assertTrue(jobTypeaheadService.complete(tenantId, "platform", 10).isEmpty());
+    }
+
+    private Job job(String title, JobStatus status) {
+        return Job.builder()
+                .id(UUID.randomUUID())
+                .tenantId(tenantId)
+                .title(title)
+                .location("Remote")
+                .status(status)
+                .viewCount(0)
+                .build();
+    }
+
+    private static List<String> texts(List<JobSuggestion> suggestions) {
+        return suggestions.stream()
+                .filter(s -> s.getType() == JobSuggestion.Type.TITLE)
+                .map(JobSuggestion::getText)
+                .toList();
+    }
+}
@@ -0,0 +1,53 @@
+package com.platform.talent.jobposting.service.typeahead;
+
+import com.platform.talent.jobposting.api.dto.JobSuggestion;
+import com.platform.talent.jobposting.domain.model.JobTypeaheadTerms;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TenantTypeaheadIndexTest {
+
+    private final TenantTypeaheadIndex index = new TenantTypeaheadIndex();
+
+    @Test
+    void complete_ShouldRankByAggregatedViewsAndMatchWordStarts() {
+        index.put(job("Software Engineer", "Berlin", 10));
+        index.put(job("software  engineer", "Munich", 5));
+        index.put(job("Sales Manager", "Remote", 40));
+        index.put(job("Engineering Manager", "Berlin", 3));
+
+        List<JobSuggestion> suggestions = index.complete("s", 10);
+
+        assertEquals(List.of("Sales Manager", "Software Engineer"), texts(suggestions));
+        assertEquals(2, suggestions.get(1).getJobCount());
+        assertEquals(List.of("Software Engineer", "Engineering Manager"), texts(index.complete("ENG", 10)));
+        assertEquals(List.of("Sales Manager"), texts(index.complete("s", 1)));
+    }
+
+    @Test
+    void put_ShouldReplaceAJobsPreviousTermsAndRemoveShouldDropEmptyOnes() {
+        JobTypeaheadTerms original = job("Data Analyst", "Oslo", 0);
+        index.put(original);
+        index.put(new JobTypeaheadTerms(original.jobId(), "Data Scientist", "Oslo", 0));
+
+        assertEquals(List.of("Data Scientist"), texts(index.complete("data", 10)));
+
+        index.remove(original.jobId());
+
+        assertTrue(index.complete("da", 10).isEmpty());
+        assertTrue(index.complete("oslo", 10).isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    private static JobTypeaheadTerms job(String title, String location, int views) {
+        return new JobTypeaheadTerms(UUID.randomUUID(), title, location, views);
+    }
+
+    private static List<String> texts(List<JobSuggestion> suggestions) {
+        return suggestions.stream().map(JobSuggestion::getText).toList();
+    }
+}